@@ -0,0 +1,162 @@
+package sigestor.bd;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+
+import sigestor.dominio.Participante;
+import sigestor.excepcion.ExcepcionBaseDatos;
+
+/**
+ * Sirve para medir el costo por fila de insertar participantes en un archivo
+ * .torn, antes y despus de las instrucciones preparadas de
+ * <code>SesionBaseDatos</code>:
+ * <ul>
+ * <li>Antes: cada participante se inserta con un <code>Statement</code> nuevo y
+ * los valores concatenados en el SQL, como lo haca
+ * <code>BaseDatosParticipante.insertarParticipante</code>.</li>
+ * <li>Despus: <code>BaseDatosParticipante.insertarParticipante</code>, que
+ * reutiliza la instruccin preparada de la conexin y solo asigna los
+ * parmetros.</li>
+ * </ul>
+ * Ambas formas insertan cada fila en su propia transaccin, como el sistema,
+ * y hacen el mismo trabajo adicional por fila (obtener la conexin de la
+ * sesin, liberar los resultados y registrar la escritura en la sesin), de
+ * modo que solo difieren en la instruccin.
+ * Cada forma se mide dos veces alternadas sobre archivos nuevos y se reporta
+ * la segunda, para no medir el calentamiento de la mquina virtual.
+ * <p>
+ * Se ejecuta con el controlador de SQLite en el classpath:
+ * <code>java sigestor.bd.PruebaRendimientoInsercion [participantes]</code>. El
+ * nmero de participantes es 100000 si no se indica, y el perfil de la base de
+ * datos se elige con la propiedad <code>sigestor.perfilBaseDatos</code>.
+ * <p>
+ * Las caractersticas de la clase <code>PruebaRendimientoInsercion</code> son:
+ * <ul>
+ * <li><code>PARTICIPANTES</code> para indicar cuntos participantes se
+ * insertan si no se indica otro nmero.</li>
+ * </ul>
+ *
+ * @version 18/10/2026
+ */
+public class PruebaRendimientoInsercion extends BaseDatos {
+
+	/**
+	 * Participantes que se insertan si no se indica otro nmero.
+	 */
+	private static final int PARTICIPANTES = 100000;
+
+	/**
+	 * Permite inicializar el nombre del archivo de la base de datos.
+	 *
+	 * @param nombreArchivo
+	 *            Nombre del archivo de la base de datos.
+	 */
+	private PruebaRendimientoInsercion(String nombreArchivo) {
+		super(nombreArchivo);
+	}
+
+	/**
+	 * Mide ambas formas de insertar y muestra el costo por fila.
+	 *
+	 * @param args
+	 *            Recibe opcionalmente el nmero de participantes.
+	 * @throws Exception
+	 *             Si no se pudo crear algn archivo o insertar algn
+	 *             participante.
+	 */
+	public static void main(String[] args) throws Exception {
+		int numero = args.length > 0 ? Integer.parseInt(args[0]) : PARTICIPANTES;
+		ArrayList<Participante> participantes = new ArrayList<Participante>(numero);
+		for (int i = 1; i <= numero; i++) {
+			participantes.add(new Participante(i, "Participante " + i, 1000 + i % 1000));
+		}
+		System.out.println("Perfil: " + SesionBaseDatos.getPerfil().getModoDiario() + "/"
+				+ SesionBaseDatos.getPerfil().getSincronizacion() + ", " + numero + " participantes");
+		long antes = 0;
+		long despues = 0;
+		for (int vuelta = 0; vuelta < 2; vuelta++) {
+			antes = medir(participantes, false);
+			despues = medir(participantes, true);
+		}
+		System.out.printf("Antes:   %,d ms, %.2f us por fila%n", antes / 1000000, antes / 1000.0 / numero);
+		System.out.printf("Despues: %,d ms, %.2f us por fila%n", despues / 1000000, despues / 1000.0 / numero);
+		System.out.printf("Relacion antes/despues: %.2f%n", (double) antes / despues);
+	}
+
+	/**
+	 * Inserta los participantes en un archivo nuevo y mide el tiempo.
+	 *
+	 * @param participantes
+	 *            Recibe los participantes que se insertan.
+	 * @param preparada
+	 *            Recibe <tt>true</tt> para insertar con
+	 *            <code>BaseDatosParticipante</code>, <tt>false</tt> para
+	 *            insertar con un <code>Statement</code> por fila.
+	 * @return Regresa el tiempo de la insercin en nanosegundos.
+	 * @throws Exception
+	 *             Si no se pudo crear el archivo o insertar algn participante.
+	 */
+	private static long medir(ArrayList<Participante> participantes, boolean preparada) throws Exception {
+		File archivo = crearArchivo();
+		String nombreArchivo = archivo.getAbsolutePath();
+		try {
+			new BaseDatosTorneo(nombreArchivo);
+			long inicio = System.nanoTime();
+			if (preparada) {
+				new BaseDatosParticipante(nombreArchivo).insertarParticipante(participantes);
+			} else {
+				new PruebaRendimientoInsercion(nombreArchivo).insertarConcatenando(participantes);
+			}
+			return System.nanoTime() - inicio;
+		} finally {
+			SesionBaseDatos.cerrarSesion(nombreArchivo);
+			archivo.delete();
+		}
+	}
+
+	/**
+	 * Inserta los participantes como antes de las instrucciones preparadas:
+	 * un <code>Statement</code> nuevo por fila con los valores concatenados. Por
+	 * cada fila hace lo mismo que <code>insertarParticipante</code> y
+	 * <code>realizarAccion</code> adems de la instruccin.
+	 *
+	 * @param participantes
+	 *            Recibe los participantes que se insertan.
+	 * @throws ExcepcionBaseDatos
+	 *             Si no se pudo realizar la conexin.
+	 * @throws SQLException
+	 *             Si no se pudo insertar algn participante.
+	 */
+	private void insertarConcatenando(ArrayList<Participante> participantes) throws ExcepcionBaseDatos, SQLException {
+		for (Participante p : participantes) {
+			realizarConexion();
+			Statement instruccion = conexion.createStatement();
+			int filasAfectadas = instruccion.executeUpdate("INSERT INTO participante VALUES ("
+					+ p.getNumeroParticipante() + ",'" + p.getNombreParticipante() + "'," + p.getPuntajeParticipante()
+					+ "," + p.getPuntajeAcumuladoParticipante() + "," + p.getMarcadorFavor() + ","
+					+ p.getMarcadorContra() + "," + p.getLugarParticipante() + ")");
+			instruccion.close();
+			registrarEscritura();
+			cerrarConexion();
+			if (filasAfectadas != 1) {
+				throw new SQLException("No se insert el participante " + p.getNumeroParticipante());
+			}
+		}
+	}
+
+	/**
+	 * Crea el nombre de un archivo temporal que an no existe.
+	 *
+	 * @return Regresa el archivo temporal.
+	 * @throws IOException
+	 *             Si no se pudo crear el archivo temporal.
+	 */
+	private static File crearArchivo() throws IOException {
+		File archivo = File.createTempFile("insercion", ".torn");
+		archivo.delete();
+		return archivo;
+	}
+}
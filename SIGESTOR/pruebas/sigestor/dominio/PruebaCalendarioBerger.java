@@ -0,0 +1,125 @@
+package sigestor.dominio;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+
+/**
+ * Sirve para comprobar el <code>CalendarioBerger</code> sin base de datos. Para
+ * cada nmero de participantes y de vueltas recorre todas las rondas y verifica
+ * que cada pareja se enfrente una vez por vuelta y que ningn participante
+ * juegue ms de dos rondas seguidas con el mismo color, incluyendo el paso de
+ * una vuelta a otra. La ronda de descanso no corta la racha.
+ * <p>
+ * Se ejecuta con <code>java sigestor.dominio.PruebaCalendarioBerger</code> y
+ * termina con una excepcin en la primera comprobacin que falla.
+ * <p>
+ * Las caractersticas de la clase <code>PruebaCalendarioBerger</code> son:
+ * <ul>
+ * <li><code>MAXIMO_PARTICIPANTES</code> para indicar hasta cuntos
+ * participantes se comprueba.</li>
+ * <li><code>MAXIMO_VUELTAS</code> para indicar hasta cuntas vueltas se
+ * comprueba.</li>
+ * <li><code>MAXIMO_COLORES_SEGUIDOS</code> para indicar la racha mxima
+ * permitida de un mismo color.</li>
+ * </ul>
+ *
+ * @version 18/10/2026
+ */
+public class PruebaCalendarioBerger {
+
+	/**
+	 * Nmero mximo de participantes que se comprueba.
+	 */
+	private static final int MAXIMO_PARTICIPANTES = 41;
+	/**
+	 * Nmero mximo de vueltas que se comprueba.
+	 */
+	private static final int MAXIMO_VUELTAS = 6;
+	/**
+	 * Racha mxima permitida de un mismo color.
+	 */
+	private static final int MAXIMO_COLORES_SEGUIDOS = 2;
+
+	/**
+	 * Ejecuta la comprobacin para todos los tamaos.
+	 *
+	 * @param args
+	 *            No se usan.
+	 */
+	public static void main(String[] args) {
+		int calendarios = 0;
+		for (int vueltas = 1; vueltas <= MAXIMO_VUELTAS; vueltas++) {
+			for (int numero = 2; numero <= MAXIMO_PARTICIPANTES; numero++) {
+				comprobar(numero, vueltas);
+				calendarios++;
+			}
+		}
+		System.out.println("PruebaCalendarioBerger: " + calendarios + " calendarios correctos.");
+	}
+
+	/**
+	 * Comprueba el calendario de un nmero de participantes y de vueltas.
+	 *
+	 * @param numero
+	 *            Recibe el nmero de participantes.
+	 * @param vueltas
+	 *            Recibe el nmero de vueltas.
+	 */
+	private static void comprobar(int numero, int vueltas) {
+		ArrayList<Participante> participantes = new ArrayList<Participante>();
+		for (int i = 1; i <= numero; i++) {
+			participantes.add(new Participante(i, "Participante " + i, 0));
+		}
+		CalendarioBerger calendario = new CalendarioBerger(participantes, vueltas, -1, new Date());
+		int[] ultimoColor = new int[numero + 1];
+		int[] seguidos = new int[numero + 1];
+		HashSet<String> parejas = new HashSet<String>();
+		for (int ronda = 0; ronda < calendario.getNumeroRondas(); ronda++) {
+			int vuelta = ronda / calendario.getRondasPorVuelta();
+			int[] color = new int[numero + 1];
+			for (int mesa = 0; mesa < calendario.getNumeroMesas(); mesa++) {
+				int[] pareja = calendario.obtenerPareja(ronda, mesa);
+				if (pareja == null) {
+					continue;
+				}
+				String clave = vuelta + ":" + Math.min(pareja[0], pareja[1]) + "-" + Math.max(pareja[0], pareja[1]);
+				if (!parejas.add(clave)) {
+					fallar(numero, vueltas, "la pareja " + clave + " se repite en la vuelta");
+				}
+				color[pareja[0]] = HistorialEncuentros.LOCAL;
+				color[pareja[1]] = HistorialEncuentros.VISITANTE;
+			}
+			for (int p = 1; p <= numero; p++) {
+				if (color[p] == HistorialEncuentros.SIN_COLOR) {
+					continue;
+				}
+				seguidos[p] = color[p] == ultimoColor[p] ? seguidos[p] + 1 : 1;
+				ultimoColor[p] = color[p];
+				if (seguidos[p] > MAXIMO_COLORES_SEGUIDOS) {
+					fallar(numero, vueltas,
+							"el participante " + p + " juega " + seguidos[p] + " rondas seguidas con el mismo color"
+									+ " en la ronda " + (ronda + 1));
+				}
+			}
+		}
+		int esperadas = numero * (numero - 1) / 2 * vueltas;
+		if (parejas.size() != esperadas) {
+			fallar(numero, vueltas, parejas.size() + " parejas en lugar de " + esperadas);
+		}
+	}
+
+	/**
+	 * Termina la comprobacin con el calendario que fall.
+	 *
+	 * @param numero
+	 *            Recibe el nmero de participantes.
+	 * @param vueltas
+	 *            Recibe el nmero de vueltas.
+	 * @param causa
+	 *            Recibe la causa del fallo.
+	 */
+	private static void fallar(int numero, int vueltas, String causa) {
+		throw new AssertionError(numero + " participantes y " + vueltas + " vueltas: " + causa);
+	}
+}
@@ -0,0 +1,235 @@
+package sigestor.dominio;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+
+/**
+ * Sirve para comprobar el <code>EmparejamientoHolandes</code> con los ciclos
+ * esperados del archivo <code>corpusHolandes.txt</code>. Para cada torneo
+ * juega el primer ciclo del archivo y despus empareja cada ciclo siguiente,
+ * compara las parejas y sus colores con los esperados y suma los resultados
+ * anotados antes de emparejar el siguiente.
+ * <p>
+ * Si el torneo tiene un nmero impar de participantes se agrega el
+ * participante sin encuentro con el nmero siguiente, igual que al crear el
+ * torneo, y se empareja aparte como en <code>TorneoSuizo</code>.
+ * <p>
+ * Se ejecuta con <code>java sigestor.dominio.PruebaEmparejamientoHolandes</code>
+ * con la carpeta <code>pruebas</code> en el classpath para leer el corpus, y
+ * termina con una excepcin en el primer ciclo distinto.
+ * <p>
+ * Las caractersticas de la clase <code>PruebaEmparejamientoHolandes</code>
+ * son:
+ * <ul>
+ * <li><code>CORPUS</code> para indicar el recurso con los ciclos
+ * esperados.</li>
+ * <li><code>SIN_ENCUENTRO</code> para indicar el nombre del participante sin
+ * encuentro.</li>
+ * <li><code>torneo</code> para guardar el torneo que se est
+ * comprobando.</li>
+ * <li><code>nombre</code> para guardar el nombre del torneo en el
+ * corpus.</li>
+ * </ul>
+ *
+ * @version 18/10/2026
+ */
+public class PruebaEmparejamientoHolandes {
+
+	/**
+	 * Recurso con los ciclos esperados.
+	 */
+	private static final String CORPUS = "corpusHolandes.txt";
+	/**
+	 * Nombre del participante sin encuentro.
+	 */
+	private static final String SIN_ENCUENTRO = "Descanso";
+
+	/**
+	 * Torneo que se est comprobando.
+	 */
+	private Torneo torneo;
+	/**
+	 * Nombre del torneo en el corpus.
+	 */
+	private String nombre;
+
+	/**
+	 * Permite crear un torneo suizo vaco con los participantes recibidos. El
+	 * participante con nmero menor tiene mejor puntaje de siembra. Si el nmero
+	 * de participantes es impar se agrega el participante sin encuentro.
+	 *
+	 * @param numeroParticipantes
+	 *            Recibe el nmero de participantes.
+	 * @param nombre
+	 *            Recibe el nombre del torneo en el corpus.
+	 */
+	private PruebaEmparejamientoHolandes(int numeroParticipantes, String nombre) {
+		this.nombre = nombre;
+		this.torneo = new Torneo();
+		TorneoSuizo suizo = new TorneoSuizo(torneo);
+		suizo.setCiclos(new ArrayList<Ciclo>());
+		suizo.setSistemaEmparejamiento(TorneoSuizo.EMPAREJAMIENTO_HOLANDES_SIN_FLOTANTES);
+		torneo.setAlgoritmoTorneo(suizo);
+		Personalizacion personalizacion = new Personalizacion();
+		personalizacion.setNombreParticipanteSinEncuentro(SIN_ENCUENTRO);
+		torneo.setDatosPersonalizacion(personalizacion);
+		ArrayList<Participante> participantes = new ArrayList<Participante>();
+		for (int i = 1; i <= numeroParticipantes; i++) {
+			participantes.add(new Participante(i, "Participante " + i, 2000 - i));
+		}
+		if (numeroParticipantes % 2 != 0) {
+			participantes.add(new Participante(numeroParticipantes + 1, SIN_ENCUENTRO, 0.0f));
+		}
+		torneo.setListaParticipantes(participantes);
+	}
+
+	/**
+	 * Lee el corpus y comprueba cada torneo.
+	 *
+	 * @param args
+	 *            No se usan.
+	 * @throws Exception
+	 *             Si no se pudo leer el corpus o algn ciclo es distinto.
+	 */
+	public static void main(String[] args) throws Exception {
+		InputStream recurso = PruebaEmparejamientoHolandes.class.getResourceAsStream(CORPUS);
+		if (recurso == null) {
+			throw new AssertionError("No se encontr " + CORPUS + " en el classpath.");
+		}
+		BufferedReader lector = new BufferedReader(new InputStreamReader(recurso, StandardCharsets.ISO_8859_1));
+		PruebaEmparejamientoHolandes prueba = null;
+		int torneos = 0;
+		int ciclos = 0;
+		try {
+			String linea;
+			while ((linea = lector.readLine()) != null) {
+				linea = linea.trim();
+				if (linea.isEmpty() || linea.startsWith("#")) {
+					continue;
+				}
+				String[] partes = linea.split("\\s+", 3);
+				if (partes[0].equals("torneo")) {
+					prueba = new PruebaEmparejamientoHolandes(Integer.parseInt(partes[1]), partes[2]);
+					torneos++;
+				} else if (partes[0].equals("ciclo")) {
+					if (prueba.comprobarCiclo(linea.substring("ciclo".length()).trim().split("\\s+"))) {
+						ciclos++;
+					}
+				} else {
+					throw new AssertionError("Lnea invlida en el corpus: " + linea);
+				}
+			}
+		} finally {
+			lector.close();
+		}
+		System.out.println("PruebaEmparejamientoHolandes: " + torneos + " torneos y " + ciclos
+				+ " ciclos emparejados como se esperaba.");
+	}
+
+	/**
+	 * Comprueba un ciclo del corpus. El primer ciclo del torneo se toma como
+	 * jugado; los siguientes se emparejan y se comparan con las parejas
+	 * esperadas. En ambos casos se suman los resultados anotados.
+	 *
+	 * @param encuentros
+	 *            Recibe los encuentros del ciclo con el formato
+	 *            <code>local-visitante:resultado</code>.
+	 * @return Regresa <tt>true</tt> si el ciclo se emparej, <tt>false</tt> si
+	 *         era el primer ciclo.
+	 * @throws Exception
+	 *             Si no se pudo crear algn encuentro.
+	 */
+	private boolean comprobarCiclo(String[] encuentros) throws Exception {
+		ArrayList<Ciclo> ciclos = torneo.getAlgoritmoTorneo().getCiclos();
+		int numeroCiclo = ciclos.size() + 1;
+		boolean emparejado = numeroCiclo > 1;
+		if (emparejado) {
+			String esperado = quitarResultados(encuentros);
+			String obtenido = emparejar();
+			if (!esperado.equals(obtenido)) {
+				throw new AssertionError(nombre + ", ciclo " + numeroCiclo + ": se esperaba " + esperado
+						+ " y se obtuvo " + obtenido);
+			}
+		}
+		ArrayList<Encuentro> jugados = new ArrayList<Encuentro>();
+		for (String texto : encuentros) {
+			String[] pareja = texto.split(":")[0].split("-");
+			Participante local = torneo.obtenerParticipante(Integer.parseInt(pareja[0]));
+			Participante visitante = torneo.obtenerParticipante(Integer.parseInt(pareja[1]));
+			jugados.add(new Encuentro(jugados.size() + 1, local.getNumeroParticipante(),
+					visitante.getNumeroParticipante(), new Date(0)));
+			if (texto.contains(":")) {
+				sumarResultado(local, visitante, texto.substring(texto.indexOf(':') + 1));
+			}
+		}
+		Ciclo ciclo = new Ciclo(torneo, numeroCiclo);
+		ciclo.setEncuentroParticipantes(jugados);
+		ciclos.add(ciclo);
+		return emparejado;
+	}
+
+	/**
+	 * Empareja el siguiente ciclo ordenando a los participantes y apartando al
+	 * participante sin encuentro como <code>TorneoSuizo</code>.
+	 *
+	 * @return Regresa las parejas con el formato
+	 *         <code>local-visitante</code> separadas por un espacio.
+	 */
+	private String emparejar() {
+		ArrayList<Participante> participantes = new ArrayList<Participante>(torneo.getListaParticipantes());
+		Collections.sort(participantes, torneo.getOrdenParticipantes().obtenerComparadorEmparejamiento());
+		Participante sinEncuentro = torneo.obtenerParticipante(torneo.obtenerNumeroSinEncuentro());
+		if (sinEncuentro != null) {
+			participantes.remove(sinEncuentro);
+		}
+		StringBuilder parejas = new StringBuilder();
+		for (Participante[] pareja : new EmparejamientoHolandes(torneo).emparejar(participantes, sinEncuentro)) {
+			if (parejas.length() > 0) {
+				parejas.append(' ');
+			}
+			parejas.append(pareja[0].getNumeroParticipante()).append('-').append(pareja[1].getNumeroParticipante());
+		}
+		return parejas.toString();
+	}
+
+	/**
+	 * Quita los resultados de los encuentros del corpus.
+	 *
+	 * @param encuentros
+	 *            Recibe los encuentros del ciclo.
+	 * @return Regresa las parejas con el formato
+	 *         <code>local-visitante</code> separadas por un espacio.
+	 */
+	private static String quitarResultados(String[] encuentros) {
+		StringBuilder parejas = new StringBuilder();
+		for (String texto : encuentros) {
+			if (parejas.length() > 0) {
+				parejas.append(' ');
+			}
+			parejas.append(texto.split(":")[0]);
+		}
+		return parejas.toString();
+	}
+
+	/**
+	 * Suma el resultado de un encuentro al puntaje acumulado de la pareja.
+	 *
+	 * @param local
+	 *            Recibe el participante local.
+	 * @param visitante
+	 *            Recibe el participante visitante.
+	 * @param resultado
+	 *            Recibe 1 si gana el local, 0 si gana el visitante y = si
+	 *            empatan.
+	 */
+	private static void sumarResultado(Participante local, Participante visitante, String resultado) {
+		float puntosLocal = resultado.equals("1") ? 1 : resultado.equals("0") ? 0 : 0.5f;
+		local.setPuntajeAcumuladoParticipante(local.getPuntajeAcumuladoParticipante() + puntosLocal);
+		visitante.setPuntajeAcumuladoParticipante(visitante.getPuntajeAcumuladoParticipante() + 1 - puntosLocal);
+	}
+}
@@ -0,0 +1,310 @@
+package sigestor.dominio;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Sirve para comprobar la <code>Llave</code> y el <code>SembradoLlave</code>
+ * sin base de datos simulando torneos con resultados aleatorios. Para cada
+ * nmero de participantes y cada tipo de llave (eliminacin simple, doble y
+ * doble con final de reinicio) juega las partidas pendientes en orden
+ * aleatorio hasta que hay campen.
+ * <p>
+ * Despus de cada partida guarda la llave con <code>obtenerNodos</code>, la
+ * recupera con el constructor <code>Llave(int[])</code> y sigue el torneo con
+ * la llave recuperada, de modo que cualquier dato que no se guarde cambia el
+ * resultado. Tambin comprueba que:
+ * <ul>
+ * <li>Los sembrados 1 y 2 quedan en mitades distintas del cuadro y los pases
+ * libres son para los mejores sembrados.</li>
+ * <li>Ningn participante eliminado vuelve a aparecer en una partida
+ * pendiente y una partida ya jugada no se puede registrar otra vez.</li>
+ * <li>Al terminar, el campen y el nmero de derrotas de cada participante
+ * corresponden al tipo de llave, y cada partida del cuadro la gan uno de sus
+ * participantes.</li>
+ * </ul>
+ * <p>
+ * Se ejecuta con <code>java sigestor.dominio.PruebaLlave</code> y termina con
+ * una excepcin en la primera comprobacin que falla.
+ * <p>
+ * Las caractersticas de la clase <code>PruebaLlave</code> son:
+ * <ul>
+ * <li><code>MINIMO_PARTICIPANTES</code> y <code>MAXIMO_PARTICIPANTES</code>
+ * para indicar los nmeros de participantes que se comprueban.</li>
+ * <li><code>REPETICIONES</code> para indicar cuntos torneos aleatorios se
+ * juegan con cada nmero de participantes y tipo de llave.</li>
+ * </ul>
+ *
+ * @version 18/10/2026
+ */
+public class PruebaLlave {
+
+	/**
+	 * Nmero mnimo de participantes que se comprueba.
+	 */
+	private static final int MINIMO_PARTICIPANTES = 2;
+	/**
+	 * Nmero mximo de participantes que se comprueba.
+	 */
+	private static final int MAXIMO_PARTICIPANTES = 40;
+	/**
+	 * Torneos aleatorios que se juegan con cada nmero de participantes y tipo
+	 * de llave.
+	 */
+	private static final int REPETICIONES = 20;
+
+	/**
+	 * Ejecuta la simulacin para todos los tamaos y tipos de llave.
+	 *
+	 * @param args
+	 *            No se usan.
+	 */
+	public static void main(String[] args) {
+		int llaves = 0;
+		int partidas = 0;
+		for (int numero = MINIMO_PARTICIPANTES; numero <= MAXIMO_PARTICIPANTES; numero++) {
+			comprobarSembrado(numero);
+			for (int repeticion = 0; repeticion < REPETICIONES; repeticion++) {
+				Random aleatorio = new Random(numero * 1000L + repeticion);
+				partidas += simular(numero, false, false, aleatorio);
+				partidas += simular(numero, true, false, aleatorio);
+				partidas += simular(numero, true, true, aleatorio);
+				llaves += 3;
+			}
+		}
+		System.out.println("PruebaLlave: " + llaves + " llaves y " + partidas
+				+ " partidas con la llave recuperada despus de cada partida.");
+	}
+
+	/**
+	 * Comprueba que los sembrados 1 y 2 queden en mitades distintas del cuadro
+	 * y que los pases libres sean para los mejores sembrados.
+	 *
+	 * @param numero
+	 *            Recibe el nmero de participantes.
+	 */
+	private static void comprobarSembrado(int numero) {
+		SembradoLlave sembrado = new SembradoLlave(obtenerParticipantes(numero));
+		int[] hojas = sembrado.obtenerHojas();
+		int tamano = sembrado.getTamano();
+		if (hojas.length != tamano || tamano < numero || tamano / 2 >= Math.max(numero, 2)) {
+			throw new AssertionError(numero + " participantes: tamao de llave " + tamano);
+		}
+		int mitad1 = -1;
+		int mitad2 = -1;
+		for (int hoja = 0; hoja < tamano; hoja++) {
+			if (hojas[hoja] == 1) {
+				mitad1 = hoja / (tamano / 2);
+			} else if (hojas[hoja] == 2) {
+				mitad2 = hoja / (tamano / 2);
+			}
+		}
+		if (mitad1 == mitad2) {
+			throw new AssertionError(numero + " participantes: los sembrados 1 y 2 estn en la misma mitad.");
+		}
+		int libres = 0;
+		for (int hoja = 0; hoja < tamano; hoja += 2) {
+			if (hojas[hoja] == Llave.VACIO || hojas[hoja + 1] == Llave.VACIO) {
+				int rival = hojas[hoja] == Llave.VACIO ? hojas[hoja + 1] : hojas[hoja];
+				if (rival == Llave.VACIO || rival > sembrado.getNumeroLibres()) {
+					throw new AssertionError(numero + " participantes: pase libre para el sembrado " + rival);
+				}
+				libres++;
+			}
+		}
+		if (libres != sembrado.getNumeroLibres()) {
+			throw new AssertionError(numero + " participantes: " + libres + " pases libres en lugar de "
+					+ sembrado.getNumeroLibres());
+		}
+	}
+
+	/**
+	 * Juega un torneo con resultados aleatorios, recuperando la llave de sus
+	 * nodos despus de cada partida, y comprueba el campen y las derrotas de
+	 * cada participante.
+	 *
+	 * @param numero
+	 *            Recibe el nmero de participantes.
+	 * @param doble
+	 *            Recibe <tt>true</tt> si la llave tiene cuadro de perdedores.
+	 * @param reinicio
+	 *            Recibe <tt>true</tt> si la llave tiene final de reinicio.
+	 * @param aleatorio
+	 *            Recibe el generador de los resultados.
+	 * @return Regresa el nmero de partidas jugadas.
+	 */
+	private static int simular(int numero, boolean doble, boolean reinicio, Random aleatorio) {
+		String nombre = numero + " participantes, " + (!doble ? "simple" : reinicio ? "doble con reinicio" : "doble");
+		Llave llave = new SembradoLlave(obtenerParticipantes(numero)).crearLlave(doble, reinicio);
+		int eliminacion = doble ? 2 : 1;
+		int[] derrotas = new int[numero + 1];
+		int partidas = 0;
+		int ganadorGranFinal = Llave.POR_DEFINIR;
+		boolean reinicioJugado = false;
+		ArrayList<int[]> pendientes;
+		while (!(pendientes = obtenerPendientes(llave)).isEmpty()) {
+			for (int[] pendiente : pendientes) {
+				if (derrotas[pendiente[0]] >= eliminacion || derrotas[pendiente[1]] >= eliminacion) {
+					throw new AssertionError(nombre + ": un participante eliminado sigue en la partida "
+							+ pendiente[0] + "-" + pendiente[1]);
+				}
+			}
+			int[] partida = pendientes.get(aleatorio.nextInt(pendientes.size()));
+			boolean esFinal = esPartidaFinal(llave, partida[0], partida[1]);
+			boolean ganaInicial = aleatorio.nextBoolean();
+			int ganador = ganaInicial ? partida[0] : partida[1];
+			int perdedor = ganaInicial ? partida[1] : partida[0];
+			if (esFinal && llave.obtenerCampeon() != Llave.POR_DEFINIR) {
+				throw new AssertionError(nombre + ": hay campen con una final pendiente.");
+			}
+			if (esFinal && ganadorGranFinal == Llave.POR_DEFINIR) {
+				ganadorGranFinal = ganador;
+			} else if (esFinal) {
+				reinicioJugado = true;
+			}
+			if (!llave.registrarResultado(ganador, perdedor)) {
+				throw new AssertionError(nombre + ": no se registr la partida " + ganador + "-" + perdedor);
+			}
+			if (!esPartidaFinal(llave, ganador, perdedor) && llave.registrarResultado(ganador, perdedor)) {
+				throw new AssertionError(nombre + ": la partida " + ganador + "-" + perdedor
+						+ " se registr dos veces.");
+			}
+			derrotas[perdedor]++;
+			partidas++;
+			int[] nodos = llave.obtenerNodos();
+			llave = new Llave(nodos);
+			if (!Arrays.equals(nodos, llave.obtenerNodos())) {
+				throw new AssertionError(nombre + ": la llave recuperada es distinta despus de la partida "
+						+ partidas);
+			}
+		}
+		comprobarFinal(nombre, llave, derrotas, partidas, ganadorGranFinal, reinicioJugado);
+		return partidas;
+	}
+
+	/**
+	 * Comprueba el campen, las derrotas de cada participante, el nmero de
+	 * partidas y el cuadro de una llave terminada.
+	 *
+	 * @param nombre
+	 *            Recibe la descripcin de la llave para los mensajes.
+	 * @param llave
+	 *            Recibe la llave terminada.
+	 * @param derrotas
+	 *            Recibe las derrotas de cada participante.
+	 * @param partidas
+	 *            Recibe el nmero de partidas jugadas.
+	 * @param ganadorGranFinal
+	 *            Recibe el ganador de la gran final o <code>POR_DEFINIR</code>
+	 *            si la llave es simple.
+	 * @param reinicioJugado
+	 *            Recibe <tt>true</tt> si se jug la final de reinicio.
+	 */
+	private static void comprobarFinal(String nombre, Llave llave, int[] derrotas, int partidas,
+			int ganadorGranFinal, boolean reinicioJugado) {
+		int numero = derrotas.length - 1;
+		int campeon = llave.obtenerCampeon();
+		if (campeon < 1 || campeon > numero) {
+			throw new AssertionError(nombre + ": la llave termin sin campen (" + campeon + ").");
+		}
+		if (!llave.isDoble()) {
+			for (int participante = 1; participante <= numero; participante++) {
+				int esperadas = participante == campeon ? 0 : 1;
+				if (derrotas[participante] != esperadas) {
+					throw new AssertionError(nombre + ": el participante " + participante + " tiene "
+							+ derrotas[participante] + " derrotas.");
+				}
+			}
+			if (partidas != numero - 1) {
+				throw new AssertionError(nombre + ": " + partidas + " partidas en lugar de " + (numero - 1));
+			}
+		} else {
+			int campeonGanadores = llave.obtenerCampeonGanadores();
+			for (int participante = 1; participante <= numero; participante++) {
+				boolean finalistaSinReinicio = participante == campeonGanadores && participante != campeon
+						&& !llave.isReinicio();
+				int esperadas = participante == campeon ? derrotas[campeon] : finalistaSinReinicio ? 1 : 2;
+				if (derrotas[participante] != esperadas || derrotas[campeon] > 1) {
+					throw new AssertionError(nombre + ": el participante " + participante + " tiene "
+							+ derrotas[participante] + " derrotas.");
+				}
+			}
+			int esperadas = 2 * numero - 2 + (reinicioJugado ? 1 : 0);
+			if (partidas != esperadas) {
+				throw new AssertionError(nombre + ": " + partidas + " partidas en lugar de " + esperadas);
+			}
+			if (reinicioJugado != (llave.isReinicio() && ganadorGranFinal != campeonGanadores)) {
+				throw new AssertionError(nombre + ": la final de reinicio no corresponde a la gran final.");
+			}
+		}
+		for (PartidaLlave partida : llave.obtenerCuadro()) {
+			int ganador = partida.getGanador();
+			if (ganador >= 0 && partida.getParticipanteInicial() >= 0 && partida.getParticipanteFinal() >= 0
+					&& ganador != partida.getParticipanteInicial() && ganador != partida.getParticipanteFinal()) {
+				throw new AssertionError(nombre + ": la partida " + partida.getNumeroPartida()
+						+ " la gan alguien que no la jug.");
+			}
+		}
+	}
+
+	/**
+	 * Obtiene las partidas pendientes de todas las rondas de ambos cuadros y
+	 * de las finales.
+	 *
+	 * @param llave
+	 *            Recibe la llave.
+	 * @return Regresa los nmeros del participante inicial y del participante
+	 *         final de cada partida pendiente.
+	 */
+	private static ArrayList<int[]> obtenerPendientes(Llave llave) {
+		ArrayList<int[]> pendientes = new ArrayList<int[]>();
+		for (int ronda = 1; ronda <= llave.getNumeroRondas(); ronda++) {
+			pendientes.addAll(llave.obtenerPartidasGanadores(ronda));
+		}
+		for (int ronda = 1; ronda <= llave.getNumeroRondasPerdedores(); ronda++) {
+			pendientes.addAll(llave.obtenerPartidasPerdedores(ronda));
+		}
+		pendientes.addAll(llave.obtenerPartidasFinales());
+		return pendientes;
+	}
+
+	/**
+	 * Indica si dos participantes forman la gran final o la final de reinicio
+	 * pendiente. Con dos participantes la gran final repite la final del cuadro
+	 * de ganadores.
+	 *
+	 * @param llave
+	 *            Recibe la llave.
+	 * @param participante1
+	 *            Recibe el nmero de un participante.
+	 * @param participante2
+	 *            Recibe el nmero del otro participante.
+	 * @return <tt>true</tt> si la pareja es la final pendiente, <tt>false</tt>
+	 *         en caso contrario.
+	 */
+	private static boolean esPartidaFinal(Llave llave, int participante1, int participante2) {
+		for (int[] partida : llave.obtenerPartidasFinales()) {
+			if ((partida[0] == participante1 && partida[1] == participante2)
+					|| (partida[0] == participante2 && partida[1] == participante1)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Obtiene los participantes del 1 al nmero recibido en orden de sembrado.
+	 *
+	 * @param numero
+	 *            Recibe el nmero de participantes.
+	 * @return Regresa el nmero de cada participante.
+	 */
+	private static int[] obtenerParticipantes(int numero) {
+		int[] participantes = new int[numero];
+		for (int i = 0; i < numero; i++) {
+			participantes[i] = i + 1;
+		}
+		return participantes;
+	}
+}
@@ -0,0 +1,167 @@
+package sigestor.dominio;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Sirve para comprobar que varios torneos se ordenan y emparejan al mismo
+ * tiempo en hilos distintos sin compartir estado. Cada torneo tiene su propio
+ * <code>OrdenParticipantes</code> y simula varios ciclos del sistema suizo
+ * sin base de datos; la firma de cada torneo, con el orden de sus
+ * participantes y sus parejas en cada ciclo, debe ser la misma que se obtiene
+ * al simularlo solo.
+ * <p>
+ * Se ejecuta con <code>java sigestor.dominio.PruebaOrdenConcurrente</code> y
+ * termina con una excepcin en la primera firma distinta.
+ * <p>
+ * Las caractersticas de la clase <code>PruebaOrdenConcurrente</code> son:
+ * <ul>
+ * <li><code>NUMERO_TORNEOS</code> para indicar cuntos torneos se simulan al
+ * mismo tiempo.</li>
+ * <li><code>NUMERO_CICLOS</code> para indicar cuntos ciclos simula cada
+ * torneo.</li>
+ * <li><code>REPETICIONES</code> para indicar cuntas veces se simulan los
+ * torneos en paralelo.</li>
+ * </ul>
+ *
+ * @version 18/10/2026
+ */
+public class PruebaOrdenConcurrente {
+
+	/**
+	 * Torneos que se simulan al mismo tiempo.
+	 */
+	private static final int NUMERO_TORNEOS = 32;
+	/**
+	 * Ciclos que simula cada torneo.
+	 */
+	private static final int NUMERO_CICLOS = 5;
+	/**
+	 * Veces que se simulan los torneos en paralelo.
+	 */
+	private static final int REPETICIONES = 10;
+
+	/**
+	 * Simula cada torneo solo y despus todos en paralelo, comparando las
+	 * firmas.
+	 *
+	 * @param args
+	 *            No se usan.
+	 * @throws Exception
+	 *             Si alguna simulacin falla.
+	 */
+	public static void main(String[] args) throws Exception {
+		String[] esperadas = new String[NUMERO_TORNEOS];
+		for (int i = 0; i < NUMERO_TORNEOS; i++) {
+			esperadas[i] = simular(i);
+		}
+		ExecutorService hilos = Executors.newFixedThreadPool(NUMERO_TORNEOS);
+		try {
+			for (int repeticion = 1; repeticion <= REPETICIONES; repeticion++) {
+				final CountDownLatch salida = new CountDownLatch(1);
+				ArrayList<Future<String>> firmas = new ArrayList<Future<String>>();
+				for (int i = 0; i < NUMERO_TORNEOS; i++) {
+					final int indice = i;
+					firmas.add(hilos.submit(new Callable<String>() {
+						@Override
+						public String call() throws Exception {
+							salida.await();
+							return simular(indice);
+						}
+					}));
+				}
+				salida.countDown();
+				for (int i = 0; i < NUMERO_TORNEOS; i++) {
+					if (!esperadas[i].equals(firmas.get(i).get())) {
+						throw new AssertionError("El torneo " + i + " cambi su orden o sus parejas en la repeticin "
+								+ repeticion + ".");
+					}
+				}
+			}
+		} finally {
+			hilos.shutdownNow();
+		}
+		System.out.println("PruebaOrdenConcurrente: " + NUMERO_TORNEOS + " torneos en paralelo, " + REPETICIONES
+				+ " repeticiones con las mismas firmas.");
+	}
+
+	/**
+	 * Simula los ciclos de un torneo. El orden, el nmero de participantes,
+	 * sus puntajes y los resultados dependen solo del ndice del torneo.
+	 *
+	 * @param indice
+	 *            Recibe el ndice del torneo.
+	 * @return Regresa la firma con el orden y las parejas de cada ciclo.
+	 * @throws Exception
+	 *             Si no se pudo crear algn encuentro.
+	 */
+	private static String simular(int indice) throws Exception {
+		Random aleatorio = new Random(indice);
+		Torneo torneo = new Torneo();
+		TorneoSuizo suizo = new TorneoSuizo(torneo);
+		suizo.setCiclos(new ArrayList<Ciclo>());
+		torneo.setAlgoritmoTorneo(suizo);
+		OrdenParticipantes orden = torneo.getOrdenParticipantes();
+		orden.setAlfabetico(indice % 2 == 0);
+		orden.setPorPuntaje(indice % 4 < 2);
+		orden.setPorPuntajeAcumulado(indice % 3 == 0);
+		orden.setSemilla(1000 + indice);
+
+		ArrayList<Participante> participantes = new ArrayList<Participante>();
+		for (int i = 1; i <= 64 + 2 * indice; i++) {
+			participantes.add(new Participante(i, "Participante " + aleatorio.nextInt(100), 1000 + aleatorio.nextInt(20)));
+		}
+		orden.ordenarInicial(participantes);
+		torneo.setListaParticipantes(participantes);
+
+		StringBuilder firma = new StringBuilder();
+		for (int numeroCiclo = 1; numeroCiclo <= NUMERO_CICLOS; numeroCiclo++) {
+			ArrayList<Participante> tabla = new ArrayList<Participante>(participantes);
+			orden.ordenar(tabla);
+			for (Participante participante : tabla) {
+				firma.append(participante.getNumeroParticipante()).append(' ');
+			}
+			firma.append('|');
+
+			ArrayList<Participante> candidatos = new ArrayList<Participante>(participantes);
+			Collections.sort(candidatos, orden.obtenerComparadorEmparejamiento());
+			EmparejamientoSuizo emparejamiento = indice % 2 == 0 ? new EmparejamientoHolandes(torneo)
+					: new EmparejamientoSuizo(torneo);
+			ArrayList<Encuentro> encuentros = new ArrayList<Encuentro>();
+			for (Participante[] pareja : emparejamiento.emparejar(candidatos, null)) {
+				firma.append(pareja[0].getNumeroParticipante()).append('-').append(pareja[1].getNumeroParticipante())
+						.append(' ');
+				encuentros.add(new Encuentro(encuentros.size() + 1, pareja[0].getNumeroParticipante(),
+						pareja[1].getNumeroParticipante(), new Date(0)));
+				sumarResultado(pareja, aleatorio.nextInt(3));
+			}
+			firma.append('\n');
+			Ciclo ciclo = new Ciclo(torneo, numeroCiclo);
+			ciclo.setEncuentroParticipantes(encuentros);
+			suizo.getCiclos().add(ciclo);
+		}
+		return firma.toString();
+	}
+
+	/**
+	 * Suma al puntaje acumulado de la pareja el resultado recibido.
+	 *
+	 * @param pareja
+	 *            Recibe el participante inicial y el final.
+	 * @param resultado
+	 *            Recibe 0 si gana el inicial, 1 si gana el final y 2 si
+	 *            empatan.
+	 */
+	private static void sumarResultado(Participante[] pareja, int resultado) {
+		float inicial = resultado == 0 ? 1 : resultado == 1 ? 0 : 0.5f;
+		pareja[0].setPuntajeAcumuladoParticipante(pareja[0].getPuntajeAcumuladoParticipante() + inicial);
+		pareja[1].setPuntajeAcumuladoParticipante(pareja[1].getPuntajeAcumuladoParticipante() + 1 - inicial);
+	}
+}
@@ -0,0 +1,300 @@
+package sigestor.servidor;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import sigestor.dominio.Ciclo;
+import sigestor.dominio.Encuentro;
+import sigestor.dominio.Participante;
+import sigestor.dominio.Personalizacion;
+import sigestor.dominio.Torneo;
+import sigestor.dominio.TorneoSuizo;
+import sigestor.excepcion.ExcepcionCapturarResultados;
+
+/**
+ * Sirve para comprobar que una rfaga de cambios no deja sin hilos a las
+ * consultas del <code>ServidorTorneos</code>. La prueba detiene al escritor
+ * del torneo con un cambio que no termina, como una transaccin lenta, enva
+ * ms cambios que hilos de solicitudes tiene el servidor y, mientras siguen
+ * encolados, lanza miles de lectores al mismo tiempo. Todas las consultas deben
+ * responderse antes de liberar al escritor, y despus todos los cambios deben
+ * recibir su respuesta.
+ * <p>
+ * El torneo no tiene base de datos, por lo que los cambios responden con el
+ * error de la conexin; la prueba solo comprueba que cada solicitud reciba
+ * respuesta.
+ * <p>
+ * Se ejecuta con <code>java sigestor.servidor.PruebaCargaServidor [lectores]</code>.
+ * El nmero de lectores es 2000 si no se indica, y termina con una excepcin si
+ * alguna solicitud no recibi respuesta.
+ * <p>
+ * Las caractersticas de la clase <code>PruebaCargaServidor</code> son:
+ * <ul>
+ * <li><code>LECTORES</code> para indicar cuntos lectores se lanzan si no se
+ * indica otro nmero.</li>
+ * <li><code>CONSULTAS</code> para indicar cuntas consultas realiza cada
+ * lector.</li>
+ * <li><code>ESCRITORES</code> para indicar cuntos cambios se encolan
+ * detrs del escritor detenido.</li>
+ * </ul>
+ *
+ * @version 18/10/2026
+ */
+public class PruebaCargaServidor {
+
+	/**
+	 * Lectores que se lanzan si no se indica otro nmero.
+	 */
+	private static final int LECTORES = 2000;
+	/**
+	 * Consultas que realiza cada lector.
+	 */
+	private static final int CONSULTAS = 5;
+	/**
+	 * Cambios que se encolan detrs del escritor detenido, ms que los hilos de
+	 * solicitudes del servidor.
+	 */
+	private static final int ESCRITORES = Math.max(256, 16 * Runtime.getRuntime().availableProcessors());
+	/**
+	 * Milisegundos que se espera a que los cambios lleguen al servidor antes de
+	 * lanzar a los lectores.
+	 */
+	private static final int PAUSA_ESCRITORES = 1000;
+	/**
+	 * Milisegundos que espera cada solicitud su respuesta.
+	 */
+	private static final int ESPERA_RESPUESTA = 20000;
+	/**
+	 * Segundos que se espera a que terminen los lectores o los escritores.
+	 */
+	private static final int ESPERA_HILOS = 120;
+
+	/**
+	 * Lanza los cambios y los lectores y comprueba que todos reciban respuesta.
+	 *
+	 * @param args
+	 *            Recibe opcionalmente el nmero de lectores.
+	 * @throws Exception
+	 *             Si no se pudo iniciar el servidor o alguna solicitud no
+	 *             recibi respuesta.
+	 */
+	public static void main(String[] args) throws Exception {
+		int lectores = args.length > 0 ? Integer.parseInt(args[0]) : LECTORES;
+		Torneo torneo = crearTorneo();
+		ServidorTorneos servidor = new ServidorTorneos(0);
+		String id = servidor.agregarTorneo(torneo);
+		servidor.iniciar();
+		final String base = "http://127.0.0.1:" + servidor.getPuerto() + "/torneos/" + id;
+		final CountDownLatch liberar = new CountDownLatch(1);
+		try {
+			servidor.obtenerTorneo(id).escribir(new Callable<String>() {
+				@Override
+				public String call() throws Exception {
+					liberar.await();
+					return "{}";
+				}
+			}, new ReceptorRespuesta() {
+				@Override
+				public void responder(String respuesta) {
+				}
+
+				@Override
+				public void fallar(Exception excepcion) {
+				}
+			});
+
+			final AtomicInteger cambiosRespondidos = new AtomicInteger();
+			final AtomicReference<String> fallaCambio = new AtomicReference<String>();
+			ArrayList<Thread> escritores = new ArrayList<Thread>();
+			for (int i = 0; i < ESCRITORES; i++) {
+				Thread escritor = new Thread(new Runnable() {
+					@Override
+					public void run() {
+						try {
+							solicitar(base + "/ciclos/1/encuentros/1", "resultado=Inicial");
+							cambiosRespondidos.incrementAndGet();
+						} catch (IOException e) {
+							fallaCambio.compareAndSet(null, e.toString());
+						}
+					}
+				});
+				escritor.setDaemon(true);
+				escritor.start();
+				escritores.add(escritor);
+			}
+			Thread.sleep(PAUSA_ESCRITORES);
+
+			final CountDownLatch salida = new CountDownLatch(1);
+			final AtomicInteger consultasCorrectas = new AtomicInteger();
+			final AtomicLong esperaMaxima = new AtomicLong();
+			final AtomicReference<String> fallaConsulta = new AtomicReference<String>();
+			ArrayList<Thread> hilosLectores = new ArrayList<Thread>();
+			for (int i = 0; i < lectores; i++) {
+				final int lector = i;
+				Thread hilo = new Thread(new Runnable() {
+					@Override
+					public void run() {
+						try {
+							salida.await();
+							for (int j = 0; j < CONSULTAS; j++) {
+								long inicio = System.nanoTime();
+								String ruta = (lector + j) % 2 == 0 ? "/posiciones" : "/ciclos/1";
+								int codigo = solicitar(base + ruta, null);
+								long espera = System.nanoTime() - inicio;
+								if (codigo != 200) {
+									fallaConsulta.compareAndSet(null, "cdigo " + codigo);
+									return;
+								}
+								consultasCorrectas.incrementAndGet();
+								long anterior;
+								while ((anterior = esperaMaxima.get()) < espera
+										&& !esperaMaxima.compareAndSet(anterior, espera)) {
+								}
+							}
+						} catch (IOException e) {
+							fallaConsulta.compareAndSet(null, e.toString());
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+					}
+				});
+				hilo.setDaemon(true);
+				hilo.start();
+				hilosLectores.add(hilo);
+			}
+			long inicio = System.nanoTime();
+			salida.countDown();
+			esperar(hilosLectores);
+			long duracion = System.nanoTime() - inicio;
+			if (consultasCorrectas.get() != lectores * CONSULTAS) {
+				throw new AssertionError("Con " + ESCRITORES + " cambios encolados solo se respondieron "
+						+ consultasCorrectas.get() + " de " + lectores * CONSULTAS + " consultas: "
+						+ fallaConsulta.get());
+			}
+			System.out.printf("%d lectores, %d consultas en %,d ms con %d cambios encolados; espera mxima %,d ms%n",
+					lectores, lectores * CONSULTAS, duracion / 1000000, ESCRITORES, esperaMaxima.get() / 1000000);
+
+			liberar.countDown();
+			esperar(escritores);
+			if (cambiosRespondidos.get() != ESCRITORES) {
+				throw new AssertionError("Solo " + cambiosRespondidos.get() + " de " + ESCRITORES
+						+ " cambios recibieron respuesta: " + fallaCambio.get());
+			}
+			System.out.println("PruebaCargaServidor: los " + ESCRITORES + " cambios recibieron respuesta.");
+		} finally {
+			liberar.countDown();
+			servidor.detener();
+		}
+	}
+
+	/**
+	 * Crea un torneo suizo sin base de datos con el primer ciclo sin
+	 * resultados.
+	 *
+	 * @return Regresa el torneo.
+	 * @throws IOException
+	 *             Si no se pudo crear el nombre del archivo temporal.
+	 * @throws ExcepcionCapturarResultados
+	 *             Si no se pudo crear algn encuentro.
+	 */
+	private static Torneo crearTorneo() throws IOException, ExcepcionCapturarResultados {
+		File archivo = File.createTempFile("carga", ".torn");
+		archivo.delete();
+		Torneo torneo = new Torneo();
+		torneo.setNombreArchivo(archivo.getAbsolutePath());
+		torneo.setNombreTorneo("Prueba de carga");
+		torneo.setTipoTorneo("Suizo");
+		Personalizacion personalizacion = new Personalizacion();
+		personalizacion.setPuntajeGanar(1);
+		personalizacion.setPuntajeEmpatar(0.5f);
+		personalizacion.setPuntajePerder(0);
+		personalizacion.setNombreParticipanteSinEncuentro("Descanso");
+		torneo.setDatosPersonalizacion(personalizacion);
+		TorneoSuizo suizo = new TorneoSuizo(torneo);
+		suizo.setCiclos(new ArrayList<Ciclo>());
+		suizo.setNumeroCiclos(3);
+		torneo.setAlgoritmoTorneo(suizo);
+		ArrayList<Participante> participantes = new ArrayList<Participante>();
+		for (int i = 1; i <= 8; i++) {
+			participantes.add(new Participante(i, "Participante " + i, 2000 - i));
+		}
+		torneo.setListaParticipantes(participantes);
+		ArrayList<Encuentro> encuentros = new ArrayList<Encuentro>();
+		for (int i = 1; i <= 4; i++) {
+			encuentros.add(new Encuentro(i, i, i + 4, new Date(0)));
+		}
+		Ciclo ciclo = new Ciclo(torneo, 1);
+		ciclo.setEncuentroParticipantes(encuentros);
+		suizo.getCiclos().add(ciclo);
+		torneo.setCicloActual(1);
+		return torneo;
+	}
+
+	/**
+	 * Realiza una solicitud y lee la respuesta completa.
+	 *
+	 * @param direccion
+	 *            Recibe la direccin de la solicitud.
+	 * @param formulario
+	 *            Recibe el cuerpo de un <code>POST</code>, o <code>null</code>
+	 *            para realizar un <code>GET</code>.
+	 * @return Regresa el cdigo de estado de la respuesta.
+	 * @throws IOException
+	 *             Si no se recibi respuesta a tiempo.
+	 */
+	private static int solicitar(String direccion, String formulario) throws IOException {
+		HttpURLConnection conexion = (HttpURLConnection) new URL(direccion).openConnection();
+		conexion.setConnectTimeout(ESPERA_RESPUESTA);
+		conexion.setReadTimeout(ESPERA_RESPUESTA);
+		if (formulario != null) {
+			conexion.setRequestMethod("POST");
+			conexion.setDoOutput(true);
+			conexion.setRequestProperty("Content-Type", "application/x-www-form-urlencoded");
+			OutputStream salida = conexion.getOutputStream();
+			try {
+				salida.write(formulario.getBytes("UTF-8"));
+			} finally {
+				salida.close();
+			}
+		}
+		int codigo = conexion.getResponseCode();
+		InputStream entrada = codigo < 400 ? conexion.getInputStream() : conexion.getErrorStream();
+		if (entrada != null) {
+			try {
+				byte[] bloque = new byte[1024];
+				while (entrada.read(bloque) != -1) {
+				}
+			} finally {
+				entrada.close();
+			}
+		}
+		return codigo;
+	}
+
+	/**
+	 * Espera a que terminen los hilos recibidos.
+	 *
+	 * @param hilos
+	 *            Recibe los hilos.
+	 * @throws InterruptedException
+	 *             Si se interrumpe el hilo que espera.
+	 */
+	private static void esperar(ArrayList<Thread> hilos) throws InterruptedException {
+		long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(ESPERA_HILOS);
+		for (Thread hilo : hilos) {
+			hilo.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(limite - System.nanoTime())));
+		}
+	}
+}
@@ -20,10 +20,15 @@ import sigestor.gui.VentanaPrincipal;
  */
 public class SIGESTOR {
 	/**
-	 * @param args Acepta valores cuando ejecuta lineas de comandos.
+	 * @param args Acepta valores cuando ejecuta lineas de comandos. Si el primer
+	 *             valor es un comando de <code>SIGESTORConsola</code> el torneo
+	 *             se administra sin abrir la interfaz grfica; si no, se abre el
+	 *             archivo del torneo recibido.
 	 */
 	public static void main(String[] args) {
-		if (args.length > 0) {
+		if (args.length > 0 && SIGESTORConsola.esComando(args[0])) {
+			SIGESTORConsola.main(args);
+		} else if (args.length > 0) {
 			new VentanaPrincipal(args[0]);
 		} else {
 			new VentanaPrincipal();
@@ -0,0 +1,719 @@
+package sigestor;
+
+import java.io.File;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+
+import sigestor.bd.SesionBaseDatos;
+import sigestor.dominio.AlgoritmoTorneo;
+import sigestor.dominio.CapturaResultados;
+import sigestor.dominio.Ciclo;
+import sigestor.dominio.CriteriosDesempate;
+import sigestor.dominio.Participante;
+import sigestor.dominio.Personalizacion;
+import sigestor.dominio.TablaPosiciones;
+import sigestor.dominio.Torneo;
+import sigestor.dominio.TorneoEliminacionDirecta;
+import sigestor.dominio.TorneoRoundRobin;
+import sigestor.dominio.TorneoSuizo;
+import sigestor.excepcion.ExcepcionBaseDatos;
+import sigestor.excepcion.ExcepcionBaseDatosCriteriosDesempate;
+import sigestor.excepcion.ExcepcionBaseDatosParticipante;
+import sigestor.excepcion.ExcepcionBaseDatosPersonalizacion;
+import sigestor.excepcion.ExcepcionBaseDatosTorneo;
+import sigestor.excepcion.ExcepcionConsola;
+import sigestor.excepcion.ExcepcionUtilerias;
+import sigestor.servidor.ServidorTorneos;
+import sigestor.utilerias.UtileriasImportarResultados;
+import sigestor.utilerias.UtileriasListaParticipantes;
+import sigestor.utilerias.UtileriasListaResultados;
+
+/**
+ * Sirve para administrar un torneo desde la lnea de comandos, sin abrir la
+ * interfaz grfica. Cada comando abre el archivo del torneo, realiza una sola
+ * accin con las mismas clases del dominio que usa la interfaz grfica y
+ * termina, de modo que los comandos se pueden encadenar en un guion:
+ * <ul>
+ * <li><code>crear</code> crea el torneo con la lista de participantes de un
+ * archivo CSV.</li>
+ * <li><code>iniciar</code> inicia el torneo y realiza el primer ciclo.</li>
+ * <li><code>ronda</code> realiza el siguiente ciclo.</li>
+ * <li><code>plantilla</code> genera el archivo CSV para capturar los
+ * resultados de un ciclo.</li>
+ * <li><code>resultados</code> guarda los resultados de un ciclo ledos de un
+ * archivo CSV.</li>
+ * <li><code>importar</code> guarda los resultados de un ciclo ledos de un
+ * archivo CSV con el formato del reporte de resultados.</li>
+ * <li><code>pareos</code>, <code>reporte</code>, <code>llave</code> y
+ * <code>posiciones</code> generan los reportes CSV.</li>
+ * <li><code>servidor</code> atiende uno o varios torneos por HTTP hasta que se
+ * detiene el programa.</li>
+ * </ul>
+ * Las opciones se escriben como <code>--nombre=valor</code>. Si ocurre un
+ * error se muestra el mensaje y el programa termina con el cdigo 1.
+ *
+ * @version 18/10/2026
+ */
+public class SIGESTORConsola {
+
+	/**
+	 * Comandos que reconoce la consola.
+	 */
+	private static final String[] COMANDOS = { "crear", "iniciar", "ronda", "plantilla", "resultados", "importar",
+			"pareos", "reporte", "llave", "posiciones", "servidor", "ayuda" };
+
+	/**
+	 * Formato de las fechas recibidas en las opciones.
+	 */
+	private static final String FORMATO_FECHA = "dd/MM/yyyy";
+
+	/**
+	 * Argumentos del comando sin las opciones.
+	 */
+	private ArrayList<String> argumentos;
+	/**
+	 * Opciones del comando, sin el prefijo <code>--</code>.
+	 */
+	private ArrayList<String> opciones;
+
+	/**
+	 * Permite separar los argumentos y las opciones recibidos.
+	 *
+	 * @param args
+	 *            Recibe el comando seguido de sus argumentos y opciones.
+	 */
+	public SIGESTORConsola(String[] args) {
+		this.argumentos = new ArrayList<String>();
+		this.opciones = new ArrayList<String>();
+		for (String arg : args) {
+			if (arg.startsWith("--")) {
+				opciones.add(arg.substring(2));
+			} else {
+				argumentos.add(arg);
+			}
+		}
+	}
+
+	/**
+	 * Ejecuta el comando recibido y termina con el cdigo 1 si ocurre un error.
+	 *
+	 * @param args
+	 *            Recibe el comando seguido de sus argumentos y opciones.
+	 */
+	public static void main(String[] args) {
+		int codigo = 0;
+		try {
+			new SIGESTORConsola(args).ejecutar();
+		} catch (Exception e) {
+			System.err.println(e.getMessage());
+			codigo = 1;
+		} finally {
+			SesionBaseDatos.cerrarSesiones();
+		}
+		System.exit(codigo);
+	}
+
+	/**
+	 * Indica si el argumento recibido es un comando de la consola.
+	 *
+	 * @param argumento
+	 *            Recibe el primer argumento del programa.
+	 * @return Regresa <tt>true</tt> si es un comando, <tt>false</tt> en caso
+	 *         contrario.
+	 */
+	public static boolean esComando(String argumento) {
+		return Arrays.asList(COMANDOS).contains(argumento);
+	}
+
+	/**
+	 * Ejecuta el comando.
+	 *
+	 * @throws Exception
+	 *             Lanza la excepcin del dominio, de la base de datos o de las
+	 *             utileras que impidi realizar el comando.
+	 */
+	public void ejecutar() throws Exception {
+		String comando = argumentos.isEmpty() ? "ayuda" : argumentos.get(0);
+		if (comando.equals("crear")) {
+			verificarArgumentos(5, 5);
+			crear();
+		} else if (comando.equals("iniciar")) {
+			verificarArgumentos(2, 2);
+			iniciar();
+		} else if (comando.equals("ronda")) {
+			verificarArgumentos(2, 2);
+			realizarRonda();
+		} else if (comando.equals("plantilla")) {
+			verificarArgumentos(3, 4);
+			escribirPlantilla();
+		} else if (comando.equals("resultados")) {
+			verificarArgumentos(3, 4);
+			capturarResultados();
+		} else if (comando.equals("importar")) {
+			verificarArgumentos(3, 4);
+			importarResultados();
+		} else if (comando.equals("pareos")) {
+			verificarArgumentos(3, 4);
+			Torneo torneo = abrirIniciado();
+			torneo.getAlgoritmoTorneo().generarReporteCiclo(new File(argumentos.get(2)),
+					obtenerCiclo(torneo).getNumeroCiclo() - 1);
+		} else if (comando.equals("reporte")) {
+			verificarArgumentos(3, 4);
+			Torneo torneo = abrirIniciado();
+			torneo.getAlgoritmoTorneo().generarReporteParciales(new File(argumentos.get(2)),
+					obtenerCiclo(torneo).getNumeroCiclo() - 1);
+		} else if (comando.equals("llave")) {
+			verificarArgumentos(3, 3);
+			Torneo torneo = abrirIniciado();
+			if (!(torneo.getAlgoritmoTorneo() instanceof TorneoEliminacionDirecta)) {
+				throw new ExcepcionConsola(ExcepcionConsola.MENSAJE_EXCEPCION_TIPO_INCORRECTO);
+			}
+			((TorneoEliminacionDirecta) torneo.getAlgoritmoTorneo()).generarReporteLlave(new File(argumentos.get(2)));
+		} else if (comando.equals("posiciones")) {
+			verificarArgumentos(3, 3);
+			escribirPosiciones();
+		} else if (comando.equals("servidor")) {
+			verificarArgumentos(3, Integer.MAX_VALUE);
+			atenderServidor();
+		} else if (comando.equals("ayuda")) {
+			mostrarAyuda();
+		} else {
+			throw new ExcepcionConsola(ExcepcionConsola.MENSAJE_EXCEPCION_ARGUMENTOS_INCORRECTOS);
+		}
+	}
+
+	/**
+	 * Crea el archivo del torneo con los participantes del archivo CSV, la
+	 * personalizacin por omisin y el criterio de desempate "Puntuacin", a
+	 * menos que las opciones indiquen otros valores.
+	 *
+	 * @throws ExcepcionConsola
+	 *             Lanza la excepcin si el archivo ya existe, si el tipo de
+	 *             torneo no existe o si alguna fecha no es vlida.
+	 * @throws ExcepcionUtilerias
+	 *             Lanza la excepcin si no se pudo leer la lista de
+	 *             participantes.
+	 * @throws ExcepcionBaseDatos
+	 *             Lanza la excepcin si ocurre un error en <code>BaseDatos</code>.
+	 * @throws ExcepcionBaseDatosTorneo
+	 *             Lanza la excepcin si no se pudo guardar el torneo.
+	 * @throws ExcepcionBaseDatosCriteriosDesempate
+	 *             Lanza la excepcin si no se pudieron guardar los criterios.
+	 * @throws ExcepcionBaseDatosPersonalizacion
+	 *             Lanza la excepcin si no se pudo guardar la personalizacin.
+	 * @throws ExcepcionBaseDatosParticipante
+	 *             Lanza la excepcin si no se pudieron guardar los
+	 *             participantes.
+	 */
+	private void crear() throws ExcepcionConsola, ExcepcionUtilerias, ExcepcionBaseDatos, ExcepcionBaseDatosTorneo,
+			ExcepcionBaseDatosCriteriosDesempate, ExcepcionBaseDatosPersonalizacion, ExcepcionBaseDatosParticipante {
+		String nombreArchivo = argumentos.get(1);
+		if (!nombreArchivo.toLowerCase().endsWith(".torn")) {
+			nombreArchivo += ".torn";
+		}
+		if (new File(nombreArchivo).exists()) {
+			throw new ExcepcionConsola(ExcepcionConsola.MENSAJE_EXCEPCION_ARCHIVO_EXISTENTE);
+		}
+		Torneo torneo = new Torneo();
+		torneo.setNombreArchivo(nombreArchivo);
+		torneo.setTipoTorneo(obtenerTipoTorneo(argumentos.get(3)));
+		torneo.setNombreTorneo(argumentos.get(4));
+		torneo.setNombreOrganizador(obtenerOpcion("organizador", "SIGESTOR"));
+		torneo.setDescripcionTorneo(obtenerOpcion("descripcion", ""));
+		torneo.setFechaInicioTorneo(obtenerFecha("inicio"));
+		torneo.setFechaFinalTorneo(obtenerFecha("fin"));
+
+		Personalizacion personalizacion = new Personalizacion();
+		personalizacion.setNombreParticipante(obtenerOpcion("participante", "Jugador"));
+		personalizacion.setNombreParticipanteInicial(obtenerOpcion("inicial", "Blancas"));
+		personalizacion.setNombreParticipanteFinal(obtenerOpcion("final", "Negras"));
+		personalizacion.setNombreCiclo(obtenerOpcion("ciclo", "Ronda"));
+		personalizacion.setNombreEncuentro(obtenerOpcion("encuentro", "Partida"));
+		personalizacion.setNombreParticipanteSinEncuentro(obtenerOpcion("descanso", "Descanso"));
+		String marcador = obtenerOpcion("marcador", "");
+		personalizacion.setExistenciaMarcador(!marcador.isEmpty());
+		personalizacion.setNombreMarcador(marcador);
+		try {
+			personalizacion.setPuntajeGanar(Float.parseFloat(obtenerOpcion("ganar", "1")));
+			personalizacion.setPuntajeEmpatar(Float.parseFloat(obtenerOpcion("empatar", "0.5")));
+			personalizacion.setPuntajePerder(Float.parseFloat(obtenerOpcion("perder", "0")));
+		} catch (NumberFormatException e) {
+			throw new ExcepcionConsola(ExcepcionConsola.MENSAJE_EXCEPCION_ARGUMENTOS_INCORRECTOS);
+		}
+		torneo.setDatosPersonalizacion(personalizacion);
+
+		CriteriosDesempate criterios = new CriteriosDesempate();
+		criterios.setListaCriterios(new ArrayList<String>(Arrays.asList(obtenerOpcion("criterios", "Puntuacin")
+				.split(";"))));
+		torneo.setCriteriosDesempate(criterios);
+
+		torneo.getOrdenParticipantes().setPorPuntaje(true);
+		torneo.getOrdenParticipantes().setAlfabetico(!tieneOpcion("aleatorio"));
+		ArrayList<Participante> participantes = UtileriasListaParticipantes.leerListaParticipantes(argumentos.get(2));
+		if (!torneo.getTipoTorneo().equals("Eliminacin directa") && participantes.size() % 2 != 0
+				&& participantes.size() > 2) {
+			Participante sinEncuentro = new Participante(participantes.size() + 1,
+					personalizacion.getNombreParticipanteSinEncuentro(), 0.0f);
+			sinEncuentro.setPuntajeAcumuladoParticipante(-1.0f);
+			participantes.add(sinEncuentro);
+		}
+		for (int i = 0; i < participantes.size(); i++) {
+			participantes.get(i).setNumeroParticipante(i + 1);
+		}
+		torneo.getOrdenParticipantes().ordenar(participantes);
+		torneo.setListaParticipantes(participantes);
+		torneo.guardarTorneo();
+		System.out.println("Torneo " + torneo.getNombreTorneo() + " guardado en " + nombreArchivo + " con "
+				+ participantes.size() + " participantes.");
+	}
+
+	/**
+	 * Inicia el torneo con las opciones recibidas y realiza el primer ciclo.
+	 *
+	 * @throws Exception
+	 *             Lanza la excepcin si el torneo ya fue iniciado, si sus datos
+	 *             no son vlidos o si ocurre un error al guardarlo.
+	 */
+	private void iniciar() throws Exception {
+		Torneo torneo = abrir();
+		if (torneo.getCicloActual() > 0) {
+			throw new ExcepcionConsola(ExcepcionConsola.MENSAJE_EXCEPCION_TORNEO_INICIADO);
+		}
+		torneo.validarTorneo();
+		torneo.getDatosPersonalizacion().validarPersonalizacion();
+		int numeroParticipantes = torneo.getListaParticipantes().size();
+		if (torneo.getTipoTorneo().equals("Round Robin")) {
+			TorneoRoundRobin roundRobin = new TorneoRoundRobin(torneo);
+			int vueltas = obtenerEntero("vueltas", 1);
+			int maximo = roundRobin.calcularNumeroCiclos(numeroParticipantes) * vueltas;
+			roundRobin.setNumeroVueltas(vueltas);
+			roundRobin.setNumeroCiclos(Math.min(obtenerEntero("ciclos", maximo), maximo));
+			torneo.getAlgoritmoTorneo().setNumeroCiclos(roundRobin.getNumeroCiclos());
+			torneo.iniciarTorneo(roundRobin, null, null);
+		} else if (torneo.getTipoTorneo().equals("Suizo")) {
+			TorneoSuizo suizo = new TorneoSuizo(torneo);
+			int maximo = suizo.calcularNumeroCiclos(numeroParticipantes);
+			suizo.setNumeroCiclos(Math.min(obtenerEntero("ciclos", maximo), maximo));
+			suizo.setSistemaEmparejamiento(tieneOpcion("holandes") ? TorneoSuizo.EMPAREJAMIENTO_HOLANDES_SIN_FLOTANTES
+					: TorneoSuizo.EMPAREJAMIENTO_PESO_MAXIMO);
+			torneo.iniciarTorneo(null, suizo, null);
+		} else {
+			TorneoEliminacionDirecta eliminacionDirecta = new TorneoEliminacionDirecta(torneo);
+			eliminacionDirecta.setTipoEliminacion(!tieneOpcion("doble"));
+			eliminacionDirecta.setReinicioFinal(tieneOpcion("doble") && tieneOpcion("reinicio"));
+			eliminacionDirecta.setNumeroCiclos(eliminacionDirecta.calcularNumeroCiclos(numeroParticipantes));
+			torneo.iniciarTorneo(null, null, eliminacionDirecta);
+		}
+		System.out.println("El torneo " + torneo.getNombreTorneo() + " se ha iniciado correctamente.");
+	}
+
+	/**
+	 * Realiza el siguiente ciclo del torneo. En los torneos Suizo y Eliminacin
+	 * directa el ciclo actual debe tener todos sus resultados; los descansos se
+	 * registran antes de verificarlo.
+	 *
+	 * @throws Exception
+	 *             Lanza la excepcin si el ciclo actual no ha terminado, si ya
+	 *             se realizaron todos los ciclos o si ocurre un error al
+	 *             guardar el ciclo.
+	 */
+	private void realizarRonda() throws Exception {
+		Torneo torneo = abrirIniciado();
+		if (torneo.getCicloActual() >= torneo.getAlgoritmoTorneo().getNumeroCiclos()) {
+			throw new ExcepcionConsola(ExcepcionConsola.MENSAJE_EXCEPCION_TORNEO_TERMINADO);
+		}
+		if (torneo.getTipoTorneo().equals("Round Robin")) {
+			torneo.getAlgoritmoTorneo().avanzarCiclo(torneo.getNombreArchivo());
+		} else {
+			CapturaResultados captura = new CapturaResultados(torneo,
+					torneo.getAlgoritmoTorneo().getCiclos().get(torneo.getCicloActual() - 1));
+			captura.registrarDescansos();
+			captura.guardar();
+			if (torneo.getTipoTorneo().equals("Suizo")) {
+				TorneoSuizo suizo = new TorneoSuizo(torneo);
+				if (!suizo.verificarEncuentros()) {
+					throw new ExcepcionConsola(ExcepcionConsola.MENSAJE_EXCEPCION_CICLO_INCOMPLETO);
+				}
+				suizo.desempatarParticipantes();
+				suizo.realizarEncuentros();
+			} else {
+				TorneoEliminacionDirecta eliminacionDirecta = new TorneoEliminacionDirecta(torneo);
+				if (!eliminacionDirecta.verificarEncuentros()) {
+					throw new ExcepcionConsola(ExcepcionConsola.MENSAJE_EXCEPCION_CICLO_INCOMPLETO);
+				}
+				eliminacionDirecta.desempatarParticipantes();
+				eliminacionDirecta.realizarEncuentros();
+			}
+		}
+		System.out.println(torneo.getDatosPersonalizacion().getNombreCiclo(Personalizacion.MAYUSCULA_SINGULAR)
+				+ " actual: " + torneo.getCicloActual() + " de " + torneo.getAlgoritmoTorneo().getNumeroCiclos());
+	}
+
+	/**
+	 * Genera la plantilla para capturar los resultados de un ciclo.
+	 *
+	 * @throws Exception
+	 *             Lanza la excepcin si el torneo no se ha iniciado, si el ciclo
+	 *             no existe o si no se pudo escribir el archivo.
+	 */
+	private void escribirPlantilla() throws Exception {
+		Torneo torneo = abrirIniciado();
+		UtileriasListaResultados.escribirPlantilla(argumentos.get(2),
+				new CapturaResultados(torneo, obtenerCiclo(torneo)),
+				torneo.getDatosPersonalizacion().isExistenciaMarcador());
+	}
+
+	/**
+	 * Lee los resultados de un ciclo del archivo CSV y los guarda en una sola
+	 * transaccin junto con el puntaje y los marcadores de los participantes.
+	 *
+	 * @throws Exception
+	 *             Lanza la excepcin si el torneo no se ha iniciado, si el ciclo
+	 *             ya est cerrado, si el archivo no es vlido o si ocurre un
+	 *             error al guardar.
+	 */
+	private void capturarResultados() throws Exception {
+		Torneo torneo = abrirIniciado();
+		CapturaResultados captura = new CapturaResultados(torneo, obtenerCicloAbierto(torneo));
+		int filas = UtileriasListaResultados.leerListaResultados(argumentos.get(2), captura);
+		captura.registrarDescansos();
+		captura.guardar();
+		System.out.println("Se guardaron " + filas + " resultados de "
+				+ torneo.getDatosPersonalizacion().getNombreCiclo(Personalizacion.MINUSCULA_SINGULAR) + " "
+				+ captura.getCiclo().getNumeroCiclo() + ".");
+	}
+
+	/**
+	 * Importa los resultados de un ciclo de un archivo CSV con el formato del
+	 * reporte de resultados y los guarda en una sola transaccin junto con el
+	 * puntaje y los marcadores de los participantes.
+	 *
+	 * @throws Exception
+	 *             Lanza la excepcin si el torneo no se ha iniciado, si el ciclo
+	 *             ya est cerrado, si el archivo no corresponde a los encuentros
+	 *             del ciclo o si ocurre un error al guardar.
+	 */
+	private void importarResultados() throws Exception {
+		Torneo torneo = abrirIniciado();
+		CapturaResultados captura = new CapturaResultados(torneo, obtenerCicloAbierto(torneo));
+		int filas = UtileriasImportarResultados.importarResultados(argumentos.get(2), captura);
+		captura.registrarDescansos();
+		captura.guardar();
+		System.out.println("Se importaron " + filas + " resultados de "
+				+ torneo.getDatosPersonalizacion().getNombreCiclo(Personalizacion.MINUSCULA_SINGULAR) + " "
+				+ captura.getCiclo().getNumeroCiclo() + ".");
+	}
+
+	/**
+	 * Genera el reporte de posiciones. Si el torneo termin se asignan y se
+	 * guardan los lugares finales, igual que en la ventana de resultados
+	 * finales; si no, los lugares se calculan con la tabla de posiciones sin
+	 * guardarlos.
+	 *
+	 * @throws Exception
+	 *             Lanza la excepcin si el torneo no se ha iniciado o si no se
+	 *             pudo escribir el archivo.
+	 */
+	private void escribirPosiciones() throws Exception {
+		Torneo torneo = abrirIniciado();
+		AlgoritmoTorneo algoritmo = torneo.getAlgoritmoTorneo();
+		if (torneo.getCicloActual() == algoritmo.getNumeroCiclos() && algoritmo.verificarResultadosCompletos()) {
+			if (torneo.getTipoTorneo().equals("Suizo")) {
+				new TorneoSuizo(torneo).desempatarParticipantes();
+			} else if (torneo.getTipoTorneo().equals("Eliminacin directa")) {
+				new TorneoEliminacionDirecta(torneo).desempatarParticipantes();
+			} else {
+				new TorneoRoundRobin(torneo).desempatarParticipantes();
+			}
+			algoritmo.asignarLugarParticipante();
+		} else {
+			int lugar = 1;
+			for (Participante participante : new TablaPosiciones(torneo).ordenar()) {
+				participante.setLugarParticipante(lugar);
+				lugar++;
+			}
+		}
+		algoritmo.generarReporteFinal(new File(argumentos.get(2)));
+	}
+
+	/**
+	 * Atiende por HTTP los torneos recibidos a partir del tercer argumento hasta
+	 * que se detiene el programa. Al detenerse se cierran las conexiones a la
+	 * base de datos.
+	 *
+	 * @throws Exception
+	 *             Lanza la excepcin si el puerto no es vlido, si algn torneo
+	 *             no se ha iniciado o si no se pudo abrir el puerto.
+	 */
+	private void atenderServidor() throws Exception {
+		int puerto;
+		try {
+			puerto = Integer.parseInt(argumentos.get(1));
+		} catch (NumberFormatException e) {
+			throw new ExcepcionConsola(ExcepcionConsola.MENSAJE_EXCEPCION_ARGUMENTOS_INCORRECTOS);
+		}
+		final ServidorTorneos servidor = new ServidorTorneos(puerto);
+		for (int i = 2; i < argumentos.size(); i++) {
+			servidor.agregarTorneo(abrirIniciado(argumentos.get(i)));
+		}
+		servidor.iniciar();
+		Runtime.getRuntime().addShutdownHook(new Thread() {
+			@Override
+			public void run() {
+				servidor.detener();
+				SesionBaseDatos.cerrarSesiones();
+			}
+		});
+		System.out.println("Servidor escuchando en http://localhost:" + servidor.getPuerto() + "/torneos");
+		servidor.esperar();
+	}
+
+	/**
+	 * Muestra el uso de cada comando.
+	 */
+	private void mostrarAyuda() {
+		System.out.println("Uso: SIGESTOR <comando> <argumentos> [--opcion=valor]");
+		System.out.println("  crear <torneo.torn> <participantes.csv> <suizo|roundrobin|eliminacion> <nombre>");
+		System.out.println("        [--organizador= --descripcion= --inicio=" + FORMATO_FECHA + " --fin="
+				+ FORMATO_FECHA + " --marcador= --criterios=A;B --ganar= --empatar= --perder= --aleatorio]");
+		System.out.println("  iniciar <torneo.torn> [--ciclos=N --vueltas=N --holandes --doble --reinicio]");
+		System.out.println("  ronda <torneo.torn>");
+		System.out.println("  plantilla <torneo.torn> <resultados.csv> [ciclo]");
+		System.out.println("  resultados <torneo.torn> <resultados.csv> [ciclo]");
+		System.out.println("  importar <torneo.torn> <reporte-resultados.csv> [ciclo]");
+		System.out.println("  pareos <torneo.torn> <salida.csv> [ciclo]");
+		System.out.println("  reporte <torneo.torn> <salida.csv> [ciclo]");
+		System.out.println("  llave <torneo.torn> <salida.csv>");
+		System.out.println("  posiciones <torneo.torn> <salida.csv>");
+		System.out.println("  servidor <puerto> <torneo.torn> [<torneo.torn> ...]");
+	}
+
+	/**
+	 * Abre el torneo del archivo recibido como primer argumento.
+	 *
+	 * @return Regresa el torneo recuperado de la base de datos.
+	 * @throws Exception
+	 *             Lanza la excepcin si no se pudo recuperar el torneo.
+	 */
+	private Torneo abrir() throws Exception {
+		return abrir(argumentos.get(1));
+	}
+
+	/**
+	 * Abre el torneo del archivo recibido.
+	 *
+	 * @param nombreArchivo
+	 *            Recibe la ruta del archivo del torneo.
+	 * @return Regresa el torneo recuperado de la base de datos.
+	 * @throws Exception
+	 *             Lanza la excepcin si no se pudo recuperar el torneo.
+	 */
+	private Torneo abrir(String nombreArchivo) throws Exception {
+		Torneo torneo = new Torneo();
+		torneo.setNombreArchivo(nombreArchivo);
+		torneo.recuperarTorneo();
+		return torneo;
+	}
+
+	/**
+	 * Abre el torneo del archivo recibido y verifica que ya se haya iniciado.
+	 *
+	 * @return Regresa el torneo recuperado de la base de datos.
+	 * @throws Exception
+	 *             Lanza la excepcin si no se pudo recuperar el torneo o si no
+	 *             se ha iniciado.
+	 */
+	private Torneo abrirIniciado() throws Exception {
+		return abrirIniciado(argumentos.get(1));
+	}
+
+	/**
+	 * Abre el torneo del archivo recibido y verifica que ya se haya iniciado.
+	 *
+	 * @param nombreArchivo
+	 *            Recibe la ruta del archivo del torneo.
+	 * @return Regresa el torneo recuperado de la base de datos.
+	 * @throws Exception
+	 *             Lanza la excepcin si no se pudo recuperar el torneo o si no
+	 *             se ha iniciado.
+	 */
+	private Torneo abrirIniciado(String nombreArchivo) throws Exception {
+		Torneo torneo = abrir(nombreArchivo);
+		if (torneo.getCicloActual() == 0) {
+			throw new ExcepcionConsola(ExcepcionConsola.MENSAJE_EXCEPCION_TORNEO_NO_INICIADO);
+		}
+		return torneo;
+	}
+
+	/**
+	 * Obtiene el ciclo indicado en el cuarto argumento o, si no se indic, el
+	 * ciclo actual.
+	 *
+	 * @param torneo
+	 *            Recibe el torneo iniciado.
+	 * @return Regresa el ciclo.
+	 * @throws ExcepcionConsola
+	 *             Lanza la excepcin si el ciclo no existe.
+	 */
+	private Ciclo obtenerCiclo(Torneo torneo) throws ExcepcionConsola {
+		int numeroCiclo = torneo.getCicloActual();
+		if (argumentos.size() > 3) {
+			try {
+				numeroCiclo = Integer.parseInt(argumentos.get(3));
+			} catch (NumberFormatException e) {
+				throw new ExcepcionConsola(ExcepcionConsola.MENSAJE_EXCEPCION_ARGUMENTOS_INCORRECTOS);
+			}
+		}
+		ArrayList<Ciclo> ciclos = torneo.getAlgoritmoTorneo().getCiclos();
+		if (numeroCiclo < 1 || numeroCiclo > ciclos.size()) {
+			throw new ExcepcionConsola(ExcepcionConsola.MENSAJE_EXCEPCION_CICLO_INEXISTENTE);
+		}
+		return ciclos.get(numeroCiclo - 1);
+	}
+
+	/**
+	 * Obtiene el ciclo en el que se van a capturar resultados, igual que
+	 * <code>obtenerCiclo</code>, con la misma regla que el servidor: no se
+	 * aceptan ciclos posteriores al actual y en los torneos Suizo y Eliminacin
+	 * directa solo se acepta el ciclo actual, porque los ciclos siguientes ya se
+	 * emparejaron con los resultados de los anteriores.
+	 *
+	 * @param torneo
+	 *            Recibe el torneo iniciado.
+	 * @return Regresa el ciclo.
+	 * @throws ExcepcionConsola
+	 *             Lanza la excepcin si el ciclo no existe o si ya est
+	 *             cerrado.
+	 */
+	private Ciclo obtenerCicloAbierto(Torneo torneo) throws ExcepcionConsola {
+		Ciclo ciclo = obtenerCiclo(torneo);
+		if (ciclo.getNumeroCiclo() > torneo.getCicloActual() || (ciclo.getNumeroCiclo() != torneo.getCicloActual()
+				&& !torneo.getTipoTorneo().equals("Round Robin"))) {
+			throw new ExcepcionConsola(ExcepcionConsola.MENSAJE_EXCEPCION_CICLO_CERRADO);
+		}
+		return ciclo;
+	}
+
+	/**
+	 * Convierte el tipo de torneo recibido en el tipo que usa el dominio.
+	 *
+	 * @param tipo
+	 *            Recibe el tipo de torneo escrito en la lnea de comandos.
+	 * @return Regresa "Suizo", "Round Robin" o "Eliminacin directa".
+	 * @throws ExcepcionConsola
+	 *             Lanza la excepcin si el tipo no existe.
+	 */
+	private String obtenerTipoTorneo(String tipo) throws ExcepcionConsola {
+		String normalizado = tipo.toLowerCase().replace(" ", "").replace("-", "");
+		if (normalizado.equals("suizo")) {
+			return "Suizo";
+		} else if (normalizado.equals("roundrobin")) {
+			return "Round Robin";
+		} else if (normalizado.startsWith("eliminaci")) {
+			return "Eliminacin directa";
+		}
+		throw new ExcepcionConsola(ExcepcionConsola.MENSAJE_EXCEPCION_TIPO_INCORRECTO);
+	}
+
+	/**
+	 * Verifica que el comando haya recibido el nmero de argumentos esperado,
+	 * contando el propio comando.
+	 *
+	 * @param minimo
+	 *            Recibe el nmero mnimo de argumentos.
+	 * @param maximo
+	 *            Recibe el nmero mximo de argumentos.
+	 * @throws ExcepcionConsola
+	 *             Lanza la excepcin si el nmero de argumentos no es correcto.
+	 */
+	private void verificarArgumentos(int minimo, int maximo) throws ExcepcionConsola {
+		if (argumentos.size() < minimo || argumentos.size() > maximo) {
+			throw new ExcepcionConsola(ExcepcionConsola.MENSAJE_EXCEPCION_ARGUMENTOS_INCORRECTOS);
+		}
+	}
+
+	/**
+	 * Indica si se recibi la opcin, con o sin valor.
+	 *
+	 * @param nombre
+	 *            Recibe el nombre de la opcin.
+	 * @return Regresa <tt>true</tt> si se recibi la opcin, <tt>false</tt> en
+	 *         caso contrario.
+	 */
+	private boolean tieneOpcion(String nombre) {
+		for (String opcion : opciones) {
+			if (opcion.equals(nombre) || opcion.startsWith(nombre + "=")) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Obtiene el valor de una opcin.
+	 *
+	 * @param nombre
+	 *            Recibe el nombre de la opcin.
+	 * @param valorPorOmision
+	 *            Recibe el valor que se regresa si no se recibi la opcin.
+	 * @return Regresa el valor de la opcin.
+	 */
+	private String obtenerOpcion(String nombre, String valorPorOmision) {
+		for (String opcion : opciones) {
+			if (opcion.startsWith(nombre + "=")) {
+				return opcion.substring(nombre.length() + 1);
+			}
+		}
+		return valorPorOmision;
+	}
+
+	/**
+	 * Obtiene el valor entero positivo de una opcin.
+	 *
+	 * @param nombre
+	 *            Recibe el nombre de la opcin.
+	 * @param valorPorOmision
+	 *            Recibe el valor que se regresa si no se recibi la opcin.
+	 * @return Regresa el valor de la opcin.
+	 * @throws ExcepcionConsola
+	 *             Lanza la excepcin si el valor no es un entero positivo.
+	 */
+	private int obtenerEntero(String nombre, int valorPorOmision) throws ExcepcionConsola {
+		try {
+			int valor = Integer.parseInt(obtenerOpcion(nombre, String.valueOf(valorPorOmision)));
+			if (valor < 1) {
+				throw new ExcepcionConsola(ExcepcionConsola.MENSAJE_EXCEPCION_ARGUMENTOS_INCORRECTOS);
+			}
+			return valor;
+		} catch (NumberFormatException e) {
+			throw new ExcepcionConsola(ExcepcionConsola.MENSAJE_EXCEPCION_ARGUMENTOS_INCORRECTOS);
+		}
+	}
+
+	/**
+	 * Obtiene la fecha de una opcin o, si no se recibi, la fecha actual.
+	 *
+	 * @param nombre
+	 *            Recibe el nombre de la opcin.
+	 * @return Regresa la fecha.
+	 * @throws ExcepcionConsola
+	 *             Lanza la excepcin si la fecha no tiene el formato
+	 *             <code>FORMATO_FECHA</code>.
+	 */
+	private Date obtenerFecha(String nombre) throws ExcepcionConsola {
+		String valor = obtenerOpcion(nombre, "");
+		if (valor.isEmpty()) {
+			return new Date();
+		}
+		try {
+			SimpleDateFormat formato = new SimpleDateFormat(FORMATO_FECHA);
+			formato.setLenient(false);
+			return formato.parse(valor);
+		} catch (ParseException e) {
+			throw new ExcepcionConsola(ExcepcionConsola.MENSAJE_EXCEPCION_ARGUMENTOS_INCORRECTOS);
+		}
+	}
+}
@@ -1,10 +1,9 @@
 package sigestor.bd;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.util.ArrayList;
 
 import sigestor.excepcion.ExcepcionBaseDatos;
@@ -15,14 +14,15 @@ import sigestor.excepcion.ExcepcionBaseDatos;
  * Las caractersticas de la clase <code>BaseDatos</code> son:
  * <ul>
  * <li><code>conexion</code> para guardar la conexin a la base de datos.</li>
- * <li><code>controlador</code> para guardar el nombre del controlador de
- * SQLite.</li>
- * <li><code>url</code> para guardar la URL del archivo.</li>
+ * <li><code>sesion</code> para guardar la sesin compartida del archivo, que
+ * mantiene abierta la conexin mientras el torneo est abierto.</li>
+ * <li><code>resultados</code> para guardar los resultados abiertos por las
+ * consultas, que se cierran en <code>cerrarConexion</code>.</li>
  * <li><code>nombreArchivo</code> para guardar el nombre del archivo de la base
  * de datos.</li>
  * </ul>
  * 
- * @version 02/06/2023
+ * @version 18/10/2026
  * 
  * @author Ricky Didier Peralta Reyes
  * @author Uriel Romeo Cruz Cortes
@@ -37,28 +37,28 @@ public class BaseDatos {
 	 */
 	protected Connection conexion;
 	/**
-	 * Nombre del controlador de SQLite.
+	 * Sesin compartida del archivo de la base de datos.
 	 */
-	private String controlador;
+	private SesionBaseDatos sesion;
 	/**
-	 * URL del archivo.
+	 * Resultados abiertos por las consultas realizadas.
 	 */
-	private String url;
+	private ArrayList<ResultSet> resultados;
 	/**
 	 * Nombre del archivo de la base de datos.
 	 */
 	private String nombreArchivo;
 
 	/**
-	 * Permite inicializar el nombre del controlador y la URL del archivo.
+	 * Permite inicializar el nombre del archivo y obtener su sesin compartida.
 	 * 
 	 * @param nombreArchivo
 	 *            Nombre personalizado del archivo de la base de datos.
 	 */
 	public BaseDatos(String nombreArchivo) {
 		this.nombreArchivo = nombreArchivo;
-		controlador = "org.sqlite.JDBC";
-		url = "jdbc:sqlite:" + getNombreArchivo();
+		sesion = SesionBaseDatos.obtenerSesion(nombreArchivo);
+		resultados = new ArrayList<ResultSet>();
 	}
 
 	/**
@@ -72,7 +72,9 @@ public class BaseDatos {
 	}
 
 	/**
-	 * Permite realizar una conexin a la base de datos.
+	 * Permite realizar una conexin a la base de datos. La conexin es la
+	 * compartida por la sesin del archivo, por lo que solo se abre la primera
+	 * vez.
 	 * 
 	 * @throws ExcepcionBaseDatos
 	 *             Lanza la excepcin si ocurre un error al cargar el
@@ -80,29 +82,79 @@ public class BaseDatos {
 	 *             base de datos.
 	 */
 	protected void realizarConexion() throws ExcepcionBaseDatos {
-		try {
-			Class.forName(controlador);
-			conexion = DriverManager.getConnection(url);
-		} catch (ClassNotFoundException e1) {
-			throw new ExcepcionBaseDatos(ExcepcionBaseDatos.MENSAJE_EXCEPCION_CONTROLADOR);
-		} catch (SQLException e2) {
-			throw new ExcepcionBaseDatos(ExcepcionBaseDatos.MENSAJE_EXCEPCION_CONEXION_BD_PARTE_1 + getNombreArchivo()
-					+ ExcepcionBaseDatos.MENSAJE_EXCEPCION_CONEXION_BD_PARTE_2);
-		}
+		conexion = sesion.obtenerConexion();
 	}
 
 	/**
-	 * Permite cerrar la conexin a la base de datos.
+	 * Permite liberar los resultados abiertos por las consultas. La conexin y
+	 * sus instrucciones preparadas permanecen abiertas en la sesin del archivo
+	 * hasta que se cierra el torneo.
 	 * 
 	 * @throws ExcepcionBaseDatos
-	 *             Lanza la excepcin si ocurre un error al cerrar la conexin a
-	 *             la base de datos.
+	 *             Lanza la excepcin si ocurre un error al cerrar los resultados
+	 *             de la base de datos.
 	 */
 	protected void cerrarConexion() throws ExcepcionBaseDatos {
 		try {
-			conexion.close();
+			for (ResultSet resultado : resultados) {
+				resultado.close();
+			}
 		} catch (SQLException e) {
 			throw new ExcepcionBaseDatos(ExcepcionBaseDatos.MENSAJE_EXCEPCION_CIERRA_CONEXION);
+		} finally {
+			resultados.clear();
+		}
+	}
+
+	/**
+	 * Permite obtener la instruccin preparada del SQL recibido. Cada SQL
+	 * distinto se prepara una sola vez por conexin.
+	 * 
+	 * @param sql
+	 *            La instruccin SQL con parmetros <code>?</code>.
+	 * @return Regresa la instruccin preparada.
+	 * @throws ExcepcionBaseDatos
+	 *             Lanza la excepcin si ocurre un error al conectarse a la base
+	 *             de datos.
+	 * @throws SQLException
+	 *             Lanza la excepcin si el SQL no se pudo preparar.
+	 */
+	protected PreparedStatement obtenerInstruccion(String sql) throws ExcepcionBaseDatos, SQLException {
+		return sesion.obtenerInstruccion(sql);
+	}
+
+	/**
+	 * Indica a la sesin del archivo que se escribi en l, el sello del archivo
+	 * se actualiza despus en <code>actualizarSello</code>.
+	 */
+	protected void registrarEscritura() {
+		sesion.registrarEscritura();
+	}
+
+	/**
+	 * Actualiza una sola vez el sello del archivo si hubo escrituras desde la
+	 * ltima actualizacin.
+	 */
+	protected void actualizarSello() {
+		sesion.actualizarSello();
+	}
+
+	/**
+	 * Permite asignar los parmetros a una instruccin preparada en el orden en
+	 * que se reciben.
+	 * 
+	 * @param instruccion
+	 *            La instruccin preparada.
+	 * @param parametros
+	 *            Los valores de los parmetros <code>?</code> de la
+	 *            instruccin.
+	 * @throws SQLException
+	 *             Lanza la excepcin si algn parmetro no se pudo asignar.
+	 */
+	private void asignarParametros(PreparedStatement instruccion, Object[] parametros) throws SQLException {
+		instruccion.clearParameters();
+		for (int i = 0; i < parametros.length; i++) {
+			instruccion.setObject(i + 1, parametros[i]);
 		}
 	}
 
@@ -111,15 +163,19 @@ public class BaseDatos {
 	 * 
 	 * @param consulta
 	 *            La consulta SQL que se desea realizar a la base de datos.
+	 * @param parametros
+	 *            Los valores de los parmetros <code>?</code> de la consulta.
 	 * @return Regresa un objeto con el resultado de la consulta SQL.
 	 * @throws ExcepcionBaseDatos
 	 *             Lanza la excepcin si ocurre un error al realizar una
 	 *             consulta a la base de datos.
 	 */
-	protected ResultSet realizarConsulta(String consulta) throws ExcepcionBaseDatos {
+	protected ResultSet realizarConsulta(String consulta, Object... parametros) throws ExcepcionBaseDatos {
 		try {
-			Statement instruccion = conexion.createStatement();
-			ResultSet resultado = instruccion.executeQuery(consulta);
+			PreparedStatement instruccion = obtenerInstruccion(consulta);
+			asignarParametros(instruccion, parametros);
+			ResultSet resultado = instruccion.executeQuery();
+			resultados.add(resultado);
 			return resultado;
 		} catch (SQLException e) {
 			throw new ExcepcionBaseDatos(ExcepcionBaseDatos.MENSAJE_EXCEPCION_CONSULTA_BD);
@@ -131,17 +187,21 @@ public class BaseDatos {
 	 * 
 	 * @param instruccion
 	 *            La instruccin SQL que se va a ejecutar.
+	 * @param parametros
+	 *            Los valores de los parmetros <code>?</code> de la
+	 *            instruccin.
 	 * @return Regresa el nmero de filas afectadas por la instruccin.
 	 * @throws ExcepcionBaseDatos
 	 *             Lanza la excepcin si ocurre un error al realizar una accin
 	 *             a la base de datos.
 	 */
-	protected int realizarAccion(String instruccion) throws ExcepcionBaseDatos {
+	protected int realizarAccion(String instruccion, Object... parametros) throws ExcepcionBaseDatos {
 		try {
-			Statement instruction = conexion.createStatement();
-			int valor = instruction.executeUpdate(instruccion);
-			instruction.close();
-			return valor;
+			PreparedStatement instruction = obtenerInstruccion(instruccion);
+			asignarParametros(instruction, parametros);
+			int filas = instruction.executeUpdate();
+			sesion.registrarEscritura();
+			return filas;
 		} catch (SQLException e) {
 			System.err.println(instruccion);
 			e.printStackTrace();
@@ -166,6 +226,7 @@ public class BaseDatos {
 			while (tablas.next()) {
 				nombreTablas.add(tablas.getString(3));
 			}
+			tablas.close();
 		} catch (SQLException e) {
 			throw new ExcepcionBaseDatos(ExcepcionBaseDatos.MENSAJE_EXCEPCION_OBTIENE_TABLAS);
 		} finally {
@@ -2,22 +2,24 @@ package sigestor.bd;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 
+import sigestor.dominio.CalendarioBerger;
 import sigestor.dominio.Ciclo;
 import sigestor.dominio.Encuentro;
 import sigestor.dominio.Personalizacion;
 import sigestor.dominio.Torneo;
 import sigestor.excepcion.ExcepcionBaseDatos;
 import sigestor.excepcion.ExcepcionBaseDatosCiclo;
-import sigestor.excepcion.ExcepcionBaseDatosEncuentro;
 import sigestor.excepcion.ExcepcionCapturarResultados;
 
 /**
  * Sirve para manejar la base de datos de <code>Ciclo</code>.
  * 
  * 
- * @version 02/06/2023
+ * @version 18/10/2026
  * 
  * @author Jonathan Eduardo Ibarra Martnez
  * @author Francisco Samuel Reyes Cortes
@@ -56,7 +58,7 @@ public class BaseDatosCiclo extends BaseDatos {
 	 */
 	public void insertarCiclo(Ciclo ciclo) throws ExcepcionBaseDatos, ExcepcionBaseDatosCiclo {
 		realizarConexion();
-		int valor = realizarAccion("INSERT INTO ciclo (numeroCiclo) VALUES (" + ciclo.getNumeroCiclo() + ")");
+		int valor = realizarAccion("INSERT INTO ciclo (numeroCiclo) VALUES (?)", ciclo.getNumeroCiclo());
 		cerrarConexion();
 		if (valor != 1) {
 			throw new ExcepcionBaseDatosCiclo(ExcepcionBaseDatosCiclo.MENSAJE_EXCEPCION_INSERTA_CICLO
@@ -79,7 +81,7 @@ public class BaseDatosCiclo extends BaseDatos {
 	 */
 	public void eliminarCiclo(Ciclo ciclo) throws ExcepcionBaseDatos, ExcepcionBaseDatosCiclo {
 		realizarConexion();
-		int resultado = realizarAccion("DELETE FROM ciclo WHERE numeroCiclo = " + ciclo.getNumeroCiclo());
+		int resultado = realizarAccion("DELETE FROM ciclo WHERE numeroCiclo = ?", ciclo.getNumeroCiclo());
 		cerrarConexion();
 		if (resultado != 1) {
 			throw new ExcepcionBaseDatosCiclo(ExcepcionBaseDatosCiclo.MENSAJE_EXCEPCION_ELIMINA_CICLO
@@ -89,11 +91,20 @@ public class BaseDatosCiclo extends BaseDatos {
 	}
 
 	/**
-	 * Obtiene todos los ciclos con sus respectivos encuentros.
+	 * Obtiene todos los ciclos con sus respectivos encuentros. Los encuentros se
+	 * leen con una sola consulta ordenada por ciclo y se reparten entre los
+	 * ciclos en un solo recorrido. Si se recibe el calendario del torneo Round
+	 * Robin solo se leen los encuentros hasta el ciclo actual y los ciclos
+	 * siguientes generan sus encuentros del calendario cuando se solicitan,
+	 * igual que al iniciar el torneo.
 	 * 
 	 * @param torneo
 	 *            Recibe el objeto <code>Torneo</code> que contiene los datos del
 	 *            torneo.
+	 * @param calendario
+	 *            Recibe el calendario del torneo Round Robin, <code>null</code>
+	 *            si los encuentros de todos los ciclos se leen de la base de
+	 *            datos.
 	 * @return Regresa la lista de ciclos.
 	 * @throws ExcepcionBaseDatos
 	 *             Lanza la excepcin si ocurre un error en <code>BaseDatos</code>.
@@ -101,20 +112,37 @@ public class BaseDatosCiclo extends BaseDatos {
 	 *             Lanza la excepcin si ocurre un error al crear el objeto
 	 *             <code>Encuentro</code>.
 	 */
-	public ArrayList<Ciclo> obtenerCiclos(Torneo torneo)
+	public ArrayList<Ciclo> obtenerCiclos(Torneo torneo, CalendarioBerger calendario)
 			throws ExcepcionBaseDatos, ExcepcionCapturarResultados {
 		ArrayList<Ciclo> ciclos = new ArrayList<>();
-		BaseDatosEncuentro bde = new BaseDatosEncuentro(getNombreArchivo());
+		int ciclosLeidos = calendario != null ? torneo.getCicloActual() : Integer.MAX_VALUE;
 		try {
 			realizarConexion();
-			ResultSet resultado = realizarConsulta("SELECT * FROM ciclo");
+			ResultSet resultado = realizarConsulta("SELECT numeroCiclo FROM ciclo ORDER BY numeroCiclo");
 			while (resultado.next()) {
 				Ciclo ciclo = new Ciclo(torneo, resultado.getInt("numeroCiclo"));
-				ArrayList<Encuentro> encuentros = bde.obtenerEncuentros(ciclo);
-				ciclo.setEncuentroParticipantes(encuentros);
+				ciclo.setCalendario(calendario);
+				if (ciclo.getNumeroCiclo() <= ciclosLeidos) {
+					ciclo.setEncuentroParticipantes(new ArrayList<Encuentro>());
+				}
 				ciclos.add(ciclo);
 			}
-		} catch (ExcepcionBaseDatos | SQLException | ExcepcionBaseDatosEncuentro e) {
+
+			ResultSet encuentros = realizarConsulta(
+					"SELECT * FROM encuentro WHERE numeroCiclo <= ? ORDER BY numeroCiclo, rowid", ciclosLeidos);
+			SimpleDateFormat formato = new SimpleDateFormat("yyyy/MM/dd");
+			int indiceCiclo = 0;
+			while (encuentros.next() && indiceCiclo < ciclos.size()) {
+				int numeroCiclo = encuentros.getInt("numeroCiclo");
+				while (indiceCiclo < ciclos.size() && ciclos.get(indiceCiclo).getNumeroCiclo() < numeroCiclo) {
+					indiceCiclo++;
+				}
+				if (indiceCiclo < ciclos.size() && ciclos.get(indiceCiclo).getNumeroCiclo() == numeroCiclo) {
+					ciclos.get(indiceCiclo).getEncuentroParticipantes()
+							.add(BaseDatosEncuentro.crearEncuentro(encuentros, formato));
+				}
+			}
+		} catch (ExcepcionBaseDatos | SQLException | ParseException e) {
 
 		} finally {
 			cerrarConexion();
@@ -12,7 +12,7 @@ import sigestor.excepcion.ExcepcionBaseDatosCriteriosDesempate;
  * Sirve para insertar y actualizar los datos de la tabla
  * <code>criteriosDeDesempate</code> en la base de datos.
  * 
- * @version 02/06/2023
+ * @version 18/10/2026
  * 
  * @author Ricky Didier Peralta Reyes
  * @author Uriel Romeo Cruz Cortes
@@ -48,8 +48,8 @@ public class BaseDatosCriteriosDesempate extends BaseDatos {
 
 		for (int i = 0; i < criterios.getListaCriteriosSeleccionados().size(); i++) {
 			realizarConexion();
-			int filasAfectadas = realizarAccion("INSERT INTO criteriosDesempates VALUES (" + (i + 1) + ",'"
-					+ criterios.getListaCriteriosSeleccionados().get(i) + "')");
+			int filasAfectadas = realizarAccion("INSERT INTO criteriosDesempates VALUES (?, ?)", i + 1,
+					criterios.getListaCriteriosSeleccionados().get(i));
 			cerrarConexion();
 			if (filasAfectadas != 1) {
 				throw new ExcepcionBaseDatosCriteriosDesempate(
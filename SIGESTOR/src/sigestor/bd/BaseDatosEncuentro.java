@@ -17,7 +17,7 @@ import sigestor.excepcion.ExcepcionCapturarResultados;
 /**
  * Sirve para manejar la base de datos de <code>Encuentro</code>.
  * 
- * @version 02/03/2023
+ * @version 18/10/2026
  * 
  * @author Jonathan Eduardo Ibarra Martnez
  * @author Francisco Samuel Reyes Cortes
@@ -68,10 +68,9 @@ public class BaseDatosEncuentro extends BaseDatos {
 
 		realizarConexion();
 		int valor = realizarAccion(
-				"INSERT INTO encuentro (numeroEncuentro, idParticipanteInicial, idParticipanteFinal, numeroCiclo, resultado, fechaDelEncuentro) VALUES ("
-						+ encuentro.getNumeroEncuentro() + "," + encuentro.getIdParticipanteInicial() + ","
-						+ encuentro.getIdParticipanteFinal() + "," + ciclo.getNumeroCiclo() + ", "
-						+ encuentro.getResultadoEncuentro() + ",'" + cadenaFechaDelEncuentro + "')");
+				"INSERT INTO encuentro (numeroEncuentro, idParticipanteInicial, idParticipanteFinal, numeroCiclo, resultado, fechaDelEncuentro) VALUES (?, ?, ?, ?, ?, ?)",
+				encuentro.getNumeroEncuentro(), encuentro.getIdParticipanteInicial(), encuentro.getIdParticipanteFinal(),
+				ciclo.getNumeroCiclo(), encuentro.getResultadoEncuentro(), cadenaFechaDelEncuentro);
 		cerrarConexion();
 		if (valor != 1) {
 			throw new ExcepcionBaseDatosEncuentro(ExcepcionBaseDatosEncuentro.MENSAJE_EXCEPCION_INSERTA_ENCUENTRO
@@ -101,10 +100,9 @@ public class BaseDatosEncuentro extends BaseDatos {
 		realizarConexion();
 
 		int resultado = realizarAccion(
-				"UPDATE encuentro SET marcadorParticipanteInicial = " + encuentro.getMarcadorParticipanteInicial()
-						+ ", marcadorParticipanteFinal = " + encuentro.getMarcadorParticipanteFinal() + ", resultado = "
-						+ encuentro.getResultadoEncuentro() + " WHERE numeroEncuentro = "
-						+ encuentro.getNumeroEncuentro() + " and numeroCiclo = " + ciclo.getNumeroCiclo());
+				"UPDATE encuentro SET marcadorParticipanteInicial = ?, marcadorParticipanteFinal = ?, resultado = ? WHERE numeroEncuentro = ? and numeroCiclo = ?",
+				encuentro.getMarcadorParticipanteInicial(), encuentro.getMarcadorParticipanteFinal(),
+				encuentro.getResultadoEncuentro(), encuentro.getNumeroEncuentro(), ciclo.getNumeroCiclo());
 
 		cerrarConexion();
 		if (resultado != 1) {
@@ -138,8 +136,8 @@ public class BaseDatosEncuentro extends BaseDatos {
 
 		realizarConexion();
 		int resultado = realizarAccion(
-				"UPDATE encuentro SET fechaDelEncuentro = '" + cadenaFechaDelEncuentro + "' WHERE numeroEncuentro = "
-						+ encuentro.getNumeroEncuentro() + " and numeroCiclo = " + ciclo.getNumeroCiclo());
+				"UPDATE encuentro SET fechaDelEncuentro = ? WHERE numeroEncuentro = ? and numeroCiclo = ?",
+				cadenaFechaDelEncuentro, encuentro.getNumeroEncuentro(), ciclo.getNumeroCiclo());
 
 		cerrarConexion();
 		if (resultado != 1) {
@@ -167,8 +165,8 @@ public class BaseDatosEncuentro extends BaseDatos {
 	public void eliminarEncuentro(Encuentro encuentro, Ciclo ciclo)
 			throws ExcepcionBaseDatos, ExcepcionBaseDatosEncuentro {
 		realizarConexion();
-		int resultado = realizarAccion("DELETE FROM encuentro WHERE numeroEncuentro = " + encuentro.getNumeroEncuentro()
-				+ " and numeroCiclo = " + ciclo.getNumeroCiclo());
+		int resultado = realizarAccion("DELETE FROM encuentro WHERE numeroEncuentro = ? and numeroCiclo = ?",
+				encuentro.getNumeroEncuentro(), ciclo.getNumeroCiclo());
 		cerrarConexion();
 		if (resultado != 1) {
 			throw new ExcepcionBaseDatosEncuentro(ExcepcionBaseDatosEncuentro.MENSAJE_EXCEPCION_ELIMINA_ENCUENTRO
@@ -198,16 +196,11 @@ public class BaseDatosEncuentro extends BaseDatos {
 		ArrayList<Encuentro> encuentros = new ArrayList<Encuentro>();
 		realizarConexion();
 		try {
-			ResultSet busqueda = realizarConsulta(
-					"SELECT * FROM encuentro WHERE numeroCiclo = " + ciclo.getNumeroCiclo());
+			ResultSet busqueda = realizarConsulta("SELECT * FROM encuentro WHERE numeroCiclo = ?",
+					ciclo.getNumeroCiclo());
+			SimpleDateFormat formato = new SimpleDateFormat("yyyy/MM/dd");
 			while (busqueda.next()) {
-				SimpleDateFormat formato = new SimpleDateFormat("yyyy/MM/dd");
-
-				Date fechaEncuentro = formato.parse(busqueda.getString(8));
-
-				encuentros.add(new Encuentro(busqueda.getInt(1), busqueda.getInt(2), busqueda.getInt(3),
-						String.valueOf(busqueda.getInt(4)), String.valueOf(busqueda.getInt(5)), busqueda.getInt(6),
-						fechaEncuentro));
+				encuentros.add(crearEncuentro(busqueda, formato));
 			}
 		} catch (SQLException | ParseException e) {
 			throw new ExcepcionBaseDatosEncuentro(ExcepcionBaseDatosEncuentro.MENSAJE_EXCEPCION_OBTIENE_ENCUENTRO
@@ -218,6 +211,32 @@ public class BaseDatosEncuentro extends BaseDatos {
 		return encuentros;
 	}
 
+	/**
+	 * Crea el encuentro de la fila actual de una consulta a la tabla
+	 * <code>encuentro</code>.
+	 * 
+	 * @param busqueda
+	 *            Recibe el resultado de la consulta posicionado en la fila del
+	 *            encuentro.
+	 * @param formato
+	 *            Recibe el formato con el que se guardan las fechas.
+	 * @return Regresa el encuentro de la fila actual.
+	 * @throws SQLException
+	 *             Lanza la excepcin si ocurre un error al leer la fila.
+	 * @throws ParseException
+	 *             Lanza la excepcin si la fecha del encuentro no es vlida.
+	 * @throws ExcepcionCapturarResultados
+	 *             Lanza la excepcin si ocurre un error al crear el objeto
+	 *             <code>Encuentro</code>.
+	 */
+	static Encuentro crearEncuentro(ResultSet busqueda, SimpleDateFormat formato)
+			throws SQLException, ParseException, ExcepcionCapturarResultados {
+		Date fechaEncuentro = formato.parse(busqueda.getString(8));
+		return new Encuentro(busqueda.getInt(1), busqueda.getInt(2), busqueda.getInt(3),
+				String.valueOf(busqueda.getInt(4)), String.valueOf(busqueda.getInt(5)), busqueda.getInt(6),
+				fechaEncuentro);
+	}
+
 	/**
 	 * Cuenta el nmero de resultos sin capturar.
 	 * 
@@ -229,7 +248,7 @@ public class BaseDatosEncuentro extends BaseDatos {
 		boolean confirmacion = false;
 		try {
 			realizarConexion();
-			busqueda = realizarConsulta("SELECT count(*) as col FROM encuentro WHERE resultado = 99");
+			busqueda = realizarConsulta("SELECT count(*) as col FROM encuentro WHERE resultado = ?", Encuentro.SIN_JUGAR);
 
 			if (busqueda.getInt(1) == 0) {
 				confirmacion = true;
@@ -0,0 +1,250 @@
+package sigestor.bd;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import sigestor.dominio.TorneoSuizo;
+import sigestor.excepcion.ExcepcionBaseDatos;
+import sigestor.excepcion.ExcepcionBaseDatosTorneo;
+
+/**
+ * Sirve para conocer la versin del esquema de un archivo .torn y actualizarlo
+ * a la versin actual del sistema. La versin se guarda en
+ * <code>PRAGMA user_version</code>; los archivos creados antes de que existiera
+ * la versin tienen el valor 0 y se consideran de la versin 1.
+ * <p>
+ * Las caractersticas de la clase <code>BaseDatosEsquema</code> son:
+ * <ul>
+ * <li><code>VERSION_ESQUEMA</code> para indicar la versin del esquema que
+ * utiliza el sistema.</li>
+ * <li><code>VERSION_INICIAL</code> para indicar la versin del esquema
+ * original, sin llaves ni ndices.</li>
+ * </ul>
+ *
+ * @version 18/10/2026
+ */
+public class BaseDatosEsquema extends BaseDatos {
+
+	/**
+	 * Versin del esquema que utiliza el sistema.
+	 */
+	public static final int VERSION_ESQUEMA = 7;
+	/**
+	 * Versin del esquema original, sin llaves ni ndices.
+	 */
+	public static final int VERSION_INICIAL = 1;
+
+	/**
+	 * Permite inicializar el nombre del archivo de la base de datos.
+	 *
+	 * @param nombreArchivo
+	 *            Nombre del archivo de la base de datos.
+	 */
+	public BaseDatosEsquema(String nombreArchivo) {
+		super(nombreArchivo);
+	}
+
+	/**
+	 * Obtiene la versin del esquema guardada en el archivo.
+	 *
+	 * @return Regresa la versin del esquema del archivo.
+	 * @throws ExcepcionBaseDatos
+	 *             Lanza la excepcin si no se pudo realizar la conexin.
+	 * @throws ExcepcionBaseDatosTorneo
+	 *             Lanza la excepcin si no se pudo leer la versin del archivo.
+	 */
+	public int obtenerVersion() throws ExcepcionBaseDatos, ExcepcionBaseDatosTorneo {
+		int version = VERSION_INICIAL;
+		try {
+			realizarConexion();
+			ResultSet resultado = realizarConsulta("PRAGMA user_version");
+			if (resultado.next() && resultado.getInt(1) > VERSION_INICIAL) {
+				version = resultado.getInt(1);
+			}
+		} catch (SQLException | ExcepcionBaseDatos e) {
+			throw new ExcepcionBaseDatosTorneo(ExcepcionBaseDatosTorneo.MENSAJE_EXCEPCION_ACTUALIZA_ESQUEMA
+					+ ExcepcionBaseDatosTorneo.MENSAJE_EXCEPCION_SOLUCION);
+		} finally {
+			cerrarConexion();
+		}
+		return version;
+	}
+
+	/**
+	 * Actualiza el esquema del archivo a <code>VERSION_ESQUEMA</code> aplicando
+	 * en una sola transaccin cada paso pendiente. Si el archivo ya est en la
+	 * versin actual no realiza ningn cambio.
+	 *
+	 * @throws ExcepcionBaseDatos
+	 *             Lanza la excepcin si no se pudo realizar la conexin.
+	 * @throws ExcepcionBaseDatosTorneo
+	 *             Lanza la excepcin si no se pudo actualizar el archivo, en
+	 *             cuyo caso el archivo queda sin cambios.
+	 */
+	public void actualizarEsquema() throws ExcepcionBaseDatos, ExcepcionBaseDatosTorneo {
+		int version = obtenerVersion();
+		if (version >= VERSION_ESQUEMA) {
+			return;
+		}
+		try {
+			realizarConexion();
+			conexion.setAutoCommit(false);
+			try (Statement instruccion = conexion.createStatement()) {
+				if (version < 2) {
+					actualizarVersion2(instruccion);
+				}
+				if (version < 3) {
+					actualizarVersion3(instruccion);
+				}
+				if (version < 4) {
+					actualizarVersion4(instruccion);
+				}
+				if (version < 5) {
+					actualizarVersion5(instruccion);
+				}
+				if (version < 6) {
+					actualizarVersion6(instruccion);
+				}
+				if (version < 7) {
+					actualizarVersion7(instruccion);
+				}
+				instruccion.executeUpdate("PRAGMA user_version = " + VERSION_ESQUEMA);
+			}
+			conexion.commit();
+		} catch (SQLException e) {
+			try {
+				conexion.rollback();
+			} catch (SQLException e1) {
+
+			}
+			throw new ExcepcionBaseDatosTorneo(ExcepcionBaseDatosTorneo.MENSAJE_EXCEPCION_ACTUALIZA_ESQUEMA
+					+ ExcepcionBaseDatosTorneo.MENSAJE_EXCEPCION_SOLUCION);
+		} finally {
+			try {
+				conexion.setAutoCommit(true);
+			} catch (SQLException e) {
+
+			}
+			cerrarConexion();
+		}
+	}
+
+	/**
+	 * Agrega las llaves y los ndices de la versin 2: la llave compuesta
+	 * (<code>numeroCiclo</code>, <code>numeroEncuentro</code>) de
+	 * <code>encuentro</code>, la llave <code>numeroParticipante</code> de
+	 * <code>participante</code> y el ndice de <code>lugarParticipante</code>.
+	 * SQLite no permite agregar una llave primaria a una tabla existente, por lo
+	 * que las llaves se crean como ndices nicos.
+	 *
+	 * @param instruccion
+	 *            Instruccin de la transaccin de actualizacin.
+	 * @throws SQLException
+	 *             Lanza la excepcin si no se pudo crear algn ndice.
+	 */
+	private void actualizarVersion2(Statement instruccion) throws SQLException {
+		crearLlave(instruccion, "llaveEncuentro", "encuentro(numeroCiclo, numeroEncuentro)");
+		crearLlave(instruccion, "llaveParticipante", "participante(numeroParticipante)");
+		instruccion.executeUpdate(
+				"CREATE INDEX IF NOT EXISTS indiceLugarParticipante ON participante(lugarParticipante)");
+	}
+
+	/**
+	 * Agrega la columna <code>sistemaEmparejamiento</code> de la versin 3 a la
+	 * tabla <code>suizo</code>. Los torneos existentes utilizan el
+	 * emparejamiento de peso mximo.
+	 *
+	 * @param instruccion
+	 *            Instruccin de la transaccin de actualizacin.
+	 * @throws SQLException
+	 *             Lanza la excepcin si no se pudo agregar la columna.
+	 */
+	private void actualizarVersion3(Statement instruccion) throws SQLException {
+		instruccion.executeUpdate("ALTER TABLE suizo ADD COLUMN sistemaEmparejamiento TEXT DEFAULT '"
+				+ TorneoSuizo.EMPAREJAMIENTO_PESO_MAXIMO + "'");
+	}
+
+	/**
+	 * Agrega la columna <code>llave</code> de la versin 4 a la tabla
+	 * <code>eliminacionDirecta</code>, donde se guarda el cuadro del torneo. Los
+	 * torneos existentes no tienen llave y la reconstruyen con su ltimo ciclo.
+	 *
+	 * @param instruccion
+	 *            Instruccin de la transaccin de actualizacin.
+	 * @throws SQLException
+	 *             Lanza la excepcin si no se pudo agregar la columna.
+	 */
+	private void actualizarVersion4(Statement instruccion) throws SQLException {
+		instruccion.executeUpdate("ALTER TABLE eliminacionDirecta ADD COLUMN llave BLOB");
+	}
+
+	/**
+	 * Renombra en la versin 5 el sistema de emparejamiento 'Holands' de la
+	 * tabla <code>suizo</code> a
+	 * <code>TorneoSuizo.EMPAREJAMIENTO_HOLANDES_SIN_FLOTANTES</code>, ya que el
+	 * emparejamiento no modela los flotantes del sistema holands.
+	 *
+	 * @param instruccion
+	 *            Instruccin de la transaccin de actualizacin.
+	 * @throws SQLException
+	 *             Lanza la excepcin si no se pudo actualizar la tabla.
+	 */
+	private void actualizarVersion5(Statement instruccion) throws SQLException {
+		instruccion.executeUpdate("UPDATE suizo SET sistemaEmparejamiento = '"
+				+ TorneoSuizo.EMPAREJAMIENTO_HOLANDES_SIN_FLOTANTES + "' WHERE sistemaEmparejamiento = 'Holands'");
+	}
+
+	/**
+	 * Agrega la columna <code>semillaOrden</code> de la versin 6 a la tabla
+	 * <code>personalizacion</code>, donde se guarda la semilla del orden
+	 * aleatorio de los participantes. Los torneos existentes reciben una semilla
+	 * aleatoria que a partir de ese momento ya no cambia.
+	 *
+	 * @param instruccion
+	 *            Instruccin de la transaccin de actualizacin.
+	 * @throws SQLException
+	 *             Lanza la excepcin si no se pudo agregar la columna.
+	 */
+	private void actualizarVersion6(Statement instruccion) throws SQLException {
+		instruccion.executeUpdate("ALTER TABLE personalizacion ADD COLUMN semillaOrden INTEGER");
+		instruccion.executeUpdate("UPDATE personalizacion SET semillaOrden = random()");
+	}
+
+	/**
+	 * Agrega la columna <code>ordenCalendario</code> de la versin 7 a la tabla
+	 * <code>roundRobin</code>, donde se guarda el orden de los participantes en
+	 * el calendario de Berger. Los torneos existentes no tienen orden y leen los
+	 * encuentros de todos sus ciclos.
+	 *
+	 * @param instruccion
+	 *            Instruccin de la transaccin de actualizacin.
+	 * @throws SQLException
+	 *             Lanza la excepcin si no se pudo agregar la columna.
+	 */
+	private void actualizarVersion7(Statement instruccion) throws SQLException {
+		instruccion.executeUpdate("ALTER TABLE roundRobin ADD COLUMN ordenCalendario BLOB");
+	}
+
+	/**
+	 * Crea un ndice nico sobre las columnas recibidas. Si el archivo tiene
+	 * filas repetidas en esas columnas crea el ndice sin restriccin de unicidad,
+	 * de modo que los archivos antiguos se puedan seguir abriendo.
+	 *
+	 * @param instruccion
+	 *            Instruccin de la transaccin de actualizacin.
+	 * @param nombre
+	 *            Nombre del ndice.
+	 * @param columnas
+	 *            Tabla y columnas del ndice.
+	 * @throws SQLException
+	 *             Lanza la excepcin si no se pudo crear el ndice.
+	 */
+	private void crearLlave(Statement instruccion, String nombre, String columnas) throws SQLException {
+		try {
+			instruccion.executeUpdate("CREATE UNIQUE INDEX IF NOT EXISTS " + nombre + " ON " + columnas);
+		} catch (SQLException e) {
+			instruccion.executeUpdate("CREATE INDEX IF NOT EXISTS " + nombre + " ON " + columnas);
+		}
+	}
+}
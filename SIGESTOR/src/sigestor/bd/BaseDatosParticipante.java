@@ -11,7 +11,7 @@ import sigestor.excepcion.*;
  * Sirve para insertar, actualizar, eliminar, actualizar lugar y resultado del
  * participante de la base de datos.
  * 
- * @version 02/06/2023
+ * @version 18/10/2026
  * 
  * @author Ricky Didier Peralta Reyes
  * @author Uriel Romeo Cruz Cortes
@@ -23,6 +23,12 @@ import sigestor.excepcion.*;
  */
 public class BaseDatosParticipante extends BaseDatos {
 
+	/**
+	 * Instruccin que borra el avance de todos los participantes, conservando su
+	 * puntaje inicial.
+	 */
+	static final String CANCELA_AVANCE_PARTICIPANTES = "UPDATE participante SET marcadorFavor = 0, marcadorContra = 0, puntajeAcumuladoParticipante = 0, lugarParticipante = 0";
+
 	/**
 	 * Permite llamar el constructor de la clase padre.
 	 * 
@@ -49,10 +55,10 @@ public class BaseDatosParticipante extends BaseDatos {
 			throws ExcepcionBaseDatos, ExcepcionBaseDatosParticipante {
 		for (Participante p : arrayList) {
 			realizarConexion();
-			int filasAfectadas = realizarAccion("INSERT INTO participante VALUES (" + p.getNumeroParticipante() + ",'"
-					+ p.getNombreParticipante() + "'," + p.getPuntajeParticipante() + ","
-					+ p.getPuntajeAcumuladoParticipante() + "," + p.getMarcadorFavor() + "," + p.getMarcadorContra()
-					+ "," + p.getLugarParticipante() + ")");
+			int filasAfectadas = realizarAccion("INSERT INTO participante VALUES (?, ?, ?, ?, ?, ?, ?)",
+					p.getNumeroParticipante(), p.getNombreParticipante(), p.getPuntajeParticipante(),
+					p.getPuntajeAcumuladoParticipante(), p.getMarcadorFavor(), p.getMarcadorContra(),
+					p.getLugarParticipante());
 			cerrarConexion();
 			if (filasAfectadas != 1) {
 				throw new ExcepcionBaseDatosParticipante(
@@ -101,9 +107,8 @@ public class BaseDatosParticipante extends BaseDatos {
 	public void actualizarLugarParticipante(Participante participante, Torneo torneo)
 			throws ExcepcionBaseDatos, ExcepcionBaseDatosParticipante {
 		realizarConexion();
-		int filasAfectadas = realizarAccion(
-				"UPDATE participante SET lugarParticipante = " + participante.getLugarParticipante()
-						+ " WHERE numeroParticipante = " + participante.getNumeroParticipante());
+		int filasAfectadas = realizarAccion("UPDATE participante SET lugarParticipante = ? WHERE numeroParticipante = ?",
+				participante.getLugarParticipante(), participante.getNumeroParticipante());
 		cerrarConexion();
 		if (filasAfectadas != 1) {
 			throw new ExcepcionBaseDatosParticipante(
@@ -131,10 +136,10 @@ public class BaseDatosParticipante extends BaseDatos {
 			throws ExcepcionBaseDatos, ExcepcionBaseDatosParticipante {
 
 		realizarConexion();
-		int resultado1 = realizarAccion("UPDATE participante SET marcadorFavor = " + participante.getMarcadorFavor()
-				+ ", marcadorContra = " + participante.getMarcadorContra() + ", puntajeAcumuladoParticipante = "
-				+ participante.getPuntajeAcumuladoParticipante() + " WHERE numeroParticipante = "
-				+ participante.getNumeroParticipante());
+		int resultado1 = realizarAccion(
+				"UPDATE participante SET marcadorFavor = ?, marcadorContra = ?, puntajeAcumuladoParticipante = ? WHERE numeroParticipante = ?",
+				participante.getMarcadorFavor(), participante.getMarcadorContra(),
+				participante.getPuntajeAcumuladoParticipante(), participante.getNumeroParticipante());
 
 		cerrarConexion();
 		if (resultado1 != 1) {
@@ -186,7 +191,8 @@ public class BaseDatosParticipante extends BaseDatos {
 	}
 
 	/**
-	 * Cancela el avance del participante de la base de datos.
+	 * Cancela el avance de todos los participantes de la base de datos con una
+	 * sola instruccin.
 	 * 
 	 * @param arrayList Recibe un arreglo que contiene los datos del participante.
 	 * @throws ExcepcionBaseDatos             Lanza la excepcin si no se pudo
@@ -198,19 +204,13 @@ public class BaseDatosParticipante extends BaseDatos {
 	 */
 	public void cancelarAvanceParticipante(ArrayList<Participante> arrayList)
 			throws ExcepcionBaseDatos, ExcepcionBaseDatosParticipante {
-		for (Participante p : arrayList) {
-			realizarConexion();
-
-			int filasAfectadas = realizarAccion("UPDATE participante SET marcadorFavor = " + 0 + ", marcadorContra = "
-					+ 0 + ", puntajeAcumuladoParticipante = " + 0 + ", lugarParticipante = " + 0
-					+ " WHERE numeroParticipante = " + p.getNumeroParticipante());
-
-			cerrarConexion();
-			if (filasAfectadas != 1) {
-				throw new ExcepcionBaseDatosParticipante(
-						ExcepcionBaseDatosParticipante.MENSAJE_EXCEPCION_INSERTA_PARTICIPANTE
-								+ ExcepcionBaseDatosParticipante.MENSAJE_EXCEPCION_SOLUCION);
-			}
+		realizarConexion();
+		int filasAfectadas = realizarAccion(CANCELA_AVANCE_PARTICIPANTES);
+		cerrarConexion();
+		if (filasAfectadas != arrayList.size()) {
+			throw new ExcepcionBaseDatosParticipante(
+					ExcepcionBaseDatosParticipante.MENSAJE_EXCEPCION_INSERTA_PARTICIPANTE
+							+ ExcepcionBaseDatosParticipante.MENSAJE_EXCEPCION_SOLUCION);
 		}
 	}
 
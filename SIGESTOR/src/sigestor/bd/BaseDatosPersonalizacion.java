@@ -10,7 +10,7 @@ import sigestor.excepcion.*;
  * Sirve para insertar y actualizar los datos de personalizacin en la base de
  * datos.
  * 
- * @version 02/06/2023
+ * @version 18/10/2026
  * 
  * @author Ricky Didier Peralta Reyes
  * @author Uriel Romeo Cruz Cortes
@@ -32,7 +32,9 @@ public class BaseDatosPersonalizacion extends BaseDatos {
 	/**
 	 * Inserta los datos de personalizacin a la base de datos.
 	 * 
-	 * @param personalizacion Contiene los datos de personalizacin.
+	 * @param personalizacion    Contiene los datos de personalizacin.
+	 * @param ordenParticipantes Contiene el orden de los participantes del
+	 *                           torneo.
 	 * @throws ExcepcionBaseDatos                Lanza la excepcin si no se pudo
 	 *                                           realizar la conexin.
 	 * @throws ExcepcionBaseDatosPersonalizacion Lanza la excepcin si no se
@@ -41,24 +43,25 @@ public class BaseDatosPersonalizacion extends BaseDatos {
 	 *                                           de la base de datos.
 	 * 
 	 */
-	public void insertarPersonalizacion(Personalizacion personalizacion)
+	public void insertarPersonalizacion(Personalizacion personalizacion, OrdenParticipantes ordenParticipantes)
 			throws ExcepcionBaseDatos, ExcepcionBaseDatosPersonalizacion {
 		boolean alfabetico = false, aleatorio = false;
-		if (Participante.isOrden()) {
+		if (ordenParticipantes.isAlfabetico()) {
 			alfabetico = true;
 		} else {
 			aleatorio = true;
 		}
 
 		realizarConexion();
-		int filasAfectadas = realizarAccion("INSERT INTO personalizacion VALUES ('" + personalizacion.getNombreCiclo(0)
-				+ "', '" + personalizacion.getNombreParticipante(0) + "', '"
-				+ personalizacion.getNombreParticipanteInicial() + "', '" + personalizacion.getNombreParticipanteFinal()
-				+ "', '" + personalizacion.getNombreEncuentro(0) + "', '"
-				+ personalizacion.getNombreParticipanteSinEncuentro() + "', " + personalizacion.isExistenciaMarcador()
-				+ ", '" + personalizacion.getNombreMarcador(0) + "', " + personalizacion.getPuntajeGanar() + ", "
-				+ personalizacion.getPuntajeEmpatar() + ", " + personalizacion.getPuntajePerder() + ", "
-				+ Participante.isPuntaje() + ", " + alfabetico + ", " + aleatorio + ")");
+		int filasAfectadas = realizarAccion(
+				"INSERT INTO personalizacion VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+				personalizacion.getNombreCiclo(0), personalizacion.getNombreParticipante(0),
+				personalizacion.getNombreParticipanteInicial(), personalizacion.getNombreParticipanteFinal(),
+				personalizacion.getNombreEncuentro(0), personalizacion.getNombreParticipanteSinEncuentro(),
+				personalizacion.isExistenciaMarcador(), personalizacion.getNombreMarcador(0),
+				personalizacion.getPuntajeGanar(), personalizacion.getPuntajeEmpatar(),
+				personalizacion.getPuntajePerder(), ordenParticipantes.isPorPuntaje(), alfabetico, aleatorio,
+				ordenParticipantes.getSemilla());
 		cerrarConexion();
 		if (filasAfectadas != 1) {
 			throw new ExcepcionBaseDatosPersonalizacion(
@@ -70,7 +73,9 @@ public class BaseDatosPersonalizacion extends BaseDatos {
 	/**
 	 * Actualiza los datos de personalizacin guardados en la base de datos.
 	 * 
-	 * @param personalizacion Contiene los datos de personalizacin.
+	 * @param personalizacion    Contiene los datos de personalizacin.
+	 * @param ordenParticipantes Contiene el orden de los participantes del
+	 *                           torneo.
 	 * @throws ExcepcionBaseDatos                Lanza la excepcin si no se pudo
 	 *                                           realizar la conexin.
 	 * @throws ExcepcionBaseDatosPersonalizacion Lanza la excepcin si no se pudo
@@ -79,27 +84,26 @@ public class BaseDatosPersonalizacion extends BaseDatos {
 	 *                                           base de datos.
 	 * 
 	 */
-	public void actualizarPersonalizacion(Personalizacion personalizacion)
+	public void actualizarPersonalizacion(Personalizacion personalizacion, OrdenParticipantes ordenParticipantes)
 			throws ExcepcionBaseDatos, ExcepcionBaseDatosPersonalizacion {
 		realizarConexion();
 		boolean alfabetico = false, aleatorio = false;
-		if (Participante.isOrden()) {
+		if (ordenParticipantes.isAlfabetico()) {
 			alfabetico = true;
 		} else {
 			aleatorio = true;
 		}
-		int filasAfectadas = realizarAccion("UPDATE personalizacion SET nombreCiclo = '"
-				+ personalizacion.getNombreCiclo(0) + "', nombreParticipante = '"
-				+ personalizacion.getNombreParticipante(0) + "', nombreParticipanteInicial = '"
-				+ personalizacion.getNombreParticipanteInicial() + "', nombreParticipanteFinal = '"
-				+ personalizacion.getNombreParticipanteFinal() + "', nombreEncuentro = '"
-				+ personalizacion.getNombreEncuentro(0) + "', nombreParticipanteSinEncuentro = '"
-				+ personalizacion.getNombreParticipanteSinEncuentro() + "', existenciaMarcador = "
-				+ personalizacion.isExistenciaMarcador() + ", nombreMarcador = '" + personalizacion.getNombreMarcador(0)
-				+ "', puntajeGanar = " + personalizacion.getPuntajeGanar() + ", puntajeEmpatar = "
-				+ personalizacion.getPuntajeEmpatar() + ", puntajePerder = " + personalizacion.getPuntajePerder()
-				+ ", ordenPuntaje = " + Participante.isPuntaje() + ", ordenAlfabetico = " + alfabetico
-				+ ", ordenAleatorio = " + aleatorio);
+		int filasAfectadas = realizarAccion(
+				"UPDATE personalizacion SET nombreCiclo = ?, nombreParticipante = ?, nombreParticipanteInicial = ?, nombreParticipanteFinal = ?, "
+						+ "nombreEncuentro = ?, nombreParticipanteSinEncuentro = ?, existenciaMarcador = ?, nombreMarcador = ?, "
+						+ "puntajeGanar = ?, puntajeEmpatar = ?, puntajePerder = ?, ordenPuntaje = ?, ordenAlfabetico = ?, ordenAleatorio = ?, semillaOrden = ?",
+				personalizacion.getNombreCiclo(0), personalizacion.getNombreParticipante(0),
+				personalizacion.getNombreParticipanteInicial(), personalizacion.getNombreParticipanteFinal(),
+				personalizacion.getNombreEncuentro(0), personalizacion.getNombreParticipanteSinEncuentro(),
+				personalizacion.isExistenciaMarcador(), personalizacion.getNombreMarcador(0),
+				personalizacion.getPuntajeGanar(), personalizacion.getPuntajeEmpatar(),
+				personalizacion.getPuntajePerder(), ordenParticipantes.isPorPuntaje(), alfabetico, aleatorio,
+				ordenParticipantes.getSemilla());
 		cerrarConexion();
 		if (filasAfectadas != 1) {
 			throw new ExcepcionBaseDatosPersonalizacion(
@@ -109,8 +113,12 @@ public class BaseDatosPersonalizacion extends BaseDatos {
 	}
 
 	/**
-	 * Obtiene de la base de datos los datos de personalizacin del torneo.
+	 * Obtiene de la base de datos los datos de personalizacin del torneo y
+	 * asigna el orden de los participantes guardado, incluyendo la semilla del
+	 * orden aleatorio.
 	 * 
+	 * @param ordenParticipantes Recibe el orden de los participantes del torneo
+	 *                           en el que se asigna el orden guardado.
 	 * @return regresa un objeto de tipo <code>Personalizacion.</code>
 	 * @throws ExcepcionBaseDatos                Lanza la excepcin si no se pudo
 	 *                                           realizar la conexin.
@@ -120,12 +128,12 @@ public class BaseDatosPersonalizacion extends BaseDatos {
 	 *                                           <code>personalizacion</code> de la
 	 *                                           base de datos.
 	 */
-	public Personalizacion obtenerPersonalizacion() throws ExcepcionBaseDatos, ExcepcionBaseDatosPersonalizacion {
+	public Personalizacion obtenerPersonalizacion(OrdenParticipantes ordenParticipantes) throws ExcepcionBaseDatos, ExcepcionBaseDatosPersonalizacion {
 		try {
 			realizarConexion();
 			Personalizacion personalizacion = new Personalizacion();
 			ResultSet resultado = realizarConsulta(
-					"SELECT nombreCiclo, nombreParticipante ,nombreParticipanteInicial , nombreParticipanteFinal , nombreEncuentro , nombreParticipanteSinEncuentro , existenciaMarcador , nombreMarcador, puntajeGanar , puntajeEmpatar, puntajePerder, ordenPuntaje, ordenAlfabetico, ordenAleatorio FROM personalizacion");
+					"SELECT nombreCiclo, nombreParticipante ,nombreParticipanteInicial , nombreParticipanteFinal , nombreEncuentro , nombreParticipanteSinEncuentro , existenciaMarcador , nombreMarcador, puntajeGanar , puntajeEmpatar, puntajePerder, ordenPuntaje, ordenAlfabetico, ordenAleatorio, semillaOrden FROM personalizacion");
 			resultado.next();
 			personalizacion.setNombreCiclo(resultado.getString(1));
 			personalizacion.setNombreParticipante(resultado.getString(2));
@@ -138,13 +146,17 @@ public class BaseDatosPersonalizacion extends BaseDatos {
 			personalizacion.setPuntajeGanar(resultado.getFloat(9));
 			personalizacion.setPuntajeEmpatar(resultado.getFloat(10));
 			personalizacion.setPuntajePerder(resultado.getFloat(11));
-			Participante.setPuntaje(resultado.getBoolean(12));
+			ordenParticipantes.setPorPuntaje(resultado.getBoolean(12));
 
 			if (resultado.getBoolean(13)) {
-				Participante.setOrden(true);
+				ordenParticipantes.setAlfabetico(true);
 			}
 			if (resultado.getBoolean(14)) {
-				Participante.setOrden(false);
+				ordenParticipantes.setAlfabetico(false);
+			}
+			long semilla = resultado.getLong(15);
+			if (!resultado.wasNull()) {
+				ordenParticipantes.setSemilla(semilla);
 			}
 
 			resultado.close();
@@ -0,0 +1,661 @@
+package sigestor.bd;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+
+import sigestor.dominio.CalendarioBerger;
+import sigestor.dominio.Ciclo;
+import sigestor.dominio.Encuentro;
+import sigestor.dominio.Llave;
+import sigestor.dominio.Participante;
+import sigestor.dominio.Personalizacion;
+import sigestor.dominio.Torneo;
+import sigestor.excepcion.ExcepcionBaseDatos;
+import sigestor.excepcion.ExcepcionBaseDatosCiclo;
+import sigestor.excepcion.ExcepcionBaseDatosEncuentro;
+import sigestor.excepcion.ExcepcionBaseDatosParticipante;
+
+/**
+ * Sirve para guardar en una sola transaccin todo lo que genera un ciclo del
+ * torneo: el ciclo, sus encuentros y la actualizacin de los participantes.
+ * Tambin sirve para guardar de una vez los resultados capturados de un ciclo.
+ * Las operaciones se acumulan con los mtodos <code>agregar</code> y se
+ * escriben por lotes al llamar a <code>confirmar</code>, de modo que un ciclo
+ * se guarda completo o no se guarda.
+ * <p>
+ * Las caractersticas de la clase <code>BaseDatosRonda</code> son:
+ * <ul>
+ * <li><code>ciclos</code> para guardar los ciclos por insertar.</li>
+ * <li><code>encuentros</code> para guardar los encuentros por insertar.</li>
+ * <li><code>ciclosEncuentros</code> para guardar el ciclo al que pertenece cada
+ * encuentro por insertar.</li>
+ * <li><code>resultadosEncuentros</code> para guardar los encuentros cuyo
+ * resultado se va a actualizar.</li>
+ * <li><code>ciclosResultados</code> para guardar el ciclo al que pertenece cada
+ * encuentro por actualizar.</li>
+ * <li><code>resultadosParticipantes</code> para guardar los participantes cuyo
+ * resultado se va a actualizar.</li>
+ * <li><code>lugaresParticipantes</code> para guardar los participantes cuyo
+ * lugar se va a actualizar.</li>
+ * <li><code>calendario</code> para guardar el calendario cuyos encuentros se
+ * van a insertar sin generarlos como objetos.</li>
+ * <li><code>ciclosCalendario</code> para guardar cuntos ciclos del calendario
+ * se van a insertar.</li>
+ * <li><code>llave</code> para guardar la llave del torneo Eliminacin directa
+ * que se va a actualizar.</li>
+ * <li><code>numeroCiclos</code> para guardar el nmero de ciclos del torneo
+ * Eliminacin directa que se va a actualizar.</li>
+ * <li><code>cicloActual</code> para guardar el ciclo actual que se va a
+ * actualizar en los datos generales del torneo.</li>
+ * <li><code>torneo</code> para guardar el torneo al que pertenecen las
+ * operaciones.</li>
+ * <li><code>TAMANO_LOTE</code> para indicar cuntos encuentros del calendario
+ * se envan en cada lote.</li>
+ * </ul>
+ *
+ * @version 18/10/2026
+ */
+public class BaseDatosRonda extends BaseDatos {
+
+	/**
+	 * Encuentros del calendario que se envan en cada lote, de modo que el lote
+	 * no crezca con el nmero de participantes.
+	 */
+	private static final int TAMANO_LOTE = 5000;
+	/**
+	 * Indica que la ronda no actualiza el ciclo actual del torneo.
+	 */
+	private static final int SIN_CICLO_ACTUAL = -1;
+	/**
+	 * Indica que la ronda no actualiza el nmero de ciclos del torneo.
+	 */
+	private static final int SIN_NUMERO_CICLOS = -1;
+
+	/**
+	 * Ciclos por insertar en la tabla <code>ciclo</code>.
+	 */
+	private ArrayList<Ciclo> ciclos;
+	/**
+	 * Encuentros por insertar en la tabla <code>encuentro</code>.
+	 */
+	private ArrayList<Encuentro> encuentros;
+	/**
+	 * Ciclo al que pertenece cada encuentro por insertar.
+	 */
+	private ArrayList<Ciclo> ciclosEncuentros;
+	/**
+	 * Encuentros cuyo marcador y resultado se van a actualizar en la tabla
+	 * <code>encuentro</code>.
+	 */
+	private ArrayList<Encuentro> resultadosEncuentros;
+	/**
+	 * Ciclo al que pertenece cada encuentro por actualizar.
+	 */
+	private ArrayList<Ciclo> ciclosResultados;
+	/**
+	 * Participantes cuyo resultado se va a actualizar, de acuerdo a su nmero de
+	 * participante.
+	 */
+	private LinkedHashMap<Integer, Participante> resultadosParticipantes;
+	/**
+	 * Participantes cuyo lugar se va a actualizar, de acuerdo a su nmero de
+	 * participante.
+	 */
+	private LinkedHashMap<Integer, Participante> lugaresParticipantes;
+	/**
+	 * Calendario cuyos encuentros se van a insertar.
+	 */
+	private CalendarioBerger calendario;
+	/**
+	 * Ciclos del calendario que se van a insertar.
+	 */
+	private int ciclosCalendario;
+	/**
+	 * Llave del torneo Eliminacin directa que se va a actualizar.
+	 */
+	private Llave llave;
+	/**
+	 * Nmero de ciclos del torneo Eliminacin directa que se va a guardar;
+	 * <code>SIN_NUMERO_CICLOS</code> si no se va a actualizar.
+	 */
+	private int numeroCiclos;
+	/**
+	 * Ciclo actual que se va a guardar en los datos generales del torneo;
+	 * <code>SIN_CICLO_ACTUAL</code> si no se va a actualizar.
+	 */
+	private int cicloActual;
+	/**
+	 * Torneo al que pertenecen las operaciones.
+	 */
+	private Torneo torneo;
+
+	/**
+	 * Permite inicializar la ronda vaca del torneo recibido.
+	 *
+	 * @param torneo
+	 *            Recibe el objeto <code>Torneo</code> al que pertenece la ronda.
+	 */
+	public BaseDatosRonda(Torneo torneo) {
+		super(torneo.getNombreArchivo());
+		this.torneo = torneo;
+		this.ciclos = new ArrayList<Ciclo>();
+		this.encuentros = new ArrayList<Encuentro>();
+		this.ciclosEncuentros = new ArrayList<Ciclo>();
+		this.resultadosEncuentros = new ArrayList<Encuentro>();
+		this.ciclosResultados = new ArrayList<Ciclo>();
+		this.resultadosParticipantes = new LinkedHashMap<Integer, Participante>();
+		this.lugaresParticipantes = new LinkedHashMap<Integer, Participante>();
+		this.numeroCiclos = SIN_NUMERO_CICLOS;
+		this.cicloActual = SIN_CICLO_ACTUAL;
+	}
+
+	/**
+	 * Agrega un ciclo para insertarlo en la tabla <code>ciclo</code>.
+	 *
+	 * @param ciclo
+	 *            Recibe el objeto <code>Ciclo</code> que contiene los datos de un
+	 *            ciclo.
+	 */
+	public void agregarCiclo(Ciclo ciclo) {
+		ciclos.add(ciclo);
+	}
+
+	/**
+	 * Agrega un encuentro para insertarlo en la tabla <code>encuentro</code>.
+	 *
+	 * @param encuentro
+	 *            Recibe el objeto <code>Encuentro</code> que contiene los datos de
+	 *            un encuentro.
+	 * @param ciclo
+	 *            Recibe el objeto <code>Ciclo</code> al que pertenece el
+	 *            encuentro.
+	 */
+	public void agregarEncuentro(Encuentro encuentro, Ciclo ciclo) {
+		encuentros.add(encuentro);
+		ciclosEncuentros.add(ciclo);
+	}
+
+	/**
+	 * Agrega un encuentro para actualizar su marcador y su resultado en la tabla
+	 * <code>encuentro</code>.
+	 *
+	 * @param encuentro
+	 *            Recibe el objeto <code>Encuentro</code> con el resultado
+	 *            capturado.
+	 * @param ciclo
+	 *            Recibe el objeto <code>Ciclo</code> al que pertenece el
+	 *            encuentro.
+	 */
+	public void agregarResultadoEncuentro(Encuentro encuentro, Ciclo ciclo) {
+		resultadosEncuentros.add(encuentro);
+		ciclosResultados.add(ciclo);
+	}
+
+	/**
+	 * Agrega los encuentros de los primeros ciclos de un calendario para
+	 * insertarlos en la tabla <code>encuentro</code>. Los encuentros se
+	 * obtienen del calendario al confirmar y se insertan por lotes de
+	 * <code>TAMANO_LOTE</code>, sin crear los objetos <code>Encuentro</code>.
+	 *
+	 * @param calendario
+	 *            Recibe el calendario del torneo.
+	 * @param ciclosCalendario
+	 *            Recibe cuntos ciclos del calendario se insertan.
+	 */
+	public void agregarCalendario(CalendarioBerger calendario, int ciclosCalendario) {
+		this.calendario = calendario;
+		this.ciclosCalendario = ciclosCalendario;
+	}
+
+	/**
+	 * Agrega la llave del torneo Eliminacin directa para guardarla junto con el
+	 * ciclo que se gener con ella.
+	 *
+	 * @param llave
+	 *            Recibe la llave del torneo.
+	 */
+	public void agregarLlave(Llave llave) {
+		this.llave = llave;
+	}
+
+	/**
+	 * Agrega el nmero de ciclos del torneo Eliminacin directa para guardarlo
+	 * junto con la llave, cuando la final de reinicio no hace falta.
+	 *
+	 * @param numeroCiclos
+	 *            Recibe el nuevo nmero de ciclos del torneo.
+	 */
+	public void agregarNumeroCiclos(int numeroCiclos) {
+		this.numeroCiclos = numeroCiclos;
+	}
+
+	/**
+	 * Agrega el ciclo actual del torneo para guardarlo junto con el ciclo que
+	 * se realiz, de modo que el torneo nunca quede en un ciclo que no existe en
+	 * la base de datos.
+	 *
+	 * @param cicloActual
+	 *            Recibe el nmero del nuevo ciclo actual.
+	 */
+	public void agregarCicloActual(int cicloActual) {
+		this.cicloActual = cicloActual;
+	}
+
+	/**
+	 * Agrega un participante para actualizar su marcador a favor, marcador en
+	 * contra y puntaje acumulado. Si el participante ya fue agregado solo se
+	 * actualiza una vez con los valores que tenga al confirmar.
+	 *
+	 * @param participante
+	 *            Recibe el objeto <code>Participante</code> que se actualizar.
+	 */
+	public void agregarResultadoParticipante(Participante participante) {
+		resultadosParticipantes.put(participante.getNumeroParticipante(), participante);
+	}
+
+	/**
+	 * Agrega un participante para actualizar su lugar. Si el participante ya fue
+	 * agregado solo se actualiza una vez con el lugar que tenga al confirmar.
+	 *
+	 * @param participante
+	 *            Recibe el objeto <code>Participante</code> que se actualizar.
+	 */
+	public void agregarLugarParticipante(Participante participante) {
+		lugaresParticipantes.put(participante.getNumeroParticipante(), participante);
+	}
+
+	/**
+	 * Escribe todas las operaciones agregadas en una sola transaccin. Si alguna
+	 * falla se deshacen todas y la ronda queda vaca.
+	 *
+	 * @throws ExcepcionBaseDatos
+	 *             Lanza la excepcin si ocurre un error en <code>BaseDatos</code>.
+	 * @throws ExcepcionBaseDatosCiclo
+	 *             Lanza la excepcin si no se pudo insertar un ciclo.
+	 * @throws ExcepcionBaseDatosEncuentro
+	 *             Lanza la excepcin si no se pudo insertar o actualizar un
+	 *             encuentro.
+	 * @throws ExcepcionBaseDatosParticipante
+	 *             Lanza la excepcin si no se pudo actualizar un participante.
+	 */
+	public void confirmar() throws ExcepcionBaseDatos, ExcepcionBaseDatosCiclo, ExcepcionBaseDatosEncuentro,
+			ExcepcionBaseDatosParticipante {
+		realizarConexion();
+		try {
+			conexion.setAutoCommit(false);
+			insertarCiclos();
+			insertarEncuentros();
+			insertarCalendario();
+			actualizarResultadosEncuentros();
+			actualizarResultadosParticipantes();
+			actualizarLugaresParticipantes();
+			actualizarLlave();
+			actualizarNumeroCiclos();
+			actualizarCicloActual();
+			conexion.commit();
+			registrarEscritura();
+		} catch (SQLException e) {
+			deshacer();
+			throw new ExcepcionBaseDatos(ExcepcionBaseDatos.MENSAJE_EXCEPCION_EJECUTA_INSTRUCCION);
+		} catch (ExcepcionBaseDatos | ExcepcionBaseDatosCiclo | ExcepcionBaseDatosEncuentro
+				| ExcepcionBaseDatosParticipante e) {
+			deshacer();
+			throw e;
+		} finally {
+			try {
+				conexion.setAutoCommit(true);
+			} catch (SQLException e) {
+
+			}
+			limpiar();
+			cerrarConexion();
+		}
+	}
+
+	/**
+	 * Inserta por lotes los ciclos agregados.
+	 *
+	 * @throws SQLException
+	 *             Lanza la excepcin si ocurre un error al ejecutar el lote.
+	 * @throws ExcepcionBaseDatos
+	 *             Lanza la excepcin si ocurre un error en <code>BaseDatos</code>.
+	 * @throws ExcepcionBaseDatosCiclo
+	 *             Lanza la excepcin si no se insert algn ciclo.
+	 */
+	private void insertarCiclos() throws SQLException, ExcepcionBaseDatos, ExcepcionBaseDatosCiclo {
+		if (ciclos.isEmpty()) {
+			return;
+		}
+		PreparedStatement instruccion = obtenerInstruccion("INSERT INTO ciclo (numeroCiclo) VALUES (?)");
+		instruccion.clearBatch();
+		for (Ciclo ciclo : ciclos) {
+			instruccion.setInt(1, ciclo.getNumeroCiclo());
+			instruccion.addBatch();
+		}
+		if (!verificarFilas(instruccion.executeBatch())) {
+			throw new ExcepcionBaseDatosCiclo(ExcepcionBaseDatosCiclo.MENSAJE_EXCEPCION_INSERTA_CICLO
+					+ torneo.getDatosPersonalizacion().getNombreCiclo(Personalizacion.MINUSCULA_SINGULAR)
+					+ ExcepcionBaseDatosCiclo.MENSAJE_EXCEPCION_SOLUCION);
+		}
+	}
+
+	/**
+	 * Inserta por lotes los encuentros agregados.
+	 *
+	 * @throws SQLException
+	 *             Lanza la excepcin si ocurre un error al ejecutar el lote.
+	 * @throws ExcepcionBaseDatos
+	 *             Lanza la excepcin si ocurre un error en <code>BaseDatos</code>.
+	 * @throws ExcepcionBaseDatosEncuentro
+	 *             Lanza la excepcin si no se insert algn encuentro.
+	 */
+	private void insertarEncuentros() throws SQLException, ExcepcionBaseDatos, ExcepcionBaseDatosEncuentro {
+		if (encuentros.isEmpty()) {
+			return;
+		}
+		SimpleDateFormat formato = new SimpleDateFormat("yyyy/MM/dd");
+		PreparedStatement instruccion = obtenerInstruccion(
+				"INSERT INTO encuentro (numeroEncuentro, idParticipanteInicial, idParticipanteFinal, numeroCiclo, resultado, fechaDelEncuentro) VALUES (?, ?, ?, ?, ?, ?)");
+		instruccion.clearBatch();
+		for (int i = 0; i < encuentros.size(); i++) {
+			Encuentro encuentro = encuentros.get(i);
+			instruccion.setInt(1, encuentro.getNumeroEncuentro());
+			instruccion.setInt(2, encuentro.getIdParticipanteInicial());
+			instruccion.setInt(3, encuentro.getIdParticipanteFinal());
+			instruccion.setInt(4, ciclosEncuentros.get(i).getNumeroCiclo());
+			instruccion.setInt(5, encuentro.getResultadoEncuentro());
+			instruccion.setString(6, formato.format(encuentro.getFechaEncuentro()));
+			instruccion.addBatch();
+		}
+		if (!verificarFilas(instruccion.executeBatch())) {
+			throw new ExcepcionBaseDatosEncuentro(ExcepcionBaseDatosEncuentro.MENSAJE_EXCEPCION_INSERTA_ENCUENTRO
+					+ torneo.getDatosPersonalizacion().getNombreEncuentro(Personalizacion.MINUSCULA_SINGULAR)
+					+ ExcepcionBaseDatosEncuentro.MENSAJE_EXCEPCION_SOLUCION);
+		}
+	}
+
+	/**
+	 * Inserta por lotes los encuentros del calendario agregado, generando cada
+	 * pareja al momento de enviarla, y guarda el orden de los participantes del
+	 * calendario en la tabla <code>roundRobin</code> para volver a crearlo al
+	 * abrir el torneo.
+	 *
+	 * @throws SQLException
+	 *             Lanza la excepcin si ocurre un error al ejecutar el lote.
+	 * @throws ExcepcionBaseDatos
+	 *             Lanza la excepcin si ocurre un error en <code>BaseDatos</code>
+	 *             o si no se guard el orden del calendario.
+	 * @throws ExcepcionBaseDatosEncuentro
+	 *             Lanza la excepcin si no se insert algn encuentro.
+	 */
+	private void insertarCalendario() throws SQLException, ExcepcionBaseDatos, ExcepcionBaseDatosEncuentro {
+		if (calendario == null) {
+			return;
+		}
+		String fecha = new SimpleDateFormat("yyyy/MM/dd").format(calendario.getFechaEncuentros());
+		PreparedStatement instruccion = obtenerInstruccion(
+				"INSERT INTO encuentro (numeroEncuentro, idParticipanteInicial, idParticipanteFinal, numeroCiclo, resultado, fechaDelEncuentro) VALUES (?, ?, ?, ?, ?, ?)");
+		instruccion.clearBatch();
+		int pendientes = 0;
+		for (int numeroCiclo = 1; numeroCiclo <= ciclosCalendario; numeroCiclo++) {
+			for (int mesa = 0; mesa < calendario.getNumeroMesas(); mesa++) {
+				int[] pareja = calendario.obtenerPareja(numeroCiclo - 1, mesa);
+				if (pareja == null) {
+					continue;
+				}
+				instruccion.setInt(1, calendario.obtenerNumeroEncuentro(numeroCiclo, mesa));
+				instruccion.setInt(2, pareja[0]);
+				instruccion.setInt(3, pareja[1]);
+				instruccion.setInt(4, numeroCiclo);
+				instruccion.setInt(5, Encuentro.SIN_JUGAR);
+				instruccion.setString(6, fecha);
+				instruccion.addBatch();
+				pendientes++;
+				if (pendientes == TAMANO_LOTE) {
+					ejecutarLoteEncuentros(instruccion);
+					pendientes = 0;
+				}
+			}
+		}
+		if (pendientes > 0) {
+			ejecutarLoteEncuentros(instruccion);
+		}
+		PreparedStatement orden = obtenerInstruccion("UPDATE roundRobin SET ordenCalendario = ?");
+		orden.setBytes(1, BaseDatosTorneo.convertirOrdenCalendario(calendario));
+		if (orden.executeUpdate() != 1) {
+			throw new ExcepcionBaseDatos(ExcepcionBaseDatos.MENSAJE_EXCEPCION_EJECUTA_INSTRUCCION);
+		}
+	}
+
+	/**
+	 * Ejecuta el lote de encuentros de la instruccin recibida.
+	 *
+	 * @param instruccion
+	 *            Recibe la instruccin con el lote de encuentros.
+	 * @throws SQLException
+	 *             Lanza la excepcin si ocurre un error al ejecutar el lote.
+	 * @throws ExcepcionBaseDatosEncuentro
+	 *             Lanza la excepcin si no se insert algn encuentro.
+	 */
+	private void ejecutarLoteEncuentros(PreparedStatement instruccion)
+			throws SQLException, ExcepcionBaseDatosEncuentro {
+		if (!verificarFilas(instruccion.executeBatch())) {
+			throw new ExcepcionBaseDatosEncuentro(ExcepcionBaseDatosEncuentro.MENSAJE_EXCEPCION_INSERTA_ENCUENTRO
+					+ torneo.getDatosPersonalizacion().getNombreEncuentro(Personalizacion.MINUSCULA_SINGULAR)
+					+ ExcepcionBaseDatosEncuentro.MENSAJE_EXCEPCION_SOLUCION);
+		}
+		instruccion.clearBatch();
+	}
+
+	/**
+	 * Actualiza por lotes el marcador y el resultado de los encuentros
+	 * agregados.
+	 *
+	 * @throws SQLException
+	 *             Lanza la excepcin si ocurre un error al ejecutar el lote.
+	 * @throws ExcepcionBaseDatos
+	 *             Lanza la excepcin si ocurre un error en <code>BaseDatos</code>.
+	 * @throws ExcepcionBaseDatosEncuentro
+	 *             Lanza la excepcin si no se actualiz algn encuentro.
+	 */
+	private void actualizarResultadosEncuentros() throws SQLException, ExcepcionBaseDatos,
+			ExcepcionBaseDatosEncuentro {
+		if (resultadosEncuentros.isEmpty()) {
+			return;
+		}
+		PreparedStatement instruccion = obtenerInstruccion(
+				"UPDATE encuentro SET marcadorParticipanteInicial = ?, marcadorParticipanteFinal = ?, resultado = ? WHERE numeroEncuentro = ? and numeroCiclo = ?");
+		instruccion.clearBatch();
+		for (int i = 0; i < resultadosEncuentros.size(); i++) {
+			Encuentro encuentro = resultadosEncuentros.get(i);
+			instruccion.setInt(1, encuentro.getMarcadorParticipanteInicial());
+			instruccion.setInt(2, encuentro.getMarcadorParticipanteFinal());
+			instruccion.setInt(3, encuentro.getResultadoEncuentro());
+			instruccion.setInt(4, encuentro.getNumeroEncuentro());
+			instruccion.setInt(5, ciclosResultados.get(i).getNumeroCiclo());
+			instruccion.addBatch();
+		}
+		if (!verificarFilas(instruccion.executeBatch())) {
+			throw new ExcepcionBaseDatosEncuentro(ExcepcionBaseDatosEncuentro.MENSAJE_EXCEPCION_ACTUALIZA_ENCUENTRO
+					+ torneo.getDatosPersonalizacion().getNombreEncuentro(Personalizacion.MINUSCULA_SINGULAR)
+					+ ExcepcionBaseDatosEncuentro.MENSAJE_EXCEPCION_SOLUCION);
+		}
+	}
+
+	/**
+	 * Actualiza por lotes el marcador a favor, el marcador en contra y el puntaje
+	 * acumulado de los participantes agregados.
+	 *
+	 * @throws SQLException
+	 *             Lanza la excepcin si ocurre un error al ejecutar el lote.
+	 * @throws ExcepcionBaseDatos
+	 *             Lanza la excepcin si ocurre un error en <code>BaseDatos</code>.
+	 * @throws ExcepcionBaseDatosParticipante
+	 *             Lanza la excepcin si no se actualiz algn participante.
+	 */
+	private void actualizarResultadosParticipantes() throws SQLException, ExcepcionBaseDatos,
+			ExcepcionBaseDatosParticipante {
+		if (resultadosParticipantes.isEmpty()) {
+			return;
+		}
+		PreparedStatement instruccion = obtenerInstruccion(
+				"UPDATE participante SET marcadorFavor = ?, marcadorContra = ?, puntajeAcumuladoParticipante = ? WHERE numeroParticipante = ?");
+		instruccion.clearBatch();
+		for (Participante participante : resultadosParticipantes.values()) {
+			instruccion.setInt(1, participante.getMarcadorFavor());
+			instruccion.setInt(2, participante.getMarcadorContra());
+			instruccion.setFloat(3, participante.getPuntajeAcumuladoParticipante());
+			instruccion.setInt(4, participante.getNumeroParticipante());
+			instruccion.addBatch();
+		}
+		if (!verificarFilas(instruccion.executeBatch())) {
+			throw new ExcepcionBaseDatosParticipante(
+					ExcepcionBaseDatosParticipante.MENSAJE_EXCEPCION_ACTUALIZA_RESULTADO_PARTICIPANTE
+							+ torneo.getDatosPersonalizacion()
+									.getNombreParticipante(Personalizacion.MINUSCULA_SINGULAR)
+							+ ExcepcionBaseDatosParticipante.MENSAJE_EXCEPCION_SOLUCION);
+		}
+	}
+
+	/**
+	 * Actualiza por lotes el lugar de los participantes agregados.
+	 *
+	 * @throws SQLException
+	 *             Lanza la excepcin si ocurre un error al ejecutar el lote.
+	 * @throws ExcepcionBaseDatos
+	 *             Lanza la excepcin si ocurre un error en <code>BaseDatos</code>.
+	 * @throws ExcepcionBaseDatosParticipante
+	 *             Lanza la excepcin si no se actualiz algn participante.
+	 */
+	private void actualizarLugaresParticipantes() throws SQLException, ExcepcionBaseDatos,
+			ExcepcionBaseDatosParticipante {
+		if (lugaresParticipantes.isEmpty()) {
+			return;
+		}
+		PreparedStatement instruccion = obtenerInstruccion(
+				"UPDATE participante SET lugarParticipante = ? WHERE numeroParticipante = ?");
+		instruccion.clearBatch();
+		for (Participante participante : lugaresParticipantes.values()) {
+			instruccion.setInt(1, participante.getLugarParticipante());
+			instruccion.setInt(2, participante.getNumeroParticipante());
+			instruccion.addBatch();
+		}
+		if (!verificarFilas(instruccion.executeBatch())) {
+			throw new ExcepcionBaseDatosParticipante(
+					ExcepcionBaseDatosParticipante.MENSAJE_EXCEPCION_ACTUALIZA_LUGAR_PARTICIPANTE
+							+ torneo.getDatosPersonalizacion()
+									.getNombreParticipante(Personalizacion.MINUSCULA_SINGULAR)
+							+ ExcepcionBaseDatosParticipante.MENSAJE_EXCEPCION_SOLUCION);
+		}
+	}
+
+	/**
+	 * Guarda la llave agregada en la tabla <code>eliminacionDirecta</code>.
+	 *
+	 * @throws SQLException
+	 *             Lanza la excepcin si ocurre un error al ejecutar la
+	 *             instruccin.
+	 * @throws ExcepcionBaseDatos
+	 *             Lanza la excepcin si no se actualiz la llave.
+	 */
+	private void actualizarLlave() throws SQLException, ExcepcionBaseDatos {
+		if (llave == null) {
+			return;
+		}
+		PreparedStatement instruccion = obtenerInstruccion("UPDATE eliminacionDirecta SET llave = ?");
+		instruccion.setBytes(1, BaseDatosTorneo.convertirLlave(llave));
+		if (instruccion.executeUpdate() != 1) {
+			throw new ExcepcionBaseDatos(ExcepcionBaseDatos.MENSAJE_EXCEPCION_EJECUTA_INSTRUCCION);
+		}
+	}
+
+	/**
+	 * Guarda el nmero de ciclos agregado en la tabla
+	 * <code>eliminacionDirecta</code>.
+	 *
+	 * @throws SQLException
+	 *             Lanza la excepcin si ocurre un error al ejecutar la
+	 *             instruccin.
+	 * @throws ExcepcionBaseDatos
+	 *             Lanza la excepcin si no se actualiz el nmero de ciclos.
+	 */
+	private void actualizarNumeroCiclos() throws SQLException, ExcepcionBaseDatos {
+		if (numeroCiclos == SIN_NUMERO_CICLOS) {
+			return;
+		}
+		PreparedStatement instruccion = obtenerInstruccion("UPDATE eliminacionDirecta SET numeroCiclos = ?");
+		instruccion.setInt(1, numeroCiclos);
+		if (instruccion.executeUpdate() != 1) {
+			throw new ExcepcionBaseDatos(ExcepcionBaseDatos.MENSAJE_EXCEPCION_EJECUTA_INSTRUCCION);
+		}
+	}
+
+	/**
+	 * Guarda el ciclo actual agregado en la tabla <code>datosGenerales</code>.
+	 *
+	 * @throws SQLException
+	 *             Lanza la excepcin si ocurre un error al ejecutar la
+	 *             instruccin.
+	 * @throws ExcepcionBaseDatos
+	 *             Lanza la excepcin si no se actualiz el ciclo actual.
+	 */
+	private void actualizarCicloActual() throws SQLException, ExcepcionBaseDatos {
+		if (cicloActual == SIN_CICLO_ACTUAL) {
+			return;
+		}
+		PreparedStatement instruccion = obtenerInstruccion("UPDATE datosGenerales SET cicloActual = ?");
+		instruccion.setInt(1, cicloActual);
+		if (instruccion.executeUpdate() != 1) {
+			throw new ExcepcionBaseDatos(ExcepcionBaseDatos.MENSAJE_EXCEPCION_EJECUTA_INSTRUCCION);
+		}
+	}
+
+	/**
+	 * Verifica que cada instruccin del lote haya afectado exactamente una fila.
+	 *
+	 * @param filasAfectadas
+	 *            Recibe el nmero de filas afectadas por cada instruccin.
+	 * @return <tt>true</tt> si todas las instrucciones afectaron una fila,
+	 *         <tt>false</tt> en caso contrario.
+	 */
+	private boolean verificarFilas(int[] filasAfectadas) {
+		for (int filas : filasAfectadas) {
+			if (filas != 1 && filas != PreparedStatement.SUCCESS_NO_INFO) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Deshace la transaccin en curso.
+	 */
+	private void deshacer() {
+		try {
+			conexion.rollback();
+		} catch (SQLException e) {
+
+		}
+	}
+
+	/**
+	 * Vaca las operaciones agregadas para poder reutilizar la ronda.
+	 */
+	private void limpiar() {
+		ciclos.clear();
+		encuentros.clear();
+		ciclosEncuentros.clear();
+		resultadosEncuentros.clear();
+		ciclosResultados.clear();
+		resultadosParticipantes.clear();
+		lugaresParticipantes.clear();
+		calendario = null;
+		ciclosCalendario = 0;
+		llave = null;
+		numeroCiclos = SIN_NUMERO_CICLOS;
+		cicloActual = SIN_CICLO_ACTUAL;
+	}
+}
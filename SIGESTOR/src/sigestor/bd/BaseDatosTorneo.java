@@ -1,6 +1,7 @@
 package sigestor.bd;
 
 import java.io.File;
+import java.nio.ByteBuffer;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.text.ParseException;
@@ -8,6 +9,8 @@ import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
 
+import sigestor.dominio.CalendarioBerger;
+import sigestor.dominio.Llave;
 import sigestor.dominio.Personalizacion;
 import sigestor.dominio.Torneo;
 import sigestor.dominio.TorneoEliminacionDirecta;
@@ -18,7 +21,7 @@ import sigestor.excepcion.*;
 /**
  * Sirve para manejar la base datos general del torneo.
  * 
- * @version 04/04/2023
+ * @version 18/10/2026
  * 
  * @author Ricky Didier Peralta Reyes
  * @author Uriel Romeo Cruz Cortes
@@ -38,6 +41,10 @@ public class BaseDatosTorneo extends BaseDatos {
 	/**
 	 * Permite validar si existe el archivo de la base de datos y adems que existan
 	 * todas las tablas correspondientes, en caso contrario crea la base de datos.
+	 * Despus actualiza el esquema del archivo a la versin actual del sistema.
+	 * La validacin se realiza una sola vez por archivo mientras ste no cambie,
+	 * de acuerdo a <code>RegistroArchivosValidados</code>; antes de revisarlo se
+	 * actualiza el sello con las escrituras pendientes del propio sistema.
 	 * 
 	 * @param nombreArchivo
 	 *            Nombre del archivo de la base de datos.
@@ -45,15 +52,21 @@ public class BaseDatosTorneo extends BaseDatos {
 	 *             Lanza la excepcin si no se pudo realizar la conexin.
 	 * @throws ExcepcionBaseDatosTorneo
 	 *             Lanza la excepcin si ocurre un error al validar la existencia
-	 *             del archivo y al validar las tablas o si ocurre un error al crear
-	 *             la base de datos.
+	 *             del archivo y al validar las tablas, si ocurre un error al crear
+	 *             la base de datos o al actualizar su esquema.
 	 *
 	 */
 	public BaseDatosTorneo(String nombreArchivo) throws ExcepcionBaseDatos, ExcepcionBaseDatosTorneo {
 		super(nombreArchivo);
-		File archivo = new File(getNombreArchivo());
-		if (!archivo.exists() || !validarTablas()) {
-			crearBaseDatos();
+		actualizarSello();
+		if (!RegistroArchivosValidados.estaValidado(getNombreArchivo())) {
+			long inicio = System.nanoTime();
+			File archivo = new File(getNombreArchivo());
+			if (!archivo.exists() || !validarTablas()) {
+				crearBaseDatos();
+			}
+			new BaseDatosEsquema(getNombreArchivo()).actualizarEsquema();
+			RegistroArchivosValidados.registrar(getNombreArchivo(), System.nanoTime() - inicio);
 		}
 	}
 
@@ -189,10 +202,9 @@ public class BaseDatosTorneo extends BaseDatos {
 		Date dateFechaFinalTorneo = torneo.getFechaFinalTorneo();
 		String cadenaFechaFinal = formato.format(dateFechaFinalTorneo);
 		realizarConexion();
-		int filasAfectadas = realizarAccion("INSERT INTO datosGenerales VALUES ('" + torneo.getNombreTorneo() + "', '"
-				+ torneo.getNombreOrganizador() + "', '" + cadenaFechaInicial + "', '" + cadenaFechaFinal + "', '"
-				+ torneo.getTipoTorneo() + "', " + torneo.getCicloActual() + ", '" + torneo.getDescripcionTorneo()
-				+ "')");
+		int filasAfectadas = realizarAccion("INSERT INTO datosGenerales VALUES (?, ?, ?, ?, ?, ?, ?)",
+				torneo.getNombreTorneo(), torneo.getNombreOrganizador(), cadenaFechaInicial, cadenaFechaFinal,
+				torneo.getTipoTorneo(), torneo.getCicloActual(), torneo.getDescripcionTorneo());
 		cerrarConexion();
 		if (filasAfectadas != 1) {
 			throw new ExcepcionBaseDatosTorneo(ExcepcionBaseDatosTorneo.MENSAJE_EXCEPCION_INSERTA_DATOS_GENERALES
@@ -222,11 +234,10 @@ public class BaseDatosTorneo extends BaseDatos {
 		String cadenaFechaFinal = formato.format(dateFechaFinalTorneo);
 
 		realizarConexion();
-		int filasAfectadas = realizarAccion("UPDATE datosGenerales SET nombreTorneo = '" + torneo.getNombreTorneo()
-				+ "', nombreOrganizador = '" + torneo.getNombreOrganizador() + "', fechaInicioTorneo = '"
-				+ cadenaFechaInicial + "', fechaFinalTorneo = '" + cadenaFechaFinal + "', cicloActual = "
-				+ torneo.getCicloActual() + ", tipoTorneo = '" + torneo.getTipoTorneo() + "', descripcion = '"
-				+ torneo.getDescripcionTorneo() + "'");
+		int filasAfectadas = realizarAccion(
+				"UPDATE datosGenerales SET nombreTorneo = ?, nombreOrganizador = ?, fechaInicioTorneo = ?, fechaFinalTorneo = ?, cicloActual = ?, tipoTorneo = ?, descripcion = ?",
+				torneo.getNombreTorneo(), torneo.getNombreOrganizador(), cadenaFechaInicial, cadenaFechaFinal,
+				torneo.getCicloActual(), torneo.getTipoTorneo(), torneo.getDescripcionTorneo());
 		cerrarConexion();
 		if (filasAfectadas != 1) {
 			throw new ExcepcionBaseDatosTorneo(ExcepcionBaseDatosTorneo.MENSAJE_EXCEPCION_ACTUALIZA_DATOS_GENERALES
@@ -248,7 +259,7 @@ public class BaseDatosTorneo extends BaseDatos {
 	 */
 	public void actualizarCicloActual(Torneo torneo) throws ExcepcionBaseDatos, ExcepcionBaseDatosTorneo {
 		realizarConexion();
-		int filasAfectadas = realizarAccion("UPDATE datosGenerales SET cicloActual = " + torneo.getCicloActual());
+		int filasAfectadas = realizarAccion("UPDATE datosGenerales SET cicloActual = ?", torneo.getCicloActual());
 		cerrarConexion();
 		if (filasAfectadas != 1) {
 			throw new ExcepcionBaseDatosTorneo(ExcepcionBaseDatosTorneo.MENSAJE_EXCEPCION_ACTUALIZA_CICLO_ACTUAL_PARTE_1
@@ -260,10 +271,11 @@ public class BaseDatosTorneo extends BaseDatos {
 	}
 
 	/**
-	 * Obtiene el nmero de ciclos del torneo Suizo de la base de datos.
+	 * Obtiene el nmero de ciclos y el sistema de emparejamiento del torneo Suizo
+	 * de la base de datos.
 	 * 
 	 * @return Regresa un objeto <code>TorneoSuizo</code> que contiene el nmero de
-	 *         ciclos.
+	 *         ciclos y el sistema de emparejamiento.
 	 * @throws ExcepcionBaseDatos
 	 *             Lanza la excepcin si no se pudo realizar la conexin.
 	 * @throws ExcepcionBaseDatosTorneo
@@ -276,6 +288,9 @@ public class BaseDatosTorneo extends BaseDatos {
 			ResultSet resultado = realizarConsulta("SELECT *FROM suizo");
 			TorneoSuizo s = new TorneoSuizo(null);
 			s.setNumeroCiclos(resultado.getInt("numeroCiclos"));
+			if (resultado.getString("sistemaEmparejamiento") != null) {
+				s.setSistemaEmparejamiento(resultado.getString("sistemaEmparejamiento"));
+			}
 			return s;
 		} catch (SQLException e) {
 			throw new ExcepcionBaseDatosTorneo(ExcepcionBaseDatosTorneo.MENSAJE_EXCEPCION_CONSULTA_TORNEO_SUIZO
@@ -314,6 +329,41 @@ public class BaseDatosTorneo extends BaseDatos {
 		}
 	}
 
+	/**
+	 * Obtiene el orden de los participantes en el calendario de Berger del
+	 * torneo Round Robin.
+	 * 
+	 * @return Regresa el nmero de cada participante en el orden del
+	 *         calendario, <code>null</code> si el torneo no tiene un orden
+	 *         guardado.
+	 * @throws ExcepcionBaseDatos
+	 *             Lanza la excepcin si no se pudo realizar la conexin.
+	 * @throws ExcepcionBaseDatosTorneo
+	 *             Lanza la excepcin si ocurre un error al obtener el orden de la
+	 *             tabla <code>roundRobin</code> de la base de datos.
+	 */
+	public int[] obtenerOrdenCalendario() throws ExcepcionBaseDatos, ExcepcionBaseDatosTorneo {
+		try {
+			realizarConexion();
+			ResultSet resultado = realizarConsulta("SELECT ordenCalendario FROM roundRobin");
+			if (!resultado.next()) {
+				return null;
+			}
+			byte[] bytes = resultado.getBytes("ordenCalendario");
+			if (bytes == null) {
+				return null;
+			}
+			int[] orden = new int[bytes.length / Integer.BYTES];
+			ByteBuffer.wrap(bytes).asIntBuffer().get(orden);
+			return orden;
+		} catch (SQLException e) {
+			throw new ExcepcionBaseDatosTorneo(ExcepcionBaseDatosTorneo.MENSAJE_EXCEPCION_CONSULTA_TORNEO_ROUND_ROBIN
+					+ ExcepcionBaseDatosTorneo.MENSAJE_EXCEPCION_SOLUCION);
+		} finally {
+			cerrarConexion();
+		}
+	}
+
 	/**
 	 * Obtiene el nmero de ciclos y el subtipo (simple o doble) del torneo
 	 * Eliminacin directa de la base de datos.
@@ -349,8 +399,118 @@ public class BaseDatosTorneo extends BaseDatos {
 	}
 
 	/**
-	 * Inserta el nmero de ciclos en la tabla <code>suizo</code> de la base de
-	 * datos.
+	 * Obtiene la llave guardada del torneo Eliminacin directa.
+	 * 
+	 * @return Regresa la llave del torneo, <code>null</code> si el torneo no
+	 *         tiene una llave guardada.
+	 * @throws ExcepcionBaseDatos
+	 *             Lanza la excepcin si no se pudo realizar la conexin.
+	 * @throws ExcepcionBaseDatosTorneo
+	 *             Lanza la excepcin si ocurre un error al obtener la llave de la
+	 *             tabla <code>eliminacionDirecta</code> de la base de datos.
+	 */
+	public Llave obtenerLlave() throws ExcepcionBaseDatos, ExcepcionBaseDatosTorneo {
+		try {
+			realizarConexion();
+			ResultSet resultado = realizarConsulta("SELECT llave FROM eliminacionDirecta");
+			if (!resultado.next()) {
+				return null;
+			}
+			byte[] bytes = resultado.getBytes("llave");
+			if (bytes == null) {
+				return null;
+			}
+			int[] nodos = new int[bytes.length / Integer.BYTES];
+			ByteBuffer.wrap(bytes).asIntBuffer().get(nodos);
+			return new Llave(nodos);
+		} catch (SQLException e) {
+			throw new ExcepcionBaseDatosTorneo(ExcepcionBaseDatosTorneo.MENSAJE_EXCEPCION_CONSULTA_LLAVE
+					+ ExcepcionBaseDatosTorneo.MENSAJE_EXCEPCION_SOLUCION);
+		} finally {
+			cerrarConexion();
+		}
+	}
+
+	/**
+	 * Guarda la llave del torneo Eliminacin directa.
+	 * 
+	 * @param llave
+	 *            Recibe la llave del torneo.
+	 * @throws ExcepcionBaseDatos
+	 *             Lanza la excepcin si no se pudo realizar la conexin.
+	 * @throws ExcepcionBaseDatosTorneo
+	 *             Lanza la excepcin si ocurre un error al guardar la llave en la
+	 *             tabla <code>eliminacionDirecta</code> de la base de datos.
+	 */
+	public void actualizarLlave(Llave llave) throws ExcepcionBaseDatos, ExcepcionBaseDatosTorneo {
+		realizarConexion();
+		int filasAfectadas = realizarAccion("UPDATE eliminacionDirecta SET llave = ?", convertirLlave(llave));
+		cerrarConexion();
+		if (filasAfectadas != 1) {
+			throw new ExcepcionBaseDatosTorneo(ExcepcionBaseDatosTorneo.MENSAJE_EXCEPCION_ACTUALIZA_LLAVE
+					+ ExcepcionBaseDatosTorneo.MENSAJE_EXCEPCION_SOLUCION);
+		}
+	}
+
+	/**
+	 * Guarda el nmero de ciclos del torneo Eliminacin directa, que se reduce
+	 * cuando la final de reinicio no hace falta.
+	 * 
+	 * @param numeroCiclos
+	 *            Recibe el nmero de ciclos del torneo.
+	 * @throws ExcepcionBaseDatos
+	 *             Lanza la excepcin si no se pudo realizar la conexin.
+	 * @throws ExcepcionBaseDatosTorneo
+	 *             Lanza la excepcin si ocurre un error al guardar el nmero de
+	 *             ciclos en la tabla <code>eliminacionDirecta</code> de la base
+	 *             de datos.
+	 */
+	public void actualizarNumeroCiclosEliminacionDirecta(int numeroCiclos)
+			throws ExcepcionBaseDatos, ExcepcionBaseDatosTorneo {
+		realizarConexion();
+		int filasAfectadas = realizarAccion("UPDATE eliminacionDirecta SET numeroCiclos = ?", numeroCiclos);
+		cerrarConexion();
+		if (filasAfectadas != 1) {
+			throw new ExcepcionBaseDatosTorneo(
+					ExcepcionBaseDatosTorneo.MENSAJE_EXCEPCION_ACTUALIZA_CICLOS_ELIMINACION_DIRECTA
+							+ ExcepcionBaseDatosTorneo.MENSAJE_EXCEPCION_SOLUCION);
+		}
+	}
+
+	/**
+	 * Convierte la llave en los bytes que se guardan en la columna
+	 * <code>llave</code>, cuatro por casilla.
+	 * 
+	 * @param llave
+	 *            Recibe la llave del torneo.
+	 * @return Regresa los bytes de la llave.
+	 */
+	static byte[] convertirLlave(Llave llave) {
+		int[] nodos = llave.obtenerNodos();
+		ByteBuffer bytes = ByteBuffer.allocate(nodos.length * Integer.BYTES);
+		bytes.asIntBuffer().put(nodos);
+		return bytes.array();
+	}
+
+	/**
+	 * Convierte el orden de los participantes del calendario en los bytes que se
+	 * guardan en la columna <code>ordenCalendario</code>, cuatro por
+	 * participante.
+	 * 
+	 * @param calendario
+	 *            Recibe el calendario del torneo Round Robin.
+	 * @return Regresa los bytes del orden.
+	 */
+	static byte[] convertirOrdenCalendario(CalendarioBerger calendario) {
+		int[] orden = calendario.obtenerOrden();
+		ByteBuffer bytes = ByteBuffer.allocate(orden.length * Integer.BYTES);
+		bytes.asIntBuffer().put(orden);
+		return bytes.array();
+	}
+
+	/**
+	 * Inserta el nmero de ciclos y el sistema de emparejamiento en la tabla
+	 * <code>suizo</code> de la base de datos.
 	 * 
 	 * @param torneoSuizo
 	 *            Contiene los datos generales del torneo suizo.
@@ -362,7 +522,8 @@ public class BaseDatosTorneo extends BaseDatos {
 	 */
 	public void insertarTorneoSuizo(TorneoSuizo torneoSuizo) throws ExcepcionBaseDatos, ExcepcionBaseDatosTorneo {
 		realizarConexion();
-		int resultado = realizarAccion("INSERT INTO suizo VALUES(" + torneoSuizo.getNumeroCiclos() + ")");
+		int resultado = realizarAccion("INSERT INTO suizo(numeroCiclos, sistemaEmparejamiento) VALUES(?, ?)",
+				torneoSuizo.getNumeroCiclos(), torneoSuizo.getSistemaEmparejamiento());
 		cerrarConexion();
 		if (resultado != 1) {
 			throw new ExcepcionBaseDatosTorneo(ExcepcionBaseDatosTorneo.MENSAJE_EXCEPCION_INSERTA_TORNEO_SUIZO
@@ -384,8 +545,8 @@ public class BaseDatosTorneo extends BaseDatos {
 	 */
 	public void insertarTorneoRoundRobin(TorneoRoundRobin robin) throws ExcepcionBaseDatos, ExcepcionBaseDatosTorneo {
 		realizarConexion();
-		int valor = realizarAccion("INSERT INTO roundRobin (numeroCiclos, numeroVueltas) VALUES("
-				+ robin.getNumeroCiclos() + "," + robin.getNumeroVueltas() + ")");
+		int valor = realizarAccion("INSERT INTO roundRobin (numeroCiclos, numeroVueltas) VALUES(?, ?)",
+				robin.getNumeroCiclos(), robin.getNumeroVueltas());
 		cerrarConexion();
 		if (valor != 1) {
 			throw new ExcepcionBaseDatosTorneo(ExcepcionBaseDatosTorneo.MENSAJE_EXCEPCION_INSERTA_TORNEO_ROUND_ROBIN
@@ -409,8 +570,8 @@ public class BaseDatosTorneo extends BaseDatos {
 	public void insertarTorneoEliminacionDirecta(TorneoEliminacionDirecta eliminacionDirecta)
 			throws ExcepcionBaseDatos, ExcepcionBaseDatosTorneo {
 		realizarConexion();
-		int valor = realizarAccion("INSERT INTO eliminacionDirecta (numeroCiclos, esSimple) VALUES("
-				+ eliminacionDirecta.getNumeroCiclos() + "," + eliminacionDirecta.getTipoEliminacion() + ")");
+		int valor = realizarAccion("INSERT INTO eliminacionDirecta (numeroCiclos, esSimple) VALUES(?, ?)",
+				eliminacionDirecta.getNumeroCiclos(), eliminacionDirecta.getTipoEliminacion());
 		cerrarConexion();
 		if (valor != 1) {
 			throw new ExcepcionBaseDatosTorneo(
@@ -478,4 +639,51 @@ public class BaseDatosTorneo extends BaseDatos {
 							+ ExcepcionBaseDatosTorneo.MENSAJE_EXCEPCION_SOLUCION);
 		}
 	}
+
+	/**
+	 * Borra todo el avance del torneo en una sola transaccin: reinicia los
+	 * resultados de los participantes, elimina los ciclos, los encuentros y los
+	 * datos del algoritmo, y regresa el ciclo actual a 0. Si alguna instruccin
+	 * falla la base de datos queda sin cambios.
+	 * 
+	 * @param torneo
+	 *            El torneo que se cancela.
+	 * @throws ExcepcionBaseDatos
+	 *             Lanza la excepcin si no se pudo realizar la conexin.
+	 * @throws ExcepcionBaseDatosTorneo
+	 *             Lanza la excepcin si ocurre un error al borrar el avance del
+	 *             torneo en la base de datos.
+	 */
+	public void cancelarAvanceTorneo(Torneo torneo) throws ExcepcionBaseDatos, ExcepcionBaseDatosTorneo {
+		realizarConexion();
+		try {
+			conexion.setAutoCommit(false);
+			int participantes = realizarAccion(BaseDatosParticipante.CANCELA_AVANCE_PARTICIPANTES);
+			realizarAccion("DELETE FROM ciclo WHERE numeroCiclo > 0");
+			realizarAccion("DELETE FROM encuentro WHERE numeroEncuentro > 0");
+			int datosGenerales = realizarAccion("UPDATE datosGenerales SET cicloActual = ?", 0);
+			realizarAccion("DELETE FROM roundRobin WHERE numeroCiclos > 0");
+			realizarAccion("DELETE FROM suizo WHERE numeroCiclos > 0");
+			realizarAccion("DELETE FROM eliminacionDirecta WHERE numeroCiclos > 0");
+			if (participantes != torneo.getListaParticipantes().size() || datosGenerales != 1) {
+				throw new ExcepcionBaseDatos(ExcepcionBaseDatos.MENSAJE_EXCEPCION_EJECUTA_INSTRUCCION);
+			}
+			conexion.commit();
+		} catch (SQLException | ExcepcionBaseDatos e) {
+			try {
+				conexion.rollback();
+			} catch (SQLException e1) {
+
+			}
+			throw new ExcepcionBaseDatosTorneo(ExcepcionBaseDatosTorneo.MENSAJE_EXCEPCION_CANCELA_TORNEO
+					+ ExcepcionBaseDatosTorneo.MENSAJE_EXCEPCION_SOLUCION);
+		} finally {
+			try {
+				conexion.setAutoCommit(true);
+			} catch (SQLException e) {
+
+			}
+			cerrarConexion();
+		}
+	}
 }
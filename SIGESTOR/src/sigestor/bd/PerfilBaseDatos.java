@@ -0,0 +1,197 @@
+package sigestor.bd;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Sirve para configurar el comportamiento de SQLite en las conexiones a los
+ * archivos .torn mediante instrucciones <code>PRAGMA</code>.
+ * <p>
+ * Las caractersticas de la clase <code>PerfilBaseDatos</code> son:
+ * <ul>
+ * <li><code>PROPIEDAD_PERFIL</code> para indicar la propiedad del sistema con
+ * la que se elige el perfil al iniciar.</li>
+ * <li><code>RENDIMIENTO</code> para el perfil con diario WAL, sincronizacin
+ * normal, cach grande y memoria mapeada.</li>
+ * <li><code>PREDETERMINADO</code> para el perfil con los valores
+ * predeterminados del controlador.</li>
+ * <li><code>modoDiario</code> para guardar el modo del diario de
+ * transacciones.</li>
+ * <li><code>sincronizacion</code> para guardar el nivel de sincronizacin con
+ * el disco.</li>
+ * <li><code>tamanoCache</code> para guardar el tamao de la cach de pginas, si
+ * es negativo se expresa en KiB.</li>
+ * <li><code>tamanoMapeo</code> para guardar el nmero de bytes del archivo que
+ * se leen mediante memoria mapeada.</li>
+ * <li><code>modoArchivo</code> para indicar si al cerrar el torneo se vaca el
+ * diario WAL y se regresa al diario de un solo archivo, de modo que el archivo
+ * .torn se pueda copiar sin sus archivos auxiliares.</li>
+ * </ul>
+ *
+ * @version 18/10/2026
+ */
+public class PerfilBaseDatos {
+
+	/**
+	 * Propiedad del sistema con la que se elige el perfil al iniciar, acepta
+	 * <code>rendimiento</code> o <code>predeterminado</code>.
+	 */
+	public static final String PROPIEDAD_PERFIL = "sigestor.perfilBaseDatos";
+	/**
+	 * Perfil con diario WAL, sincronizacin normal, cach de 16 MiB y 256 MiB de
+	 * memoria mapeada, con modo archivo al cerrar.
+	 */
+	public static final PerfilBaseDatos RENDIMIENTO = new PerfilBaseDatos("WAL", "NORMAL", -16384, 268435456L,
+			true);
+	/**
+	 * Perfil con los valores predeterminados del controlador.
+	 */
+	public static final PerfilBaseDatos PREDETERMINADO = new PerfilBaseDatos("DELETE", "FULL", -2000, 0L, false);
+
+	/**
+	 * Modo del diario de transacciones.
+	 */
+	private String modoDiario;
+	/**
+	 * Nivel de sincronizacin con el disco.
+	 */
+	private String sincronizacion;
+	/**
+	 * Tamao de la cach de pginas, si es negativo se expresa en KiB.
+	 */
+	private int tamanoCache;
+	/**
+	 * Nmero de bytes del archivo que se leen mediante memoria mapeada.
+	 */
+	private long tamanoMapeo;
+	/**
+	 * Indica si al cerrar el torneo se regresa al diario de un solo archivo.
+	 */
+	private boolean modoArchivo;
+
+	/**
+	 * Permite crear un perfil con los valores recibidos.
+	 *
+	 * @param modoDiario
+	 *            Modo del diario de transacciones (<code>WAL</code>,
+	 *            <code>DELETE</code>, <code>TRUNCATE</code>...).
+	 * @param sincronizacion
+	 *            Nivel de sincronizacin (<code>OFF</code>, <code>NORMAL</code>,
+	 *            <code>FULL</code>).
+	 * @param tamanoCache
+	 *            Tamao de la cach de pginas, si es negativo se expresa en KiB.
+	 * @param tamanoMapeo
+	 *            Nmero de bytes que se leen mediante memoria mapeada.
+	 * @param modoArchivo
+	 *            Indica si al cerrar el torneo se regresa al diario de un solo
+	 *            archivo.
+	 */
+	public PerfilBaseDatos(String modoDiario, String sincronizacion, int tamanoCache, long tamanoMapeo,
+			boolean modoArchivo) {
+		this.modoDiario = modoDiario;
+		this.sincronizacion = sincronizacion;
+		this.tamanoCache = tamanoCache;
+		this.tamanoMapeo = tamanoMapeo;
+		this.modoArchivo = modoArchivo;
+	}
+
+	/**
+	 * Devuelve el perfil indicado en la propiedad del sistema
+	 * <code>PROPIEDAD_PERFIL</code>, si no se indica regresa
+	 * <code>RENDIMIENTO</code>.
+	 *
+	 * @return Regresa el perfil elegido al iniciar el sistema.
+	 */
+	public static PerfilBaseDatos obtenerPerfilSistema() {
+		if ("predeterminado".equalsIgnoreCase(System.getProperty(PROPIEDAD_PERFIL))) {
+			return PREDETERMINADO;
+		}
+		return RENDIMIENTO;
+	}
+
+	/**
+	 * Devuelve el modo del diario de transacciones.
+	 *
+	 * @return Regresa el modo del diario de transacciones.
+	 */
+	public String getModoDiario() {
+		return modoDiario;
+	}
+
+	/**
+	 * Devuelve el nivel de sincronizacin con el disco.
+	 *
+	 * @return Regresa el nivel de sincronizacin.
+	 */
+	public String getSincronizacion() {
+		return sincronizacion;
+	}
+
+	/**
+	 * Devuelve el tamao de la cach de pginas.
+	 *
+	 * @return Regresa el tamao de la cach, si es negativo se expresa en KiB.
+	 */
+	public int getTamanoCache() {
+		return tamanoCache;
+	}
+
+	/**
+	 * Devuelve el nmero de bytes que se leen mediante memoria mapeada.
+	 *
+	 * @return Regresa el tamao de la memoria mapeada en bytes.
+	 */
+	public long getTamanoMapeo() {
+		return tamanoMapeo;
+	}
+
+	/**
+	 * Indica si al cerrar el torneo se regresa al diario de un solo archivo.
+	 *
+	 * @return <tt>true</tt> si el perfil utiliza el modo archivo,
+	 *         <tt>false</tt> en caso contrario.
+	 */
+	public boolean isModoArchivo() {
+		return modoArchivo;
+	}
+
+	/**
+	 * Aplica el perfil a una conexin recin abierta.
+	 *
+	 * @param conexion
+	 *            La conexin a la base de datos.
+	 * @throws SQLException
+	 *             Lanza la excepcin si no se pudo aplicar alguna instruccin
+	 *             <code>PRAGMA</code>.
+	 */
+	void aplicar(Connection conexion) throws SQLException {
+		try (Statement instruccion = conexion.createStatement()) {
+			instruccion.execute("PRAGMA journal_mode = " + modoDiario);
+			instruccion.execute("PRAGMA synchronous = " + sincronizacion);
+			instruccion.execute("PRAGMA cache_size = " + tamanoCache);
+			instruccion.execute("PRAGMA mmap_size = " + tamanoMapeo);
+		}
+	}
+
+	/**
+	 * Prepara el archivo para cerrarse cuando el perfil utiliza el modo
+	 * archivo: vaca el diario WAL en el archivo principal y regresa al diario
+	 * de un solo archivo, de modo que el archivo .torn sea portable.
+	 *
+	 * @param conexion
+	 *            La conexin a la base de datos, sin instrucciones abiertas.
+	 * @throws SQLException
+	 *             Lanza la excepcin si no se pudo vaciar el diario o cambiar su
+	 *             modo.
+	 */
+	void archivar(Connection conexion) throws SQLException {
+		if (!modoArchivo) {
+			return;
+		}
+		try (Statement instruccion = conexion.createStatement()) {
+			instruccion.execute("PRAGMA wal_checkpoint(TRUNCATE)");
+			instruccion.execute("PRAGMA journal_mode = DELETE");
+		}
+	}
+}
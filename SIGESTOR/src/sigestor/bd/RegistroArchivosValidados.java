@@ -0,0 +1,163 @@
+package sigestor.bd;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+
+/**
+ * Sirve para recordar durante toda la ejecucin del sistema qu archivos .torn
+ * ya fueron validados, de modo que la validacin de tablas y la actualizacin
+ * del esquema se realicen una sola vez por torneo abierto y no cada vez que se
+ * crea una <code>BaseDatosTorneo</code>.
+ * <p>
+ * Un archivo se considera validado mientras su sello (fecha de modificacin y
+ * tamao del archivo y de su diario WAL) sea el mismo que tena al
+ * registrarse. Las escrituras del propio sistema actualizan el sello una sola
+ * vez antes de la siguiente revisin, por lo que solo un cambio externo al
+ * archivo provoca una nueva validacin.
+ * <p>
+ * Las caractersticas de la clase <code>RegistroArchivosValidados</code> son:
+ * <ul>
+ * <li><code>archivosValidados</code> para guardar el sello de cada archivo
+ * validado de acuerdo a su ruta cannica.</li>
+ * <li><code>tiempoValidacion</code> para guardar el tiempo total, en
+ * nanosegundos, empleado en validar archivos.</li>
+ * <li><code>numeroValidaciones</code> para guardar el nmero de validaciones
+ * realizadas.</li>
+ * </ul>
+ *
+ * @version 18/10/2026
+ */
+public class RegistroArchivosValidados {
+
+	/**
+	 * Sello de cada archivo validado de acuerdo a su ruta cannica.
+	 */
+	private static final HashMap<String, String> archivosValidados = new HashMap<String, String>();
+	/**
+	 * Tiempo total, en nanosegundos, empleado en validar archivos.
+	 */
+	private static long tiempoValidacion = 0;
+	/**
+	 * Nmero de validaciones realizadas.
+	 */
+	private static int numeroValidaciones = 0;
+
+	/**
+	 * No se crean objetos de esta clase.
+	 */
+	private RegistroArchivosValidados() {
+	}
+
+	/**
+	 * Indica si el archivo recibido ya fue validado y no ha cambiado desde
+	 * entonces.
+	 *
+	 * @param nombreArchivo
+	 *            Nombre del archivo de la base de datos.
+	 * @return <tt>true</tt> si el archivo ya fue validado y conserva el mismo
+	 *         sello, <tt>false</tt> en caso contrario.
+	 */
+	public static synchronized boolean estaValidado(String nombreArchivo) {
+		File archivo = new File(nombreArchivo);
+		String sello = archivosValidados.get(obtenerLlave(archivo));
+		return sello != null && sello.equals(obtenerSello(archivo));
+	}
+
+	/**
+	 * Registra el archivo recibido como validado con su sello actual y suma el
+	 * tiempo que tom validarlo.
+	 *
+	 * @param nombreArchivo
+	 *            Nombre del archivo de la base de datos.
+	 * @param tiempo
+	 *            Tiempo, en nanosegundos, que tom la validacin.
+	 */
+	public static synchronized void registrar(String nombreArchivo, long tiempo) {
+		File archivo = new File(nombreArchivo);
+		archivosValidados.put(obtenerLlave(archivo), obtenerSello(archivo));
+		tiempoValidacion += tiempo;
+		numeroValidaciones++;
+	}
+
+	/**
+	 * Actualiza el sello del archivo recibido despus de una escritura del
+	 * sistema, solo si el archivo ya estaba validado.
+	 *
+	 * @param nombreArchivo
+	 *            Nombre del archivo de la base de datos.
+	 */
+	public static synchronized void actualizarSello(String nombreArchivo) {
+		File archivo = new File(nombreArchivo);
+		String llave = obtenerLlave(archivo);
+		if (archivosValidados.containsKey(llave)) {
+			archivosValidados.put(llave, obtenerSello(archivo));
+		}
+	}
+
+	/**
+	 * Retira el archivo recibido del registro, de modo que la prxima vez que
+	 * se abra se vuelva a validar.
+	 *
+	 * @param nombreArchivo
+	 *            Nombre del archivo de la base de datos.
+	 */
+	public static synchronized void olvidar(String nombreArchivo) {
+		archivosValidados.remove(obtenerLlave(new File(nombreArchivo)));
+	}
+
+	/**
+	 * Retira todos los archivos del registro.
+	 */
+	public static synchronized void olvidarTodos() {
+		archivosValidados.clear();
+	}
+
+	/**
+	 * Devuelve el tiempo total empleado en validar archivos.
+	 *
+	 * @return Regresa el tiempo total de validacin en nanosegundos.
+	 */
+	public static synchronized long getTiempoValidacion() {
+		return tiempoValidacion;
+	}
+
+	/**
+	 * Devuelve el nmero de validaciones realizadas.
+	 *
+	 * @return Regresa el nmero de validaciones realizadas.
+	 */
+	public static synchronized int getNumeroValidaciones() {
+		return numeroValidaciones;
+	}
+
+	/**
+	 * Obtiene la ruta cannica del archivo, si no es posible obtenerla regresa
+	 * la ruta absoluta.
+	 *
+	 * @param archivo
+	 *            Archivo de la base de datos.
+	 * @return Regresa la llave con la que se registra el archivo.
+	 */
+	private static String obtenerLlave(File archivo) {
+		try {
+			return archivo.getCanonicalPath();
+		} catch (IOException e) {
+			return archivo.getAbsolutePath();
+		}
+	}
+
+	/**
+	 * Obtiene el sello del archivo formado por su fecha de modificacin y su
+	 * tamao, junto con los de su diario WAL, porque con el perfil de
+	 * rendimiento las escrituras llegan primero al diario.
+	 *
+	 * @param archivo
+	 *            Archivo de la base de datos.
+	 * @return Regresa el sello del archivo.
+	 */
+	private static String obtenerSello(File archivo) {
+		File diario = new File(archivo.getPath() + "-wal");
+		return archivo.lastModified() + ":" + archivo.length() + ":" + diario.lastModified() + ":" + diario.length();
+	}
+}
@@ -0,0 +1,301 @@
+package sigestor.bd;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import sigestor.excepcion.ExcepcionBaseDatos;
+
+/**
+ * Sirve para mantener abierta una sola conexin por cada archivo .torn durante
+ * todo el tiempo en que el torneo permanece abierto, de modo que todas las
+ * clases <code>BaseDatos</code> del mismo archivo la compartan.
+ * <p>
+ * Las caractersticas de la clase <code>SesionBaseDatos</code> son:
+ * <ul>
+ * <li><code>sesiones</code> para guardar las sesiones abiertas de acuerdo a la
+ * ruta absoluta del archivo.</li>
+ * <li><code>controladorCargado</code> para saber si el controlador de SQLite
+ * ya fue cargado.</li>
+ * <li><code>perfil</code> para guardar el perfil de SQLite que se aplica a cada
+ * conexin al abrirse.</li>
+ * <li><code>nombreArchivo</code> para guardar el nombre del archivo de la base
+ * de datos.</li>
+ * <li><code>conexion</code> para guardar la conexin compartida a la base de
+ * datos.</li>
+ * <li><code>instrucciones</code> para guardar las instrucciones preparadas de
+ * la conexin de acuerdo a su SQL.</li>
+ * <li><code>escrituraSinSello</code> para saber si hubo escrituras desde la
+ * ltima vez que se actualiz el sello del archivo.</li>
+ * </ul>
+ *
+ * @version 18/10/2026
+ */
+public class SesionBaseDatos {
+
+	/**
+	 * Nombre del controlador de SQLite.
+	 */
+	private static final String CONTROLADOR = "org.sqlite.JDBC";
+	/**
+	 * Sesiones abiertas de acuerdo a la ruta absoluta del archivo.
+	 */
+	private static final HashMap<String, SesionBaseDatos> sesiones = new HashMap<String, SesionBaseDatos>();
+	/**
+	 * Indica si el controlador de SQLite ya fue cargado.
+	 */
+	private static boolean controladorCargado = false;
+	/**
+	 * Perfil de SQLite que se aplica a cada conexin al abrirse.
+	 */
+	private static PerfilBaseDatos perfil = PerfilBaseDatos.obtenerPerfilSistema();
+	/**
+	 * Nombre del archivo de la base de datos.
+	 */
+	private String nombreArchivo;
+	/**
+	 * Conexin compartida a la base de datos.
+	 */
+	private Connection conexion;
+	/**
+	 * Instrucciones preparadas de la conexin de acuerdo a su SQL, se preparan
+	 * una sola vez por conexin.
+	 */
+	private HashMap<String, PreparedStatement> instrucciones;
+	/**
+	 * Perfil que se aplic a la conexin al abrirse.
+	 */
+	private PerfilBaseDatos perfilConexion;
+	/**
+	 * Indica si hubo escrituras desde la ltima vez que se actualiz el sello
+	 * del archivo.
+	 */
+	private volatile boolean escrituraSinSello;
+
+	/**
+	 * Permite crear una sesin sin abrir todava la conexin.
+	 *
+	 * @param nombreArchivo
+	 *            Nombre del archivo de la base de datos.
+	 */
+	private SesionBaseDatos(String nombreArchivo) {
+		this.nombreArchivo = nombreArchivo;
+		this.conexion = null;
+		this.instrucciones = new HashMap<String, PreparedStatement>();
+	}
+
+	/**
+	 * Devuelve la sesin del archivo recibido, si no existe la crea.
+	 *
+	 * @param nombreArchivo
+	 *            Nombre del archivo de la base de datos.
+	 * @return Regresa la sesin compartida del archivo.
+	 */
+	public static synchronized SesionBaseDatos obtenerSesion(String nombreArchivo) {
+		String llave = obtenerLlave(nombreArchivo);
+		SesionBaseDatos sesion = sesiones.get(llave);
+		if (sesion == null) {
+			sesion = new SesionBaseDatos(nombreArchivo);
+			sesiones.put(llave, sesion);
+		}
+		return sesion;
+	}
+
+	/**
+	 * Cierra la conexin del archivo recibido y la retira de las sesiones
+	 * abiertas, de modo que la prxima vez que se abra se vuelva a validar.
+	 *
+	 * @param nombreArchivo
+	 *            Nombre del archivo de la base de datos.
+	 * @throws ExcepcionBaseDatos
+	 *             Lanza la excepcin si ocurre un error al cerrar la conexin a
+	 *             la base de datos.
+	 */
+	public static synchronized void cerrarSesion(String nombreArchivo) throws ExcepcionBaseDatos {
+		SesionBaseDatos sesion = sesiones.remove(obtenerLlave(nombreArchivo));
+		RegistroArchivosValidados.olvidar(nombreArchivo);
+		if (sesion != null) {
+			sesion.cerrar();
+		}
+	}
+
+	/**
+	 * Cierra las conexiones de todas las sesiones abiertas, se utiliza al salir
+	 * del sistema. Si una sesin no se puede cerrar se reporta el archivo y se
+	 * contina con las dems.
+	 */
+	public static synchronized void cerrarSesiones() {
+		for (SesionBaseDatos sesion : new ArrayList<SesionBaseDatos>(sesiones.values())) {
+			try {
+				sesion.cerrar();
+			} catch (ExcepcionBaseDatos e) {
+				System.err.println(sesion.nombreArchivo);
+				e.printStackTrace();
+			}
+		}
+		sesiones.clear();
+		RegistroArchivosValidados.olvidarTodos();
+	}
+
+	/**
+	 * Devuelve el perfil de SQLite que se aplica a las conexiones.
+	 *
+	 * @return Regresa el perfil actual.
+	 */
+	public static synchronized PerfilBaseDatos getPerfil() {
+		return perfil;
+	}
+
+	/**
+	 * Cambia el perfil de SQLite, se aplica a las conexiones que se abran a
+	 * partir de ese momento.
+	 *
+	 * @param perfil
+	 *            El nuevo perfil.
+	 */
+	public static synchronized void setPerfil(PerfilBaseDatos perfil) {
+		SesionBaseDatos.perfil = perfil;
+	}
+
+	/**
+	 * Devuelve el nombre del archivo de la base de datos.
+	 *
+	 * @return Regresa el nombre del archivo de la base de datos.
+	 */
+	public String getNombreArchivo() {
+		return nombreArchivo;
+	}
+
+	/**
+	 * Devuelve la conexin compartida del archivo, la abre la primera vez que se
+	 * solicita o si fue cerrada y le aplica el perfil actual.
+	 *
+	 * @return Regresa la conexin abierta a la base de datos.
+	 * @throws ExcepcionBaseDatos
+	 *             Lanza la excepcin si ocurre un error al cargar el
+	 *             controlador de SQLite o si ocurre un error al conectarse a la
+	 *             base de datos.
+	 */
+	public synchronized Connection obtenerConexion() throws ExcepcionBaseDatos {
+		try {
+			if (conexion == null || conexion.isClosed()) {
+				cargarControlador();
+				instrucciones.clear();
+				conexion = DriverManager.getConnection("jdbc:sqlite:" + nombreArchivo);
+				perfilConexion = getPerfil();
+				perfilConexion.aplicar(conexion);
+			}
+			return conexion;
+		} catch (SQLException e) {
+			throw new ExcepcionBaseDatos(ExcepcionBaseDatos.MENSAJE_EXCEPCION_CONEXION_BD_PARTE_1 + nombreArchivo
+					+ ExcepcionBaseDatos.MENSAJE_EXCEPCION_CONEXION_BD_PARTE_2);
+		}
+	}
+
+	/**
+	 * Devuelve la instruccin preparada del SQL recibido, la prepara solo la
+	 * primera vez que se solicita en la conexin.
+	 *
+	 * @param sql
+	 *            La instruccin SQL con parmetros <code>?</code>.
+	 * @return Regresa la instruccin preparada.
+	 * @throws ExcepcionBaseDatos
+	 *             Lanza la excepcin si ocurre un error al conectarse a la base
+	 *             de datos.
+	 * @throws SQLException
+	 *             Lanza la excepcin si el SQL no se pudo preparar.
+	 */
+	public synchronized PreparedStatement obtenerInstruccion(String sql) throws ExcepcionBaseDatos, SQLException {
+		Connection conexionActual = obtenerConexion();
+		PreparedStatement instruccion = instrucciones.get(sql);
+		if (instruccion == null || instruccion.isClosed()) {
+			instruccion = conexionActual.prepareStatement(sql);
+			instrucciones.put(sql, instruccion);
+		}
+		return instruccion;
+	}
+
+	/**
+	 * Indica que se escribi en el archivo. El sello en
+	 * <code>RegistroArchivosValidados</code> no se actualiza en cada escritura,
+	 * sino una sola vez en <code>actualizarSello</code>.
+	 */
+	public void registrarEscritura() {
+		escrituraSinSello = true;
+	}
+
+	/**
+	 * Actualiza el sello del archivo en <code>RegistroArchivosValidados</code>
+	 * solo si hubo escrituras desde la ltima actualizacin, de modo que las
+	 * escrituras del propio sistema no provoquen una nueva validacin.
+	 */
+	public void actualizarSello() {
+		if (escrituraSinSello) {
+			escrituraSinSello = false;
+			RegistroArchivosValidados.actualizarSello(nombreArchivo);
+		}
+	}
+
+	/**
+	 * Cierra las instrucciones preparadas y la conexin compartida del archivo.
+	 * Si el perfil de la conexin utiliza el modo archivo, antes de cerrarla
+	 * vaca el diario WAL y regresa al diario de un solo archivo.
+	 *
+	 * @throws ExcepcionBaseDatos
+	 *             Lanza la excepcin si ocurre un error al cerrar la conexin a
+	 *             la base de datos.
+	 */
+	private synchronized void cerrar() throws ExcepcionBaseDatos {
+		try {
+			for (PreparedStatement instruccion : instrucciones.values()) {
+				instruccion.close();
+			}
+			if (conexion != null && !conexion.isClosed()) {
+				try {
+					perfilConexion.archivar(conexion);
+				} finally {
+					conexion.close();
+				}
+			}
+		} catch (SQLException e) {
+			throw new ExcepcionBaseDatos(ExcepcionBaseDatos.MENSAJE_EXCEPCION_CIERRA_CONEXION);
+		} finally {
+			instrucciones.clear();
+			conexion = null;
+		}
+	}
+
+	/**
+	 * Carga el controlador de SQLite una sola vez por ejecucin del sistema.
+	 *
+	 * @throws ExcepcionBaseDatos
+	 *             Lanza la excepcin si no se encuentra el controlador de
+	 *             SQLite.
+	 */
+	private static synchronized void cargarControlador() throws ExcepcionBaseDatos {
+		if (!controladorCargado) {
+			try {
+				Class.forName(CONTROLADOR);
+				controladorCargado = true;
+			} catch (ClassNotFoundException e) {
+				throw new ExcepcionBaseDatos(ExcepcionBaseDatos.MENSAJE_EXCEPCION_CONTROLADOR);
+			}
+		}
+	}
+
+	/**
+	 * Obtiene la llave con la que se registra la sesin de un archivo, de modo
+	 * que una ruta relativa y una absoluta del mismo archivo compartan sesin.
+	 *
+	 * @param nombreArchivo
+	 *            Nombre del archivo de la base de datos.
+	 * @return Regresa la ruta absoluta del archivo.
+	 */
+	private static String obtenerLlave(String nombreArchivo) {
+		return new File(nombreArchivo).getAbsolutePath();
+	}
+}
@@ -2,10 +2,9 @@ package sigestor.dominio;
 
 import java.io.File;
 import java.util.ArrayList;
-import java.util.Collections;
 
 import sigestor.bd.BaseDatosEncuentro;
-import sigestor.bd.BaseDatosParticipante;
+import sigestor.bd.BaseDatosRonda;
 import sigestor.bd.BaseDatosTorneo;
 import sigestor.excepcion.ExcepcionBaseDatos;
 import sigestor.excepcion.ExcepcionBaseDatosCiclo;
@@ -34,7 +33,7 @@ import sigestor.utilerias.UtileriasReporteResultadosFinales;
  * eligan en la personalizacin del torneo.</li>
  * </ul>
  * 
- * @version 05/06/2023
+ * @version 18/10/2026
  * 
  * @author Alicia Adriana Clemente Hernandez
  * @author Luis Fernando de la Cruz Lpez
@@ -116,9 +115,12 @@ public abstract class AlgoritmoTorneo {
 	 *                                     resultados
 	 * @throws ExcepcionBaseDatosTorneo    Si ocurre un error en la base de datos
 	 *                                     del torneo
+	 * @throws ExcepcionBaseDatosParticipante Si ocurre un error al actualizar un
+	 *                                        participante
 	 */
 	public abstract void realizarEncuentros() throws ExcepcionBaseDatos, ExcepcionBaseDatosEncuentro,
-			ExcepcionBaseDatosCiclo, ExcepcionCapturarResultados, ExcepcionBaseDatosTorneo;
+			ExcepcionBaseDatosCiclo, ExcepcionCapturarResultados, ExcepcionBaseDatosTorneo,
+			ExcepcionBaseDatosParticipante;
 
 	/**
 	 * Genera un archivo CSV con los resultados parciales o finales de un ciclo del
@@ -267,16 +269,25 @@ public abstract class AlgoritmoTorneo {
 	}
 	
 	/**
-	 * Actualiza el ciclo actual en la <code>BaseDatosTorneo</code>.
+	 * Avanza el ciclo actual del torneo y lo guarda en la
+	 * <code>BaseDatosTorneo</code>. Si no se pudo guardar, el torneo conserva el
+	 * ciclo anterior.
 	 * 
 	 * @param nombreArchivo Recibe el nombre de la base de datos del torneo.
+	 * @throws ExcepcionBaseDatos       Lanza la excepcin si ocurre un error en
+	 *                                  la base de datos.
+	 * @throws ExcepcionBaseDatosTorneo Lanza la excepcin si no se pudo
+	 *                                  actualizar el ciclo actual.
 	 */
-	public void actualizarCiclo(String nombreArchivo) {
+	public void avanzarCiclo(String nombreArchivo) throws ExcepcionBaseDatos, ExcepcionBaseDatosTorneo {
+		int cicloActual = this.getTorneo().getCicloActual();
+		this.getTorneo().setCicloActual(cicloActual + 1);
 		try {
 			BaseDatosTorneo bdt = new BaseDatosTorneo(nombreArchivo);
 			bdt.actualizarCicloActual(this.getTorneo());
 		} catch (ExcepcionBaseDatos | ExcepcionBaseDatosTorneo e) {
-
+			this.getTorneo().setCicloActual(cicloActual);
+			throw e;
 		}
 	}
 
@@ -292,22 +303,49 @@ public abstract class AlgoritmoTorneo {
 	}
 
 	/**
-	 * Asigna un lugar al participante al finalizar el torneo y lo guarda en la
-	 * <code>BaseDatosParticipante</code>.
+	 * Asigna un lugar al participante al finalizar el torneo de acuerdo a la
+	 * <code>TablaPosiciones</code> y lo guarda en la base de datos.
+	 * 
+	 * @throws ExcepcionBaseDatos             Lanza la excepcin si ocurre un error
+	 *                                        en <code>BaseDatos</code>.
+	 * @throws ExcepcionBaseDatosCiclo        Lanza la excepcin si ocurre un error
+	 *                                        en la ronda de escrituras.
+	 * @throws ExcepcionBaseDatosEncuentro    Lanza la excepcin si ocurre un error
+	 *                                        en la ronda de escrituras.
+	 * @throws ExcepcionBaseDatosParticipante Lanza la excepcin si ocurre un error
+	 *                                        al actualizar el lugar de algn
+	 *                                        participante.
 	 */
-	public void asignarLugarParticipante() {
-		Participante.setPuntaje(true);
-		Collections.sort(torneo.getListaParticipantes());
-		int index = 1;
-		for (Participante p : torneo.getListaParticipantes()) {
-			p.setLugarParticipante(index);
-			try {
-				BaseDatosParticipante bdp = new BaseDatosParticipante(torneo.getNombreArchivo());
-				bdp.actualizarLugarParticipante(p, torneo);
-			} catch (ExcepcionBaseDatos | ExcepcionBaseDatosParticipante e) {
+	public void asignarLugarParticipante() throws ExcepcionBaseDatos, ExcepcionBaseDatosCiclo,
+			ExcepcionBaseDatosEncuentro, ExcepcionBaseDatosParticipante {
+		posicionarParticipantes(new TablaPosiciones(torneo).ordenar());
+	}
 
-			}
-			index++;
+	/**
+	 * Le asigna a cada participante su lugar de acuerdo a su posicin en la
+	 * lista recibida y guarda todos los lugares en una sola transaccin.
+	 * 
+	 * @param participantes Recibe la lista de participantes ya ordenada.
+	 * @throws ExcepcionBaseDatos             Lanza la excepcin si ocurre un error
+	 *                                        en <code>BaseDatos</code>.
+	 * @throws ExcepcionBaseDatosCiclo        Lanza la excepcin si ocurre un error
+	 *                                        en la ronda de escrituras.
+	 * @throws ExcepcionBaseDatosEncuentro    Lanza la excepcin si ocurre un error
+	 *                                        en la ronda de escrituras.
+	 * @throws ExcepcionBaseDatosParticipante Lanza la excepcin si ocurre un error
+	 *                                        al actualizar el lugar de algn
+	 *                                        participante en la tabla
+	 *                                        <code>participante</code>.
+	 */
+	protected void posicionarParticipantes(ArrayList<Participante> participantes) throws ExcepcionBaseDatos,
+			ExcepcionBaseDatosCiclo, ExcepcionBaseDatosEncuentro, ExcepcionBaseDatosParticipante {
+		BaseDatosRonda ronda = new BaseDatosRonda(torneo);
+		int lugar = 1;
+		for (Participante participante : participantes) {
+			participante.setLugarParticipante(lugar);
+			ronda.agregarLugarParticipante(participante);
+			lugar++;
 		}
+		ronda.confirmar();
 	}
 }
@@ -0,0 +1,259 @@
+package sigestor.dominio;
+
+import java.util.ArrayList;
+import java.util.Date;
+
+import sigestor.excepcion.ExcepcionCapturarResultados;
+
+/**
+ * Sirve para obtener el calendario de un torneo Round Robin con las tablas de
+ * Berger (mtodo del crculo) como una funcin de la ronda y la mesa, sin
+ * guardar los encuentros de todos los ciclos.
+ * <p>
+ * El ltimo participante queda fijo y los dems giran una posicin por ronda:
+ * en la ronda <code>r</code> de una vuelta con <code>m</code> rondas, la mesa
+ * 0 enfrenta al participante fijo con el participante <code>r mod m</code> y la
+ * mesa <code>b</code> enfrenta a los participantes <code>(r + b) mod m</code> y
+ * <code>(r - b) mod m</code>. El color de cada mesa se alterna con la paridad
+ * de la mesa y de la ronda, de modo que ningn participante juega ms de dos
+ * rondas seguidas con el mismo color. En las vueltas impares se invierten los
+ * colores y las rondas empiezan una posicin despus: el participante que
+ * cierra una vuelta con dos rondas del mismo color jugara la primera ronda de
+ * la vuelta invertida con ese mismo color, y al recorrer las rondas la racha
+ * nunca llega a tres al pasar de una vuelta a otra.
+ * <p>
+ * Si el nmero de participantes es impar se agrega un participante fantasma y
+ * el encuentro contra l no se genera. El participante sin encuentro siempre
+ * queda como participante final.
+ * <p>
+ * Las caractersticas de la clase <code>CalendarioBerger</code> son:
+ * <ul>
+ * <li><code>FANTASMA</code> para indicar la posicin del participante
+ * agregado cuando el nmero de participantes es impar.</li>
+ * <li><code>numerosParticipantes</code> para guardar el nmero de cada
+ * participante en el orden de la lista.</li>
+ * <li><code>numeroVueltas</code> para guardar las veces que se enfrentan los
+ * participantes.</li>
+ * <li><code>numeroSinEncuentro</code> para guardar el nmero del participante
+ * sin encuentro.</li>
+ * <li><code>fechaEncuentros</code> para guardar la fecha de los
+ * encuentros.</li>
+ * </ul>
+ *
+ * @version 18/10/2026
+ */
+public class CalendarioBerger {
+
+	/**
+	 * Nmero del participante agregado cuando el nmero de participantes es
+	 * impar.
+	 */
+	public static final int FANTASMA = -1;
+
+	/**
+	 * Nmero de cada participante en el orden de la lista del torneo, con el
+	 * fantasma al final si hace falta.
+	 */
+	private int[] numerosParticipantes;
+	/**
+	 * Veces que se enfrentan los participantes.
+	 */
+	private int numeroVueltas;
+	/**
+	 * Nmero del participante sin encuentro, <tt>-1</tt> si no existe.
+	 */
+	private int numeroSinEncuentro;
+	/**
+	 * Fecha de los encuentros.
+	 */
+	private Date fechaEncuentros;
+
+	/**
+	 * Permite crear el calendario de los participantes recibidos.
+	 *
+	 * @param participantes
+	 *            Recibe la lista de participantes del torneo.
+	 * @param numeroVueltas
+	 *            Recibe las veces que se enfrentan los participantes.
+	 * @param numeroSinEncuentro
+	 *            Recibe el nmero del participante sin encuentro, <tt>-1</tt>
+	 *            si no existe.
+	 * @param fechaEncuentros
+	 *            Recibe la fecha de los encuentros.
+	 */
+	public CalendarioBerger(ArrayList<Participante> participantes, int numeroVueltas, int numeroSinEncuentro,
+			Date fechaEncuentros) {
+		this(obtenerNumeros(participantes), numeroVueltas, numeroSinEncuentro, fechaEncuentros);
+	}
+
+	/**
+	 * Permite crear el calendario a partir del orden de los participantes, como
+	 * el que se guarda en la base de datos al iniciar el torneo.
+	 *
+	 * @param orden
+	 *            Recibe el nmero de cada participante en el orden del
+	 *            calendario, sin el fantasma.
+	 * @param numeroVueltas
+	 *            Recibe las veces que se enfrentan los participantes.
+	 * @param numeroSinEncuentro
+	 *            Recibe el nmero del participante sin encuentro, <tt>-1</tt>
+	 *            si no existe.
+	 * @param fechaEncuentros
+	 *            Recibe la fecha de los encuentros.
+	 */
+	public CalendarioBerger(int[] orden, int numeroVueltas, int numeroSinEncuentro, Date fechaEncuentros) {
+		int numero = orden.length;
+		this.numerosParticipantes = new int[numero + numero % 2];
+		System.arraycopy(orden, 0, this.numerosParticipantes, 0, numero);
+		if (numero % 2 != 0) {
+			this.numerosParticipantes[numero] = FANTASMA;
+		}
+		this.numeroVueltas = numeroVueltas;
+		this.numeroSinEncuentro = numeroSinEncuentro;
+		this.fechaEncuentros = fechaEncuentros;
+	}
+
+	/**
+	 * Obtiene el nmero de cada participante en el orden del calendario, sin el
+	 * fantasma, de modo que el calendario se pueda volver a crear al abrir el
+	 * torneo.
+	 *
+	 * @return Regresa los nmeros de los participantes.
+	 */
+	public int[] obtenerOrden() {
+		int numero = numerosParticipantes.length;
+		if (numero > 0 && numerosParticipantes[numero - 1] == FANTASMA) {
+			numero--;
+		}
+		int[] orden = new int[numero];
+		System.arraycopy(numerosParticipantes, 0, orden, 0, numero);
+		return orden;
+	}
+
+	/**
+	 * Obtiene el nmero de rondas de una vuelta.
+	 *
+	 * @return Regresa el nmero de rondas de una vuelta.
+	 */
+	public int getRondasPorVuelta() {
+		return numerosParticipantes.length - 1;
+	}
+
+	/**
+	 * Obtiene el nmero de mesas de cada ronda, incluyendo la del fantasma.
+	 *
+	 * @return Regresa el nmero de mesas de cada ronda.
+	 */
+	public int getNumeroMesas() {
+		return numerosParticipantes.length / 2;
+	}
+
+	/**
+	 * Obtiene el nmero de rondas de todas las vueltas.
+	 *
+	 * @return Regresa el nmero total de rondas del calendario.
+	 */
+	public int getNumeroRondas() {
+		return getRondasPorVuelta() * numeroVueltas;
+	}
+
+	/**
+	 * Obtiene la fecha de los encuentros.
+	 *
+	 * @return Regresa la fecha de los encuentros.
+	 */
+	public Date getFechaEncuentros() {
+		return fechaEncuentros;
+	}
+
+	/**
+	 * Obtiene la pareja de una mesa en una ronda.
+	 *
+	 * @param ronda
+	 *            Recibe la ronda, empezando en 0 y contando todas las vueltas.
+	 * @param mesa
+	 *            Recibe la mesa, empezando en 0.
+	 * @return Regresa los nmeros del participante inicial y del participante
+	 *         final, <code>null</code> si la mesa corresponde al fantasma.
+	 */
+	public int[] obtenerPareja(int ronda, int mesa) {
+		int rondasPorVuelta = getRondasPorVuelta();
+		int vuelta = ronda / rondasPorVuelta;
+		int r = ronda % rondasPorVuelta;
+		if (vuelta % 2 != 0) {
+			r = (r + 1) % rondasPorVuelta;
+		}
+		int inicial;
+		int fin;
+		if (mesa == 0) {
+			inicial = numerosParticipantes[rondasPorVuelta];
+			fin = numerosParticipantes[r];
+			if (r % 2 == 0) {
+				inicial = numerosParticipantes[r];
+				fin = numerosParticipantes[rondasPorVuelta];
+			}
+		} else {
+			int primero = numerosParticipantes[(r + mesa) % rondasPorVuelta];
+			int segundo = numerosParticipantes[((r - mesa) % rondasPorVuelta + rondasPorVuelta) % rondasPorVuelta];
+			inicial = mesa % 2 != 0 ? primero : segundo;
+			fin = mesa % 2 != 0 ? segundo : primero;
+		}
+		if (inicial == FANTASMA || fin == FANTASMA) {
+			return null;
+		}
+		if (inicial == numeroSinEncuentro || (vuelta % 2 != 0 && fin != numeroSinEncuentro)) {
+			return new int[] { fin, inicial };
+		}
+		return new int[] { inicial, fin };
+	}
+
+	/**
+	 * Obtiene el nmero de encuentro de una mesa, consecutivo entre todos los
+	 * ciclos del calendario.
+	 *
+	 * @param numeroCiclo
+	 *            Recibe el nmero de ciclo, empezando en 1.
+	 * @param mesa
+	 *            Recibe la mesa, empezando en 0.
+	 * @return Regresa el nmero de encuentro.
+	 */
+	public int obtenerNumeroEncuentro(int numeroCiclo, int mesa) {
+		return (numeroCiclo - 1) * getNumeroMesas() + mesa + 1;
+	}
+
+	/**
+	 * Genera los encuentros de un ciclo del calendario.
+	 *
+	 * @param numeroCiclo
+	 *            Recibe el nmero de ciclo, empezando en 1.
+	 * @return Regresa los encuentros del ciclo sin jugar.
+	 * @throws ExcepcionCapturarResultados
+	 *             Lanza la excepcin si no se pudo crear algn encuentro.
+	 */
+	public ArrayList<Encuentro> obtenerEncuentros(int numeroCiclo) throws ExcepcionCapturarResultados {
+		ArrayList<Encuentro> encuentros = new ArrayList<Encuentro>(getNumeroMesas());
+		for (int mesa = 0; mesa < getNumeroMesas(); mesa++) {
+			int[] pareja = obtenerPareja(numeroCiclo - 1, mesa);
+			if (pareja != null) {
+				encuentros.add(new Encuentro(obtenerNumeroEncuentro(numeroCiclo, mesa), pareja[0], pareja[1],
+						fechaEncuentros));
+			}
+		}
+		return encuentros;
+	}
+
+	/**
+	 * Obtiene el nmero de cada participante en el orden de la lista.
+	 *
+	 * @param participantes
+	 *            Recibe la lista de participantes del torneo.
+	 * @return Regresa los nmeros de los participantes.
+	 */
+	private static int[] obtenerNumeros(ArrayList<Participante> participantes) {
+		int[] numeros = new int[participantes.size()];
+		for (int i = 0; i < numeros.length; i++) {
+			numeros[i] = participantes.get(i).getNumeroParticipante();
+		}
+		return numeros;
+	}
+}
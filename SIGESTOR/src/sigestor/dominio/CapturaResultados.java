@@ -0,0 +1,374 @@
+package sigestor.dominio;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+
+import sigestor.bd.BaseDatosRonda;
+import sigestor.excepcion.ExcepcionBaseDatos;
+import sigestor.excepcion.ExcepcionBaseDatosCiclo;
+import sigestor.excepcion.ExcepcionBaseDatosEncuentro;
+import sigestor.excepcion.ExcepcionBaseDatosParticipante;
+import sigestor.excepcion.ExcepcionCapturarResultados;
+
+/**
+ * Sirve para capturar los resultados de los encuentros de un ciclo sin
+ * depender de la interfaz grfica. Al cambiar el resultado de un encuentro se
+ * retira el resultado anterior del puntaje acumulado, de los marcadores y del
+ * ndice de encuentros del torneo y despus se agrega el nuevo; los cambios se
+ * guardan en una sola transaccin al llamar a <code>guardar</code>. La
+ * ventana de captura de resultados, la consola, el servidor y la importacin
+ * de resultados registran los resultados con esta clase.
+ * <p>
+ * Las caractersticas de la clase <code>CapturaResultados</code> son:
+ * <ul>
+ * <li><code>torneo</code> para guardar los datos del torneo.</li>
+ * <li><code>ciclo</code> para guardar el ciclo cuyos resultados se
+ * capturan.</li>
+ * <li><code>capturados</code> para guardar los encuentros cuyo resultado
+ * cambi y que se guardarn.</li>
+ * <li><code>numeroSinEncuentro</code> para guardar el nmero del participante
+ * sin encuentro.</li>
+ * </ul>
+ *
+ * @version 18/10/2026
+ */
+public class CapturaResultados {
+
+	/**
+	 * Datos del torneo.
+	 */
+	private Torneo torneo;
+	/**
+	 * Ciclo cuyos resultados se capturan.
+	 */
+	private Ciclo ciclo;
+	/**
+	 * Encuentros cuyo resultado cambi, en el orden en que se capturaron.
+	 */
+	private LinkedHashSet<Encuentro> capturados;
+	/**
+	 * Nmero del participante sin encuentro, -1 si el torneo no tiene.
+	 */
+	private int numeroSinEncuentro;
+
+	/**
+	 * Permite iniciar la captura de los resultados de un ciclo.
+	 *
+	 * @param torneo
+	 *            Recibe el objeto <code>Torneo</code> al que pertenece el ciclo.
+	 * @param ciclo
+	 *            Recibe el ciclo cuyos resultados se capturan.
+	 */
+	public CapturaResultados(Torneo torneo, Ciclo ciclo) {
+		this.torneo = torneo;
+		this.ciclo = ciclo;
+		this.capturados = new LinkedHashSet<Encuentro>();
+		this.numeroSinEncuentro = torneo.obtenerNumeroSinEncuentro();
+	}
+
+	/**
+	 * Obtiene el torneo al que pertenece el ciclo.
+	 *
+	 * @return Regresa el torneo.
+	 */
+	public Torneo getTorneo() {
+		return torneo;
+	}
+
+	/**
+	 * Obtiene el ciclo cuyos resultados se capturan.
+	 *
+	 * @return Regresa el ciclo.
+	 */
+	public Ciclo getCiclo() {
+		return ciclo;
+	}
+
+	/**
+	 * Busca en el ciclo el encuentro con el nmero recibido.
+	 *
+	 * @param numeroEncuentro
+	 *            Recibe el nmero del encuentro.
+	 * @return Regresa el encuentro, <code>null</code> si no pertenece al ciclo.
+	 */
+	public Encuentro obtenerEncuentro(int numeroEncuentro) {
+		for (Encuentro encuentro : ciclo.getEncuentroParticipantes()) {
+			if (encuentro.getNumeroEncuentro() == numeroEncuentro) {
+				return encuentro;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Indica si uno de los participantes del encuentro es el participante sin
+	 * encuentro.
+	 *
+	 * @param encuentro
+	 *            Recibe el encuentro a revisar.
+	 * @return Regresa <tt>true</tt> si el encuentro es un descanso,
+	 *         <tt>false</tt> en caso contrario.
+	 */
+	public boolean esDescanso(Encuentro encuentro) {
+		return numeroSinEncuentro != -1 && (encuentro.getIdParticipanteInicial() == numeroSinEncuentro
+				|| encuentro.getIdParticipanteFinal() == numeroSinEncuentro);
+	}
+
+	/**
+	 * Asigna el resultado <code>Encuentro.DESCANSO</code> a los encuentros del
+	 * ciclo contra el participante sin encuentro que an no se han jugado.
+	 *
+	 * @throws ExcepcionCapturarResultados
+	 *             Lanza la excepcin si el encuentro tiene un marcador
+	 *             negativo.
+	 */
+	public void registrarDescansos() throws ExcepcionCapturarResultados {
+		for (Encuentro encuentro : ciclo.getEncuentroParticipantes()) {
+			if (esDescanso(encuentro) && encuentro.getResultadoEncuentro() == Encuentro.SIN_JUGAR) {
+				cambiarResultado(encuentro, Encuentro.DESCANSO, encuentro.getMarcadorParticipanteInicial(),
+						encuentro.getMarcadorParticipanteFinal());
+			}
+		}
+	}
+
+	/**
+	 * Registra el resultado de un encuentro sin marcadores.
+	 *
+	 * @param encuentro
+	 *            Recibe el encuentro del ciclo.
+	 * @param resultado
+	 *            Recibe <code>Encuentro.GANADOR_INICIAL</code>,
+	 *            <code>Encuentro.GANADOR_FINAL</code>,
+	 *            <code>Encuentro.EMPATE</code> o
+	 *            <code>Encuentro.SIN_JUGAR</code>.
+	 * @throws ExcepcionCapturarResultados
+	 *             Lanza la excepcin si el resultado no es vlido.
+	 */
+	public void registrarResultado(Encuentro encuentro, int resultado) throws ExcepcionCapturarResultados {
+		registrarResultado(encuentro, resultado, encuentro.getMarcadorParticipanteInicial(),
+				encuentro.getMarcadorParticipanteFinal());
+	}
+
+	/**
+	 * Registra el resultado y los marcadores de un encuentro. Si el torneo usa
+	 * marcadores y estos son distintos, el ganador es el del marcador mayor, sin
+	 * importar el resultado recibido, igual que en la captura de resultados.
+	 * Los encuentros contra el participante sin encuentro se ignoran.
+	 *
+	 * @param encuentro
+	 *            Recibe el encuentro del ciclo.
+	 * @param resultado
+	 *            Recibe <code>Encuentro.GANADOR_INICIAL</code>,
+	 *            <code>Encuentro.GANADOR_FINAL</code>,
+	 *            <code>Encuentro.EMPATE</code> o
+	 *            <code>Encuentro.SIN_JUGAR</code>.
+	 * @param marcadorInicial
+	 *            Recibe el marcador del participante inicial.
+	 * @param marcadorFinal
+	 *            Recibe el marcador del participante final.
+	 * @throws ExcepcionCapturarResultados
+	 *             Lanza la excepcin si el resultado no es vlido o si algn
+	 *             marcador es negativo.
+	 */
+	public void registrarResultado(Encuentro encuentro, int resultado, int marcadorInicial, int marcadorFinal)
+			throws ExcepcionCapturarResultados {
+		validarResultado(resultado, marcadorInicial, marcadorFinal);
+		if (esDescanso(encuentro)) {
+			return;
+		}
+		if (torneo.getDatosPersonalizacion().isExistenciaMarcador()) {
+			if (marcadorInicial > marcadorFinal) {
+				resultado = Encuentro.GANADOR_INICIAL;
+			} else if (marcadorInicial < marcadorFinal) {
+				resultado = Encuentro.GANADOR_FINAL;
+			}
+		} else {
+			marcadorInicial = encuentro.getMarcadorParticipanteInicial();
+			marcadorFinal = encuentro.getMarcadorParticipanteFinal();
+		}
+		if (resultado != encuentro.getResultadoEncuentro()
+				|| marcadorInicial != encuentro.getMarcadorParticipanteInicial()
+				|| marcadorFinal != encuentro.getMarcadorParticipanteFinal()) {
+			cambiarResultado(encuentro, resultado, marcadorInicial, marcadorFinal);
+		}
+	}
+
+	/**
+	 * Verifica que un resultado y sus marcadores se puedan registrar, sin
+	 * modificar ningn encuentro.
+	 *
+	 * @param resultado
+	 *            Recibe <code>Encuentro.GANADOR_INICIAL</code>,
+	 *            <code>Encuentro.GANADOR_FINAL</code>,
+	 *            <code>Encuentro.EMPATE</code> o
+	 *            <code>Encuentro.SIN_JUGAR</code>.
+	 * @param marcadorInicial
+	 *            Recibe el marcador del participante inicial.
+	 * @param marcadorFinal
+	 *            Recibe el marcador del participante final.
+	 * @throws ExcepcionCapturarResultados
+	 *             Lanza la excepcin si el resultado no es vlido o si algn
+	 *             marcador es negativo.
+	 */
+	public void validarResultado(int resultado, int marcadorInicial, int marcadorFinal)
+			throws ExcepcionCapturarResultados {
+		if (resultado != Encuentro.GANADOR_INICIAL && resultado != Encuentro.GANADOR_FINAL
+				&& resultado != Encuentro.EMPATE && resultado != Encuentro.SIN_JUGAR) {
+			throw new ExcepcionCapturarResultados(ExcepcionCapturarResultados.MENSAJE_EXCEPCION_RESULTADO_INCORRECTO);
+		}
+		if (marcadorInicial < 0 || marcadorFinal < 0) {
+			throw new ExcepcionCapturarResultados(ExcepcionCapturarResultados.MENSAJE_EXCEPCION_NUMERO_NEGATIVO);
+		}
+	}
+
+	/**
+	 * Retira el resultado y los marcadores de todos los encuentros del ciclo del
+	 * puntaje acumulado y de los marcadores de sus participantes y deja los
+	 * encuentros sin jugar con marcadores en cero. Se utiliza al cancelar el
+	 * ciclo: los encuentros no se agregan a los que guarda <code>guardar</code>
+	 * y el ndice de encuentros del torneo se descarta.
+	 *
+	 * @throws ExcepcionCapturarResultados
+	 *             Lanza la excepcin si no se pudo asignar el marcador de algn
+	 *             encuentro.
+	 */
+	public void quitarResultados() throws ExcepcionCapturarResultados {
+		Personalizacion personalizacion = torneo.getDatosPersonalizacion();
+		for (Encuentro encuentro : ciclo.getEncuentroParticipantes()) {
+			sumarRestarPuntajeAcumulado(encuentro, -personalizacion.getPuntajeGanar(),
+					-personalizacion.getPuntajePerder(), -personalizacion.getPuntajeEmpatar());
+			sumarRestarMarcador(encuentro, -encuentro.getMarcadorParticipanteInicial(),
+					-encuentro.getMarcadorParticipanteFinal());
+			encuentro.setMarcadorParticipanteInicial("0");
+			encuentro.setMarcadorParticipanteFinal("0");
+			encuentro.setResultadoEncuentro(Encuentro.SIN_JUGAR);
+		}
+		torneo.descartarIndiceEncuentros();
+	}
+
+	/**
+	 * Guarda en una sola transaccin los encuentros capturados y el marcador y
+	 * puntaje acumulado de todos los participantes, ordenados con el orden del
+	 * torneo.
+	 *
+	 * @throws ExcepcionBaseDatos
+	 *             Lanza la excepcin si ocurre un error en <code>BaseDatos</code>.
+	 * @throws ExcepcionBaseDatosCiclo
+	 *             Lanza la excepcin si ocurre un error en la ronda de
+	 *             escrituras.
+	 * @throws ExcepcionBaseDatosEncuentro
+	 *             Lanza la excepcin si no se pudo actualizar algn encuentro.
+	 * @throws ExcepcionBaseDatosParticipante
+	 *             Lanza la excepcin si no se pudo actualizar algn participante.
+	 */
+	public void guardar() throws ExcepcionBaseDatos, ExcepcionBaseDatosCiclo, ExcepcionBaseDatosEncuentro,
+			ExcepcionBaseDatosParticipante {
+		BaseDatosRonda ronda = new BaseDatosRonda(torneo);
+		for (Encuentro encuentro : capturados) {
+			ronda.agregarResultadoEncuentro(encuentro, ciclo);
+		}
+		ArrayList<Participante> participantes = torneo.getListaParticipantes();
+		torneo.getOrdenParticipantes().ordenar(participantes);
+		for (Participante participante : participantes) {
+			if (participante.getNumeroParticipante() != numeroSinEncuentro) {
+				ronda.agregarResultadoParticipante(participante);
+			}
+		}
+		ronda.confirmar();
+		capturados.clear();
+	}
+
+	/**
+	 * Cambia el resultado y los marcadores de un encuentro, retirando primero
+	 * el resultado anterior de los participantes y del ndice de encuentros. Los
+	 * marcadores se verifican antes de modificar algo, de modo que un error no
+	 * deja el encuentro a medias.
+	 *
+	 * @param encuentro
+	 *            Recibe el encuentro a cambiar.
+	 * @param resultado
+	 *            Recibe el nuevo resultado.
+	 * @param marcadorInicial
+	 *            Recibe el nuevo marcador del participante inicial.
+	 * @param marcadorFinal
+	 *            Recibe el nuevo marcador del participante final.
+	 * @throws ExcepcionCapturarResultados
+	 *             Lanza la excepcin si algn marcador es negativo.
+	 */
+	private void cambiarResultado(Encuentro encuentro, int resultado, int marcadorInicial, int marcadorFinal)
+			throws ExcepcionCapturarResultados {
+		if (marcadorInicial < 0 || marcadorFinal < 0) {
+			throw new ExcepcionCapturarResultados(ExcepcionCapturarResultados.MENSAJE_EXCEPCION_NUMERO_NEGATIVO);
+		}
+		Personalizacion personalizacion = torneo.getDatosPersonalizacion();
+		IndiceEncuentros indice = torneo.obtenerIndiceEncuentros();
+		indice.quitarResultado(encuentro);
+		sumarRestarPuntajeAcumulado(encuentro, -personalizacion.getPuntajeGanar(),
+				-personalizacion.getPuntajePerder(), -personalizacion.getPuntajeEmpatar());
+		sumarRestarMarcador(encuentro, -encuentro.getMarcadorParticipanteInicial(),
+				-encuentro.getMarcadorParticipanteFinal());
+		encuentro.setMarcadorParticipanteInicial(String.valueOf(marcadorInicial));
+		encuentro.setMarcadorParticipanteFinal(String.valueOf(marcadorFinal));
+		encuentro.setResultadoEncuentro(resultado);
+		sumarRestarMarcador(encuentro, encuentro.getMarcadorParticipanteInicial(),
+				encuentro.getMarcadorParticipanteFinal());
+		sumarRestarPuntajeAcumulado(encuentro, personalizacion.getPuntajeGanar(), personalizacion.getPuntajePerder(),
+				personalizacion.getPuntajeEmpatar());
+		indice.agregarResultado(encuentro);
+		capturados.add(encuentro);
+	}
+
+	/**
+	 * Suma al marcador a favor y al marcador en contra de los participantes del
+	 * encuentro los valores recibidos, excepto si el encuentro es un descanso.
+	 *
+	 * @param encuentro
+	 *            Recibe el encuentro.
+	 * @param marcadorInicial
+	 *            Recibe el marcador que se suma al participante inicial.
+	 * @param marcadorFinal
+	 *            Recibe el marcador que se suma al participante final.
+	 */
+	private void sumarRestarMarcador(Encuentro encuentro, int marcadorInicial, int marcadorFinal) {
+		if (encuentro.getResultadoEncuentro() != Encuentro.DESCANSO) {
+			Participante inicial = torneo.obtenerParticipante(encuentro.getIdParticipanteInicial());
+			Participante participanteFinal = torneo.obtenerParticipante(encuentro.getIdParticipanteFinal());
+			if (inicial != null) {
+				inicial.acumularMarcadorFavor(marcadorInicial);
+				inicial.acumularMarcadorContra(marcadorFinal);
+			}
+			if (participanteFinal != null) {
+				participanteFinal.acumularMarcadorFavor(marcadorFinal);
+				participanteFinal.acumularMarcadorContra(marcadorInicial);
+			}
+		}
+	}
+
+	/**
+	 * Suma al puntaje acumulado de los participantes del encuentro el puntaje
+	 * que corresponde a su resultado.
+	 *
+	 * @param encuentro
+	 *            Recibe el encuentro.
+	 * @param puntajeGanar
+	 *            Recibe el puntaje por ganar.
+	 * @param puntajePerder
+	 *            Recibe el puntaje por perder.
+	 * @param puntajeEmpatar
+	 *            Recibe el puntaje por empatar.
+	 */
+	private void sumarRestarPuntajeAcumulado(Encuentro encuentro, float puntajeGanar, float puntajePerder,
+			float puntajeEmpatar) {
+		Participante inicial = torneo.obtenerParticipante(encuentro.getIdParticipanteInicial());
+		Participante participanteFinal = torneo.obtenerParticipante(encuentro.getIdParticipanteFinal());
+		int resultado = encuentro.getResultadoEncuentro();
+		if (inicial != null) {
+			inicial.acumularPuntajeAcumuladoParticipante(resultado == Encuentro.GANADOR_INICIAL ? puntajeGanar
+					: resultado == Encuentro.EMPATE ? puntajeEmpatar : puntajePerder);
+		}
+		if (participanteFinal != null) {
+			participanteFinal.acumularPuntajeAcumuladoParticipante(resultado == Encuentro.GANADOR_FINAL ? puntajeGanar
+					: resultado == Encuentro.EMPATE ? puntajeEmpatar : puntajePerder);
+		}
+	}
+}
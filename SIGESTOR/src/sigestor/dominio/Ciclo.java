@@ -2,11 +2,8 @@ package sigestor.dominio;
 
 import java.util.ArrayList;
 
-import sigestor.bd.BaseDatosCiclo;
-import sigestor.bd.BaseDatosEncuentro;
-import sigestor.excepcion.ExcepcionBaseDatos;
-import sigestor.excepcion.ExcepcionBaseDatosCiclo;
-import sigestor.excepcion.ExcepcionBaseDatosEncuentro;
+import sigestor.bd.BaseDatosRonda;
+import sigestor.excepcion.ExcepcionCapturarResultados;
 
 /**
  * Sirve para establecer los pareos que tendr cada ciclo del torneo.
@@ -17,9 +14,11 @@ import sigestor.excepcion.ExcepcionBaseDatosEncuentro;
  * <li><code>encuentroParticipantes</code> Guarda los encuentros de un
  * ciclo.</li>
  * <li><code>torneo</code> Almacena los datos generales del torneo.</li>
+ * <li><code>calendario</code> Guarda el calendario del que se generan los
+ * encuentros la primera vez que se solicitan.</li>
  * </ul>
  * 
- * @version 24/05/2022
+ * @version 18/10/2026
  * 
  * @author Alicia Adriana Clemente Hernandez
  * @author Luis Fernando de la Cruz Lpez
@@ -45,6 +44,11 @@ public class Ciclo {
 	 * para ciclo que se encuentra en la clase <code>Torneo</code>.
 	 */
 	private Torneo torneo;
+	/**
+	 * Sirve para generar los encuentros del ciclo hasta que se soliciten, en los
+	 * torneos cuyo calendario se conoce desde el inicio.
+	 */
+	private CalendarioBerger calendario;
 
 	/**
 	 * Inicializa las variables con los valores recibidos.
@@ -80,14 +84,65 @@ public class Ciclo {
 	}
 
 	/**
-	 * Devuelve los encuentros que tendr un ciclo.
+	 * Devuelve los encuentros que tendr un ciclo. Si el ciclo tiene calendario
+	 * y sus encuentros an no se han generado, los genera en ese momento. Solo
+	 * los ciclos hasta el ciclo actual conservan los encuentros generados; los
+	 * de un ciclo posterior se vuelven a generar en cada solicitud para que
+	 * consultar el calendario completo no deje todos los ciclos en memoria.
 	 * 
 	 * @return Coleccin con los encuentros de un ciclo.
+	 * @throws IllegalStateException
+	 *             Si el calendario genera un encuentro invlido; los encuentros
+	 *             del calendario siempre son vlidos, por lo que indica un error
+	 *             del programa y no de los datos capturados.
 	 */
 	public ArrayList<Encuentro> getEncuentroParticipantes() {
+		if (encuentroParticipantes == null && calendario != null) {
+			ArrayList<Encuentro> encuentros;
+			try {
+				encuentros = calendario.obtenerEncuentros(numeroCiclo);
+			} catch (ExcepcionCapturarResultados e) {
+				throw new IllegalStateException(e.getMessage(), e);
+			}
+			if (torneo == null || numeroCiclo > torneo.getCicloActual()) {
+				return encuentros;
+			}
+			encuentroParticipantes = encuentros;
+		}
 		return encuentroParticipantes;
 	}
 
+	/**
+	 * Indica si los encuentros del ciclo ya existen como objetos
+	 * <code>Encuentro</code>.
+	 * 
+	 * @return <tt>true</tt> si los encuentros ya se generaron o asignaron,
+	 *         <tt>false</tt> si solo se pueden obtener del calendario.
+	 */
+	public boolean tieneEncuentrosGenerados() {
+		return encuentroParticipantes != null;
+	}
+
+	/**
+	 * Devuelve el calendario del que se generan los encuentros del ciclo.
+	 * 
+	 * @return Calendario del ciclo, <code>null</code> si el ciclo no tiene.
+	 */
+	public CalendarioBerger getCalendario() {
+		return calendario;
+	}
+
+	/**
+	 * Asigna el calendario del que se generan los encuentros del ciclo la
+	 * primera vez que se soliciten.
+	 * 
+	 * @param calendario
+	 *            Calendario del torneo.
+	 */
+	public void setCalendario(CalendarioBerger calendario) {
+		this.calendario = calendario;
+	}
+
 	/**
 	 * Asigna los encuentros de un ciclo a la coleccin
 	 * <code>encuentroParticipantes</code>.
@@ -119,29 +174,16 @@ public class Ciclo {
 	}
 
 	/**
-	 * Guarda los encuentros correspondientes de cada ciclo.
+	 * Agrega el ciclo y sus encuentros a la ronda recibida, se guardan hasta que
+	 * la ronda se confirma.
 	 * 
-	 * @param ciclo
-	 *            Recibe el objeto <code>Ciclo</code>.
-	 * @param nombreArchivo
-	 *            Recibe el nombre del archivo.
-	 * @throws ExcepcionBaseDatos
-	 *             Si ocurre un problema con la base de datos.
-	 * @throws ExcepcionBaseDatosEncuentro
-	 *             Si ocurre un problema al insertar en la tabla
-	 *             <code>encuentros</code>.
-	 * @throws ExcepcionBaseDatosCiclo
-	 *             Si ocurre un error al insertar en la tabla
-	 *             <code>ciclos</code>.
-	 */
-	public void guardarCiclo(Ciclo ciclo, String nombreArchivo)
-			throws ExcepcionBaseDatos, ExcepcionBaseDatosEncuentro, ExcepcionBaseDatosCiclo {
-		BaseDatosEncuentro bd = new BaseDatosEncuentro(nombreArchivo);
-		BaseDatosCiclo bdc = new BaseDatosCiclo(nombreArchivo);
-
-		bdc.insertarCiclo(ciclo);
+	 * @param ronda
+	 *            Recibe la ronda donde se agregan el ciclo y sus encuentros.
+	 */
+	public void guardarCiclo(BaseDatosRonda ronda) {
+		ronda.agregarCiclo(this);
 		for (int i = 0; i < (getTorneo().getListaParticipantes().size() / 2); i++) {
-			bd.insertarEncuentro(this.getEncuentroParticipantes().get(i), ciclo);
+			ronda.agregarEncuentro(this.getEncuentroParticipantes().get(i), this);
 		}
 	}
 
@@ -0,0 +1,186 @@
+package sigestor.dominio;
+
+import java.text.Normalizer;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+/**
+ * Sirve para ordenar participantes mediante comparadores explcitos y
+ * deterministas, de modo que el mismo orden de entrada produzca siempre el
+ * mismo resultado y se respete el contrato de <code>Comparator</code>.
+ * <p>
+ * Los comparadores se pueden encadenar y con <code>total</code> se desempata
+ * por nmero de participante, de modo que dos participantes distintos nunca se
+ * consideran iguales. El orden alfabtico utiliza la clave de ordenacin de
+ * cada participante, que se calcula una sola vez al asignar su nombre, y el
+ * orden aleatorio depende solo de una semilla.
+ * <p>
+ * Las caractersticas de la clase <code>ComparadoresParticipante</code> son:
+ * <ul>
+ * <li><code>POR_NUMERO</code> para ordenar por nmero de participante.</li>
+ * <li><code>POR_PUNTAJE</code> para ordenar de mayor a menor puntaje
+ * inicial.</li>
+ * <li><code>POR_PUNTAJE_ACUMULADO</code> para ordenar de mayor a menor puntaje
+ * acumulado.</li>
+ * <li><code>ALFABETICO</code> para ordenar por nombre sin considerar acentos
+ * ni maysculas.</li>
+ * <li><code>SIN_ACENTOS</code> para eliminar los caracteres que no son ASCII
+ * despus de descomponer el nombre.</li>
+ * </ul>
+ *
+ * @version 18/10/2026
+ */
+public class ComparadoresParticipante {
+
+	/**
+	 * Ordena por nmero de participante.
+	 */
+	public static final Comparator<Participante> POR_NUMERO = new Comparator<Participante>() {
+		@Override
+		public int compare(Participante p1, Participante p2) {
+			return Integer.compare(p1.getNumeroParticipante(), p2.getNumeroParticipante());
+		}
+	};
+	/**
+	 * Ordena de mayor a menor puntaje inicial, sin desempatar.
+	 */
+	public static final Comparator<Participante> POR_PUNTAJE = new Comparator<Participante>() {
+		@Override
+		public int compare(Participante p1, Participante p2) {
+			return Float.compare(p2.getPuntajeParticipante(), p1.getPuntajeParticipante());
+		}
+	};
+	/**
+	 * Ordena de mayor a menor puntaje acumulado, sin desempatar.
+	 */
+	public static final Comparator<Participante> POR_PUNTAJE_ACUMULADO = new Comparator<Participante>() {
+		@Override
+		public int compare(Participante p1, Participante p2) {
+			return Float.compare(p2.getPuntajeAcumuladoParticipante(), p1.getPuntajeAcumuladoParticipante());
+		}
+	};
+	/**
+	 * Ordena por la clave de ordenacin del nombre, sin desempatar.
+	 */
+	public static final Comparator<Participante> ALFABETICO = new Comparator<Participante>() {
+		@Override
+		public int compare(Participante p1, Participante p2) {
+			return p1.getClaveOrden().compareTo(p2.getClaveOrden());
+		}
+	};
+	/**
+	 * Caracteres que no son ASCII, se eliminan del nombre ya descompuesto para
+	 * quitarle los acentos.
+	 */
+	private static final Pattern SIN_ACENTOS = Pattern.compile("[^\\p{ASCII}]");
+
+	/**
+	 * No se crean objetos de esta clase.
+	 */
+	private ComparadoresParticipante() {
+	}
+
+	/**
+	 * Obtiene la clave de ordenacin de un nombre: sin acentos y con cada
+	 * carcter convertido como lo hace <code>compareToIgnoreCase</code>, de modo
+	 * que comparar dos claves con <code>compareTo</code> da el mismo resultado
+	 * que comparar los nombres sin acentos con <code>compareToIgnoreCase</code>.
+	 *
+	 * @param nombre
+	 *            Recibe el nombre del participante.
+	 * @return Regresa la clave de ordenacin, vaca si el nombre es
+	 *         <code>null</code>.
+	 */
+	public static String obtenerClaveOrden(String nombre) {
+		if (nombre == null) {
+			return "";
+		}
+		String sinAcentos = SIN_ACENTOS.matcher(Normalizer.normalize(nombre, Normalizer.Form.NFD)).replaceAll("");
+		char[] caracteres = sinAcentos.toCharArray();
+		for (int i = 0; i < caracteres.length; i++) {
+			caracteres[i] = Character.toLowerCase(Character.toUpperCase(caracteres[i]));
+		}
+		return new String(caracteres);
+	}
+
+	/**
+	 * Obtiene un comparador que ordena de forma aleatoria pero repetible: a cada
+	 * participante le corresponde una llave calculada a partir de la semilla y de
+	 * su nmero de participante.
+	 *
+	 * @param semilla
+	 *            Recibe la semilla del orden aleatorio.
+	 * @return Regresa el comparador aleatorio, sin desempatar.
+	 */
+	public static Comparator<Participante> aleatorio(final long semilla) {
+		return new Comparator<Participante>() {
+			@Override
+			public int compare(Participante p1, Participante p2) {
+				return compararAleatorio(semilla, p1, p2);
+			}
+		};
+	}
+
+	/**
+	 * Compara a dos participantes por su llave aleatoria sin crear un
+	 * comparador.
+	 *
+	 * @param semilla
+	 *            Recibe la semilla del orden aleatorio.
+	 * @param p1
+	 *            Recibe el primer participante.
+	 * @param p2
+	 *            Recibe el segundo participante.
+	 * @return Regresa un nmero menor, igual o mayor a cero segn la llave
+	 *         aleatoria de cada participante.
+	 */
+	public static int compararAleatorio(long semilla, Participante p1, Participante p2) {
+		return Long.compare(mezclar(semilla + p1.getNumeroParticipante()),
+				mezclar(semilla + p2.getNumeroParticipante()));
+	}
+
+	/**
+	 * Obtiene un comparador que aplica el comparador recibido y desempata por
+	 * nmero de participante, de modo que el orden sea total.
+	 *
+	 * @param comparador
+	 *            Recibe el comparador principal.
+	 * @return Regresa el comparador con desempate por nmero de participante.
+	 */
+	public static Comparator<Participante> total(Comparator<Participante> comparador) {
+		return comparador.thenComparing(POR_NUMERO);
+	}
+
+	/**
+	 * Baraja la lista de participantes de forma repetible: primero la ordena por
+	 * nmero de participante y despus la baraja con la semilla recibida, de
+	 * modo que el resultado no depende del orden que tena la lista.
+	 *
+	 * @param participantes
+	 *            Recibe la lista de participantes.
+	 * @param semilla
+	 *            Recibe la semilla del orden aleatorio.
+	 */
+	public static void barajar(List<Participante> participantes, long semilla) {
+		Collections.sort(participantes, POR_NUMERO);
+		Collections.shuffle(participantes, new Random(semilla));
+	}
+
+	/**
+	 * Mezcla los bits de un valor para obtener una llave pseudoaleatoria
+	 * (funcin de mezcla de SplitMix64).
+	 *
+	 * @param valor
+	 *            Recibe el valor a mezclar.
+	 * @return Regresa la llave obtenida.
+	 */
+	private static long mezclar(long valor) {
+		long z = valor + 0x9E3779B97F4A7C15L;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+}
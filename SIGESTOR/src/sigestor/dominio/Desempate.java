@@ -1,12 +1,12 @@
 package sigestor.dominio;
 
-import java.util.ArrayList;
+import java.util.Set;
 
 /**
  * Sirve para la declaracin del mtodo que aplica el criterio de desempate
  * determinado.
  * 
- * @version 04/06/2022
+ * @version 18/10/2026
  * 
  * @author Alicia Adriana Clemente Hernandez
  * @author Luis Fernando de la Cruz Lpez
@@ -20,59 +20,67 @@ import java.util.ArrayList;
 public abstract class Desempate {
 
 	/**
-	 * Desempata a dos participantes igualados en puntos, mediante criterios de
-	 * desempate.
+	 * Obtiene el valor del criterio de desempate de un participante, orientado
+	 * de modo que el valor mayor corresponde al mejor lugar. Se utiliza en la
+	 * <code>TablaPosiciones</code> para ordenar a todos los participantes con
+	 * un solo ordenamiento.
 	 * 
-	 * @param p1                 Recibe el objeto <code>Participante</code> a
-	 *                           desempatar.
-	 * @param p2                 Recibe el objeto <code>Participante</code> a
-	 *                           desempatar.
-	 * @param listaParticipantes Recibe la lista de participantes del torneo.
-	 * @param encuentrosTotales  Recibe la lista de encuentros totales jugados en el
-	 *                           torneo.
-	 * @param torneo Recibe los datos del torneo. 
-	 * @return Regresa el objeto <code>Participante</code> que es el participante
-	 *         con puntaje de desempate ms alto. <code>null</code> en caso de no
-	 *         poderlos desempatar.
+	 * @param participante       Recibe el participante a evaluar.
+	 * @param empatados          Recibe los nmeros de los participantes que
+	 *                           siguen empatados con l antes de aplicar este
+	 *                           criterio.
+	 * @param indice             Recibe el ndice de encuentros del torneo.
+	 * @param torneo             Recibe los datos del torneo.
+	 * @return Regresa el valor del criterio, mayor es mejor.
 	 */
-	public abstract Participante desempatar(Participante p1, Participante p2,
-			ArrayList<Participante> listaParticipantes, ArrayList<Encuentro> encuentrosTotales, Torneo torneo);
+	public abstract float obtenerValorDesempate(Participante participante, Set<Integer> empatados,
+			IndiceEncuentros indice, Torneo torneo);
 
 	/**
-	 * Obtiene los encuentros de un participante.
+	 * Obtiene el objeto <code>Desempate</code> que aplica el criterio recibido.
 	 * 
-	 * @param encuentrosTotales  Recibe la lista de encuentros totales jugados en el
-	 *                           torneo.
-	 * @param numeroParticipante Recibe el nmero del participante a evaluar.
-	 * @return Regresa la lista de encuentros del participante evaluado.
+	 * @param criterio           Recibe el nombre del criterio de desempate tal
+	 *                           como aparece en <code>CriteriosDesempate</code>.
+	 * @return Regresa el objeto <code>Desempate</code> del criterio.
+	 *         <code>null</code> en caso de no reconocer el criterio.
 	 */
-	protected ArrayList<Encuentro> obtenerEncuentrosParticipante(ArrayList<Encuentro> encuentrosTotales,
-			int numeroParticipante) {
-		ArrayList<Encuentro> encuentrosParticipante = new ArrayList<Encuentro>();
-
-		for (Encuentro encuentro : encuentrosTotales) {
-			if (encuentro.getIdParticipanteInicial() == numeroParticipante
-					|| encuentro.getIdParticipanteFinal() == numeroParticipante) {
-				encuentrosParticipante.add(encuentro);
-			}
+	public static Desempate obtenerDesempate(String criterio) {
+		switch (criterio) {
+		case "Encuentro directo":
+			return new DesempateEncuentroDirecto();
+		case "Sistema Koya":
+			return new DesempateSistemaKoya();
+		case "Buchholz":
+			return new DesempateBuchholz();
+		case "Sonnerborn-Berger":
+			return new DesempateSonnebornBerger();
+		case "Encuentros ganados":
+			return new DesempateEncuentrosGanados();
+		case "Diferencia de marcadores":
+			return new DesempateDiferenciaMarcadores();
+		case "Marcador a favor":
+			return new DesempateMarcadorFavor();
+		case "Marcador en contra":
+			return new DesempateMarcadorContra();
+		case "Puntuacin":
+			return new DesempatePuntuacion();
+		case "Marcador de participante final":
+			return new DesempateMarcadorParticipanteFinal();
+		default:
+			return null;
 		}
-		return encuentrosParticipante;
 	}
 
 	/**
-	 * Obtiene un participante de acuerdo a su nmero de participante.
+	 * Obtiene un participante de acuerdo a su nmero de participante mediante el
+	 * registro de participantes del torneo.
 	 * 
-	 * @param listaParticipantes Recibe la lista de los participantes del torneo.
+	 * @param torneo             Recibe los datos del torneo.
 	 * @param numeroParticipante Recibe el nmero del participante a obtener.
 	 * @return Regresa el objeto <code>Participante</code> con los datos del
 	 *         participante evaluado. <code>null</code> en caso de no encontrarlo.
 	 */
-	protected Participante obtenerParticipante(ArrayList<Participante> listaParticipantes, int numeroParticipante) {
-		for (Participante participante : listaParticipantes) {
-			if (participante.getNumeroParticipante() == numeroParticipante) {
-				return participante;
-			}
-		}
-		return null;
+	protected Participante obtenerParticipante(Torneo torneo, int numeroParticipante) {
+		return torneo.obtenerParticipante(numeroParticipante);
 	}
 }
\ No newline at end of file
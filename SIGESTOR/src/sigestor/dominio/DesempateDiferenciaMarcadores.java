@@ -1,12 +1,13 @@
 package sigestor.dominio;
 
-import java.util.ArrayList;
+import java.util.Set;
+
 
 /**
  * Sirve para implementar el criterio de desempate diferencia de marcadores.
  * <p>
  * 
- * @version 04/06/2022
+ * @version 18/10/2026
  * 
  * @author Alicia Adriana Clemente Hernandez
  * @author Luis Fernando de la Cruz Lpez
@@ -17,32 +18,19 @@ import java.util.ArrayList;
 public class DesempateDiferenciaMarcadores extends Desempate {
 
 	/**
-	 * Desempata dos participantes, restando el marcador a favor menos el marcador
-	 * en contra de cada participante. El participante ganador ser el que obtenga
-	 * la mayor diferencia de marcadores.
+	 * Obtiene la diferencia entre el marcador a favor y el marcador en contra
+	 * del participante.
 	 * 
-	 * @param p1                 Recibe el objeto <code>Participante</code> a
-	 *                           desempatar.
-	 * @param p2                 Recibe el objeto <code>Participante</code> a
-	 *                           desempatar.
-	 * @param listaParticipantes Recibe la lista de participantes del torneo.
-	 * @param encuentrosTotales  Recibe la lista de encuentros totales jugados en el
-	 *                           torneo.
-	 * @return Regresa el objeto <code>Participante</code> con una mayor diferencia
-	 *         de marcadores. <code>null</code> en caso de no poderlos desempatar.
+	 * @param participante Recibe el participante a evaluar.
+	 * @param empatados    Recibe los nmeros de los participantes que siguen
+	 *                     empatados con l.
+	 * @param indice       Recibe el ndice de encuentros del torneo.
+	 * @param torneo       Recibe los datos del torneo.
+	 * @return Regresa el valor del criterio, mayor es mejor.
 	 */
 	@Override
-	public Participante desempatar(Participante p1, Participante p2, ArrayList<Participante> listaParticipantes,
-			ArrayList<Encuentro> encuentrosTotales, Torneo torneo) {
-		int diferenciaP1 = p1.getMarcadorFavor() - p1.getMarcadorContra();
-		int diferenciaP2 = p2.getMarcadorFavor() - p2.getMarcadorContra();
-		if (diferenciaP1 > diferenciaP2) {
-			return p1;
-		} else if (diferenciaP1 < diferenciaP2) {
-			return p2;
-		} else {
-			return null;
-		}
+	public float obtenerValorDesempate(Participante participante, Set<Integer> empatados, IndiceEncuentros indice,
+			Torneo torneo) {
+		return participante.getMarcadorFavor() - participante.getMarcadorContra();
 	}
-
 }
@@ -1,13 +1,14 @@
 package sigestor.dominio;
 
-import java.util.ArrayList;
+import java.util.Set;
+
 
 /**
  * Sirve para implementar el criterio de desempate marcador en contra.
  * <p>
  * 
  * 
- * @version 04/06/2022
+ * @version 18/10/2026
  * 
  * @author Alicia Adriana Clemente Hernandez
  * @author Luis Fernando de la Cruz Lpez
@@ -18,28 +19,19 @@ import java.util.ArrayList;
 public class DesempateMarcadorContra extends Desempate {
 
 	/**
-	 * Desempata dos participantes, verificando qu participante ha recibido menor
-	 * valoracin en su marcador en contra; dicho participante ser el ganador.
+	 * Obtiene el marcador en contra del participante con signo negativo, ya que
+	 * gana el participante con menor marcador en contra.
 	 * 
-	 * @param p1                 Recibe el objeto <code>Participante</code> con los
-	 *                           datos del participante a desempatar.
-	 * @param p2                 Recibe el objeto <code>Participante</code> con los
-	 *                           datos del participante a desempatar.
-	 * @param listaParticipantes Recibe la lista de participantes del torneo.
-	 * @param encuentrosTotales  Recibe la lista de encuentros totales jugados en el
-	 *                           torneo.
-	 * @return Regresa el objeto <code>Participante</code> con un menor marcador en
-	 *         contra. <code>null</code> en caso de no poderlos desempatar.
+	 * @param participante Recibe el participante a evaluar.
+	 * @param empatados    Recibe los nmeros de los participantes que siguen
+	 *                     empatados con l.
+	 * @param indice       Recibe el ndice de encuentros del torneo.
+	 * @param torneo       Recibe los datos del torneo.
+	 * @return Regresa el valor del criterio, mayor es mejor.
 	 */
 	@Override
-	public Participante desempatar(Participante p1, Participante p2, ArrayList<Participante> listaParticipantes,
-			ArrayList<Encuentro> encuentrosTotales, Torneo torneo) {
-		if (p1.getMarcadorContra() < p2.getMarcadorContra()) {
-			return p1;
-		} else if (p1.getMarcadorContra() > p2.getMarcadorContra()) {
-			return p2;
-		} else {
-			return null;
-		}
+	public float obtenerValorDesempate(Participante participante, Set<Integer> empatados, IndiceEncuentros indice,
+			Torneo torneo) {
+		return -participante.getMarcadorContra();
 	}
 }
@@ -1,12 +1,13 @@
 package sigestor.dominio;
 
-import java.util.ArrayList;
+import java.util.Set;
+
 
 /**
  * Sirve para implementar el criterio de desempate marcador a favor.
  * 
  * 
- * @version 04/06/2022
+ * @version 18/10/2026
  * 
  * @author Alicia Adriana Clemente Hernandez
  * @author Luis Fernando de la Cruz Lpez
@@ -17,28 +18,18 @@ import java.util.ArrayList;
 public class DesempateMarcadorFavor extends Desempate {
 
 	/**
-	 * Desempata dos participantes, verificando qu participante ha recibido mayor
-	 * valoracin en su marcador a favor; dicho participante ser el ganador.
+	 * Obtiene el marcador a favor del participante.
 	 * 
-	 * @param p1                 Recibe el objeto <code>Participante</code> con los
-	 *                           datos del participante a desempatar.
-	 * @param p2                 Recibe el objeto <code>Participante</code> con los
-	 *                           datos del participante a desempatar.
-	 * @param listaParticipantes Recibe la lista de participantes del torneo.
-	 * @param encuentrosTotales  Recibe la lista de encuentros totales jugados en el
-	 *                           torneo.
-	 * @return Regresa el objeto <code>Participante</code> con un menor marcador en
-	 *         contra. <code>null</code> en caso de no poderlos desempatar.
+	 * @param participante Recibe el participante a evaluar.
+	 * @param empatados    Recibe los nmeros de los participantes que siguen
+	 *                     empatados con l.
+	 * @param indice       Recibe el ndice de encuentros del torneo.
+	 * @param torneo       Recibe los datos del torneo.
+	 * @return Regresa el valor del criterio, mayor es mejor.
 	 */
 	@Override
-	public Participante desempatar(Participante p1, Participante p2, ArrayList<Participante> listaParticipantes,
-			ArrayList<Encuentro> encuentrosTotales, Torneo torneo) {
-		if (p1.getMarcadorFavor() > p2.getMarcadorFavor()) {
-			return p1;
-		} else if (p1.getMarcadorFavor() < p2.getMarcadorFavor()) {
-			return p2;
-		} else {
-			return null;
-		}
+	public float obtenerValorDesempate(Participante participante, Set<Integer> empatados, IndiceEncuentros indice,
+			Torneo torneo) {
+		return participante.getMarcadorFavor();
 	}
 }
@@ -1,54 +1,42 @@
 package sigestor.dominio;
 
-import java.util.ArrayList;
+import java.util.Set;
+
 
 /**
  * Sirve para implementar el criterio de desempate Puntuacin.
  * <p>
  * 
- * @version 11/04/2023
+ * @version 18/10/2026
  * @author Eder Euclides Dionisio Diaz
  */
 public class DesempateMarcadorParticipanteFinal extends Desempate {
 	
 	/**
-	 * Desempata dos participantes, verificando qu participante ha recibido mayor
-	 * valoracin en su marcador final; dicho participante ser el ganador.
+	 * Obtiene la suma de los marcadores del participante en los encuentros que
+	 * gan como participante final.
 	 * 
-	 * @param p1
-	 *            Recibe el objeto <code>Participante</code> con los datos del
-	 *            participante a desempatar.
-	 * @param p2
-	 *            Recibe el objeto <code>Participante</code> con los datos del
-	 *            participante a desempatar.
-	 * @param listaParticipantes
-	 *            Recibe la lista de participantes del torneo.
-	 * @param encuentrosTotales
-	 *            Recibe la lista de encuentros totales jugados en el torneo.
-	 * @return Regresa el objeto <code>Participante</code> con un mayor marcador a
-	 *         favor. <code>null</code> en caso de no poderlos desempatar.
+	 * @param participante
+	 *            Recibe el participante a evaluar.
+	 * @param empatados
+	 *            Recibe los nmeros de los participantes que siguen empatados
+	 *            con l.
+	 * @param indice
+	 *            Recibe el ndice de encuentros del torneo.
+	 * @param torneo
+	 *            Recibe los datos del torneo.
+	 * @return Regresa el valor del criterio, mayor es mejor.
 	 */
-	
 	@Override
-	public Participante desempatar(Participante p1, Participante p2, ArrayList<Participante> listaParticipantes,
-			ArrayList<Encuentro> encuentrosTotales, Torneo torneo) {
-		int puntajeFinalP1 = 0;
-		int puntajeFinalP2 = 0;
-		for (Encuentro encuentro : encuentrosTotales) {
-			if (encuentro.getIdParticipanteFinal() == p1.getNumeroParticipante()
-					&& encuentro.getResultadoEncuentro() == Encuentro.GANADOR_FINAL) {
-				puntajeFinalP1 += encuentro.getMarcadorParticipanteFinal();
-			} else if (encuentro.getIdParticipanteFinal() == p2.getNumeroParticipante()
+	public float obtenerValorDesempate(Participante participante, Set<Integer> empatados, IndiceEncuentros indice,
+			Torneo torneo) {
+		int puntajeFinal = 0;
+		for (Encuentro encuentro : indice.obtenerEncuentros(participante.getNumeroParticipante())) {
+			if (encuentro.getIdParticipanteFinal() == participante.getNumeroParticipante()
 					&& encuentro.getResultadoEncuentro() == Encuentro.GANADOR_FINAL) {
-				puntajeFinalP2 += encuentro.getMarcadorParticipanteFinal();
+				puntajeFinal += encuentro.getMarcadorParticipanteFinal();
 			}
 		}
-		if (puntajeFinalP1 > puntajeFinalP2) {
-			return p1;
-		} else if (puntajeFinalP1 < puntajeFinalP2) {
-			return p2;
-		}
-		return null;
-
+		return puntajeFinal;
 	}
 }
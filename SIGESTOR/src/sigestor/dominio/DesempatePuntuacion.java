@@ -1,12 +1,13 @@
 package sigestor.dominio;
 
-import java.util.ArrayList;
+import java.util.Set;
+
 
 /**
  * Sirve para implementar el criterio de desempate Puntuacin.
  * <p>
  * 
- * @version 11/04/2023
+ * @version 18/10/2026
  * 
  * @author Eder Euclides Dionisio Diaz
  */
@@ -14,34 +15,23 @@ import java.util.ArrayList;
 public class DesempatePuntuacion extends Desempate {
 
 	/**
-	 * Desempata participantes obteniendo su puntuacin inicial, de esta manera, el
-	 * participante que tenga menor puntaje es el que se elimina
+	 * Obtiene la puntuacin inicial del participante, ya que se elimina primero
+	 * al participante con menor puntuacin.
 	 * 
-	 * @param p1
-	 *            Recibe el objeto <code>Participante</code> con los datos del
-	 *            participante a desempatar.
-	 * @param p2
-	 *            Recibe el objeto <code>Participante</code> con los datos del
-	 *            participante a desempatar.
-	 * @param listaParticipantes
-	 *            Recibe la lista de participantes del torneo.
-	 * @param encuentrosTotales
-	 *            Recibe la lista de encuentros totales jugados en el torneo.
-	 * @param torneo Recibe los datos del torneo.
-	 * @return Regresa el objeto <code>Participante</code> con puntaje de desempate
-	 *         ms bajo. <code>null</code> en caso de no poderlos desempatar.
+	 * @param participante
+	 *            Recibe el participante a evaluar.
+	 * @param empatados
+	 *            Recibe los nmeros de los participantes que siguen empatados
+	 *            con l.
+	 * @param indice
+	 *            Recibe el ndice de encuentros del torneo.
+	 * @param torneo
+	 *            Recibe los datos del torneo.
+	 * @return Regresa el valor del criterio, mayor es mejor.
 	 */
-	public Participante desempatar(Participante p1, Participante p2, ArrayList<Participante> listaParticipantes,
-			ArrayList<Encuentro> encuentrosTotales, Torneo torneo) {
-		float puntajeP1 = p1.getPuntajeParticipante();
-		float puntajeP2 = p2.getPuntajeParticipante();
-
-		if (puntajeP1 > puntajeP2) {
-			return p2;
-		} else if (puntajeP1 < puntajeP2) {
-			return p1;
-		} else {
-			return null;
-		}
+	@Override
+	public float obtenerValorDesempate(Participante participante, Set<Integer> empatados, IndiceEncuentros indice,
+			Torneo torneo) {
+		return participante.getPuntajeParticipante();
 	}
 }
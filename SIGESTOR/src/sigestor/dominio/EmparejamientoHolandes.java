@@ -0,0 +1,191 @@
+package sigestor.dominio;
+
+/**
+ * Sirve para formar las parejas de un ciclo posterior al primero segn el
+ * sistema holands de la FIDE, con asignacin de colores (local o visitante).
+ * <p>
+ * Los criterios del sistema holands se aplican como costos ordenados del
+ * emparejamiento de peso mximo: primero los criterios absolutos (no repetir
+ * rival y no enfrentar a dos participantes que necesitan el mismo color),
+ * despus la menor diferencia de puntaje entre las parejas, despus las
+ * preferencias de color no concedidas y al final el orden de la mitad
+ * superior contra la mitad inferior de cada grupo de puntaje.
+ * <p>
+ * Los flotantes no se modelan: no se guarda qu participantes bajaron o
+ * subieron de grupo en ciclos anteriores ni se aplican los criterios que los
+ * limitan. Si un grupo de puntaje no se puede emparejar completo, el
+ * participante sobrante se empareja solo por la menor diferencia de puntaje,
+ * por lo que en esos ciclos las parejas pueden ser distintas a las del
+ * sistema holands de la FIDE. Por eso el modo se llama
+ * <code>TorneoSuizo.EMPAREJAMIENTO_HOLANDES_SIN_FLOTANTES</code>.
+ * <p>
+ * La preferencia de color de cada participante se obtiene del
+ * <code>HistorialEncuentros</code>:
+ * <ul>
+ * <li>Absoluta, si su diferencia de colores es mayor a uno o jug sus dos
+ * ltimos encuentros con el mismo color.</li>
+ * <li>Fuerte, si su diferencia de colores es uno.</li>
+ * <li>Leve, si su diferencia de colores es cero; prefiere el color contrario
+ * al de su ltimo encuentro.</li>
+ * </ul>
+ * <p>
+ * Las caractersticas de la clase <code>EmparejamientoHolandes</code> son:
+ * <ul>
+ * <li><code>PREFERENCIA_ABSOLUTA</code>, <code>PREFERENCIA_FUERTE</code> y
+ * <code>PREFERENCIA_LEVE</code> para indicar la fuerza de una preferencia de
+ * color.</li>
+ * <li><code>COSTO_PREFERENCIA</code> para indicar el costo de no conceder una
+ * preferencia de color.</li>
+ * <li><code>COSTO_PREFERENCIA_FUERTE</code> para indicar el costo adicional de
+ * no conceder una preferencia fuerte.</li>
+ * </ul>
+ *
+ * @version 18/10/2026
+ */
+public class EmparejamientoHolandes extends EmparejamientoSuizo {
+
+	/**
+	 * Fuerza de una preferencia de color absoluta.
+	 */
+	public static final int PREFERENCIA_ABSOLUTA = 3;
+	/**
+	 * Fuerza de una preferencia de color fuerte.
+	 */
+	public static final int PREFERENCIA_FUERTE = 2;
+	/**
+	 * Fuerza de una preferencia de color leve.
+	 */
+	public static final int PREFERENCIA_LEVE = 1;
+	/**
+	 * Costo de no conceder una preferencia de color, menor a
+	 * <code>COSTO_PUNTAJE</code> y mayor al costo de posicin de un torneo de
+	 * hasta diez mil participantes.
+	 */
+	private static final long COSTO_PREFERENCIA = COSTO_PUNTAJE / 4;
+	/**
+	 * Costo adicional de no conceder una preferencia de color fuerte.
+	 */
+	private static final long COSTO_PREFERENCIA_FUERTE = COSTO_PUNTAJE / 8;
+
+	/**
+	 * Permite crear el emparejamiento holands de un torneo con los encuentros
+	 * que ya se realizaron.
+	 *
+	 * @param torneo
+	 *            Recibe los datos del torneo.
+	 */
+	public EmparejamientoHolandes(Torneo torneo) {
+		super(torneo);
+	}
+
+	/**
+	 * Obtiene la preferencia de color de un participante.
+	 *
+	 * @param participante
+	 *            Recibe el participante.
+	 * @return Regresa la fuerza de la preferencia con el signo del color
+	 *         preferido: positivo para <code>LOCAL</code>, negativo para
+	 *         <code>VISITANTE</code> y 0 si no tiene preferencia.
+	 */
+	public int obtenerPreferencia(Participante participante) {
+		int numero = participante.getNumeroParticipante();
+		int ultimo = historial.obtenerUltimoColor(numero);
+		if (ultimo == HistorialEncuentros.SIN_COLOR) {
+			return 0;
+		}
+		int diferencia = historial.obtenerDiferenciaColor(numero);
+		if (diferencia > 1 || diferencia < -1 || historial.obtenerColoresSeguidos(numero) >= 2) {
+			int color = diferencia > 1 ? HistorialEncuentros.VISITANTE
+					: diferencia < -1 ? HistorialEncuentros.LOCAL : -ultimo;
+			return color * PREFERENCIA_ABSOLUTA;
+		}
+		if (diferencia != 0) {
+			return -diferencia * PREFERENCIA_FUERTE;
+		}
+		return -ultimo * PREFERENCIA_LEVE;
+	}
+
+	/**
+	 * Indica si dos participantes se pueden enfrentar: no se han enfrentado y no
+	 * tienen ambos una preferencia absoluta por el mismo color.
+	 *
+	 * @param p1
+	 *            Recibe el participante con mejor posicin.
+	 * @param p2
+	 *            Recibe el otro participante.
+	 * @return <tt>true</tt> si se pueden enfrentar, <tt>false</tt> en caso
+	 *         contrario.
+	 */
+	@Override
+	protected boolean esPermitida(Participante p1, Participante p2) {
+		if (!super.esPermitida(p1, p2)) {
+			return false;
+		}
+		int preferencia1 = obtenerPreferencia(p1);
+		int preferencia2 = obtenerPreferencia(p2);
+		return !(Math.abs(preferencia1) == PREFERENCIA_ABSOLUTA && preferencia1 == preferencia2);
+	}
+
+	/**
+	 * Obtiene el costo de las preferencias de color que no se pueden conceder
+	 * en la pareja: si ambos prefieren el mismo color, se niega la preferencia
+	 * ms dbil.
+	 *
+	 * @param p1
+	 *            Recibe el participante con mejor posicin.
+	 * @param p2
+	 *            Recibe el otro participante.
+	 * @return Regresa el costo de colores de la pareja.
+	 */
+	@Override
+	protected long obtenerCostoAdicional(Participante p1, Participante p2) {
+		int preferencia1 = obtenerPreferencia(p1);
+		int preferencia2 = obtenerPreferencia(p2);
+		if (preferencia1 == 0 || preferencia2 == 0 || Integer.signum(preferencia1) != Integer.signum(preferencia2)) {
+			return 0;
+		}
+		int negada = Math.min(Math.abs(preferencia1), Math.abs(preferencia2));
+		return COSTO_PREFERENCIA + (negada >= PREFERENCIA_FUERTE ? COSTO_PREFERENCIA_FUERTE : 0);
+	}
+
+	/**
+	 * Asigna los colores de la pareja con las reglas del sistema holands:
+	 * <ul>
+	 * <li>Se conceden ambas preferencias si son compatibles.</li>
+	 * <li>Se concede la preferencia ms fuerte.</li>
+	 * <li>Si tienen la misma fuerza y su ltimo color es distinto, cada uno
+	 * alterna su ltimo color.</li>
+	 * <li>Se concede la preferencia del participante con mejor posicin.</li>
+	 * <li>Si ninguno tiene preferencia, el de mejor posicin es local.</li>
+	 * </ul>
+	 *
+	 * @param p1
+	 *            Recibe el participante con mejor posicin.
+	 * @param p2
+	 *            Recibe el otro participante.
+	 * @return Regresa la pareja con el participante local primero.
+	 */
+	@Override
+	protected Participante[] orientar(Participante p1, Participante p2) {
+		int preferencia1 = obtenerPreferencia(p1);
+		int preferencia2 = obtenerPreferencia(p2);
+		int color1;
+		if (preferencia1 == 0 && preferencia2 == 0) {
+			color1 = HistorialEncuentros.LOCAL;
+		} else if (Integer.signum(preferencia1) != Integer.signum(preferencia2)) {
+			color1 = preferencia1 != 0 ? Integer.signum(preferencia1) : -Integer.signum(preferencia2);
+		} else if (Math.abs(preferencia1) != Math.abs(preferencia2)) {
+			color1 = Math.abs(preferencia1) > Math.abs(preferencia2) ? Integer.signum(preferencia1)
+					: -Integer.signum(preferencia2);
+		} else {
+			int ultimo1 = historial.obtenerUltimoColor(p1.getNumeroParticipante());
+			int ultimo2 = historial.obtenerUltimoColor(p2.getNumeroParticipante());
+			color1 = ultimo1 != ultimo2 && ultimo1 != HistorialEncuentros.SIN_COLOR ? -ultimo1
+					: Integer.signum(preferencia1);
+		}
+		if (color1 == HistorialEncuentros.LOCAL) {
+			return new Participante[] { p1, p2 };
+		}
+		return new Participante[] { p2, p1 };
+	}
+}
@@ -0,0 +1,911 @@
+package sigestor.dominio;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Sirve para calcular un emparejamiento de peso mximo en un grafo general
+ * mediante el algoritmo de flores (blossom) de Edmonds con variables duales, en
+ * tiempo O(n) para <code>n</code> vrtices.
+ * <p>
+ * Los pesos son enteros; internamente se duplican para que todas las
+ * variables duales sean enteras. Si se pide cardinalidad mxima, entre todos
+ * los emparejamientos con el mayor nmero de parejas se obtiene el de mayor
+ * peso.
+ * <p>
+ * Las caractersticas de la clase <code>EmparejamientoPesoMaximo</code> son:
+ * <ul>
+ * <li><code>numeroVertices</code> para guardar el nmero de vrtices del
+ * grafo.</li>
+ * <li><code>extremos</code> para guardar los dos vrtices de cada arista, en
+ * las posiciones <code>2k</code> y <code>2k+1</code>.</li>
+ * <li><code>pesos</code> para guardar el peso duplicado de cada arista.</li>
+ * <li><code>numeroAristas</code> para guardar el nmero de aristas
+ * agregadas.</li>
+ * <li><code>vecinos</code> para guardar los extremos de arista que salen de
+ * cada vrtice.</li>
+ * <li><code>pareja</code> para guardar el extremo de arista con el que est
+ * emparejado cada vrtice.</li>
+ * <li><code>etiqueta</code> para guardar la etiqueta de cada vrtice o flor en
+ * la fase actual.</li>
+ * <li><code>extremoEtiqueta</code> para guardar el extremo de arista por el que
+ * se etiquet cada vrtice o flor.</li>
+ * <li><code>enFlor</code> para guardar la flor de nivel superior que contiene a
+ * cada vrtice.</li>
+ * <li><code>padreFlor</code> para guardar la flor que contiene directamente a
+ * cada vrtice o flor.</li>
+ * <li><code>hijosFlor</code> para guardar los vrtices y flores que forman cada
+ * flor.</li>
+ * <li><code>baseFlor</code> para guardar el vrtice base de cada flor.</li>
+ * <li><code>extremosFlor</code> para guardar los extremos de arista que unen a
+ * los hijos de cada flor.</li>
+ * <li><code>mejorArista</code> para guardar la arista de menor holgura hacia un
+ * vrtice exterior.</li>
+ * <li><code>mejoresAristasFlor</code> para guardar las aristas de menor holgura
+ * de cada flor exterior.</li>
+ * <li><code>floresLibres</code> para guardar los nmeros de flor que no estn
+ * en uso.</li>
+ * <li><code>totalFloresLibres</code> para guardar el nmero de flores
+ * libres.</li>
+ * <li><code>dual</code> para guardar la variable dual de cada vrtice y
+ * flor.</li>
+ * <li><code>aristaPermitida</code> para guardar si la holgura de cada arista es
+ * cero en la fase actual.</li>
+ * <li><code>cola</code> para guardar los vrtices exteriores pendientes de
+ * explorar.</li>
+ * <li><code>totalCola</code> para guardar el nmero de vrtices en la
+ * cola.</li>
+ * </ul>
+ *
+ * @version 18/10/2026
+ */
+public class EmparejamientoPesoMaximo {
+
+	/**
+	 * Nmero de vrtices del grafo.
+	 */
+	private int numeroVertices;
+	/**
+	 * Vrtices de cada arista: la arista <code>k</code> une a
+	 * <code>extremos[2k]</code> con <code>extremos[2k+1]</code>.
+	 */
+	private int[] extremos;
+	/**
+	 * Peso duplicado de cada arista.
+	 */
+	private long[] pesos;
+	/**
+	 * Nmero de aristas agregadas.
+	 */
+	private int numeroAristas;
+
+	/**
+	 * Extremos de arista que salen de cada vrtice: el extremo <code>p</code>
+	 * lleva al vrtice <code>extremos[p]</code>.
+	 */
+	private int[][] vecinos;
+	/**
+	 * Extremo de arista con el que est emparejado cada vrtice,
+	 * <tt>-1</tt> si no tiene pareja.
+	 */
+	private int[] pareja;
+	/**
+	 * Etiqueta de cada vrtice o flor en la fase actual: <tt>0</tt> sin
+	 * etiqueta, <tt>1</tt> exterior y <tt>2</tt> interior.
+	 */
+	private int[] etiqueta;
+	/**
+	 * Extremo de arista por el que se etiquet cada vrtice o flor,
+	 * <tt>-1</tt> si no tiene.
+	 */
+	private int[] extremoEtiqueta;
+	/**
+	 * Flor de nivel superior que contiene a cada vrtice.
+	 */
+	private int[] enFlor;
+	/**
+	 * Flor que contiene directamente a cada vrtice o flor, <tt>-1</tt> si
+	 * es de nivel superior.
+	 */
+	private int[] padreFlor;
+	/**
+	 * Vrtices y flores que forman cada flor, en el orden del ciclo que
+	 * empieza en su base.
+	 */
+	private int[][] hijosFlor;
+	/**
+	 * Vrtice base de cada flor, <tt>-1</tt> si la flor no est en uso.
+	 */
+	private int[] baseFlor;
+	/**
+	 * Extremos de arista que unen a los hijos consecutivos de cada flor.
+	 */
+	private int[][] extremosFlor;
+	/**
+	 * Arista de menor holgura de cada vrtice o flor hacia un vrtice
+	 * exterior, <tt>-1</tt> si no tiene.
+	 */
+	private int[] mejorArista;
+	/**
+	 * Aristas de menor holgura de cada flor exterior hacia las dems flores
+	 * exteriores.
+	 */
+	private int[][] mejoresAristasFlor;
+	/**
+	 * Nmeros de flor que no estn en uso.
+	 */
+	private int[] floresLibres;
+	/**
+	 * Nmero de flores libres en <code>floresLibres</code>.
+	 */
+	private int totalFloresLibres;
+	/**
+	 * Variable dual de cada vrtice y flor.
+	 */
+	private long[] dual;
+	/**
+	 * Indica si la holgura de cada arista es cero en la fase actual.
+	 */
+	private boolean[] aristaPermitida;
+	/**
+	 * Vrtices exteriores pendientes de explorar.
+	 */
+	private int[] cola;
+	/**
+	 * Nmero de vrtices en <code>cola</code>.
+	 */
+	private int totalCola;
+
+	/**
+	 * Permite crear un grafo sin aristas con el nmero de vrtices recibido.
+	 *
+	 * @param numeroVertices
+	 *            Recibe el nmero de vrtices del grafo.
+	 */
+	public EmparejamientoPesoMaximo(int numeroVertices) {
+		this.numeroVertices = numeroVertices;
+		this.extremos = new int[16];
+		this.pesos = new long[8];
+		this.numeroAristas = 0;
+	}
+
+	/**
+	 * Agrega una arista entre dos vrtices distintos.
+	 *
+	 * @param i
+	 *            Recibe el primer vrtice.
+	 * @param j
+	 *            Recibe el segundo vrtice.
+	 * @param peso
+	 *            Recibe el peso de la arista.
+	 */
+	public void agregarArista(int i, int j, long peso) {
+		if (numeroAristas == pesos.length) {
+			pesos = Arrays.copyOf(pesos, pesos.length * 2);
+			extremos = Arrays.copyOf(extremos, extremos.length * 2);
+		}
+		extremos[2 * numeroAristas] = i;
+		extremos[2 * numeroAristas + 1] = j;
+		pesos[numeroAristas] = 2 * peso;
+		numeroAristas++;
+	}
+
+	/**
+	 * Devuelve el nmero de aristas del grafo.
+	 *
+	 * @return Regresa el nmero de aristas agregadas.
+	 */
+	public int getNumeroAristas() {
+		return numeroAristas;
+	}
+
+	/**
+	 * Calcula el emparejamiento de peso mximo.
+	 *
+	 * @param cardinalidadMaxima
+	 *            Recibe <tt>true</tt> si primero se maximiza el nmero de
+	 *            parejas.
+	 * @return Regresa para cada vrtice el vrtice con el que qued
+	 *         emparejado, <tt>-1</tt> si qued sin pareja.
+	 */
+	public int[] calcular(boolean cardinalidadMaxima) {
+		int n = numeroVertices;
+		int[] resultado = new int[n];
+		Arrays.fill(resultado, -1);
+		if (numeroAristas == 0 || n == 0) {
+			return resultado;
+		}
+		inicializar();
+
+		for (int fase = 0; fase < n; fase++) {
+			Arrays.fill(etiqueta, 0);
+			Arrays.fill(mejorArista, -1);
+			for (int b = n; b < 2 * n; b++) {
+				mejoresAristasFlor[b] = null;
+			}
+			Arrays.fill(aristaPermitida, false);
+			totalCola = 0;
+			for (int v = 0; v < n; v++) {
+				if (pareja[v] == -1 && etiqueta[enFlor[v]] == 0) {
+					asignarEtiqueta(v, 1, -1);
+				}
+			}
+			boolean aumentado = false;
+			while (true) {
+				while (totalCola > 0 && !aumentado) {
+					int v = cola[--totalCola];
+					for (int p : vecinos[v]) {
+						int k = p / 2;
+						int w = extremos[p];
+						if (enFlor[v] == enFlor[w]) {
+							continue;
+						}
+						long holgura = 0;
+						if (!aristaPermitida[k]) {
+							holgura = holgura(k);
+							if (holgura <= 0) {
+								aristaPermitida[k] = true;
+							}
+						}
+						if (aristaPermitida[k]) {
+							if (etiqueta[enFlor[w]] == 0) {
+								asignarEtiqueta(w, 2, p ^ 1);
+							} else if (etiqueta[enFlor[w]] == 1) {
+								int base = buscarFlor(v, w);
+								if (base >= 0) {
+									agregarFlor(base, k);
+								} else {
+									aumentarEmparejamiento(k);
+									aumentado = true;
+									break;
+								}
+							} else if (etiqueta[w] == 0) {
+								etiqueta[w] = 2;
+								extremoEtiqueta[w] = p ^ 1;
+							}
+						} else if (etiqueta[enFlor[w]] == 1) {
+							int b = enFlor[v];
+							if (mejorArista[b] == -1 || holgura < holgura(mejorArista[b])) {
+								mejorArista[b] = k;
+							}
+						} else if (etiqueta[w] == 0) {
+							if (mejorArista[w] == -1 || holgura < holgura(mejorArista[w])) {
+								mejorArista[w] = k;
+							}
+						}
+					}
+				}
+				if (aumentado) {
+					break;
+				}
+
+				int tipoDelta = -1;
+				long delta = 0;
+				int aristaDelta = -1;
+				int florDelta = -1;
+				if (!cardinalidadMaxima) {
+					tipoDelta = 1;
+					delta = minimoDualVertices();
+				}
+				for (int v = 0; v < n; v++) {
+					if (etiqueta[enFlor[v]] == 0 && mejorArista[v] != -1) {
+						long d = holgura(mejorArista[v]);
+						if (tipoDelta == -1 || d < delta) {
+							delta = d;
+							tipoDelta = 2;
+							aristaDelta = mejorArista[v];
+						}
+					}
+				}
+				for (int b = 0; b < 2 * n; b++) {
+					if (padreFlor[b] == -1 && etiqueta[b] == 1 && mejorArista[b] != -1) {
+						long d = holgura(mejorArista[b]) / 2;
+						if (tipoDelta == -1 || d < delta) {
+							delta = d;
+							tipoDelta = 3;
+							aristaDelta = mejorArista[b];
+						}
+					}
+				}
+				for (int b = n; b < 2 * n; b++) {
+					if (baseFlor[b] >= 0 && padreFlor[b] == -1 && etiqueta[b] == 2
+							&& (tipoDelta == -1 || dual[b] < delta)) {
+						delta = dual[b];
+						tipoDelta = 4;
+						florDelta = b;
+					}
+				}
+				if (tipoDelta == -1) {
+					tipoDelta = 1;
+					delta = Math.max(0, minimoDualVertices());
+				}
+
+				for (int v = 0; v < n; v++) {
+					if (etiqueta[enFlor[v]] == 1) {
+						dual[v] -= delta;
+					} else if (etiqueta[enFlor[v]] == 2) {
+						dual[v] += delta;
+					}
+				}
+				for (int b = n; b < 2 * n; b++) {
+					if (baseFlor[b] >= 0 && padreFlor[b] == -1) {
+						if (etiqueta[b] == 1) {
+							dual[b] += delta;
+						} else if (etiqueta[b] == 2) {
+							dual[b] -= delta;
+						}
+					}
+				}
+
+				if (tipoDelta == 1) {
+					break;
+				} else if (tipoDelta == 2) {
+					aristaPermitida[aristaDelta] = true;
+					int i = extremos[2 * aristaDelta];
+					int j = extremos[2 * aristaDelta + 1];
+					if (etiqueta[enFlor[i]] == 0) {
+						i = j;
+					}
+					encolar(i);
+				} else if (tipoDelta == 3) {
+					aristaPermitida[aristaDelta] = true;
+					encolar(extremos[2 * aristaDelta]);
+				} else {
+					expandirFlor(florDelta, false);
+				}
+			}
+			if (!aumentado) {
+				break;
+			}
+			for (int b = n; b < 2 * n; b++) {
+				if (padreFlor[b] == -1 && baseFlor[b] >= 0 && etiqueta[b] == 1 && dual[b] == 0) {
+					expandirFlor(b, true);
+				}
+			}
+		}
+
+		for (int v = 0; v < n; v++) {
+			if (pareja[v] >= 0) {
+				resultado[v] = extremos[pareja[v]];
+			}
+		}
+		return resultado;
+	}
+
+	/**
+	 * Prepara las estructuras del algoritmo.
+	 */
+	private void inicializar() {
+		int n = numeroVertices;
+		int[] grados = new int[n];
+		long pesoMaximo = 0;
+		for (int k = 0; k < numeroAristas; k++) {
+			grados[extremos[2 * k]]++;
+			grados[extremos[2 * k + 1]]++;
+			pesoMaximo = Math.max(pesoMaximo, pesos[k]);
+		}
+		vecinos = new int[n][];
+		for (int v = 0; v < n; v++) {
+			vecinos[v] = new int[grados[v]];
+			grados[v] = 0;
+		}
+		for (int k = 0; k < numeroAristas; k++) {
+			int i = extremos[2 * k];
+			int j = extremos[2 * k + 1];
+			vecinos[i][grados[i]++] = 2 * k + 1;
+			vecinos[j][grados[j]++] = 2 * k;
+		}
+		pareja = new int[n];
+		Arrays.fill(pareja, -1);
+		etiqueta = new int[2 * n];
+		extremoEtiqueta = new int[2 * n];
+		Arrays.fill(extremoEtiqueta, -1);
+		enFlor = new int[n];
+		for (int v = 0; v < n; v++) {
+			enFlor[v] = v;
+		}
+		padreFlor = new int[2 * n];
+		Arrays.fill(padreFlor, -1);
+		hijosFlor = new int[2 * n][];
+		baseFlor = new int[2 * n];
+		for (int v = 0; v < 2 * n; v++) {
+			baseFlor[v] = v < n ? v : -1;
+		}
+		extremosFlor = new int[2 * n][];
+		mejorArista = new int[2 * n];
+		Arrays.fill(mejorArista, -1);
+		mejoresAristasFlor = new int[2 * n][];
+		floresLibres = new int[n];
+		totalFloresLibres = n;
+		for (int i = 0; i < n; i++) {
+			floresLibres[i] = n + i;
+		}
+		dual = new long[2 * n];
+		for (int v = 0; v < n; v++) {
+			dual[v] = pesoMaximo / 2;
+		}
+		aristaPermitida = new boolean[numeroAristas];
+		cola = new int[n];
+		totalCola = 0;
+	}
+
+	/**
+	 * Obtiene la holgura de una arista.
+	 *
+	 * @param k
+	 *            Recibe la arista.
+	 * @return Regresa la holgura duplicada de la arista.
+	 */
+	private long holgura(int k) {
+		return dual[extremos[2 * k]] + dual[extremos[2 * k + 1]] - pesos[k];
+	}
+
+	/**
+	 * Obtiene el menor valor dual de los vrtices.
+	 *
+	 * @return Regresa el menor valor dual.
+	 */
+	private long minimoDualVertices() {
+		long minimo = Long.MAX_VALUE;
+		for (int v = 0; v < numeroVertices; v++) {
+			minimo = Math.min(minimo, dual[v]);
+		}
+		return minimo;
+	}
+
+	/**
+	 * Agrega un vrtice a la cola de vrtices por explorar.
+	 *
+	 * @param v
+	 *            Recibe el vrtice.
+	 */
+	private void encolar(int v) {
+		if (totalCola == cola.length) {
+			cola = Arrays.copyOf(cola, cola.length * 2);
+		}
+		cola[totalCola++] = v;
+	}
+
+	/**
+	 * Obtiene los vrtices contenidos en una flor, incluyendo los de sus
+	 * subflores.
+	 *
+	 * @param b
+	 *            Recibe la flor o el vrtice.
+	 * @param hojas
+	 *            Recibe la lista donde se agregan los vrtices.
+	 */
+	private void obtenerHojas(int b, ArrayList<Integer> hojas) {
+		if (b < numeroVertices) {
+			hojas.add(b);
+		} else {
+			for (int t : hijosFlor[b]) {
+				obtenerHojas(t, hojas);
+			}
+		}
+	}
+
+	/**
+	 * Obtiene los vrtices contenidos en una flor.
+	 *
+	 * @param b
+	 *            Recibe la flor o el vrtice.
+	 * @return Regresa la lista de vrtices.
+	 */
+	private ArrayList<Integer> obtenerHojas(int b) {
+		ArrayList<Integer> hojas = new ArrayList<Integer>();
+		obtenerHojas(b, hojas);
+		return hojas;
+	}
+
+	/**
+	 * Etiqueta al vrtice <code>w</code> y a su flor de nivel superior con la
+	 * etiqueta <code>t</code> alcanzada por el extremo <code>p</code>.
+	 *
+	 * @param w
+	 *            Recibe el vrtice.
+	 * @param t
+	 *            Recibe la etiqueta: 1 para exterior, 2 para interior.
+	 * @param p
+	 *            Recibe el extremo por el que se alcanz el vrtice.
+	 */
+	private void asignarEtiqueta(int w, int t, int p) {
+		int b = enFlor[w];
+		etiqueta[w] = t;
+		etiqueta[b] = t;
+		extremoEtiqueta[w] = p;
+		extremoEtiqueta[b] = p;
+		mejorArista[w] = -1;
+		mejorArista[b] = -1;
+		if (t == 1) {
+			for (int v : obtenerHojas(b)) {
+				encolar(v);
+			}
+		} else if (t == 2) {
+			int base = baseFlor[b];
+			asignarEtiqueta(extremos[pareja[base]], 1, pareja[base] ^ 1);
+		}
+	}
+
+	/**
+	 * Recorre hacia atrs los caminos alternantes de <code>v</code> y
+	 * <code>w</code> buscando una nueva flor o un camino de aumento.
+	 *
+	 * @param v
+	 *            Recibe el primer vrtice.
+	 * @param w
+	 *            Recibe el segundo vrtice.
+	 * @return Regresa la base de la nueva flor o <tt>-1</tt> si se encontr un
+	 *         camino de aumento.
+	 */
+	private int buscarFlor(int v, int w) {
+		ArrayList<Integer> camino = new ArrayList<Integer>();
+		int base = -1;
+		while (v != -1 || w != -1) {
+			int b = enFlor[v];
+			if ((etiqueta[b] & 4) != 0) {
+				base = baseFlor[b];
+				break;
+			}
+			camino.add(b);
+			etiqueta[b] = 5;
+			if (extremoEtiqueta[b] == -1) {
+				v = -1;
+			} else {
+				v = extremos[extremoEtiqueta[b]];
+				b = enFlor[v];
+				v = extremos[extremoEtiqueta[b]];
+			}
+			if (w != -1) {
+				int temporal = v;
+				v = w;
+				w = temporal;
+			}
+		}
+		for (int b : camino) {
+			etiqueta[b] = 1;
+		}
+		return base;
+	}
+
+	/**
+	 * Forma una nueva flor con base <code>base</code> a partir de la arista
+	 * <code>k</code> que une dos vrtices exteriores.
+	 *
+	 * @param base
+	 *            Recibe la base de la flor.
+	 * @param k
+	 *            Recibe la arista que cierra la flor.
+	 */
+	private void agregarFlor(int base, int k) {
+		int v = extremos[2 * k];
+		int w = extremos[2 * k + 1];
+		int bb = enFlor[base];
+		int bv = enFlor[v];
+		int bw = enFlor[w];
+		int b = floresLibres[--totalFloresLibres];
+		baseFlor[b] = base;
+		padreFlor[b] = -1;
+		padreFlor[bb] = b;
+		ArrayList<Integer> camino = new ArrayList<Integer>();
+		ArrayList<Integer> extremosCamino = new ArrayList<Integer>();
+		while (bv != bb) {
+			padreFlor[bv] = b;
+			camino.add(bv);
+			extremosCamino.add(extremoEtiqueta[bv]);
+			v = extremos[extremoEtiqueta[bv]];
+			bv = enFlor[v];
+		}
+		camino.add(bb);
+		java.util.Collections.reverse(camino);
+		java.util.Collections.reverse(extremosCamino);
+		extremosCamino.add(2 * k);
+		while (bw != bb) {
+			padreFlor[bw] = b;
+			camino.add(bw);
+			extremosCamino.add(extremoEtiqueta[bw] ^ 1);
+			w = extremos[extremoEtiqueta[bw]];
+			bw = enFlor[w];
+		}
+		hijosFlor[b] = convertir(camino);
+		extremosFlor[b] = convertir(extremosCamino);
+		etiqueta[b] = 1;
+		extremoEtiqueta[b] = extremoEtiqueta[bb];
+		dual[b] = 0;
+		for (int hoja : obtenerHojas(b)) {
+			if (etiqueta[enFlor[hoja]] == 2) {
+				encolar(hoja);
+			}
+			enFlor[hoja] = b;
+		}
+
+		int[] mejorHacia = new int[2 * numeroVertices];
+		Arrays.fill(mejorHacia, -1);
+		for (int hijo : hijosFlor[b]) {
+			ArrayList<int[]> listas = new ArrayList<int[]>();
+			if (mejoresAristasFlor[hijo] == null) {
+				for (int hoja : obtenerHojas(hijo)) {
+					int[] lista = new int[vecinos[hoja].length];
+					for (int i = 0; i < lista.length; i++) {
+						lista[i] = vecinos[hoja][i] / 2;
+					}
+					listas.add(lista);
+				}
+			} else {
+				listas.add(mejoresAristasFlor[hijo]);
+			}
+			for (int[] lista : listas) {
+				for (int arista : lista) {
+					int j = extremos[2 * arista + 1];
+					if (enFlor[j] == b) {
+						j = extremos[2 * arista];
+					}
+					int bj = enFlor[j];
+					if (bj != b && etiqueta[bj] == 1
+							&& (mejorHacia[bj] == -1 || holgura(arista) < holgura(mejorHacia[bj]))) {
+						mejorHacia[bj] = arista;
+					}
+				}
+			}
+			mejoresAristasFlor[hijo] = null;
+			mejorArista[hijo] = -1;
+		}
+		int total = 0;
+		for (int arista : mejorHacia) {
+			if (arista != -1) {
+				total++;
+			}
+		}
+		int[] mejores = new int[total];
+		total = 0;
+		for (int arista : mejorHacia) {
+			if (arista != -1) {
+				mejores[total++] = arista;
+			}
+		}
+		mejoresAristasFlor[b] = mejores;
+		mejorArista[b] = -1;
+		for (int arista : mejores) {
+			if (mejorArista[b] == -1 || holgura(arista) < holgura(mejorArista[b])) {
+				mejorArista[b] = arista;
+			}
+		}
+	}
+
+	/**
+	 * Expande una flor de nivel superior.
+	 *
+	 * @param b
+	 *            Recibe la flor.
+	 * @param finFase
+	 *            Recibe <tt>true</tt> si se expande al final de una fase.
+	 */
+	private void expandirFlor(int b, boolean finFase) {
+		for (int s : hijosFlor[b]) {
+			padreFlor[s] = -1;
+			if (s < numeroVertices) {
+				enFlor[s] = s;
+			} else if (finFase && dual[s] == 0) {
+				expandirFlor(s, finFase);
+			} else {
+				for (int hoja : obtenerHojas(s)) {
+					enFlor[hoja] = s;
+				}
+			}
+		}
+		if (!finFase && etiqueta[b] == 2) {
+			int[] hijos = hijosFlor[b];
+			int[] extremosHijos = extremosFlor[b];
+			int largo = hijos.length;
+			int hijoEntrada = enFlor[extremos[extremoEtiqueta[b] ^ 1]];
+			int j = indice(hijos, hijoEntrada);
+			int paso;
+			int truco;
+			if ((j & 1) != 0) {
+				j -= largo;
+				paso = 1;
+				truco = 0;
+			} else {
+				paso = -1;
+				truco = 1;
+			}
+			int p = extremoEtiqueta[b];
+			while (j != 0) {
+				etiqueta[extremos[p ^ 1]] = 0;
+				etiqueta[extremos[extremosHijos[modulo(j - truco, largo)] ^ truco ^ 1]] = 0;
+				asignarEtiqueta(extremos[p ^ 1], 2, p);
+				aristaPermitida[extremosHijos[modulo(j - truco, largo)] / 2] = true;
+				j += paso;
+				p = extremosHijos[modulo(j - truco, largo)] ^ truco;
+				aristaPermitida[p / 2] = true;
+				j += paso;
+			}
+			int bv = hijos[modulo(j, largo)];
+			etiqueta[extremos[p ^ 1]] = 2;
+			etiqueta[bv] = 2;
+			extremoEtiqueta[extremos[p ^ 1]] = p;
+			extremoEtiqueta[bv] = p;
+			mejorArista[bv] = -1;
+			j += paso;
+			while (hijos[modulo(j, largo)] != hijoEntrada) {
+				bv = hijos[modulo(j, largo)];
+				if (etiqueta[bv] == 1) {
+					j += paso;
+					continue;
+				}
+				int etiquetado = -1;
+				for (int hoja : obtenerHojas(bv)) {
+					if (etiqueta[hoja] != 0) {
+						etiquetado = hoja;
+						break;
+					}
+				}
+				if (etiquetado != -1) {
+					etiqueta[etiquetado] = 0;
+					etiqueta[extremos[pareja[baseFlor[bv]]]] = 0;
+					asignarEtiqueta(etiquetado, 2, extremoEtiqueta[etiquetado]);
+				}
+				j += paso;
+			}
+		}
+		etiqueta[b] = -1;
+		extremoEtiqueta[b] = -1;
+		hijosFlor[b] = null;
+		extremosFlor[b] = null;
+		baseFlor[b] = -1;
+		mejoresAristasFlor[b] = null;
+		mejorArista[b] = -1;
+		floresLibres[totalFloresLibres++] = b;
+	}
+
+	/**
+	 * Intercambia las aristas emparejadas y libres dentro de la flor
+	 * <code>b</code> para que el vrtice <code>v</code> quede como su base.
+	 *
+	 * @param b
+	 *            Recibe la flor.
+	 * @param v
+	 *            Recibe el vrtice que ser la nueva base.
+	 */
+	private void aumentarFlor(int b, int v) {
+		int t = v;
+		while (padreFlor[t] != b) {
+			t = padreFlor[t];
+		}
+		if (t >= numeroVertices) {
+			aumentarFlor(t, v);
+		}
+		int[] hijos = hijosFlor[b];
+		int[] extremosHijos = extremosFlor[b];
+		int largo = hijos.length;
+		int i = indice(hijos, t);
+		int j = i;
+		int paso;
+		int truco;
+		if ((i & 1) != 0) {
+			j -= largo;
+			paso = 1;
+			truco = 0;
+		} else {
+			paso = -1;
+			truco = 1;
+		}
+		while (j != 0) {
+			j += paso;
+			t = hijos[modulo(j, largo)];
+			int p = extremosHijos[modulo(j - truco, largo)] ^ truco;
+			if (t >= numeroVertices) {
+				aumentarFlor(t, extremos[p]);
+			}
+			j += paso;
+			t = hijos[modulo(j, largo)];
+			if (t >= numeroVertices) {
+				aumentarFlor(t, extremos[p ^ 1]);
+			}
+			pareja[extremos[p]] = p ^ 1;
+			pareja[extremos[p ^ 1]] = p;
+		}
+		hijosFlor[b] = rotar(hijos, i);
+		extremosFlor[b] = rotar(extremosHijos, i);
+		baseFlor[b] = baseFlor[hijosFlor[b][0]];
+	}
+
+	/**
+	 * Aumenta el emparejamiento a lo largo del camino que pasa por la arista
+	 * <code>k</code>.
+	 *
+	 * @param k
+	 *            Recibe la arista que une los dos rboles alternantes.
+	 */
+	private void aumentarEmparejamiento(int k) {
+		int[][] inicios = { { extremos[2 * k], 2 * k + 1 }, { extremos[2 * k + 1], 2 * k } };
+		for (int[] inicio : inicios) {
+			int s = inicio[0];
+			int p = inicio[1];
+			while (true) {
+				int bs = enFlor[s];
+				if (bs >= numeroVertices) {
+					aumentarFlor(bs, s);
+				}
+				pareja[s] = p;
+				if (extremoEtiqueta[bs] == -1) {
+					break;
+				}
+				int t = extremos[extremoEtiqueta[bs]];
+				int bt = enFlor[t];
+				s = extremos[extremoEtiqueta[bt]];
+				int j = extremos[extremoEtiqueta[bt] ^ 1];
+				if (bt >= numeroVertices) {
+					aumentarFlor(bt, j);
+				}
+				pareja[j] = extremoEtiqueta[bt];
+				p = extremoEtiqueta[bt] ^ 1;
+			}
+		}
+	}
+
+	/**
+	 * Obtiene la posicin de un valor en un arreglo.
+	 *
+	 * @param arreglo
+	 *            Recibe el arreglo.
+	 * @param valor
+	 *            Recibe el valor a buscar.
+	 * @return Regresa la posicin del valor.
+	 */
+	private static int indice(int[] arreglo, int valor) {
+		for (int i = 0; i < arreglo.length; i++) {
+			if (arreglo[i] == valor) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Obtiene el residuo no negativo de una posicin, para recorrer los hijos
+	 * de una flor con ndices negativos.
+	 *
+	 * @param i
+	 *            Recibe la posicin.
+	 * @param largo
+	 *            Recibe el nmero de elementos.
+	 * @return Regresa la posicin dentro del arreglo.
+	 */
+	private static int modulo(int i, int largo) {
+		int residuo = i % largo;
+		return residuo < 0 ? residuo + largo : residuo;
+	}
+
+	/**
+	 * Rota un arreglo para que inicie en la posicin recibida.
+	 *
+	 * @param arreglo
+	 *            Recibe el arreglo.
+	 * @param inicio
+	 *            Recibe la nueva posicin inicial.
+	 * @return Regresa el arreglo rotado.
+	 */
+	private static int[] rotar(int[] arreglo, int inicio) {
+		int[] rotado = new int[arreglo.length];
+		for (int i = 0; i < arreglo.length; i++) {
+			rotado[i] = arreglo[(inicio + i) % arreglo.length];
+		}
+		return rotado;
+	}
+
+	/**
+	 * Convierte una lista de enteros en un arreglo.
+	 *
+	 * @param lista
+	 *            Recibe la lista.
+	 * @return Regresa el arreglo con los mismos valores.
+	 */
+	private static int[] convertir(ArrayList<Integer> lista) {
+		int[] arreglo = new int[lista.size()];
+		for (int i = 0; i < arreglo.length; i++) {
+			arreglo[i] = lista.get(i);
+		}
+		return arreglo;
+	}
+}
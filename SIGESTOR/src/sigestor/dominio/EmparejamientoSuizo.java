@@ -0,0 +1,368 @@
+package sigestor.dominio;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+
+/**
+ * Sirve para formar las parejas de un ciclo posterior al primero en un torneo
+ * suizo mediante un emparejamiento de peso mximo, de modo que ningn par de
+ * participantes se repita mientras exista otra forma de emparejarlos.
+ * <p>
+ * Cada participante es un vrtice y cada pareja posible es una arista cuyo
+ * peso es mayor mientras menor sea la diferencia de puntaje acumulado; dentro
+ * de un mismo grupo de puntaje se prefiere enfrentar la mitad superior con la
+ * mitad inferior, y cualquier pareja de dos participantes de la misma mitad
+ * cuesta ms que cualquier pareja entre mitades, de modo que, como en el
+ * sistema holands, se intercambian participantes entre mitades solo si no
+ * basta con transponer la mitad inferior. El participante sin encuentro (descanso) solo se une con
+ * quienes no han descansado y se prefiere a los de menor puntaje. Para no
+ * construir un grafo completo, cada participante se une solo con sus vecinos
+ * ms cercanos en la clasificacin y con los ms cercanos a su rival ideal; si
+ * as no se logra emparejar a todos, se repite con todas las parejas posibles
+ * permitiendo revanchas con una penalizacin.
+ * <p>
+ * Las subclases pueden prohibir otras parejas, sumar costos menores a la
+ * diferencia de puntaje y decidir quin es el participante inicial de cada
+ * pareja.
+ * <p>
+ * Las caractersticas de la clase <code>EmparejamientoSuizo</code> son:
+ * <ul>
+ * <li><code>VECINOS</code> para indicar cuntos vecinos sin enfrentar se unen
+ * con cada participante.</li>
+ * <li><code>COSTO_PUNTAJE</code> para indicar el costo de cada dcima de
+ * diferencia de puntaje al cuadrado.</li>
+ * <li><code>COSTO_REVANCHA</code> para indicar el costo de repetir un
+ * encuentro o un descanso.</li>
+ * <li><code>historial</code> para saber si dos participantes ya se
+ * enfrentaron.</li>
+ * </ul>
+ *
+ * @version 18/10/2026
+ */
+public class EmparejamientoSuizo {
+
+	/**
+	 * Nmero de vecinos sin enfrentar que se unen con cada participante, hacia
+	 * abajo en la clasificacin y alrededor de su rival ideal.
+	 */
+	private static final int VECINOS = 12;
+	/**
+	 * Costo de cada dcima de diferencia de puntaje al cuadrado, mayor al costo
+	 * de posicin de cualquier torneo.
+	 */
+	protected static final long COSTO_PUNTAJE = 100000L;
+	/**
+	 * Costo de repetir un encuentro o un descanso, mayor a cualquier costo de
+	 * puntaje.
+	 */
+	private static final long COSTO_REVANCHA = 1000000000000000L;
+
+	/**
+	 * Historial de encuentros del torneo.
+	 */
+	protected HistorialEncuentros historial;
+
+	/**
+	 * Permite crear el emparejamiento de un torneo con los encuentros que ya se
+	 * realizaron.
+	 *
+	 * @param torneo
+	 *            Recibe los datos del torneo.
+	 */
+	public EmparejamientoSuizo(Torneo torneo) {
+		this.historial = torneo.obtenerHistorialEncuentros();
+	}
+
+	/**
+	 * Forma las parejas del ciclo.
+	 *
+	 * @param participantes
+	 *            Recibe los participantes ordenados de mayor a menor puntaje
+	 *            acumulado, sin el participante sin encuentro.
+	 * @param sinEncuentro
+	 *            Recibe el participante sin encuentro, <code>null</code> si el
+	 *            nmero de participantes es par.
+	 * @return Regresa las parejas ordenadas por la posicin de su mejor
+	 *         participante, con el descanso al final. El primer participante de
+	 *         cada pareja es el de mejor posicin y el participante sin
+	 *         encuentro siempre queda en segundo lugar.
+	 */
+	public ArrayList<Participante[]> emparejar(ArrayList<Participante> participantes, Participante sinEncuentro) {
+		int n = participantes.size();
+		int[] posiciones = new int[n];
+		int[] mitades = calcularMitades(participantes, posiciones);
+
+		EmparejamientoPesoMaximo grafo = construirGrafo(participantes, sinEncuentro, mitades, posiciones, false);
+		int[] parejas = grafo.calcular(true);
+		if (!estanCompletas(parejas)) {
+			grafo = construirGrafo(participantes, sinEncuentro, mitades, posiciones, true);
+			parejas = grafo.calcular(true);
+		}
+
+		ArrayList<Participante[]> resultado = new ArrayList<Participante[]>();
+		Participante[] descanso = null;
+		for (int i = 0; i < n; i++) {
+			int j = parejas[i];
+			if (j == n) {
+				descanso = new Participante[] { participantes.get(i), sinEncuentro };
+			} else if (j > i) {
+				resultado.add(orientar(participantes.get(i), participantes.get(j)));
+			}
+		}
+		if (descanso != null) {
+			resultado.add(descanso);
+		}
+		return resultado;
+	}
+
+	/**
+	 * Construye el grafo de parejas posibles.
+	 *
+	 * @param participantes
+	 *            Recibe los participantes ordenados.
+	 * @param sinEncuentro
+	 *            Recibe el participante sin encuentro o <code>null</code>.
+	 * @param mitades
+	 *            Recibe la mitad del grupo de puntaje de cada participante.
+	 * @param posiciones
+	 *            Recibe la posicin de cada participante en su grupo de
+	 *            puntaje.
+	 * @param completo
+	 *            Recibe <tt>true</tt> para unir a todos con todos, incluyendo
+	 *            revanchas.
+	 * @return Regresa el grafo con el peso de cada pareja.
+	 */
+	private EmparejamientoPesoMaximo construirGrafo(ArrayList<Participante> participantes, Participante sinEncuentro,
+			int[] mitades, int[] posiciones, boolean completo) {
+		int n = participantes.size();
+		ArrayList<long[]> aristas = new ArrayList<long[]>();
+		long costoMaximo = 0;
+		HashSet<Long> agregadas = new HashSet<Long>();
+
+		for (int i = 0; i < n; i++) {
+			if (completo) {
+				for (int j = i + 1; j < n; j++) {
+					costoMaximo = Math.max(costoMaximo, agregarArista(aristas, participantes, mitades, posiciones, i, j));
+				}
+				continue;
+			}
+			int encontrados = 0;
+			for (int j = i + 1; j < n && encontrados < VECINOS; j++) {
+				if (esPermitida(participantes.get(i), participantes.get(j)) && agregadas.add(obtenerLlave(i, j))) {
+					costoMaximo = Math.max(costoMaximo, agregarArista(aristas, participantes, mitades, posiciones, i, j));
+					encontrados++;
+				}
+			}
+			int ideal = i + mitades[i];
+			encontrados = 0;
+			for (int d = 0; d < n && encontrados < 2 * VECINOS; d++) {
+				int[] candidatos = { ideal + d, ideal - d - 1 };
+				boolean dentro = false;
+				for (int j : candidatos) {
+					if (j > i && j < n) {
+						dentro = true;
+						if (esPermitida(participantes.get(i), participantes.get(j)) && agregadas.add(obtenerLlave(i, j))) {
+							costoMaximo = Math.max(costoMaximo, agregarArista(aristas, participantes, mitades, posiciones, i, j));
+							encontrados++;
+						}
+					}
+				}
+				if (!dentro && ideal + d >= n) {
+					break;
+				}
+			}
+		}
+
+		if (sinEncuentro != null) {
+			float minimo = n > 0 ? participantes.get(n - 1).getPuntajeAcumuladoParticipante() : 0;
+			for (int i = 0; i < n; i++) {
+				boolean repetido = historial.seEnfrentaron(participantes.get(i).getNumeroParticipante(),
+						sinEncuentro.getNumeroParticipante());
+				if (repetido && !completo) {
+					continue;
+				}
+				long costo = COSTO_PUNTAJE * cuadrado(obtenerDecimas(participantes.get(i).getPuntajeAcumuladoParticipante()
+						- minimo)) + (n - 1 - i) + (repetido ? COSTO_REVANCHA : 0);
+				aristas.add(new long[] { i, n, costo });
+				costoMaximo = Math.max(costoMaximo, costo);
+			}
+		}
+
+		EmparejamientoPesoMaximo grafo = new EmparejamientoPesoMaximo(sinEncuentro != null ? n + 1 : n);
+		for (long[] arista : aristas) {
+			grafo.agregarArista((int) arista[0], (int) arista[1], costoMaximo + 1 - arista[2]);
+		}
+		return grafo;
+	}
+
+	/**
+	 * Agrega a la lista la arista entre dos participantes con su costo.
+	 *
+	 * @param aristas
+	 *            Recibe la lista de aristas.
+	 * @param participantes
+	 *            Recibe los participantes ordenados.
+	 * @param mitades
+	 *            Recibe la mitad del grupo de puntaje de cada participante.
+	 * @param posiciones
+	 *            Recibe la posicin de cada participante en su grupo de
+	 *            puntaje.
+	 * @param i
+	 *            Recibe la posicin del primer participante.
+	 * @param j
+	 *            Recibe la posicin del segundo participante, mayor a
+	 *            <code>i</code>.
+	 * @return Regresa el costo de la arista.
+	 */
+	private long agregarArista(ArrayList<long[]> aristas, ArrayList<Participante> participantes, int[] mitades,
+			int[] posiciones, int i, int j) {
+		Participante p1 = participantes.get(i);
+		Participante p2 = participantes.get(j);
+		long costo = COSTO_PUNTAJE
+				* cuadrado(obtenerDecimas(p1.getPuntajeAcumuladoParticipante() - p2.getPuntajeAcumuladoParticipante()));
+		if (p1.getPuntajeAcumuladoParticipante() == p2.getPuntajeAcumuladoParticipante()) {
+			costo += Math.abs(j - i - mitades[i]);
+			if (posiciones[j] < mitades[j] || posiciones[i] >= mitades[i]) {
+				costo += mitades[i];
+			}
+		} else {
+			costo += j - i;
+		}
+		if (!esPermitida(p1, p2)) {
+			costo += COSTO_REVANCHA;
+		}
+		costo += obtenerCostoAdicional(p1, p2);
+		aristas.add(new long[] { i, j, costo });
+		return costo;
+	}
+
+	/**
+	 * Calcula para cada participante la distancia a su rival ideal dentro de su
+	 * grupo de puntaje: la mitad del grupo redondeada hacia arriba. Los
+	 * participantes con posicin menor a la mitad forman la mitad superior del
+	 * grupo.
+	 *
+	 * @param participantes
+	 *            Recibe los participantes ordenados.
+	 * @param posiciones
+	 *            Recibe el arreglo donde se guarda la posicin de cada
+	 *            participante en su grupo de puntaje, empezando en 0.
+	 * @return Regresa la mitad del grupo de cada participante.
+	 */
+	private int[] calcularMitades(ArrayList<Participante> participantes, int[] posiciones) {
+		int n = participantes.size();
+		int[] mitades = new int[n];
+		int inicio = 0;
+		while (inicio < n) {
+			float puntaje = participantes.get(inicio).getPuntajeAcumuladoParticipante();
+			int fin = inicio + 1;
+			while (fin < n && participantes.get(fin).getPuntajeAcumuladoParticipante() == puntaje) {
+				fin++;
+			}
+			int mitad = (fin - inicio + 1) / 2;
+			for (int i = inicio; i < fin; i++) {
+				mitades[i] = mitad;
+				posiciones[i] = i - inicio;
+			}
+			inicio = fin;
+		}
+		return mitades;
+	}
+
+	/**
+	 * Indica si todos los participantes quedaron emparejados.
+	 *
+	 * @param parejas
+	 *            Recibe la pareja de cada vrtice.
+	 * @return <tt>true</tt> si todos tienen pareja, <tt>false</tt> en caso
+	 *         contrario.
+	 */
+	private boolean estanCompletas(int[] parejas) {
+		int sinPareja = 0;
+		for (int i = 0; i < parejas.length; i++) {
+			if (parejas[i] == -1) {
+				sinPareja++;
+			}
+		}
+		return sinPareja <= parejas.length % 2;
+	}
+
+	/**
+	 * Indica si dos participantes se pueden enfrentar sin penalizacin: no se
+	 * han enfrentado antes.
+	 *
+	 * @param p1
+	 *            Recibe el participante con mejor posicin.
+	 * @param p2
+	 *            Recibe el otro participante.
+	 * @return <tt>true</tt> si se pueden enfrentar, <tt>false</tt> en caso
+	 *         contrario.
+	 */
+	protected boolean esPermitida(Participante p1, Participante p2) {
+		return !historial.seEnfrentaron(p1.getNumeroParticipante(), p2.getNumeroParticipante());
+	}
+
+	/**
+	 * Obtiene el costo que se suma a la diferencia de puntaje de una pareja. Debe
+	 * ser menor a <code>COSTO_PUNTAJE</code> para no alterar los grupos de
+	 * puntaje.
+	 *
+	 * @param p1
+	 *            Recibe el participante con mejor posicin.
+	 * @param p2
+	 *            Recibe el otro participante.
+	 * @return Regresa el costo adicional, 0 en este sistema.
+	 */
+	protected long obtenerCostoAdicional(Participante p1, Participante p2) {
+		return 0;
+	}
+
+	/**
+	 * Decide cul participante de la pareja es el participante inicial.
+	 *
+	 * @param p1
+	 *            Recibe el participante con mejor posicin.
+	 * @param p2
+	 *            Recibe el otro participante.
+	 * @return Regresa la pareja con el participante inicial primero, en este
+	 *         sistema el de mejor posicin.
+	 */
+	protected Participante[] orientar(Participante p1, Participante p2) {
+		return new Participante[] { p1, p2 };
+	}
+
+	/**
+	 * Obtiene la llave de un par de nmeros sin importar su orden.
+	 *
+	 * @param a
+	 *            Recibe el primer nmero.
+	 * @param b
+	 *            Recibe el segundo nmero.
+	 * @return Regresa la llave del par.
+	 */
+	private static long obtenerLlave(int a, int b) {
+		return ((long) Math.min(a, b) << 32) | (Math.max(a, b) & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Convierte una diferencia de puntaje a dcimas.
+	 *
+	 * @param diferencia
+	 *            Recibe la diferencia de puntaje.
+	 * @return Regresa el valor absoluto de la diferencia en dcimas.
+	 */
+	private static long obtenerDecimas(float diferencia) {
+		return Math.round(Math.abs(diferencia) * 10);
+	}
+
+	/**
+	 * Eleva un nmero al cuadrado.
+	 *
+	 * @param valor
+	 *            Recibe el nmero.
+	 * @return Regresa el cuadrado del nmero.
+	 */
+	private static long cuadrado(long valor) {
+		return valor * valor;
+	}
+}
@@ -290,23 +290,7 @@ public class Encuentro {
 	 *             </ul>
 	 */
 	public void setMarcadorParticipanteInicial(String marcadorParticipanteInicial) throws ExcepcionCapturarResultados {
-		marcadorParticipanteInicial = marcadorParticipanteInicial.replaceAll(" ", "");
-		if (!marcadorParticipanteInicial.isEmpty()) {
-			try {
-				int marcador = Integer.parseInt(marcadorParticipanteInicial);
-				if (marcador >= 0) {
-					this.marcadorParticipanteInicial = marcador;
-				} else {
-					throw new ExcepcionCapturarResultados(
-							ExcepcionCapturarResultados.MENSAJE_EXCEPCION_NUMERO_NEGATIVO);
-				}
-			} catch (NumberFormatException e) {
-				throw new ExcepcionCapturarResultados(
-						ExcepcionCapturarResultados.MENSAJE_EXCEPCION_MARCADOR_INCORRECTO);
-			}
-		} else {
-			throw new ExcepcionCapturarResultados(ExcepcionCapturarResultados.MENSAJE_EXCEPCION_MARCADOR_VACIO);
-		}
+		this.marcadorParticipanteInicial = convertirMarcador(marcadorParticipanteInicial);
 	}
 
 	/**
@@ -336,23 +320,40 @@ public class Encuentro {
 	 *             </ul>
 	 */
 	public void setMarcadorParticipanteFinal(String marcadorParticipanteFinal) throws ExcepcionCapturarResultados {
-		marcadorParticipanteFinal = marcadorParticipanteFinal.replaceAll(" ", "");
-		if (!marcadorParticipanteFinal.isEmpty()) {
-			try {
-				int marcador = Integer.parseInt(marcadorParticipanteFinal);
-				if (marcador >= 0) {
-					this.marcadorParticipanteFinal = marcador;
-				} else {
-					throw new ExcepcionCapturarResultados(
-							ExcepcionCapturarResultados.MENSAJE_EXCEPCION_NUMERO_NEGATIVO);
-				}
-			} catch (NumberFormatException e) {
-				throw new ExcepcionCapturarResultados(
-						ExcepcionCapturarResultados.MENSAJE_EXCEPCION_MARCADOR_INCORRECTO);
-			}
-		} else {
+		this.marcadorParticipanteFinal = convertirMarcador(marcadorParticipanteFinal);
+	}
+
+	/**
+	 * Convierte un marcador capturado en forma de cadena, sin asignarlo a
+	 * ningn encuentro.
+	 * 
+	 * @param marcador
+	 *            Recibe el marcador en forma de cadena.
+	 * @return Regresa el marcador.
+	 * @throws ExcepcionCapturarResultados
+	 *             En caso de que el parmetro recibido contenga valores no vlidos
+	 *             para el marcador. Los casos no vlidos son:
+	 *             <ul>
+	 *             <li>Si es un nmero negativo.</li>
+	 *             <li>Si contiene caracteres no numricos</li>
+	 *             <li>Si son solo espacios en blanco o se encuentra vaco.</li>
+	 *             </ul>
+	 */
+	public static int convertirMarcador(String marcador) throws ExcepcionCapturarResultados {
+		marcador = marcador.replaceAll(" ", "");
+		if (marcador.isEmpty()) {
 			throw new ExcepcionCapturarResultados(ExcepcionCapturarResultados.MENSAJE_EXCEPCION_MARCADOR_VACIO);
 		}
+		int valor;
+		try {
+			valor = Integer.parseInt(marcador);
+		} catch (NumberFormatException e) {
+			throw new ExcepcionCapturarResultados(ExcepcionCapturarResultados.MENSAJE_EXCEPCION_MARCADOR_INCORRECTO);
+		}
+		if (valor < 0) {
+			throw new ExcepcionCapturarResultados(ExcepcionCapturarResultados.MENSAJE_EXCEPCION_NUMERO_NEGATIVO);
+		}
+		return valor;
 	}
 
 	/**
@@ -423,16 +424,27 @@ public class Encuentro {
 	 */
 	@Override
 	public String toString() {
-		if (this.resultadoEncuentro == GANADOR_INICIAL) {
+		return obtenerTextoResultado(this.resultadoEncuentro);
+	}
+
+	/**
+	 * Obtiene el texto con el que se muestra un resultado en los reportes.
+	 * 
+	 * @param resultadoEncuentro
+	 *            Recibe el resultado del encuentro.
+	 * @return Regresa el texto del resultado.
+	 */
+	public static String obtenerTextoResultado(int resultadoEncuentro) {
+		if (resultadoEncuentro == GANADOR_INICIAL) {
 			return "[ganador - perdedor]";
-		} else if (this.resultadoEncuentro == GANADOR_FINAL) {
+		} else if (resultadoEncuentro == GANADOR_FINAL) {
 			return "[perdedor - ganador]";
-		} else if (this.resultadoEncuentro == EMPATE) {
+		} else if (resultadoEncuentro == EMPATE) {
 			return "[empate]";
-		} else if (this.resultadoEncuentro == SIN_JUGAR) {
+		} else if (resultadoEncuentro == SIN_JUGAR) {
 			return "[sin jugar]";
 		} else {
 			return "[descanso]";
 		}
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,298 @@
+package sigestor.dominio;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Sirve para saber en tiempo constante si dos participantes ya se enfrentaron y
+ * con qu color (local o visitante) ha jugado cada participante, sin recorrer
+ * los encuentros del torneo.
+ * <p>
+ * Los pares jugados se guardan en un <code>BitSet</code> con la mitad inferior
+ * de la matriz de adyacencia, de modo que diez mil participantes ocupan unos
+ * seis MiB. El historial se actualiza cada vez que un algoritmo genera un
+ * ciclo y, si se solicita con ciclos que no ha registrado, por ejemplo al
+ * recuperar un torneo, los agrega en ese momento.
+ * <p>
+ * Las caractersticas de la clase <code>HistorialEncuentros</code> son:
+ * <ul>
+ * <li><code>LOCAL</code> para indicar que el participante jug como
+ * participante inicial.</li>
+ * <li><code>VISITANTE</code> para indicar que el participante jug como
+ * participante final.</li>
+ * <li><code>SIN_COLOR</code> para indicar que el participante no ha jugado.</li>
+ * <li><code>torneo</code> para guardar los datos del torneo.</li>
+ * <li><code>jugados</code> para guardar los pares de participantes que ya se
+ * enfrentaron.</li>
+ * <li><code>diferenciaColor</code> para guardar cuntas veces ms jug cada
+ * participante como local que como visitante.</li>
+ * <li><code>ultimoColor</code> para guardar el color del ltimo encuentro de
+ * cada participante.</li>
+ * <li><code>coloresSeguidos</code> para guardar cuntos encuentros seguidos
+ * jug cada participante con su ltimo color.</li>
+ * <li><code>ciclosRegistrados</code> para guardar los ciclos ya
+ * registrados.</li>
+ * <li><code>ciclos</code> para guardar la lista de ciclos del torneo con la
+ * que se sincroniza el historial.</li>
+ * <li><code>ciclosRevisados</code> para guardar cuntos ciclos de la lista ya
+ * se revisaron al sincronizar.</li>
+ * </ul>
+ *
+ * @version 18/10/2026
+ */
+public class HistorialEncuentros {
+
+	/**
+	 * Color del participante inicial de un encuentro.
+	 */
+	public static final int LOCAL = 1;
+	/**
+	 * Color del participante final de un encuentro.
+	 */
+	public static final int VISITANTE = -1;
+	/**
+	 * Color de un participante que no ha jugado.
+	 */
+	public static final int SIN_COLOR = 0;
+
+	/**
+	 * Datos del torneo.
+	 */
+	private Torneo torneo;
+	/**
+	 * Pares de participantes que ya se enfrentaron, en la mitad inferior de la
+	 * matriz de adyacencia.
+	 */
+	private BitSet jugados;
+	/**
+	 * Veces que cada participante jug como local menos las veces que jug como
+	 * visitante.
+	 */
+	private int[] diferenciaColor;
+	/**
+	 * Color del ltimo encuentro de cada participante.
+	 */
+	private int[] ultimoColor;
+	/**
+	 * Encuentros seguidos que cada participante jug con su ltimo color.
+	 */
+	private int[] coloresSeguidos;
+	/**
+	 * Ciclos ya registrados en el historial.
+	 */
+	private Set<Ciclo> ciclosRegistrados;
+	/**
+	 * Lista de ciclos del torneo con la que se sincroniza el historial.
+	 */
+	private ArrayList<Ciclo> ciclos;
+	/**
+	 * Nmero de ciclos de la lista que ya se revisaron al sincronizar.
+	 */
+	private int ciclosRevisados;
+
+	/**
+	 * Permite crear el historial de un torneo con los ciclos que ya tiene.
+	 *
+	 * @param torneo
+	 *            Recibe los datos del torneo.
+	 */
+	public HistorialEncuentros(Torneo torneo) {
+		this.torneo = torneo;
+		this.jugados = new BitSet();
+		this.diferenciaColor = new int[0];
+		this.ultimoColor = new int[0];
+		this.coloresSeguidos = new int[0];
+		this.ciclosRegistrados = Collections.newSetFromMap(new IdentityHashMap<Ciclo, Boolean>());
+		this.ciclos = torneo.getAlgoritmoTorneo() != null ? torneo.getAlgoritmoTorneo().getCiclos() : null;
+		sincronizar(ciclos);
+	}
+
+	/**
+	 * Registra los ciclos que se agregaron a la lista desde la ltima
+	 * sincronizacin; los ciclos ya revisados no se vuelven a recorrer.
+	 *
+	 * @param ciclosTorneo
+	 *            Recibe la lista de ciclos del torneo, puede ser
+	 *            <code>null</code>.
+	 */
+	public void sincronizar(ArrayList<Ciclo> ciclosTorneo) {
+		if (ciclosTorneo == null || ciclosTorneo != ciclos) {
+			return;
+		}
+		for (; ciclosRevisados < ciclosTorneo.size(); ciclosRevisados++) {
+			registrar(ciclosTorneo.get(ciclosRevisados));
+		}
+	}
+
+	/**
+	 * Registra los encuentros de un ciclo recin generado. Si el ciclo ya est
+	 * registrado no hace nada. Si los encuentros del ciclo an no se generan de
+	 * su calendario, registra las parejas del calendario sin generarlos.
+	 *
+	 * @param ciclo
+	 *            Recibe el ciclo con sus encuentros.
+	 */
+	public void registrar(Ciclo ciclo) {
+		CalendarioBerger calendario = ciclo.getCalendario();
+		boolean deCalendario = calendario != null && !ciclo.tieneEncuentrosGenerados();
+		if ((!deCalendario && ciclo.getEncuentroParticipantes() == null) || !ciclosRegistrados.add(ciclo)) {
+			return;
+		}
+		int sinEncuentro = torneo.obtenerNumeroSinEncuentro();
+		if (deCalendario) {
+			for (int mesa = 0; mesa < calendario.getNumeroMesas(); mesa++) {
+				int[] pareja = calendario.obtenerPareja(ciclo.getNumeroCiclo() - 1, mesa);
+				if (pareja != null) {
+					registrarPareja(pareja[0], pareja[1], sinEncuentro);
+				}
+			}
+			return;
+		}
+		for (Encuentro encuentro : ciclo.getEncuentroParticipantes()) {
+			registrarPareja(encuentro.getIdParticipanteInicial(), encuentro.getIdParticipanteFinal(), sinEncuentro);
+		}
+	}
+
+	/**
+	 * Indica si el historial corresponde a los ciclos recibidos: debe ser la
+	 * misma lista con la que se cre y no puede haber revisado ms ciclos de los
+	 * que tiene. No recorre los ciclos.
+	 *
+	 * @param ciclosTorneo
+	 *            Recibe la lista de ciclos del torneo, puede ser
+	 *            <code>null</code>.
+	 * @return <tt>true</tt> si el historial se puede seguir utilizando,
+	 *         <tt>false</tt> si se eliminaron o reemplazaron ciclos.
+	 */
+	public boolean estaVigente(ArrayList<Ciclo> ciclosTorneo) {
+		return ciclosTorneo == ciclos && ciclosRevisados <= (ciclosTorneo != null ? ciclosTorneo.size() : 0);
+	}
+
+	/**
+	 * Indica si dos participantes ya se enfrentaron, incluyendo el descanso
+	 * contra el participante sin encuentro.
+	 *
+	 * @param numeroParticipante1
+	 *            Recibe el nmero del primer participante.
+	 * @param numeroParticipante2
+	 *            Recibe el nmero del segundo participante.
+	 * @return <tt>true</tt> si ya se enfrentaron, <tt>false</tt> en caso
+	 *         contrario.
+	 */
+	public boolean seEnfrentaron(int numeroParticipante1, int numeroParticipante2) {
+		if (numeroParticipante1 == numeroParticipante2 || numeroParticipante1 < 0 || numeroParticipante2 < 0) {
+			return false;
+		}
+		return jugados.get(obtenerPosicion(numeroParticipante1, numeroParticipante2));
+	}
+
+	/**
+	 * Obtiene cuntas veces ms jug un participante como local que como
+	 * visitante.
+	 *
+	 * @param numeroParticipante
+	 *            Recibe el nmero del participante.
+	 * @return Regresa la diferencia de colores, negativa si jug ms veces como
+	 *         visitante.
+	 */
+	public int obtenerDiferenciaColor(int numeroParticipante) {
+		return numeroParticipante >= 0 && numeroParticipante < diferenciaColor.length
+				? diferenciaColor[numeroParticipante] : 0;
+	}
+
+	/**
+	 * Obtiene el color del ltimo encuentro de un participante.
+	 *
+	 * @param numeroParticipante
+	 *            Recibe el nmero del participante.
+	 * @return Regresa <code>LOCAL</code>, <code>VISITANTE</code> o
+	 *         <code>SIN_COLOR</code> si no ha jugado.
+	 */
+	public int obtenerUltimoColor(int numeroParticipante) {
+		return numeroParticipante >= 0 && numeroParticipante < ultimoColor.length ? ultimoColor[numeroParticipante]
+				: SIN_COLOR;
+	}
+
+	/**
+	 * Obtiene cuntos encuentros seguidos jug un participante con su ltimo
+	 * color.
+	 *
+	 * @param numeroParticipante
+	 *            Recibe el nmero del participante.
+	 * @return Regresa el nmero de encuentros seguidos con el mismo color.
+	 */
+	public int obtenerColoresSeguidos(int numeroParticipante) {
+		return numeroParticipante >= 0 && numeroParticipante < coloresSeguidos.length
+				? coloresSeguidos[numeroParticipante] : 0;
+	}
+
+	/**
+	 * Registra que dos participantes se enfrentaron y el color de cada uno.
+	 *
+	 * @param inicial
+	 *            Recibe el nmero del participante inicial.
+	 * @param fin
+	 *            Recibe el nmero del participante final.
+	 * @param sinEncuentro
+	 *            Recibe el nmero del participante sin encuentro, que no recibe
+	 *            color.
+	 */
+	private void registrarPareja(int inicial, int fin, int sinEncuentro) {
+		if (inicial == fin) {
+			return;
+		}
+		jugados.set(obtenerPosicion(inicial, fin));
+		if (inicial != sinEncuentro && fin != sinEncuentro) {
+			asignarColor(inicial, LOCAL);
+			asignarColor(fin, VISITANTE);
+		}
+	}
+
+	/**
+	 * Registra el color con el que jug un participante.
+	 *
+	 * @param numeroParticipante
+	 *            Recibe el nmero del participante.
+	 * @param color
+	 *            Recibe <code>LOCAL</code> o <code>VISITANTE</code>.
+	 */
+	private void asignarColor(int numeroParticipante, int color) {
+		if (numeroParticipante < 0) {
+			return;
+		}
+		if (numeroParticipante >= diferenciaColor.length) {
+			int tamano = Math.max(numeroParticipante + 1, diferenciaColor.length * 2);
+			diferenciaColor = Arrays.copyOf(diferenciaColor, tamano);
+			ultimoColor = Arrays.copyOf(ultimoColor, tamano);
+			coloresSeguidos = Arrays.copyOf(coloresSeguidos, tamano);
+		}
+		diferenciaColor[numeroParticipante] += color;
+		if (ultimoColor[numeroParticipante] == color) {
+			coloresSeguidos[numeroParticipante]++;
+		} else {
+			ultimoColor[numeroParticipante] = color;
+			coloresSeguidos[numeroParticipante] = 1;
+		}
+	}
+
+	/**
+	 * Obtiene la posicin de un par de participantes en la mitad inferior de la
+	 * matriz de adyacencia.
+	 *
+	 * @param numeroParticipante1
+	 *            Recibe el nmero del primer participante.
+	 * @param numeroParticipante2
+	 *            Recibe el nmero del segundo participante, distinto del
+	 *            primero.
+	 * @return Regresa la posicin del par en <code>jugados</code>.
+	 */
+	private static int obtenerPosicion(int numeroParticipante1, int numeroParticipante2) {
+		long mayor = Math.max(numeroParticipante1, numeroParticipante2);
+		long menor = Math.min(numeroParticipante1, numeroParticipante2);
+		return (int) (mayor * (mayor - 1) / 2 + menor);
+	}
+}
@@ -0,0 +1,433 @@
+package sigestor.dominio;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+
+/**
+ * Sirve para consultar los encuentros del torneo por participante durante una
+ * aplicacin de los criterios de desempate. Se construye una sola vez a partir
+ * de los ciclos ya jugados del torneo, hasta el ciclo actual, y todos los
+ * <code>Desempate</code> lo consultan en lugar de recorrer la lista completa de
+ * encuentros. Los ciclos posteriores al actual no se recorren, por lo que no se
+ * crean los encuentros que un <code>CalendarioBerger</code> an no ha generado.
+ * <p>
+ * El torneo conserva su ndice mientras no cambien su lista de ciclos ni el
+ * nmero de ciclos jugados. Cuando se captura o se modifica un resultado, el
+ * ndice retira el resultado anterior con <code>quitarResultado</code> y
+ * registra el nuevo con <code>agregarResultado</code>, que solo recalcula los
+ * puntajes Buchholz, Sonneborn-Berger y Koya de los participantes del
+ * encuentro y de sus rivales.
+ * <p>
+ * Las caractersticas de la clase <code>IndiceEncuentros</code> son:
+ * <ul>
+ * <li><code>torneo</code> para guardar los datos del torneo.</li>
+ * <li><code>ciclos</code> para guardar la lista de ciclos con la que se
+ * construy el ndice.</li>
+ * <li><code>ciclosJugados</code> para guardar el nmero de ciclos de la lista
+ * que estn en el ndice.</li>
+ * <li><code>encuentrosTotales</code> para guardar los encuentros de los ciclos
+ * jugados en el orden de sus ciclos.</li>
+ * <li><code>encuentrosParticipante</code> para guardar los encuentros de cada
+ * participante, indexados por su nmero de participante.</li>
+ * <li><code>ganados</code> para guardar el nmero de encuentros ganados por
+ * cada participante.</li>
+ * <li><code>puntosEncuentros</code> para guardar los puntos de cada
+ * participante contando 1 por encuentro ganado y 0.5 por empate o
+ * descanso.</li>
+ * <li><code>buchholz</code> para guardar el puntaje Buchholz de cada
+ * participante.</li>
+ * <li><code>sonnebornBerger</code> para guardar el puntaje Sonneborn-Berger de
+ * cada participante.</li>
+ * <li><code>koya</code> para guardar el puntaje Koya de cada participante.</li>
+ * </ul>
+ *
+ * @version 18/10/2026
+ */
+public class IndiceEncuentros {
+
+	/**
+	 * Datos del torneo.
+	 */
+	private Torneo torneo;
+	/**
+	 * Lista de ciclos con la que se construy el ndice.
+	 */
+	private ArrayList<Ciclo> ciclos;
+	/**
+	 * Nmero de ciclos de la lista que estn en el ndice.
+	 */
+	private int ciclosJugados;
+	/**
+	 * Encuentros de los ciclos jugados en el orden de sus ciclos.
+	 */
+	private ArrayList<Encuentro> encuentrosTotales;
+	/**
+	 * Encuentros de cada participante indexados por su nmero de participante.
+	 */
+	private ArrayList<ArrayList<Encuentro>> encuentrosParticipante;
+	/**
+	 * Nmero de encuentros ganados por cada participante.
+	 */
+	private int[] ganados;
+	/**
+	 * Puntos de cada participante contando 1 por encuentro ganado y 0.5 por
+	 * empate o descanso.
+	 */
+	private float[] puntosEncuentros;
+	/**
+	 * Puntaje Buchholz de cada participante.
+	 */
+	private float[] buchholz;
+	/**
+	 * Puntaje Sonneborn-Berger de cada participante.
+	 */
+	private float[] sonnebornBerger;
+	/**
+	 * Puntaje Koya de cada participante.
+	 */
+	private float[] koya;
+
+	/**
+	 * Construye el ndice con los encuentros de los ciclos jugados del torneo
+	 * recibido y calcula los puntajes de desempate de cada participante.
+	 *
+	 * @param torneo
+	 *            Recibe los datos del torneo.
+	 */
+	public IndiceEncuentros(Torneo torneo) {
+		this.torneo = torneo;
+		this.ciclos = torneo.getAlgoritmoTorneo() != null ? torneo.getAlgoritmoTorneo().getCiclos() : null;
+		this.ciclosJugados = contarCiclosJugados(torneo, ciclos);
+		encuentrosTotales = new ArrayList<Encuentro>();
+		int mayor = 0;
+		for (int i = 0; i < ciclosJugados; i++) {
+			ArrayList<Encuentro> encuentros = ciclos.get(i).getEncuentroParticipantes();
+			if (encuentros != null) {
+				for (Encuentro encuentro : encuentros) {
+					encuentrosTotales.add(encuentro);
+					mayor = Math.max(mayor,
+							Math.max(encuentro.getIdParticipanteInicial(), encuentro.getIdParticipanteFinal()));
+				}
+			}
+		}
+		encuentrosParticipante = new ArrayList<ArrayList<Encuentro>>(mayor + 1);
+		for (int i = 0; i <= mayor; i++) {
+			encuentrosParticipante.add(new ArrayList<Encuentro>());
+		}
+		ganados = new int[mayor + 1];
+		puntosEncuentros = new float[mayor + 1];
+		buchholz = new float[mayor + 1];
+		sonnebornBerger = new float[mayor + 1];
+		koya = new float[mayor + 1];
+		for (Encuentro encuentro : encuentrosTotales) {
+			registrar(encuentro, encuentro.getIdParticipanteInicial());
+			if (encuentro.getIdParticipanteFinal() != encuentro.getIdParticipanteInicial()) {
+				registrar(encuentro, encuentro.getIdParticipanteFinal());
+			}
+		}
+		for (int i = 0; i <= mayor; i++) {
+			recalcularDesempates(i);
+		}
+	}
+
+	/**
+	 * Obtiene el nmero de ciclos jugados del torneo: los ciclos hasta el ciclo
+	 * actual que ya estn en la lista.
+	 *
+	 * @param torneo
+	 *            Recibe los datos del torneo.
+	 * @param ciclos
+	 *            Recibe la lista de ciclos del torneo, puede ser
+	 *            <code>null</code>.
+	 * @return Regresa el nmero de ciclos jugados.
+	 */
+	private static int contarCiclosJugados(Torneo torneo, ArrayList<Ciclo> ciclos) {
+		return ciclos != null ? Math.max(0, Math.min(torneo.getCicloActual(), ciclos.size())) : 0;
+	}
+
+	/**
+	 * Indica si el ndice corresponde a los ciclos actuales del torneo,
+	 * comparando la lista de ciclos y el nmero de ciclos jugados, sin recorrer
+	 * los encuentros.
+	 *
+	 * @param ciclosTorneo
+	 *            Recibe la lista de ciclos actual del torneo.
+	 * @return <tt>true</tt> si el ndice est al da, <tt>false</tt> en caso
+	 *         contrario.
+	 */
+	public boolean estaVigente(ArrayList<Ciclo> ciclosTorneo) {
+		return ciclosTorneo == ciclos && ciclosJugados == contarCiclosJugados(torneo, ciclosTorneo);
+	}
+
+	/**
+	 * Retira el resultado actual de un encuentro de los acumulados de sus
+	 * participantes. Se llama antes de cambiar el resultado del encuentro.
+	 *
+	 * @param encuentro
+	 *            Recibe el encuentro cuyo resultado se va a cambiar.
+	 */
+	public void quitarResultado(Encuentro encuentro) {
+		acumular(encuentro, encuentro.getIdParticipanteInicial(), -1);
+		if (encuentro.getIdParticipanteFinal() != encuentro.getIdParticipanteInicial()) {
+			acumular(encuentro, encuentro.getIdParticipanteFinal(), -1);
+		}
+	}
+
+	/**
+	 * Agrega el resultado actual de un encuentro a los acumulados de sus
+	 * participantes y recalcula los puntajes de desempate de ambos y de sus
+	 * rivales. Se llama despus de cambiar el resultado del encuentro y el
+	 * puntaje acumulado de sus participantes.
+	 *
+	 * @param encuentro
+	 *            Recibe el encuentro con su nuevo resultado.
+	 */
+	public void agregarResultado(Encuentro encuentro) {
+		acumular(encuentro, encuentro.getIdParticipanteInicial(), 1);
+		if (encuentro.getIdParticipanteFinal() != encuentro.getIdParticipanteInicial()) {
+			acumular(encuentro, encuentro.getIdParticipanteFinal(), 1);
+		}
+		HashSet<Integer> afectados = new HashSet<Integer>();
+		agregarAfectados(encuentro.getIdParticipanteInicial(), afectados);
+		agregarAfectados(encuentro.getIdParticipanteFinal(), afectados);
+		for (int numeroParticipante : afectados) {
+			recalcularDesempates(numeroParticipante);
+		}
+	}
+
+	/**
+	 * Agrega el encuentro a la lista del participante y acumula sus encuentros
+	 * ganados y sus puntos.
+	 *
+	 * @param encuentro
+	 *            Recibe el encuentro a registrar.
+	 * @param numeroParticipante
+	 *            Recibe el nmero del participante del encuentro.
+	 */
+	private void registrar(Encuentro encuentro, int numeroParticipante) {
+		if (numeroParticipante < 0) {
+			return;
+		}
+		encuentrosParticipante.get(numeroParticipante).add(encuentro);
+		acumular(encuentro, numeroParticipante, 1);
+	}
+
+	/**
+	 * Suma o resta el resultado del encuentro a los encuentros ganados y a los
+	 * puntos del participante.
+	 *
+	 * @param encuentro
+	 *            Recibe el encuentro.
+	 * @param numeroParticipante
+	 *            Recibe el nmero del participante del encuentro.
+	 * @param signo
+	 *            Recibe 1 para sumar el resultado o -1 para restarlo.
+	 */
+	private void acumular(Encuentro encuentro, int numeroParticipante, int signo) {
+		if (numeroParticipante < 0 || numeroParticipante >= ganados.length) {
+			return;
+		}
+		int resultado = encuentro.getResultadoEncuentro();
+		if (resultado == Encuentro.DESCANSO || resultado == Encuentro.EMPATE) {
+			puntosEncuentros[numeroParticipante] += 0.5f * signo;
+		} else if (esGanador(encuentro, numeroParticipante)) {
+			puntosEncuentros[numeroParticipante] += signo;
+			ganados[numeroParticipante] += signo;
+		}
+	}
+
+	/**
+	 * Indica si el participante gan el encuentro.
+	 *
+	 * @param encuentro
+	 *            Recibe el encuentro.
+	 * @param numeroParticipante
+	 *            Recibe el nmero del participante del encuentro.
+	 * @return <tt>true</tt> si el participante gan el encuentro, <tt>false</tt>
+	 *         en caso contrario.
+	 */
+	private boolean esGanador(Encuentro encuentro, int numeroParticipante) {
+		return (encuentro.getResultadoEncuentro() == Encuentro.GANADOR_INICIAL
+				&& encuentro.getIdParticipanteInicial() == numeroParticipante)
+				|| (encuentro.getResultadoEncuentro() == Encuentro.GANADOR_FINAL
+						&& encuentro.getIdParticipanteFinal() == numeroParticipante);
+	}
+
+	/**
+	 * Agrega al participante y a todos sus rivales al conjunto de participantes
+	 * cuyos puntajes de desempate se deben recalcular.
+	 *
+	 * @param numeroParticipante
+	 *            Recibe el nmero del participante.
+	 * @param afectados
+	 *            Recibe el conjunto de participantes afectados.
+	 */
+	private void agregarAfectados(int numeroParticipante, HashSet<Integer> afectados) {
+		if (numeroParticipante < 0 || numeroParticipante >= encuentrosParticipante.size()) {
+			return;
+		}
+		afectados.add(numeroParticipante);
+		for (Encuentro encuentro : encuentrosParticipante.get(numeroParticipante)) {
+			afectados.add(obtenerRival(encuentro, numeroParticipante));
+		}
+	}
+
+	/**
+	 * Recalcula los puntajes Buchholz, Sonneborn-Berger y Koya de un
+	 * participante a partir de sus propios encuentros.
+	 * <ul>
+	 * <li>Buchholz suma los puntos de los rivales de los encuentros en que el
+	 * participante fue participante inicial.</li>
+	 * <li>Sonneborn-Berger suma el puntaje acumulado de los rivales a quienes
+	 * venci o con quienes empat.</li>
+	 * <li>Koya suma 1 por cada victoria y 0.5 por cada empate contra rivales que
+	 * alcanzaron la mitad o ms de los puntos totales posibles del torneo.</li>
+	 * </ul>
+	 *
+	 * @param numeroParticipante
+	 *            Recibe el nmero del participante.
+	 */
+	private void recalcularDesempates(int numeroParticipante) {
+		if (numeroParticipante < 0 || numeroParticipante >= encuentrosParticipante.size()) {
+			return;
+		}
+		float mitadPuntosPosibles = 0f;
+		if (torneo.getDatosPersonalizacion() != null && ciclos != null) {
+			mitadPuntosPosibles = torneo.getDatosPersonalizacion().getPuntajeGanar() * ciclos.size() / 2;
+		}
+		float puntajeBuchholz = 0f;
+		float puntajeSonne = 0f;
+		float puntajeKoya = 0f;
+		for (Encuentro encuentro : encuentrosParticipante.get(numeroParticipante)) {
+			int rival = obtenerRival(encuentro, numeroParticipante);
+			if (encuentro.getIdParticipanteInicial() == numeroParticipante) {
+				puntajeBuchholz += obtenerPuntosEncuentros(rival);
+			}
+			Participante participanteRival = torneo.obtenerParticipante(rival);
+			float puntajeRival = participanteRival != null ? participanteRival.getPuntajeAcumuladoParticipante() : 0f;
+			if (esGanador(encuentro, numeroParticipante)) {
+				puntajeSonne += puntajeRival;
+				if (puntajeRival >= mitadPuntosPosibles) {
+					puntajeKoya += 1;
+				}
+			} else if (encuentro.getResultadoEncuentro() == Encuentro.EMPATE) {
+				puntajeSonne += puntajeRival;
+				if (puntajeRival >= mitadPuntosPosibles) {
+					puntajeKoya += 0.5f;
+				}
+			}
+		}
+		buchholz[numeroParticipante] = puntajeBuchholz;
+		sonnebornBerger[numeroParticipante] = puntajeSonne;
+		koya[numeroParticipante] = puntajeKoya;
+	}
+
+	/**
+	 * Obtiene el nmero del rival del participante en un encuentro.
+	 *
+	 * @param encuentro
+	 *            Recibe el encuentro.
+	 * @param numeroParticipante
+	 *            Recibe el nmero del participante del encuentro.
+	 * @return Regresa el nmero del rival.
+	 */
+	private int obtenerRival(Encuentro encuentro, int numeroParticipante) {
+		return encuentro.getIdParticipanteInicial() == numeroParticipante ? encuentro.getIdParticipanteFinal()
+				: encuentro.getIdParticipanteInicial();
+	}
+
+	/**
+	 * Devuelve los encuentros de los ciclos jugados del torneo.
+	 *
+	 * @return Regresa la lista de encuentros en el orden de sus ciclos.
+	 */
+	public ArrayList<Encuentro> getEncuentrosTotales() {
+		return encuentrosTotales;
+	}
+
+	/**
+	 * Obtiene los encuentros de un participante.
+	 *
+	 * @param numeroParticipante
+	 *            Recibe el nmero del participante.
+	 * @return Regresa la lista de encuentros del participante, vaca si no tiene
+	 *         encuentros.
+	 */
+	public ArrayList<Encuentro> obtenerEncuentros(int numeroParticipante) {
+		if (numeroParticipante < 0 || numeroParticipante >= encuentrosParticipante.size()) {
+			return new ArrayList<Encuentro>();
+		}
+		return encuentrosParticipante.get(numeroParticipante);
+	}
+
+	/**
+	 * Obtiene el nmero de encuentros ganados por un participante.
+	 *
+	 * @param numeroParticipante
+	 *            Recibe el nmero del participante.
+	 * @return Regresa el nmero de encuentros ganados.
+	 */
+	public int obtenerGanados(int numeroParticipante) {
+		if (numeroParticipante < 0 || numeroParticipante >= ganados.length) {
+			return 0;
+		}
+		return ganados[numeroParticipante];
+	}
+
+	/**
+	 * Obtiene los puntos de un participante contando 1 por encuentro ganado y 0.5
+	 * por empate o descanso.
+	 *
+	 * @param numeroParticipante
+	 *            Recibe el nmero del participante.
+	 * @return Regresa los puntos obtenidos en sus encuentros.
+	 */
+	public float obtenerPuntosEncuentros(int numeroParticipante) {
+		if (numeroParticipante < 0 || numeroParticipante >= puntosEncuentros.length) {
+			return 0f;
+		}
+		return puntosEncuentros[numeroParticipante];
+	}
+
+	/**
+	 * Obtiene el puntaje Buchholz de un participante.
+	 *
+	 * @param numeroParticipante
+	 *            Recibe el nmero del participante.
+	 * @return Regresa el puntaje Buchholz.
+	 */
+	public float obtenerBuchholz(int numeroParticipante) {
+		if (numeroParticipante < 0 || numeroParticipante >= buchholz.length) {
+			return 0f;
+		}
+		return buchholz[numeroParticipante];
+	}
+
+	/**
+	 * Obtiene el puntaje Sonneborn-Berger de un participante.
+	 *
+	 * @param numeroParticipante
+	 *            Recibe el nmero del participante.
+	 * @return Regresa el puntaje Sonneborn-Berger.
+	 */
+	public float obtenerSonnebornBerger(int numeroParticipante) {
+		if (numeroParticipante < 0 || numeroParticipante >= sonnebornBerger.length) {
+			return 0f;
+		}
+		return sonnebornBerger[numeroParticipante];
+	}
+
+	/**
+	 * Obtiene el puntaje Koya de un participante.
+	 *
+	 * @param numeroParticipante
+	 *            Recibe el nmero del participante.
+	 * @return Regresa el puntaje Koya.
+	 */
+	public float obtenerKoya(int numeroParticipante) {
+		if (numeroParticipante < 0 || numeroParticipante >= koya.length) {
+			return 0f;
+		}
+		return koya[numeroParticipante];
+	}
+}
@@ -0,0 +1,658 @@
+package sigestor.dominio;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * Sirve para guardar el cuadro de un torneo de Eliminacin directa en arreglos
+ * de enteros, de modo que avanzar al ganador de un encuentro no requiera
+ * recorrer a los participantes.
+ * <p>
+ * El cuadro de ganadores es un rbol binario implcito: la posicin 1 es la
+ * raz, las hojas ocupan las posiciones <code>tamano</code> a
+ * <code>2 * tamano - 1</code> y la partida de la posicin <code>n</code>
+ * enfrenta a los participantes de las posiciones <code>2n</code> y
+ * <code>2n + 1</code>; el valor de la posicin <code>n</code> es el ganador de
+ * esa partida. En la eliminacin doble, el cuadro de perdedores se guarda por
+ * rondas en otro arreglo, dos casillas por partida, con la casilla del campen
+ * de perdedores al final. Los perdedores de la primera ronda de ganadores se
+ * enfrentan entre s y los de cada ronda posterior caen contra los ganadores
+ * de la ronda de perdedores anterior, en orden invertido cada dos rondas para
+ * evitar revanchas tempranas. El campen de ganadores y el campen de
+ * perdedores juegan la gran final; si la llave tiene reinicio y la gana el
+ * campen de perdedores, ambos juegan una final ms, pues hasta entonces el
+ * campen de ganadores no haba perdido.
+ * <p>
+ * Las casillas sin participante tienen el valor <code>VACIO</code> y las que
+ * esperan un resultado el valor <code>POR_DEFINIR</code>. Un participante que
+ * queda contra una casilla vaca avanza sin jugar.
+ * <p>
+ * Las caractersticas de la clase <code>Llave</code> son:
+ * <ul>
+ * <li><code>POR_DEFINIR</code> para indicar una casilla que espera el
+ * resultado de una partida.</li>
+ * <li><code>VACIO</code> para indicar una casilla sin participante.</li>
+ * <li><code>tamano</code> para guardar el nmero de hojas del cuadro de
+ * ganadores, potencia de dos.</li>
+ * <li><code>numeroRondas</code> para guardar el nmero de rondas del cuadro de
+ * ganadores.</li>
+ * <li><code>doble</code> para indicar si la llave tiene cuadro de
+ * perdedores.</li>
+ * <li><code>reinicio</code> para indicar si se juega una final de reinicio
+ * cuando el campen de perdedores gana la gran final.</li>
+ * <li><code>primeraRonda</code> para guardar el ciclo del torneo en el que se
+ * juega la primera ronda de la llave.</li>
+ * <li><code>ganadores</code> para guardar el rbol del cuadro de
+ * ganadores.</li>
+ * <li><code>perdedores</code> para guardar las casillas del cuadro de
+ * perdedores.</li>
+ * <li><code>inicioRondaPerdedores</code> para guardar la primera partida de
+ * cada ronda del cuadro de perdedores.</li>
+ * <li><code>destinoPerdedores</code> para guardar la casilla a la que avanza
+ * el ganador de cada partida del cuadro de perdedores.</li>
+ * <li><code>finales</code> para guardar el ganador de la gran final y el de
+ * la final de reinicio.</li>
+ * <li><code>posiciones</code> para guardar la casilla actual de cada
+ * participante.</li>
+ * </ul>
+ *
+ * @version 18/10/2026
+ */
+public class Llave {
+
+	/**
+	 * Valor de una casilla que espera el resultado de una partida.
+	 */
+	public static final int POR_DEFINIR = -2;
+	/**
+	 * Valor de una casilla sin participante.
+	 */
+	public static final int VACIO = -1;
+	/**
+	 * Nmero de enteros que preceden a las casillas al guardar la llave.
+	 */
+	private static final int ENCABEZADO = 3;
+
+	/**
+	 * Nmero de hojas del cuadro de ganadores.
+	 */
+	private int tamano;
+	/**
+	 * Nmero de rondas del cuadro de ganadores.
+	 */
+	private int numeroRondas;
+	/**
+	 * Indica si la llave tiene cuadro de perdedores.
+	 */
+	private boolean doble;
+	/**
+	 * Indica si se juega una final de reinicio cuando el campen de perdedores
+	 * gana la gran final.
+	 */
+	private boolean reinicio;
+	/**
+	 * Ciclo del torneo en el que se juega la primera ronda.
+	 */
+	private int primeraRonda;
+	/**
+	 * rbol del cuadro de ganadores.
+	 */
+	private int[] ganadores;
+	/**
+	 * Casillas del cuadro de perdedores, con la del campen de perdedores al
+	 * final.
+	 */
+	private int[] perdedores;
+	/**
+	 * Primera partida de cada ronda del cuadro de perdedores.
+	 */
+	private int[] inicioRondaPerdedores;
+	/**
+	 * Casilla a la que avanza el ganador de cada partida del cuadro de
+	 * perdedores.
+	 */
+	private int[] destinoPerdedores;
+	/**
+	 * Ganador de la gran final y ganador de la final de reinicio.
+	 */
+	private int[] finales;
+	/**
+	 * Casilla actual de cada participante: positiva en el cuadro de ganadores y
+	 * negativa en el de perdedores.
+	 */
+	private HashMap<Integer, Integer> posiciones;
+
+	/**
+	 * Permite crear la llave con las hojas recibidas. Los participantes que
+	 * quedan contra una hoja vaca avanzan sin jugar.
+	 *
+	 * @param hojas
+	 *            Recibe el nmero de participante de cada hoja o
+	 *            <code>VACIO</code>; su longitud debe ser una potencia de dos
+	 *            mayor o igual a dos.
+	 * @param doble
+	 *            Recibe <tt>true</tt> si la llave tiene cuadro de perdedores.
+	 * @param reinicio
+	 *            Recibe <tt>true</tt> si se juega una final de reinicio cuando
+	 *            el campen de perdedores gana la gran final.
+	 * @param primeraRonda
+	 *            Recibe el ciclo del torneo en el que se juega la primera ronda.
+	 */
+	public Llave(int[] hojas, boolean doble, boolean reinicio, int primeraRonda) {
+		iniciar(hojas.length, doble, reinicio, primeraRonda);
+		colocarHojas(hojas);
+	}
+
+	/**
+	 * Permite recuperar una llave guardada con <code>obtenerNodos</code>.
+	 *
+	 * @param nodos
+	 *            Recibe los enteros de la llave guardada.
+	 */
+	public Llave(int[] nodos) {
+		iniciar(nodos[0], (nodos[1] & 1) != 0, (nodos[1] & 2) != 0, nodos[2]);
+		System.arraycopy(nodos, ENCABEZADO, ganadores, 0, ganadores.length);
+		System.arraycopy(nodos, ENCABEZADO + ganadores.length, perdedores, 0, perdedores.length);
+		int inicioFinales = ENCABEZADO + ganadores.length + perdedores.length;
+		if (nodos.length >= inicioFinales + finales.length) {
+			System.arraycopy(nodos, inicioFinales, finales, 0, finales.length);
+		}
+		for (int nodo = ganadores.length - 1; nodo >= 1; nodo--) {
+			if (ganadores[nodo] >= 0) {
+				posiciones.put(ganadores[nodo], nodo);
+			}
+		}
+		for (int casilla = 0; casilla < perdedores.length; casilla++) {
+			if (perdedores[casilla] >= 0) {
+				posiciones.put(perdedores[casilla], -(casilla + 1));
+			}
+		}
+	}
+
+	/**
+	 * Regresa la llave a su primera ronda, conservando las hojas.
+	 */
+	public void reiniciar() {
+		int[] hojas = Arrays.copyOfRange(ganadores, tamano, 2 * tamano);
+		iniciar(tamano, doble, reinicio, primeraRonda);
+		colocarHojas(hojas);
+	}
+
+	/**
+	 * Obtiene los enteros que permiten guardar la llave y recuperarla con el
+	 * constructor <code>Llave(int[])</code>.
+	 *
+	 * @return Regresa el encabezado seguido de las casillas de ambos cuadros y
+	 *         de las finales.
+	 */
+	public int[] obtenerNodos() {
+		int[] nodos = new int[ENCABEZADO + ganadores.length + perdedores.length + finales.length];
+		nodos[0] = tamano;
+		nodos[1] = (doble ? 1 : 0) | (reinicio ? 2 : 0);
+		nodos[2] = primeraRonda;
+		System.arraycopy(ganadores, 0, nodos, ENCABEZADO, ganadores.length);
+		System.arraycopy(perdedores, 0, nodos, ENCABEZADO + ganadores.length, perdedores.length);
+		System.arraycopy(finales, 0, nodos, ENCABEZADO + ganadores.length + perdedores.length, finales.length);
+		return nodos;
+	}
+
+	/**
+	 * Registra el resultado de una partida pendiente: el ganador avanza y, en
+	 * la eliminacin doble, el perdedor del cuadro de ganadores cae al cuadro
+	 * de perdedores. Tambin registra el resultado de la gran final y de la
+	 * final de reinicio.
+	 *
+	 * @param ganador
+	 *            Recibe el nmero del participante que gan.
+	 * @param perdedor
+	 *            Recibe el nmero del participante que perdi.
+	 * @return Regresa <tt>true</tt> si los participantes estaban en la misma
+	 *         partida pendiente, <tt>false</tt> en caso contrario, sin modificar
+	 *         la llave.
+	 */
+	public boolean registrarResultado(int ganador, int perdedor) {
+		int[] partidaFinal = obtenerPartidaFinal();
+		if (partidaFinal != null && ((partidaFinal[0] == ganador && partidaFinal[1] == perdedor)
+				|| (partidaFinal[0] == perdedor && partidaFinal[1] == ganador))) {
+			if (finales[0] == POR_DEFINIR) {
+				finales[0] = ganador;
+				if (ganador == ganadores[1] || !reinicio) {
+					finales[1] = VACIO;
+				}
+			} else {
+				finales[1] = ganador;
+			}
+			return true;
+		}
+		Integer posicionGanador = posiciones.get(ganador);
+		Integer posicionPerdedor = posiciones.get(perdedor);
+		if (posicionGanador == null || posicionPerdedor == null) {
+			return false;
+		}
+		if (posicionGanador > 0 && posicionPerdedor > 0) {
+			int partida = posicionGanador / 2;
+			if (partida == 0 || partida != posicionPerdedor / 2 || ganadores[partida] != POR_DEFINIR) {
+				return false;
+			}
+			decidirGanadores(partida, ganador, perdedor);
+			return true;
+		}
+		if (posicionGanador < 0 && posicionPerdedor < 0) {
+			int casilla = -posicionGanador - 1;
+			int partida = casilla / 2;
+			if (partida >= destinoPerdedores.length || partida != (-posicionPerdedor - 1) / 2
+					|| perdedores[destinoPerdedores[partida]] != POR_DEFINIR) {
+				return false;
+			}
+			asignarPerdedores(destinoPerdedores[partida], ganador);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Obtiene las partidas pendientes de una ronda del cuadro de ganadores con
+	 * ambos participantes definidos.
+	 *
+	 * @param ronda
+	 *            Recibe la ronda, empezando en 1.
+	 * @return Regresa los nmeros del participante inicial y del participante
+	 *         final de cada partida.
+	 */
+	public ArrayList<int[]> obtenerPartidasGanadores(int ronda) {
+		ArrayList<int[]> partidas = new ArrayList<int[]>();
+		if (ronda < 1 || ronda > numeroRondas) {
+			return partidas;
+		}
+		for (int partida = tamano >> ronda; partida < tamano >> (ronda - 1); partida++) {
+			if (ganadores[partida] == POR_DEFINIR && ganadores[2 * partida] >= 0 && ganadores[2 * partida + 1] >= 0) {
+				partidas.add(new int[] { ganadores[2 * partida], ganadores[2 * partida + 1] });
+			}
+		}
+		return partidas;
+	}
+
+	/**
+	 * Obtiene las partidas pendientes de una ronda del cuadro de perdedores con
+	 * ambos participantes definidos.
+	 *
+	 * @param ronda
+	 *            Recibe la ronda, empezando en 1.
+	 * @return Regresa los nmeros del participante inicial y del participante
+	 *         final de cada partida.
+	 */
+	public ArrayList<int[]> obtenerPartidasPerdedores(int ronda) {
+		ArrayList<int[]> partidas = new ArrayList<int[]>();
+		if (ronda < 1 || ronda > getNumeroRondasPerdedores()) {
+			return partidas;
+		}
+		for (int partida = inicioRondaPerdedores[ronda - 1]; partida < inicioRondaPerdedores[ronda]; partida++) {
+			if (perdedores[destinoPerdedores[partida]] == POR_DEFINIR && perdedores[2 * partida] >= 0
+					&& perdedores[2 * partida + 1] >= 0) {
+				partidas.add(new int[] { perdedores[2 * partida], perdedores[2 * partida + 1] });
+			}
+		}
+		return partidas;
+	}
+
+	/**
+	 * Obtiene todas las partidas de la llave, jugadas o no, en el orden en que
+	 * se numeran: primero el cuadro de ganadores por rondas, luego el cuadro de
+	 * perdedores por rondas y al final la gran final y la final de reinicio.
+	 * Sirve para mostrar el cuadro completo desde el primer ciclo.
+	 *
+	 * @return Regresa la descripcin de cada partida.
+	 */
+	public ArrayList<PartidaLlave> obtenerCuadro() {
+		ArrayList<PartidaLlave> cuadro = new ArrayList<PartidaLlave>();
+		for (int ronda = 1; ronda <= numeroRondas; ronda++) {
+			for (int partida = tamano >> ronda; partida < tamano >> (ronda - 1); partida++) {
+				int origenInicial = ronda == 1 ? 0 : obtenerNumeroPartida(2 * partida);
+				int origenFinal = ronda == 1 ? 0 : obtenerNumeroPartida(2 * partida + 1);
+				cuadro.add(new PartidaLlave(obtenerNumeroPartida(partida), PartidaLlave.CUADRO_GANADORES, ronda,
+						ganadores[2 * partida], ganadores[2 * partida + 1], origenInicial, origenFinal,
+						ganadores[partida]));
+			}
+		}
+		if (!doble) {
+			return cuadro;
+		}
+		int[] origenes = new int[perdedores.length];
+		for (int partida = 1; partida < tamano; partida++) {
+			origenes[obtenerCasillaCaida(partida)] = -obtenerNumeroPartida(partida);
+		}
+		for (int partida = 0; partida < destinoPerdedores.length; partida++) {
+			origenes[destinoPerdedores[partida]] = tamano + partida;
+		}
+		for (int ronda = 1; ronda <= getNumeroRondasPerdedores(); ronda++) {
+			for (int partida = inicioRondaPerdedores[ronda - 1]; partida < inicioRondaPerdedores[ronda]; partida++) {
+				cuadro.add(new PartidaLlave(tamano + partida, PartidaLlave.CUADRO_PERDEDORES, ronda,
+						perdedores[2 * partida], perdedores[2 * partida + 1], origenes[2 * partida],
+						origenes[2 * partida + 1], perdedores[destinoPerdedores[partida]]));
+			}
+		}
+		int granFinal = tamano + destinoPerdedores.length;
+		int campeonPerdedores = perdedores.length - 1;
+		cuadro.add(new PartidaLlave(granFinal, PartidaLlave.GRAN_FINAL, 1, ganadores[1], perdedores[campeonPerdedores],
+				obtenerNumeroPartida(1), origenes[campeonPerdedores], finales[0]));
+		if (reinicio) {
+			cuadro.add(new PartidaLlave(granFinal + 1, PartidaLlave.FINAL_REINICIO, 1,
+					finales[1] == VACIO ? VACIO : ganadores[1], finales[1] == VACIO ? VACIO : perdedores[campeonPerdedores],
+					granFinal, -granFinal, finales[1]));
+		}
+		return cuadro;
+	}
+
+	/**
+	 * Obtiene la gran final o la final de reinicio si est pendiente y tiene
+	 * ambos participantes definidos.
+	 *
+	 * @return Regresa una lista vaca o con los nmeros del campen de
+	 *         ganadores y del campen de perdedores.
+	 */
+	public ArrayList<int[]> obtenerPartidasFinales() {
+		ArrayList<int[]> partidas = new ArrayList<int[]>();
+		int[] partidaFinal = obtenerPartidaFinal();
+		if (partidaFinal != null) {
+			partidas.add(partidaFinal);
+		}
+		return partidas;
+	}
+
+	/**
+	 * Obtiene el campen de la llave: en la eliminacin simple, el ganador del
+	 * cuadro de ganadores; en la doble, el ganador de la ltima final jugada.
+	 *
+	 * @return Regresa el nmero del campen, <code>POR_DEFINIR</code> si an no
+	 *         se conoce o <code>VACIO</code> si la llave no tiene
+	 *         participantes.
+	 */
+	public int obtenerCampeon() {
+		if (!doble) {
+			return ganadores[1];
+		}
+		return finales[1] == VACIO ? finales[0] : finales[1];
+	}
+
+	/**
+	 * Obtiene el ganador del cuadro de ganadores.
+	 *
+	 * @return Regresa el nmero del campen de ganadores,
+	 *         <code>POR_DEFINIR</code> si an no se conoce o <code>VACIO</code>
+	 *         si la llave no tiene participantes.
+	 */
+	public int obtenerCampeonGanadores() {
+		return ganadores[1];
+	}
+
+	/**
+	 * Obtiene el ganador del cuadro de perdedores.
+	 *
+	 * @return Regresa el nmero del campen de perdedores,
+	 *         <code>POR_DEFINIR</code> si an no se conoce o <code>VACIO</code>
+	 *         si la llave no tiene cuadro de perdedores.
+	 */
+	public int obtenerCampeonPerdedores() {
+		return doble ? perdedores[perdedores.length - 1] : VACIO;
+	}
+
+	/**
+	 * Devuelve el nmero de hojas del cuadro de ganadores.
+	 *
+	 * @return Regresa el nmero de hojas, potencia de dos.
+	 */
+	public int getTamano() {
+		return tamano;
+	}
+
+	/**
+	 * Devuelve el nmero de rondas del cuadro de ganadores.
+	 *
+	 * @return Regresa el nmero de rondas del cuadro de ganadores.
+	 */
+	public int getNumeroRondas() {
+		return numeroRondas;
+	}
+
+	/**
+	 * Devuelve el nmero de rondas del cuadro de perdedores.
+	 *
+	 * @return Regresa el nmero de rondas del cuadro de perdedores, 0 si la
+	 *         llave no es doble.
+	 */
+	public int getNumeroRondasPerdedores() {
+		return inicioRondaPerdedores.length - 1;
+	}
+
+	/**
+	 * Indica si la llave tiene cuadro de perdedores.
+	 *
+	 * @return <tt>true</tt> si la llave es de eliminacin doble, <tt>false</tt>
+	 *         en caso contrario.
+	 */
+	public boolean isDoble() {
+		return doble;
+	}
+
+	/**
+	 * Indica si se juega una final de reinicio cuando el campen de perdedores
+	 * gana la gran final.
+	 *
+	 * @return <tt>true</tt> si la llave tiene final de reinicio,
+	 *         <tt>false</tt> en caso contrario.
+	 */
+	public boolean isReinicio() {
+		return reinicio;
+	}
+
+	/**
+	 * Devuelve el ciclo del torneo en el que se juega la primera ronda.
+	 *
+	 * @return Regresa el nmero de ciclo de la primera ronda.
+	 */
+	public int getPrimeraRonda() {
+		return primeraRonda;
+	}
+
+	/**
+	 * Crea los arreglos vacos de la llave.
+	 *
+	 * @param tamano
+	 *            Recibe el nmero de hojas, potencia de dos.
+	 * @param doble
+	 *            Recibe <tt>true</tt> si la llave tiene cuadro de perdedores.
+	 * @param reinicio
+	 *            Recibe <tt>true</tt> si se juega una final de reinicio.
+	 * @param primeraRonda
+	 *            Recibe el ciclo del torneo en el que se juega la primera ronda.
+	 */
+	private void iniciar(int tamano, boolean doble, boolean reinicio, int primeraRonda) {
+		this.tamano = tamano;
+		this.numeroRondas = Integer.numberOfTrailingZeros(tamano);
+		this.doble = doble;
+		this.reinicio = doble && reinicio;
+		this.primeraRonda = primeraRonda;
+		this.ganadores = new int[2 * tamano];
+		Arrays.fill(ganadores, POR_DEFINIR);
+		ganadores[0] = VACIO;
+		int rondasPerdedores = doble ? 2 * (numeroRondas - 1) : 0;
+		this.inicioRondaPerdedores = new int[rondasPerdedores + 1];
+		for (int ronda = 1; ronda <= rondasPerdedores; ronda++) {
+			inicioRondaPerdedores[ronda] = inicioRondaPerdedores[ronda - 1] + (tamano >> ((ronda + 1) / 2 + 1));
+		}
+		int partidasPerdedores = inicioRondaPerdedores[rondasPerdedores];
+		this.destinoPerdedores = new int[partidasPerdedores];
+		for (int ronda = 1; ronda <= rondasPerdedores; ronda++) {
+			for (int partida = inicioRondaPerdedores[ronda - 1]; partida < inicioRondaPerdedores[ronda]; partida++) {
+				int indice = partida - inicioRondaPerdedores[ronda - 1];
+				if (ronda == rondasPerdedores) {
+					destinoPerdedores[partida] = 2 * partidasPerdedores;
+				} else if (ronda % 2 != 0) {
+					destinoPerdedores[partida] = 2 * (inicioRondaPerdedores[ronda] + indice);
+				} else {
+					destinoPerdedores[partida] = 2 * (inicioRondaPerdedores[ronda] + indice / 2) + indice % 2;
+				}
+			}
+		}
+		this.perdedores = new int[doble ? 2 * partidasPerdedores + 1 : 0];
+		Arrays.fill(perdedores, POR_DEFINIR);
+		this.finales = new int[2];
+		Arrays.fill(finales, doble ? POR_DEFINIR : VACIO);
+		this.posiciones = new HashMap<Integer, Integer>();
+	}
+
+	/**
+	 * Coloca los participantes en las hojas y avanza a los que quedan contra
+	 * una hoja vaca.
+	 *
+	 * @param hojas
+	 *            Recibe el nmero de participante de cada hoja o
+	 *            <code>VACIO</code>.
+	 */
+	private void colocarHojas(int[] hojas) {
+		for (int i = 0; i < tamano; i++) {
+			asignarGanadores(tamano + i, hojas[i]);
+		}
+	}
+
+	/**
+	 * Asigna un participante a una posicin del cuadro de ganadores y, si con l
+	 * la partida siguiente queda contra una casilla vaca, la resuelve.
+	 *
+	 * @param nodo
+	 *            Recibe la posicin en el rbol.
+	 * @param valor
+	 *            Recibe el nmero de participante o <code>VACIO</code>.
+	 */
+	private void asignarGanadores(int nodo, int valor) {
+		ganadores[nodo] = valor;
+		if (valor >= 0) {
+			posiciones.put(valor, nodo);
+		}
+		int partida = nodo / 2;
+		if (partida == 0) {
+			revisarGranFinal();
+			return;
+		}
+		int primero = ganadores[2 * partida];
+		int segundo = ganadores[2 * partida + 1];
+		if (ganadores[partida] == POR_DEFINIR && primero != POR_DEFINIR && segundo != POR_DEFINIR
+				&& (primero == VACIO || segundo == VACIO)) {
+			decidirGanadores(partida, primero == VACIO ? segundo : primero, VACIO);
+		}
+	}
+
+	/**
+	 * Obtiene la gran final o la final de reinicio pendiente.
+	 *
+	 * @return Regresa los nmeros del campen de ganadores y del campen de
+	 *         perdedores, <code>null</code> si no hay final pendiente o an no
+	 *         se conocen ambos campeones.
+	 */
+	private int[] obtenerPartidaFinal() {
+		if (!doble || finales[1] != POR_DEFINIR || ganadores[1] < 0 || obtenerCampeonPerdedores() < 0) {
+			return null;
+		}
+		return new int[] { ganadores[1], obtenerCampeonPerdedores() };
+	}
+
+	/**
+	 * Resuelve la gran final sin jugarla si alguno de los dos cuadros termin
+	 * sin participante.
+	 */
+	private void revisarGranFinal() {
+		if (!doble || finales[0] != POR_DEFINIR) {
+			return;
+		}
+		int campeonGanadores = ganadores[1];
+		int campeonPerdedores = obtenerCampeonPerdedores();
+		if (campeonGanadores != POR_DEFINIR && campeonPerdedores != POR_DEFINIR
+				&& (campeonGanadores == VACIO || campeonPerdedores == VACIO)) {
+			finales[0] = campeonGanadores == VACIO ? campeonPerdedores : campeonGanadores;
+			finales[1] = VACIO;
+		}
+	}
+
+	/**
+	 * Resuelve una partida del cuadro de ganadores.
+	 *
+	 * @param partida
+	 *            Recibe la posicin de la partida en el rbol.
+	 * @param ganador
+	 *            Recibe el ganador o <code>VACIO</code>.
+	 * @param perdedor
+	 *            Recibe el perdedor o <code>VACIO</code>.
+	 */
+	private void decidirGanadores(int partida, int ganador, int perdedor) {
+		if (doble) {
+			asignarPerdedores(obtenerCasillaCaida(partida), perdedor);
+		}
+		asignarGanadores(partida, ganador);
+	}
+
+	/**
+	 * Obtiene la casilla del cuadro de perdedores a la que cae el perdedor de
+	 * una partida del cuadro de ganadores.
+	 *
+	 * @param partida
+	 *            Recibe la posicin de la partida en el rbol.
+	 * @return Regresa la casilla del cuadro de perdedores.
+	 */
+	private int obtenerCasillaCaida(int partida) {
+		int nivel = 31 - Integer.numberOfLeadingZeros(partida);
+		int ronda = numeroRondas - nivel;
+		int indice = partida - (1 << nivel);
+		if (numeroRondas == 1) {
+			return perdedores.length - 1;
+		}
+		if (ronda == 1) {
+			return 2 * (inicioRondaPerdedores[0] + indice / 2) + indice % 2;
+		}
+		int rondaPerdedores = 2 * (ronda - 1);
+		int partidas = inicioRondaPerdedores[rondaPerdedores] - inicioRondaPerdedores[rondaPerdedores - 1];
+		int destino = ronda % 2 == 0 ? partidas - 1 - indice : indice;
+		return 2 * (inicioRondaPerdedores[rondaPerdedores - 1] + destino) + 1;
+	}
+
+	/**
+	 * Obtiene el nmero con el que se muestra una partida del cuadro de
+	 * ganadores: las partidas se numeran por rondas a partir de 1.
+	 *
+	 * @param partida
+	 *            Recibe la posicin de la partida en el rbol.
+	 * @return Regresa el nmero de la partida.
+	 */
+	private int obtenerNumeroPartida(int partida) {
+		int nivel = 31 - Integer.numberOfLeadingZeros(partida);
+		int ronda = numeroRondas - nivel;
+		return tamano - (tamano >> (ronda - 1)) + partida - (1 << nivel) + 1;
+	}
+
+	/**
+	 * Asigna un participante a una casilla del cuadro de perdedores y, si con l
+	 * la partida queda contra una casilla vaca, la resuelve.
+	 *
+	 * @param casilla
+	 *            Recibe la casilla del cuadro de perdedores.
+	 * @param valor
+	 *            Recibe el nmero de participante o <code>VACIO</code>.
+	 */
+	private void asignarPerdedores(int casilla, int valor) {
+		perdedores[casilla] = valor;
+		if (valor >= 0) {
+			posiciones.put(valor, -(casilla + 1));
+		}
+		int partida = casilla / 2;
+		if (partida >= destinoPerdedores.length) {
+			revisarGranFinal();
+			return;
+		}
+		int primero = perdedores[2 * partida];
+		int segundo = perdedores[2 * partida + 1];
+		if (perdedores[destinoPerdedores[partida]] == POR_DEFINIR && primero != POR_DEFINIR
+				&& segundo != POR_DEFINIR && (primero == VACIO || segundo == VACIO)) {
+			asignarPerdedores(destinoPerdedores[partida], primero == VACIO ? segundo : primero);
+		}
+	}
+}
@@ -0,0 +1,296 @@
+package sigestor.dominio;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Sirve para guardar la forma en que se ordenan los participantes de un torneo.
+ * Cada <code>Torneo</code> tiene su propio orden, de modo que varios torneos se
+ * pueden ordenar al mismo tiempo en hilos distintos sin compartir estado.
+ * <p>
+ * Las caractersticas de la clase <code>OrdenParticipantes</code> son:
+ * <ul>
+ * <li><code>porPuntaje</code> para saber si se ordena por puntaje.</li>
+ * <li><code>porPuntajeAcumulado</code> para saber si se ordena primero por
+ * puntaje acumulado.</li>
+ * <li><code>alfabetico</code> para saber si los empates se ordenan
+ * alfabtica o aleatoriamente.</li>
+ * <li><code>semilla</code> para repetir la ordenacin aleatoria, se guarda con
+ * la personalizacin del torneo.</li>
+ * </ul>
+ *
+ * @version 18/10/2026
+ */
+public class OrdenParticipantes {
+
+	/**
+	 * Indica si se ordena por puntaje.
+	 */
+	private boolean porPuntaje;
+	/**
+	 * Indica si se ordena primero por puntaje acumulado.
+	 */
+	private boolean porPuntajeAcumulado;
+	/**
+	 * Indica si los empates se ordenan alfabticamente, en caso contrario se
+	 * ordenan aleatoriamente.
+	 */
+	private boolean alfabetico;
+	/**
+	 * Semilla de la ordenacin aleatoria. Se elige al crear el torneo, se puede
+	 * fijar con la propiedad del sistema <code>sigestor.semilla</code> y se
+	 * guarda en el archivo del torneo para que al abrirlo de nuevo se obtenga el
+	 * mismo orden.
+	 */
+	private long semilla;
+
+	/**
+	 * Permite crear un orden aleatorio, sin puntaje ni puntaje acumulado.
+	 */
+	public OrdenParticipantes() {
+		this.porPuntaje = false;
+		this.porPuntajeAcumulado = false;
+		this.alfabetico = false;
+		this.semilla = Long.getLong("sigestor.semilla", System.nanoTime());
+	}
+
+	/**
+	 * Indica si se ordena por puntaje.
+	 *
+	 * @return <tt>true</tt> si se ordena por puntaje, <tt>false</tt> en caso
+	 *         contrario.
+	 */
+	public boolean isPorPuntaje() {
+		return porPuntaje;
+	}
+
+	/**
+	 * Asigna si se ordena por puntaje.
+	 *
+	 * @param porPuntaje
+	 *            Recibe <tt>true</tt> si se ordena por puntaje.
+	 */
+	public void setPorPuntaje(boolean porPuntaje) {
+		this.porPuntaje = porPuntaje;
+	}
+
+	/**
+	 * Indica si se ordena primero por puntaje acumulado.
+	 *
+	 * @return <tt>true</tt> si se ordena por puntaje acumulado, <tt>false</tt>
+	 *         en caso contrario.
+	 */
+	public boolean isPorPuntajeAcumulado() {
+		return porPuntajeAcumulado;
+	}
+
+	/**
+	 * Asigna si se ordena primero por puntaje acumulado.
+	 *
+	 * @param porPuntajeAcumulado
+	 *            Recibe <tt>true</tt> si se ordena por puntaje acumulado.
+	 */
+	public void setPorPuntajeAcumulado(boolean porPuntajeAcumulado) {
+		this.porPuntajeAcumulado = porPuntajeAcumulado;
+	}
+
+	/**
+	 * Indica si los empates se ordenan alfabticamente.
+	 *
+	 * @return <tt>true</tt> si el orden es alfabtico, <tt>false</tt> si es
+	 *         aleatorio.
+	 */
+	public boolean isAlfabetico() {
+		return alfabetico;
+	}
+
+	/**
+	 * Asigna si los empates se ordenan alfabtica o aleatoriamente.
+	 *
+	 * @param alfabetico
+	 *            Recibe <tt>true</tt> si el orden es alfabtico, <tt>false</tt>
+	 *            si es aleatorio.
+	 */
+	public void setAlfabetico(boolean alfabetico) {
+		this.alfabetico = alfabetico;
+	}
+
+	/**
+	 * Devuelve la semilla de la ordenacin aleatoria.
+	 *
+	 * @return Regresa la semilla de la ordenacin aleatoria.
+	 */
+	public long getSemilla() {
+		return semilla;
+	}
+
+	/**
+	 * Asigna la semilla de la ordenacin aleatoria, con la misma semilla se
+	 * obtiene siempre el mismo orden.
+	 *
+	 * @param semilla
+	 *            Recibe la semilla de la ordenacin aleatoria.
+	 */
+	public void setSemilla(long semilla) {
+		this.semilla = semilla;
+	}
+
+	/**
+	 * Compara a dos participantes aplicando cada criterio solo si los
+	 * anteriores empatan:
+	 * <ul>
+	 * <li>El lugar asignado, los participantes sin lugar van al final.</li>
+	 * <li>El puntaje acumulado, si se ordena por puntaje acumulado.</li>
+	 * <li>El puntaje, si se ordena por puntaje o por puntaje acumulado.</li>
+	 * <li>El nombre o la llave aleatoria, segn el orden elegido.</li>
+	 * <li>El nmero de participante.</li>
+	 * </ul>
+	 *
+	 * @param p1
+	 *            Recibe el primer participante.
+	 * @param p2
+	 *            Recibe el segundo participante.
+	 * @return Regresa un nmero menor a cero si el primer participante va antes,
+	 *         mayor a cero si va despus y cero si son el mismo participante.
+	 */
+	public int comparar(Participante p1, Participante p2) {
+		int comparacion = 0;
+		if (p1.getLugarParticipante() != 0 || p2.getLugarParticipante() != 0) {
+			comparacion = Integer.compare(obtenerLugarOrden(p1), obtenerLugarOrden(p2));
+		}
+		if (comparacion == 0 && porPuntajeAcumulado) {
+			comparacion = ComparadoresParticipante.POR_PUNTAJE_ACUMULADO.compare(p1, p2);
+		}
+		if (comparacion == 0 && (porPuntajeAcumulado || porPuntaje)) {
+			comparacion = ComparadoresParticipante.POR_PUNTAJE.compare(p1, p2);
+		}
+		if (comparacion == 0) {
+			comparacion = desempatar(p1, p2);
+		}
+		return comparacion;
+	}
+
+	/**
+	 * Compara a dos participantes para emparejar un ciclo del sistema suizo,
+	 * aplicando cada criterio solo si los anteriores empatan:
+	 * <ul>
+	 * <li>El puntaje acumulado.</li>
+	 * <li>El puntaje, que es la calificacin con la que se siembra al
+	 * participante.</li>
+	 * <li>El nombre o la llave aleatoria, segn el orden elegido.</li>
+	 * <li>El nmero de participante.</li>
+	 * </ul>
+	 * A diferencia de <code>comparar</code> no considera el lugar asignado ni
+	 * el tipo de orden, de modo que dentro de cada grupo de puntaje la mitad
+	 * superior y la inferior siguen la siembra y no el orden de registro.
+	 *
+	 * @param p1
+	 *            Recibe el primer participante.
+	 * @param p2
+	 *            Recibe el segundo participante.
+	 * @return Regresa un nmero menor a cero si el primer participante va antes,
+	 *         mayor a cero si va despus y cero si son el mismo participante.
+	 */
+	public int compararEmparejamiento(Participante p1, Participante p2) {
+		int comparacion = ComparadoresParticipante.POR_PUNTAJE_ACUMULADO.compare(p1, p2);
+		if (comparacion == 0) {
+			comparacion = ComparadoresParticipante.POR_PUNTAJE.compare(p1, p2);
+		}
+		if (comparacion == 0) {
+			comparacion = desempatar(p1, p2);
+		}
+		return comparacion;
+	}
+
+	/**
+	 * Obtiene el comparador de este orden.
+	 *
+	 * @return Regresa el comparador de participantes.
+	 */
+	public Comparator<Participante> obtenerComparador() {
+		return new Comparator<Participante>() {
+			@Override
+			public int compare(Participante p1, Participante p2) {
+				return comparar(p1, p2);
+			}
+		};
+	}
+
+	/**
+	 * Devuelve el comparador con el que se ordena a los participantes para
+	 * emparejar un ciclo del sistema suizo.
+	 *
+	 * @return Regresa un comparador que utiliza
+	 *         <code>compararEmparejamiento</code>.
+	 */
+	public Comparator<Participante> obtenerComparadorEmparejamiento() {
+		return new Comparator<Participante>() {
+			@Override
+			public int compare(Participante p1, Participante p2) {
+				return compararEmparejamiento(p1, p2);
+			}
+		};
+	}
+
+	/**
+	 * Ordena la lista de participantes recibida.
+	 *
+	 * @param participantes
+	 *            Recibe la lista de participantes.
+	 */
+	public void ordenar(List<Participante> participantes) {
+		Collections.sort(participantes, obtenerComparador());
+	}
+
+	/**
+	 * Ordena la lista de participantes antes de iniciar el torneo. Si el orden
+	 * es aleatorio y no es por puntaje, baraja la lista con la semilla.
+	 *
+	 * @param participantes
+	 *            Recibe la lista de participantes.
+	 */
+	public void ordenarInicial(List<Participante> participantes) {
+		if (!porPuntaje && !alfabetico) {
+			ComparadoresParticipante.barajar(participantes, semilla);
+		} else {
+			ordenar(participantes);
+		}
+	}
+
+	/**
+	 * Compara a dos participantes con el nombre o la llave aleatoria, segn el
+	 * orden elegido, y despus con el nmero de participante.
+	 *
+	 * @param p1
+	 *            Recibe el primer participante.
+	 * @param p2
+	 *            Recibe el segundo participante.
+	 * @return Regresa un nmero menor a cero si el primer participante va antes,
+	 *         mayor a cero si va despus y cero si son el mismo participante.
+	 */
+	private int desempatar(Participante p1, Participante p2) {
+		int comparacion;
+		if (alfabetico) {
+			comparacion = ComparadoresParticipante.ALFABETICO.compare(p1, p2);
+		} else {
+			comparacion = ComparadoresParticipante.compararAleatorio(semilla, p1, p2);
+		}
+		if (comparacion == 0) {
+			comparacion = ComparadoresParticipante.POR_NUMERO.compare(p1, p2);
+		}
+		return comparacion;
+	}
+
+	/**
+	 * Obtiene el lugar con el que se ordena al participante.
+	 *
+	 * @param participante
+	 *            Recibe un participante.
+	 * @return Regresa el lugar del participante o el mayor entero si no tiene
+	 *         lugar asignado.
+	 */
+	private static int obtenerLugarOrden(Participante participante) {
+		return participante.getLugarParticipante() != 0 ? participante.getLugarParticipante() : Integer.MAX_VALUE;
+	}
+}
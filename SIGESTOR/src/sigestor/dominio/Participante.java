@@ -1,7 +1,5 @@
 package sigestor.dominio;
 
-import java.text.Normalizer;
-
 import sigestor.excepcion.ExcepcionParticipante;
 
 /**
@@ -22,15 +20,13 @@ import sigestor.excepcion.ExcepcionParticipante;
  * del participante.</li>
  * <li><code>marcadorFavor</code> Permite llevar la suma del marcador a favor
  * del participante.</li>
- * <li><code>puntaje</code> Permite asignar un dato booleano para saber si el
- * ordenamiento es por puntaje.</li>
- * <li><code>orden</code> Permite asignar un dato booleano para saber si el tipo
- * de ordenacin es aleatorio o alfabtico.</li>
+ * <li><code>claveOrden</code> Permite ordenar alfabticamente sin volver a
+ * quitar los acentos del nombre en cada comparacin.</li>
  * <li><code>lugarParticipante</code> Permite asignar un valor numrico al
  * participante despus de haber finalizado un torneo.</li>
  * </ul>
  * 
- * @version 07/04/2022
+ * @version 18/10/2026
  * 
  * @author Ricky Didier Peralta Reyes
  * @author Uriel Romeo Cruz Cortes
@@ -41,7 +37,7 @@ import sigestor.excepcion.ExcepcionParticipante;
  * 
  * 
  */
-public class Participante implements Comparable<Participante> {
+public class Participante {
 	/**
 	 * Nmero de participante.
 	 */
@@ -67,19 +63,10 @@ public class Participante implements Comparable<Participante> {
 	 */
 	private int marcadorFavor;
 	/**
-	 * Para ordenar a los participantes por puntaje.
+	 * Nombre del participante sin acentos y sin distinguir maysculas, se
+	 * calcula al asignar el nombre.
 	 */
-	private static boolean puntaje;
-
-	/**
-	 * Para validar el puntaje acumulado.
-	 */
-	private static boolean puntajeAcumulado = false;
-
-	/**
-	 * Para ordenar a los participantes alfabtica o aleatoriamente.
-	 */
-	private static boolean orden;
+	private String claveOrden;
 
 	/**
 	 * Permite asignar un valor numrico al participante despus de haber finalizado
@@ -101,26 +88,6 @@ public class Participante implements Comparable<Participante> {
 		setLugarParticipante(0);
 	}
 
-	/**
-	 * Devuelve el valor de la variable <code>puntajeAcumulado</code>.
-	 * 
-	 * @return Regresa <tt>true</tt> si se habilito la opcion por puntaje acumulado,
-	 *         regresa <tt>false</tt> si no se selecciono.
-	 */
-	public static boolean isPuntajeAcumulado() {
-		return puntajeAcumulado;
-	}
-
-	/**
-	 * Asigna el valor de la bandera a la variable <code>puntajeAcumulado</code>.
-	 * 
-	 * @param puntajeAcumulado Recibe el valor de la bandera que se le asigna al
-	 *                         puntaje acumulado.
-	 */
-	public static void setPuntajeAcumulado(boolean puntajeAcumulado) {
-		Participante.puntajeAcumulado = puntajeAcumulado;
-	}
-
 	/**
 	 * Devuelve el lugar que se le asign al participante.
 	 * 
@@ -198,6 +165,16 @@ public class Participante implements Comparable<Participante> {
 		} else {
 			this.nombreParticipante = nombreParticipante;
 		}
+		this.claveOrden = ComparadoresParticipante.obtenerClaveOrden(this.nombreParticipante);
+	}
+
+	/**
+	 * Devuelve la clave de ordenacin alfabtica del participante.
+	 * 
+	 * @return Regresa el nombre sin acentos y sin distinguir maysculas.
+	 */
+	public String getClaveOrden() {
+		return claveOrden;
 	}
 
 	/**
@@ -274,51 +251,6 @@ public class Participante implements Comparable<Participante> {
 		this.marcadorFavor = marcadorFavor;
 	}
 
-	/**
-	 * Devuelve el tipo de ordenacin por puntaje.
-	 * 
-	 * @return <tt>true</tt> si la ordenacin de los participantes ser por puntaje,
-	 *         <tt>false</tt> en caso contrario.
-	 * 
-	 */
-	public static boolean isPuntaje() {
-		return puntaje;
-	}
-
-	/**
-	 * Asigna el parmetro recibido a la variable puntaje.
-	 * 
-	 * @param puntaje Recibe <tt>true</tt> en caso de que la ordenacin de los
-	 *                participantes es por puntaje, <tt> false </tt> en caso
-	 *                contrario.
-	 */
-
-	public static void setPuntaje(boolean puntaje) {
-		Participante.puntaje = puntaje;
-	}
-
-	/**
-	 * Devuelve el tipo de ordenacin aleatorio o alfabtico.
-	 * 
-	 * @return <tt>true</tt> en caso de que la ordenacin sea alfabtica,
-	 *         <tt>false</tt> en caso de ser aleatoria.
-	 */
-	public static boolean isOrden() {
-		return orden;
-	}
-
-	/**
-	 * Asigna el parmetro recibido a la variable <code>orden</code>.
-	 * 
-	 * @param orden Recibe el tipo de ordenacin de los participantes, <tt>true</tt>
-	 *              en caso de que la ordenacin sea alfabtica, <tt>false</tt> en
-	 *              caso de ser aleatoria.
-	 */
-
-	public static void setOrden(boolean orden) {
-		Participante.orden = orden;
-	}
-
 	/**
 	 * Permite representar a la clase con un identificador nico.
 	 * 
@@ -383,88 +315,4 @@ public class Participante implements Comparable<Participante> {
 		setMarcadorFavor(getMarcadorFavor() + valorAcumular);
 
 	}
-
-	/**
-	 * Compara y ordena al participante con el objeto recibido de acuerdo a los
-	 * criterios de ordenacin siguientes:
-	 * <p>
-	 * Si la variable <code>lugarParticipante</code> es diferente de <tt>0</tt>
-	 * ordena a los participantes de acuerdo a su lugar asignado.
-	 * <p>
-	 * Si la variable <code>puntaje</code> es <tt>true</tt> compara el puntaje de
-	 * los participantes y los ordena de esta manera.
-	 * <p>
-	 * Si la variable <code>orden</code> es <tt>true</tt> compara el nombre de los
-	 * participantes y los ordena alfabticamente.
-	 * <p>
-	 * Si la variable <code>orden</code> es <tt>false</tt> ordena a los
-	 * participantes de forma aleatoria.
-	 * 
-	 * @param participante Recibe una variable de tipo Participante.
-	 * @return Regresa cero cuando el participante es igual al objeto recibido.
-	 *         <p>
-	 *         Regresa un nmero menor a cero cuando el participante es menor al
-	 *         objeto recibido.
-	 *         <p>
-	 *         Regresa un nmero mayor a cero cuando el participante es mayor al
-	 *         objeto recibido.
-	 * 
-	 */
-	public int compareTo(Participante participante) {
-		if (participante.getLugarParticipante() != 0) {
-			return (getLugarParticipante() - participante.getLugarParticipante());
-		} else if (isPuntajeAcumulado()) {
-			if (participante.getPuntajeAcumuladoParticipante() < this.getPuntajeAcumuladoParticipante()) {
-				return -1;
-			} else if (participante.getPuntajeAcumuladoParticipante() > getPuntajeAcumuladoParticipante()) {
-				return 1;
-			} else {
-				return this.ordenPuntaje(participante);
-			}
-		} else if (isPuntaje()) {
-			return this.ordenPuntaje(participante);
-		} else if (isOrden()) {
-			return this.ordenarAlfabetico(participante);
-		} else {
-			return (int) ((Math.random() * -10) + (Math.random() * 10));
-		}
-	}
-
-	/**
-	 * Encargado de obtener la posicin de un participante por el puntaje. 
-	 * 
-	 * @param participante Recibe un participante
-	 * 
-	 * @return Regresa <0 si el puntaje es menor, devuelve =0 si son iguales, devuelve >0 si es mayor.
-	 */
-	private int ordenPuntaje(Participante participante) {
-		if (participante.getPuntajeParticipante() < getPuntajeParticipante()) {
-			return -1;
-		} else if (participante.getPuntajeParticipante() > getPuntajeParticipante()) {
-			return 1;
-		} else {
-			if (isOrden()) {
-				return this.ordenarAlfabetico(participante);
-			} else {
-				return (int) ((Math.random() * -10) + (Math.random() * 10));
-			}
-		}
-	}
-
-	/**
-	 * Encargado de obtener la posicin lexicogrfica de un participante.
-	 * 
-	 * @param participante Recibe un participante.
-	 * 
-	 * @return Regresa <0 si la cadena es primero lexicogrficamente, devuelve =0 si son iguales, devuelve >0 si la cadena va despues lexicogrficamente.
-	 */
-	private int ordenarAlfabetico(Participante participante) {
-		String original1 = this.getNombreParticipante();
-		String cadenaNormalize1 = Normalizer.normalize(original1, Normalizer.Form.NFD);
-		String cadenaSinAcentos1 = cadenaNormalize1.replaceAll("[^\\p{ASCII}]", "");
-		String original = participante.getNombreParticipante();
-		String cadenaNormalize = Normalizer.normalize(original, Normalizer.Form.NFD);
-		String cadenaSinAcentos = cadenaNormalize.replaceAll("[^\\p{ASCII}]", "");
-		return cadenaSinAcentos1.compareToIgnoreCase(cadenaSinAcentos);
-	}
 }
@@ -0,0 +1,196 @@
+package sigestor.dominio;
+
+/**
+ * Sirve para describir una partida de la <code>Llave</code> de un torneo de
+ * Eliminacin directa, de modo que el cuadro completo se pueda mostrar desde
+ * el primer ciclo, incluyendo las partidas cuyos participantes an no se
+ * conocen.
+ * <p>
+ * Las caractersticas de la clase <code>PartidaLlave</code> son:
+ * <ul>
+ * <li><code>CUADRO_GANADORES</code>, <code>CUADRO_PERDEDORES</code>,
+ * <code>GRAN_FINAL</code> y <code>FINAL_REINICIO</code> para indicar a qu
+ * parte de la llave pertenece la partida.</li>
+ * <li><code>numeroPartida</code> para guardar el nmero de la partida,
+ * consecutivo en toda la llave.</li>
+ * <li><code>cuadro</code> para guardar la parte de la llave a la que pertenece
+ * la partida.</li>
+ * <li><code>ronda</code> para guardar la ronda de la partida dentro de su
+ * cuadro.</li>
+ * <li><code>participanteInicial</code> y <code>participanteFinal</code> para
+ * guardar el nmero de cada participante, <code>Llave.VACIO</code> si no tiene
+ * o <code>Llave.POR_DEFINIR</code> si an no se conoce.</li>
+ * <li><code>origenInicial</code> y <code>origenFinal</code> para guardar la
+ * partida de la que viene cada participante: positiva si viene el ganador,
+ * negativa si viene el perdedor y 0 si el participante se sembr en la
+ * partida.</li>
+ * <li><code>ganador</code> para guardar el nmero del ganador de la
+ * partida.</li>
+ * </ul>
+ *
+ * @version 18/10/2026
+ */
+public class PartidaLlave {
+
+	/**
+	 * Partida del cuadro de ganadores.
+	 */
+	public static final String CUADRO_GANADORES = "Ganadores";
+	/**
+	 * Partida del cuadro de perdedores.
+	 */
+	public static final String CUADRO_PERDEDORES = "Perdedores";
+	/**
+	 * Gran final entre el campen de ganadores y el campen de perdedores.
+	 */
+	public static final String GRAN_FINAL = "Gran final";
+	/**
+	 * Final de reinicio.
+	 */
+	public static final String FINAL_REINICIO = "Final de reinicio";
+
+	/**
+	 * Nmero de la partida, consecutivo en toda la llave.
+	 */
+	private int numeroPartida;
+	/**
+	 * Parte de la llave a la que pertenece la partida.
+	 */
+	private String cuadro;
+	/**
+	 * Ronda de la partida dentro de su cuadro.
+	 */
+	private int ronda;
+	/**
+	 * Nmero del participante inicial.
+	 */
+	private int participanteInicial;
+	/**
+	 * Nmero del participante final.
+	 */
+	private int participanteFinal;
+	/**
+	 * Partida de la que viene el participante inicial.
+	 */
+	private int origenInicial;
+	/**
+	 * Partida de la que viene el participante final.
+	 */
+	private int origenFinal;
+	/**
+	 * Nmero del ganador de la partida.
+	 */
+	private int ganador;
+
+	/**
+	 * Permite crear la descripcin de una partida.
+	 *
+	 * @param numeroPartida
+	 *            Recibe el nmero de la partida.
+	 * @param cuadro
+	 *            Recibe la parte de la llave a la que pertenece la partida.
+	 * @param ronda
+	 *            Recibe la ronda de la partida dentro de su cuadro.
+	 * @param participanteInicial
+	 *            Recibe el nmero del participante inicial.
+	 * @param participanteFinal
+	 *            Recibe el nmero del participante final.
+	 * @param origenInicial
+	 *            Recibe la partida de la que viene el participante inicial.
+	 * @param origenFinal
+	 *            Recibe la partida de la que viene el participante final.
+	 * @param ganador
+	 *            Recibe el nmero del ganador de la partida.
+	 */
+	public PartidaLlave(int numeroPartida, String cuadro, int ronda, int participanteInicial, int participanteFinal,
+			int origenInicial, int origenFinal, int ganador) {
+		this.numeroPartida = numeroPartida;
+		this.cuadro = cuadro;
+		this.ronda = ronda;
+		this.participanteInicial = participanteInicial;
+		this.participanteFinal = participanteFinal;
+		this.origenInicial = origenInicial;
+		this.origenFinal = origenFinal;
+		this.ganador = ganador;
+	}
+
+	/**
+	 * Obtiene el nmero de la partida.
+	 *
+	 * @return Regresa el nmero de la partida.
+	 */
+	public int getNumeroPartida() {
+		return numeroPartida;
+	}
+
+	/**
+	 * Obtiene la parte de la llave a la que pertenece la partida.
+	 *
+	 * @return Regresa <code>CUADRO_GANADORES</code>,
+	 *         <code>CUADRO_PERDEDORES</code>, <code>GRAN_FINAL</code> o
+	 *         <code>FINAL_REINICIO</code>.
+	 */
+	public String getCuadro() {
+		return cuadro;
+	}
+
+	/**
+	 * Obtiene la ronda de la partida dentro de su cuadro.
+	 *
+	 * @return Regresa la ronda, empezando en 1.
+	 */
+	public int getRonda() {
+		return ronda;
+	}
+
+	/**
+	 * Obtiene el nmero del participante inicial.
+	 *
+	 * @return Regresa el nmero del participante, <code>Llave.VACIO</code> o
+	 *         <code>Llave.POR_DEFINIR</code>.
+	 */
+	public int getParticipanteInicial() {
+		return participanteInicial;
+	}
+
+	/**
+	 * Obtiene el nmero del participante final.
+	 *
+	 * @return Regresa el nmero del participante, <code>Llave.VACIO</code> o
+	 *         <code>Llave.POR_DEFINIR</code>.
+	 */
+	public int getParticipanteFinal() {
+		return participanteFinal;
+	}
+
+	/**
+	 * Obtiene la partida de la que viene el participante inicial.
+	 *
+	 * @return Regresa el nmero de la partida, negativo si viene el perdedor, o
+	 *         0 si el participante se sembr en la partida.
+	 */
+	public int getOrigenInicial() {
+		return origenInicial;
+	}
+
+	/**
+	 * Obtiene la partida de la que viene el participante final.
+	 *
+	 * @return Regresa el nmero de la partida, negativo si viene el perdedor, o
+	 *         0 si el participante se sembr en la partida.
+	 */
+	public int getOrigenFinal() {
+		return origenFinal;
+	}
+
+	/**
+	 * Obtiene el nmero del ganador de la partida.
+	 *
+	 * @return Regresa el nmero del ganador, <code>Llave.VACIO</code> si la
+	 *         partida no se juega o <code>Llave.POR_DEFINIR</code> si an no se
+	 *         conoce.
+	 */
+	public int getGanador() {
+		return ganador;
+	}
+}
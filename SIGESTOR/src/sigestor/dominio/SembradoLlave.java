@@ -0,0 +1,125 @@
+package sigestor.dominio;
+
+/**
+ * Sirve para sembrar a los participantes en la <code>Llave</code> de un torneo
+ * de Eliminacin directa. El orden de las hojas se calcula una sola vez al
+ * crear el sembrado: el sembrado <code>i</code> se enfrenta al
+ * <code>tamano - 1 - i</code> en la primera ronda y las mitades del cuadro se
+ * reparten alternadamente, de modo que el 1 y el 2 solo se pueden encontrar en
+ * la final, y del 1 al 4 en semifinales.
+ * <p>
+ * Si el nmero de participantes no es potencia de dos, las hojas de los
+ * sembrados que faltan quedan vacas y, como cada una se enfrenta a un
+ * sembrado alto, los pases libres de la primera ronda son para los mejores
+ * sembrados.
+ * <p>
+ * Las caractersticas de la clase <code>SembradoLlave</code> son:
+ * <ul>
+ * <li><code>participantes</code> para guardar el nmero de cada participante
+ * en el orden de sembrado.</li>
+ * <li><code>tamano</code> para guardar el nmero de hojas de la llave,
+ * potencia de dos.</li>
+ * <li><code>orden</code> para guardar el sembrado, empezando en 0, de cada
+ * hoja.</li>
+ * </ul>
+ *
+ * @version 18/10/2026
+ */
+public class SembradoLlave {
+
+	/**
+	 * Nmero de cada participante en el orden de sembrado.
+	 */
+	private int[] participantes;
+	/**
+	 * Nmero de hojas de la llave, potencia de dos.
+	 */
+	private int tamano;
+	/**
+	 * Sembrado, empezando en 0, de cada hoja.
+	 */
+	private int[] orden;
+
+	/**
+	 * Permite crear el sembrado de los participantes recibidos.
+	 *
+	 * @param participantes
+	 *            Recibe el nmero de cada participante en el orden de sembrado,
+	 *            empezando por el mejor.
+	 */
+	public SembradoLlave(int[] participantes) {
+		this.participantes = participantes.clone();
+		this.tamano = 2;
+		while (tamano < participantes.length) {
+			tamano *= 2;
+		}
+		this.orden = obtenerOrdenSembrado(tamano);
+	}
+
+	/**
+	 * Obtiene el orden de siembra estndar de una llave.
+	 *
+	 * @param tamano
+	 *            Recibe el nmero de hojas, potencia de dos.
+	 * @return Regresa el sembrado, empezando en 0, de cada hoja.
+	 */
+	public static int[] obtenerOrdenSembrado(int tamano) {
+		int[] orden = { 0 };
+		while (orden.length < tamano) {
+			int[] siguiente = new int[orden.length * 2];
+			for (int i = 0; i < orden.length; i++) {
+				siguiente[2 * i] = orden[i];
+				siguiente[2 * i + 1] = siguiente.length - 1 - orden[i];
+			}
+			orden = siguiente;
+		}
+		return orden;
+	}
+
+	/**
+	 * Obtiene el nmero de hojas de la llave.
+	 *
+	 * @return Regresa el nmero de hojas, potencia de dos.
+	 */
+	public int getTamano() {
+		return tamano;
+	}
+
+	/**
+	 * Obtiene el nmero de pases libres de la primera ronda.
+	 *
+	 * @return Regresa el nmero de hojas sin participante.
+	 */
+	public int getNumeroLibres() {
+		return tamano - participantes.length;
+	}
+
+	/**
+	 * Obtiene el participante de cada hoja de la llave.
+	 *
+	 * @return Regresa el nmero de participante de cada hoja o
+	 *         <code>Llave.VACIO</code> si la hoja es un pase libre.
+	 */
+	public int[] obtenerHojas() {
+		int[] hojas = new int[tamano];
+		for (int i = 0; i < tamano; i++) {
+			hojas[i] = orden[i] < participantes.length ? participantes[orden[i]] : Llave.VACIO;
+		}
+		return hojas;
+	}
+
+	/**
+	 * Crea la llave con los participantes sembrados y los pases libres ya
+	 * resueltos.
+	 *
+	 * @param doble
+	 *            Recibe <tt>true</tt> si la llave tiene cuadro de perdedores.
+	 * @param reinicio
+	 *            Recibe <tt>true</tt> si se juega una final de reinicio cuando
+	 *            el campen de perdedores gana la gran final.
+	 * @return Regresa la llave con la primera ronda en el ciclo 1.
+	 */
+	public Llave crearLlave(boolean doble, boolean reinicio) {
+		return new Llave(obtenerHojas(), doble, reinicio, 1);
+	}
+}
@@ -0,0 +1,204 @@
+package sigestor.dominio;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Sirve para ordenar a los participantes del torneo de acuerdo a su puntaje
+ * acumulado y a los criterios de desempate seleccionados.
+ * <p>
+ * A cada participante le corresponde un vector de tamao fijo formado por su
+ * puntaje acumulado seguido del valor de cada criterio de desempate en el orden
+ * de <code>CriteriosDesempate</code>, orientado de modo que el valor mayor es
+ * mejor. Un criterio solo se calcula para los participantes que siguen
+ * empatados con los componentes anteriores y los participantes se ordenan
+ * comparando sus vectores de forma lexicogrfica, de modo que un empate entre
+ * tres o ms participantes no depende del orden de la lista.
+ * <p>
+ * Las caractersticas de la clase <code>TablaPosiciones</code> son:
+ * <ul>
+ * <li><code>torneo</code> para guardar los datos del torneo.</li>
+ * <li><code>desempates</code> para guardar los criterios de desempate
+ * seleccionados en el orden en que se aplican.</li>
+ * <li><code>vectores</code> para guardar el vector de cada participante de
+ * acuerdo a su nmero de participante.</li>
+ * </ul>
+ *
+ * @version 18/10/2026
+ */
+public class TablaPosiciones {
+
+	/**
+	 * Datos del torneo.
+	 */
+	private Torneo torneo;
+	/**
+	 * Criterios de desempate seleccionados en el orden en que se aplican.
+	 */
+	private ArrayList<Desempate> desempates;
+	/**
+	 * Vector de cada participante de acuerdo a su nmero de participante.
+	 */
+	private HashMap<Integer, float[]> vectores;
+
+	/**
+	 * Permite crear la tabla de posiciones del torneo recibido con sus criterios
+	 * de desempate seleccionados.
+	 *
+	 * @param torneo
+	 *            Recibe los datos del torneo.
+	 */
+	public TablaPosiciones(Torneo torneo) {
+		this.torneo = torneo;
+		this.desempates = new ArrayList<Desempate>();
+		this.vectores = new HashMap<Integer, float[]>();
+		if (torneo.getCriteriosDesempate() != null) {
+			for (String criterio : torneo.getCriteriosDesempate().getListaCriteriosSeleccionados()) {
+				Desempate desempate = Desempate.obtenerDesempate(criterio);
+				if (desempate != null) {
+					desempates.add(desempate);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Calcula el vector de cada participante y ordena la lista de participantes
+	 * del torneo de mayor a menor vector. Los participantes con el mismo vector
+	 * conservan el orden que tenan en la lista.
+	 *
+	 * @return Regresa la lista de participantes del torneo ya ordenada.
+	 */
+	public ArrayList<Participante> ordenar() {
+		ArrayList<Participante> participantes = torneo.getListaParticipantes();
+		calcularVectores(participantes);
+		Collections.sort(participantes, obtenerComparador(desempates.size() + 1));
+		return participantes;
+	}
+
+	/**
+	 * Obtiene el vector calculado de un participante.
+	 *
+	 * @param numeroParticipante
+	 *            Recibe el nmero del participante.
+	 * @return Regresa el vector del participante. <code>null</code> en caso de
+	 *         que no se haya ordenado la tabla o no exista el participante.
+	 */
+	public float[] obtenerVector(int numeroParticipante) {
+		return vectores.get(numeroParticipante);
+	}
+
+	/**
+	 * Calcula el vector de cada participante. Antes de cada criterio ordena a
+	 * los participantes por los componentes ya calculados y aplica el criterio
+	 * solo a los grupos que siguen empatados; si ya no hay empates no calcula
+	 * los criterios restantes.
+	 *
+	 * @param participantes
+	 *            Recibe la lista de participantes del torneo.
+	 */
+	private void calcularVectores(ArrayList<Participante> participantes) {
+		int tamano = desempates.size() + 1;
+		vectores.clear();
+		for (Participante participante : participantes) {
+			float[] vector = new float[tamano];
+			vector[0] = participante.getPuntajeAcumuladoParticipante();
+			vectores.put(participante.getNumeroParticipante(), vector);
+		}
+		if (desempates.isEmpty()) {
+			return;
+		}
+
+		IndiceEncuentros indice = torneo.obtenerIndiceEncuentros();
+		ArrayList<Participante> ordenados = new ArrayList<Participante>(participantes);
+		for (int componente = 1; componente < tamano; componente++) {
+			Collections.sort(ordenados, obtenerComparador(componente));
+			boolean hayEmpates = false;
+			int inicio = 0;
+			while (inicio < ordenados.size()) {
+				int fin = inicio + 1;
+				while (fin < ordenados.size() && compararVectores(ordenados.get(inicio), ordenados.get(fin),
+						componente) == 0) {
+					fin++;
+				}
+				if (fin - inicio > 1) {
+					hayEmpates = true;
+					aplicarDesempate(ordenados.subList(inicio, fin), componente, indice);
+				}
+				inicio = fin;
+			}
+			if (!hayEmpates) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Calcula un componente del vector para un grupo de participantes
+	 * empatados.
+	 *
+	 * @param empatados
+	 *            Recibe los participantes empatados.
+	 * @param componente
+	 *            Recibe la posicin del componente a calcular.
+	 * @param indice
+	 *            Recibe el ndice de encuentros del torneo.
+	 */
+	private void aplicarDesempate(List<Participante> empatados, int componente, IndiceEncuentros indice) {
+		Desempate desempate = desempates.get(componente - 1);
+		Set<Integer> numerosEmpatados = new HashSet<Integer>();
+		for (Participante participante : empatados) {
+			numerosEmpatados.add(participante.getNumeroParticipante());
+		}
+		for (Participante participante : empatados) {
+			vectores.get(participante.getNumeroParticipante())[componente] = desempate
+					.obtenerValorDesempate(participante, numerosEmpatados, indice, torneo);
+		}
+	}
+
+	/**
+	 * Compara los primeros componentes de los vectores de dos participantes.
+	 *
+	 * @param p1
+	 *            Recibe el primer participante.
+	 * @param p2
+	 *            Recibe el segundo participante.
+	 * @param componentes
+	 *            Recibe el nmero de componentes a comparar.
+	 * @return Regresa un nmero menor a cero si el primer participante va antes,
+	 *         mayor a cero si va despus y cero si estn empatados.
+	 */
+	private int compararVectores(Participante p1, Participante p2, int componentes) {
+		float[] vector1 = vectores.get(p1.getNumeroParticipante());
+		float[] vector2 = vectores.get(p2.getNumeroParticipante());
+		for (int i = 0; i < componentes; i++) {
+			int comparacion = Float.compare(vector2[i], vector1[i]);
+			if (comparacion != 0) {
+				return comparacion;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Obtiene el comparador que ordena a los participantes de mayor a menor
+	 * vector considerando solo los primeros componentes.
+	 *
+	 * @param componentes
+	 *            Recibe el nmero de componentes a comparar.
+	 * @return Regresa el comparador de participantes.
+	 */
+	private Comparator<Participante> obtenerComparador(final int componentes) {
+		return new Comparator<Participante>() {
+			@Override
+			public int compare(Participante p1, Participante p2) {
+				return compararVectores(p1, p2, componentes);
+			}
+		};
+	}
+}
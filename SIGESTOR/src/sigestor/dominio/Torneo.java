@@ -6,10 +6,10 @@ import java.util.Date;
 
 import sigestor.bd.BaseDatosCiclo;
 import sigestor.bd.BaseDatosCriteriosDesempate;
-import sigestor.bd.BaseDatosEncuentro;
 import sigestor.bd.BaseDatosParticipante;
 import sigestor.bd.BaseDatosPersonalizacion;
 import sigestor.bd.BaseDatosTorneo;
+import sigestor.bd.SesionBaseDatos;
 import sigestor.excepcion.ExcepcionBaseDatos;
 import sigestor.excepcion.ExcepcionBaseDatosCiclo;
 import sigestor.excepcion.ExcepcionBaseDatosCriteriosDesempate;
@@ -32,6 +32,14 @@ import sigestor.excepcion.ExcepcionTorneo;
  * personalizacin.</li>
  * <li><code>listaParticipantes</code> Para almacenar la lista de los
  * participantes del torneo.</li>
+ * <li><code>registroParticipantes</code> Para localizar a cada participante de
+ * <code>listaParticipantes</code> por su nmero de participante.</li>
+ * <li><code>indiceEncuentros</code> Para consultar los encuentros y los
+ * puntajes de desempate de cada participante.</li>
+ * <li><code>historialEncuentros</code> Para saber si dos participantes ya se
+ * enfrentaron y el color con el que ha jugado cada uno.</li>
+ * <li><code>ordenParticipantes</code> Para almacenar la forma en que se
+ * ordenan los participantes del torneo.</li>
  * <li><code>criteriosDesempate</code> Para almacenar los criterios de desempate
  * seleccionados.</li>
  * <li><code>baseDatos</code> Para almacenar la base de datos del torneo.</li>
@@ -52,7 +60,7 @@ import sigestor.excepcion.ExcepcionTorneo;
  * directa es simple(true) o doble(false)</li>
  * </ul>
  * 
- * @version 02/06/2023
+ * @version 18/10/2026
  * 
  * @author Jonathan Eduardo Ibarra Martnez
  * @author Ricky Didier Peralta Reyes
@@ -74,6 +82,29 @@ public class Torneo {
 	 * Lista de los participantes del torneo.
 	 */
 	private ArrayList<Participante> listaParticipantes;
+	/**
+	 * Participantes de <code>listaParticipantes</code> indexados por su nmero
+	 * de participante.
+	 */
+	private Participante[] registroParticipantes;
+	/**
+	 * Nmero de participantes de la lista cuando se construy el registro.
+	 */
+	private int totalRegistrados;
+	/**
+	 * ndice de encuentros del torneo, se actualiza con cada resultado
+	 * capturado.
+	 */
+	private IndiceEncuentros indiceEncuentros;
+	/**
+	 * Historial de pares jugados y colores del torneo, se actualiza con cada
+	 * ciclo generado.
+	 */
+	private HistorialEncuentros historialEncuentros;
+	/**
+	 * Forma en que se ordenan los participantes del torneo.
+	 */
+	private OrdenParticipantes ordenParticipantes = new OrdenParticipantes();
 	/**
 	 * Criterios de desempate que se utilizarn en el torneo.
 	 */
@@ -200,6 +231,169 @@ public class Torneo {
 	 */
 	public void setListaParticipantes(ArrayList<Participante> listaParticipantes) {
 		this.listaParticipantes = listaParticipantes;
+		this.registroParticipantes = null;
+		this.indiceEncuentros = null;
+		this.historialEncuentros = null;
+	}
+
+	/**
+	 * Devuelve la forma en que se ordenan los participantes del torneo.
+	 * 
+	 * @return Regresa el orden de los participantes.
+	 */
+	public OrdenParticipantes getOrdenParticipantes() {
+		return ordenParticipantes;
+	}
+
+	/**
+	 * Asigna la forma en que se ordenan los participantes del torneo.
+	 * 
+	 * @param ordenParticipantes
+	 *            Recibe el orden de los participantes.
+	 */
+	public void setOrdenParticipantes(OrdenParticipantes ordenParticipantes) {
+		this.ordenParticipantes = ordenParticipantes;
+	}
+
+	/**
+	 * Devuelve el ndice de encuentros del torneo. Si cambi la lista de ciclos
+	 * o el ciclo actual desde que se construy, lo vuelve a construir.
+	 * 
+	 * @return Regresa el ndice de encuentros del torneo.
+	 */
+	public IndiceEncuentros obtenerIndiceEncuentros() {
+		ArrayList<Ciclo> ciclos = getAlgoritmoTorneo() != null ? getAlgoritmoTorneo().getCiclos() : null;
+		if (indiceEncuentros == null || !indiceEncuentros.estaVigente(ciclos)) {
+			indiceEncuentros = new IndiceEncuentros(this);
+		}
+		return indiceEncuentros;
+	}
+
+	/**
+	 * Descarta el ndice de encuentros, de modo que se vuelva a construir la
+	 * prxima vez que se solicite. Se utiliza cuando se modifican resultados sin
+	 * pasar por el ndice.
+	 */
+	public void descartarIndiceEncuentros() {
+		this.indiceEncuentros = null;
+	}
+
+	/**
+	 * Devuelve el historial de encuentros del torneo con todos sus ciclos
+	 * registrados. Si se reemplaz la lista de ciclos o se eliminaron ciclos
+	 * desde que se construy, lo vuelve a construir.
+	 * 
+	 * @return Regresa el historial de encuentros del torneo.
+	 */
+	public HistorialEncuentros obtenerHistorialEncuentros() {
+		ArrayList<Ciclo> ciclos = getAlgoritmoTorneo() != null ? getAlgoritmoTorneo().getCiclos() : null;
+		if (historialEncuentros == null || !historialEncuentros.estaVigente(ciclos)) {
+			historialEncuentros = new HistorialEncuentros(this);
+		} else {
+			historialEncuentros.sincronizar(ciclos);
+		}
+		return historialEncuentros;
+	}
+
+	/**
+	 * Descarta el historial de encuentros, de modo que se vuelva a construir la
+	 * prxima vez que se solicite. Se utiliza cuando se eliminan ciclos.
+	 */
+	public void descartarHistorialEncuentros() {
+		this.historialEncuentros = null;
+	}
+
+	/**
+	 * Devuelve el participante con el nmero recibido sin recorrer la lista de
+	 * participantes. Si la lista fue reemplazada o cambi su tamao desde la
+	 * ltima bsqueda, el registro se vuelve a construir antes de consultarlo.
+	 * 
+	 * @param numeroParticipante
+	 *            Recibe el nmero del participante a obtener.
+	 * @return Regresa el participante con el nmero recibido, <code>null</code>
+	 *         en caso de no encontrarlo.
+	 */
+	public Participante obtenerParticipante(int numeroParticipante) {
+		Participante participante = buscarRegistro(numeroParticipante);
+		if (!registroVigente()
+				|| (participante != null && participante.getNumeroParticipante() != numeroParticipante)) {
+			construirRegistroParticipantes();
+			participante = buscarRegistro(numeroParticipante);
+		}
+		return participante;
+	}
+
+	/**
+	 * Devuelve el nmero del participante sin encuentro, que se agrega para
+	 * completar las parejas cuando el nmero de participantes es impar.
+	 * 
+	 * @return Regresa el nmero del participante sin encuentro, <tt>-1</tt> si
+	 *         el torneo no lo tiene.
+	 */
+	public int obtenerNumeroSinEncuentro() {
+		if (getDatosPersonalizacion() == null || getListaParticipantes() == null) {
+			return -1;
+		}
+		String nombre = getDatosPersonalizacion().getNombreParticipanteSinEncuentro();
+		for (Participante participante : getListaParticipantes()) {
+			if (participante.getNombreParticipante() != null
+					&& participante.getNombreParticipante().equalsIgnoreCase(nombre)) {
+				return participante.getNumeroParticipante();
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Busca al participante en el registro sin validarlo.
+	 * 
+	 * @param numeroParticipante
+	 *            Recibe el nmero del participante a buscar.
+	 * @return Regresa el participante registrado con ese nmero,
+	 *         <code>null</code> si no hay registro o no existe.
+	 */
+	private Participante buscarRegistro(int numeroParticipante) {
+		if (registroParticipantes == null || numeroParticipante < 0
+				|| numeroParticipante >= registroParticipantes.length) {
+			return null;
+		}
+		return registroParticipantes[numeroParticipante];
+	}
+
+	/**
+	 * Indica si el registro corresponde a la lista de participantes actual,
+	 * comparando el nmero de participantes registrados.
+	 * 
+	 * @return <tt>true</tt> si el registro est al da, <tt>false</tt> en caso
+	 *         contrario.
+	 */
+	private boolean registroVigente() {
+		return registroParticipantes != null && listaParticipantes != null
+				&& totalRegistrados == listaParticipantes.size();
+	}
+
+	/**
+	 * Construye el registro de participantes a partir de
+	 * <code>listaParticipantes</code>, usando el nmero de participante como
+	 * ndice del arreglo.
+	 */
+	private void construirRegistroParticipantes() {
+		int mayor = 0;
+		if (listaParticipantes != null) {
+			for (Participante participante : listaParticipantes) {
+				mayor = Math.max(mayor, participante.getNumeroParticipante());
+			}
+		}
+		registroParticipantes = new Participante[mayor + 1];
+		totalRegistrados = 0;
+		if (listaParticipantes != null) {
+			for (Participante participante : listaParticipantes) {
+				if (participante.getNumeroParticipante() >= 0) {
+					registroParticipantes[participante.getNumeroParticipante()] = participante;
+				}
+			}
+			totalRegistrados = listaParticipantes.size();
+		}
 	}
 
 	/**
@@ -408,11 +602,12 @@ public class Torneo {
 	}
 
 	/**
-	 * Sirve para ordenar a los participantes antes de iniciar el torneo.
+	 * Sirve para ordenar a los participantes antes de iniciar el torneo de
+	 * acuerdo a <code>ordenParticipantes</code>.
 	 * 
 	 */
 	private void ordenarParticipantes() {
-		Collections.sort(listaParticipantes);
+		ordenParticipantes.ordenarInicial(listaParticipantes);
 	}
 
 	/**
@@ -578,7 +773,7 @@ public class Torneo {
 		this.setFechaFinalTorneo(torneoConsultado.getFechaFinalTorneo());
 		this.setCicloActual(torneoConsultado.getCicloActual());
 		this.setCriteriosDesempate(baseDatosCriterios.obtenerCriteriosDesempate());
-		this.setDatosPersonalizacion(baseDatosPersonalizacion.obtenerPersonalizacion());
+		this.setDatosPersonalizacion(baseDatosPersonalizacion.obtenerPersonalizacion(this.ordenParticipantes));
 		this.setListaParticipantes(baseDatosParticipantes.obtenerParticipante());
 
 		AlgoritmoTorneo algoritmo = null;
@@ -603,8 +798,12 @@ public class Torneo {
 			}
 		}
 		this.setAlgoritmoTorneo(algoritmo);
+		CalendarioBerger calendario = null;
+		if (this.getCicloActual() > 0 && algoritmo instanceof TorneoRoundRobin) {
+			calendario = ((TorneoRoundRobin) algoritmo).recuperarCalendario();
+		}
 		BaseDatosCiclo baseDatosCiclos = new BaseDatosCiclo(nombreArchivo);
-		this.getAlgoritmoTorneo().setCiclos(baseDatosCiclos.obtenerCiclos(this));
+		this.getAlgoritmoTorneo().setCiclos(baseDatosCiclos.obtenerCiclos(this, calendario));
 	}
 
 	/**
@@ -636,7 +835,7 @@ public class Torneo {
 
 		baseDatosTorneo.insertarDatosGenerales(this);
 		baseDatosCriterios.insertarCriteriosDesempate(this.criteriosDesempate);
-		baseDatosPersonalizacion.insertarPersonalizacion(this.datosPersonalizacion);
+		baseDatosPersonalizacion.insertarPersonalizacion(this.datosPersonalizacion, this.ordenParticipantes);
 		baseDatosParticipante.insertarParticipante(this.listaParticipantes);
 
 	}
@@ -670,14 +869,15 @@ public class Torneo {
 		baseDatosTorneo.actualizarDatosGenerales(this);
 		baseDatosCriterios.eliminarCriteriosDesempate();
 		baseDatosCriterios.insertarCriteriosDesempate(this.getCriteriosDesempate());
-		baseDatosPersonalizacion.actualizarPersonalizacion(this.getDatosPersonalizacion());
+		baseDatosPersonalizacion.actualizarPersonalizacion(this.getDatosPersonalizacion(), this.ordenParticipantes);
 		baseDatosParticipante.eliminarParticipante();
 		baseDatosParticipante.insertarParticipante(this.getListaParticipantes());
 	}
 
 	/**
-	 * Permite actualizar los datos de la base de datos para ingresarlos al objeto
-	 * <code>Torneo</code>.
+	 * Permite borrar el avance del torneo en una sola transaccin de la base de
+	 * datos y regresar el torneo en memoria a su estado inicial, sin volver a
+	 * leerlo de la base de datos.
 	 * 
 	 * @throws ExcepcionBaseDatos
 	 *             Lanza la excepcin s ocurre un error en <code>BaseDatos</code>.
@@ -705,18 +905,52 @@ public class Torneo {
 	public void cancelarTorneo() throws ExcepcionBaseDatos, ExcepcionBaseDatosParticipante, ExcepcionBaseDatosTorneo,
 			ExcepcionBaseDatosCiclo, ExcepcionBaseDatosEncuentro, ExcepcionBaseDatosCriteriosDesempate,
 			ExcepcionCapturarResultados, ExcepcionBaseDatosPersonalizacion {
-		setCicloActual(0);
-		BaseDatosParticipante participantes = new BaseDatosParticipante(this.nombreArchivo);
-		BaseDatosCiclo bdc = new BaseDatosCiclo(this.nombreArchivo);
-		BaseDatosEncuentro bde = new BaseDatosEncuentro(this.nombreArchivo);
 		BaseDatosTorneo bdt = new BaseDatosTorneo(this.nombreArchivo);
-		participantes.cancelarAvanceParticipante(this.listaParticipantes);
-		bdc.eliminarCiclos();
-		bde.eliminarEncuentros();
-		bdt.actualizarCicloActual(this);
-		bdt.eliminarTorneoRoundRobin();
-		bdt.eliminarTorneoSuizo();
-		bdt.eliminarTorneoEliminacionDirecta();
-		recuperarTorneo();
+		bdt.cancelarAvanceTorneo(this);
+		reiniciarTorneo();
+	}
+
+	/**
+	 * Regresa el torneo en memoria al estado que tiene antes de iniciarse, igual
+	 * al que se obtendra al recuperarlo de la base de datos despus de
+	 * cancelarlo: ciclo actual en 0, participantes sin avance y en su orden de
+	 * registro, y un algoritmo nuevo sin ciclos.
+	 */
+	private void reiniciarTorneo() {
+		setCicloActual(0);
+		descartarIndiceEncuentros();
+		descartarHistorialEncuentros();
+		ordenParticipantes.setPorPuntajeAcumulado(false);
+		for (Participante participante : this.listaParticipantes) {
+			participante.setPuntajeAcumuladoParticipante(0.0f);
+			participante.setMarcadorFavor(0);
+			participante.setMarcadorContra(0);
+			participante.setLugarParticipante(0);
+		}
+		Collections.sort(this.listaParticipantes, ComparadoresParticipante.POR_NUMERO);
+		AlgoritmoTorneo algoritmo = null;
+		if (this.getTipoTorneo().equals("Suizo")) {
+			algoritmo = new TorneoSuizo(this);
+		} else if (this.getTipoTorneo().equals("Round Robin")) {
+			algoritmo = new TorneoRoundRobin(this);
+		} else if (this.getTipoTorneo().equals("Eliminacin directa")) {
+			algoritmo = new TorneoEliminacionDirecta(this);
+		}
+		this.setAlgoritmoTorneo(algoritmo);
+		this.getAlgoritmoTorneo().setCiclos(new ArrayList<Ciclo>());
+	}
+
+	/**
+	 * Cierra la conexin a la base de datos que se mantuvo abierta mientras el
+	 * torneo estuvo abierto.
+	 * 
+	 * @throws ExcepcionBaseDatos
+	 *             Lanza la excepcin s ocurre un error al cerrar la conexin a
+	 *             la base de datos.
+	 */
+	public void cerrarTorneo() throws ExcepcionBaseDatos {
+		if (this.nombreArchivo != null) {
+			SesionBaseDatos.cerrarSesion(this.nombreArchivo);
+		}
 	}
 }
@@ -1,10 +1,10 @@
 package sigestor.dominio;
 
+import java.io.File;
 import java.util.ArrayList;
-import java.util.Collections;
-import sigestor.bd.BaseDatosCiclo;
-import sigestor.bd.BaseDatosEncuentro;
-import sigestor.bd.BaseDatosParticipante;
+import java.util.HashSet;
+
+import sigestor.bd.BaseDatosRonda;
 import sigestor.bd.BaseDatosTorneo;
 import sigestor.excepcion.ExcepcionBaseDatos;
 import sigestor.excepcion.ExcepcionBaseDatosCiclo;
@@ -12,14 +12,30 @@ import sigestor.excepcion.ExcepcionBaseDatosEncuentro;
 import sigestor.excepcion.ExcepcionBaseDatosParticipante;
 import sigestor.excepcion.ExcepcionBaseDatosTorneo;
 import sigestor.excepcion.ExcepcionCapturarResultados;
+import sigestor.excepcion.ExcepcionUtilerias;
+import sigestor.utilerias.UtileriasReporteLlave;
 
 /**
  * <code>AlgoritmoTorneo</code> Sirve para realizar las operaciones del torneo,
  * como: crear los ciclos segn lo establecido en el sistema Eliminacin
  * directa, los encuentros segn el sistema Eliminacin directa, desempatar
  * jugadores y realizar reportes.
+ * <p>
+ * Los encuentros se obtienen de la <code>Llave</code> del torneo: el primer
+ * ciclo siembra a los participantes en el orden de la lista y cada ciclo
+ * posterior registra los resultados del ciclo anterior en la llave y juega la
+ * siguiente ronda. La llave se guarda con cada ciclo.
+ * <p>
+ * En la eliminacin doble, con <code>k</code> rondas en el cuadro de
+ * ganadores, el ciclo 1 juega la primera ronda de ganadores, cada ciclo par
+ * <code>c</code> juega la ronda <code>c / 2 + 1</code> de ganadores y cada
+ * ciclo <code>c</code> posterior al primero juega la ronda <code>c - 1</code>
+ * de perdedores. La gran final se juega en el ciclo <code>2k</code> y, si el
+ * torneo tiene final de reinicio y la gana el campen de perdedores, la final
+ * de reinicio se juega en el ciclo <code>2k + 1</code>; si no hace falta, el
+ * nmero de ciclos del torneo se reduce a <code>2k</code>.
  * 
- * @version 05/06/2023
+ * @version 18/10/2026
  * 
  * @author German Luis Cruz Martinez.
  * @author Eder Euclides Dionisio Diaz.
@@ -30,6 +46,17 @@ import sigestor.excepcion.ExcepcionCapturarResultados;
  */
 public class TorneoEliminacionDirecta extends AlgoritmoTorneo {
 
+	/**
+	 * Cuadro del torneo; se recupera de la base de datos la primera vez que se
+	 * necesita.
+	 */
+	private Llave llave;
+	/**
+	 * Indica si en la eliminacin doble se juega una final de reinicio cuando
+	 * el campen de perdedores gana la gran final.
+	 */
+	private boolean reinicioFinal;
+
 	/**
 	 * Inicializa las variables con un valor por defecto y asigna a la variable
 	 * <code>torneo</code> el torneo recibido.
@@ -51,17 +78,45 @@ public class TorneoEliminacionDirecta extends AlgoritmoTorneo {
 	 */
 	@Override
 	public int calcularNumeroCiclos(int numeroParticipantes) {
+		int rondas = numeroParticipantes > 1 ? 32 - Integer.numberOfLeadingZeros(numeroParticipantes - 1) : 0;
 		if (this.getTipoEliminacion()) {
-			return (int) (Math.ceil(Math.log(numeroParticipantes) / Math.log(2)));
+			return rondas;
 		} else {
-			return ((int) (Math.ceil(Math.log(numeroParticipantes) / Math.log(2)))) * 2;
+			return rondas * 2 + (reinicioFinal ? 1 : 0);
 		}
 	}
 
+	/**
+	 * Indica si en la eliminacin doble se juega una final de reinicio.
+	 * 
+	 * @return <tt>true</tt> si se juega una final de reinicio cuando el campen
+	 *         de perdedores gana la gran final, <tt>false</tt> en caso
+	 *         contrario.
+	 */
+	public boolean isReinicioFinal() {
+		return reinicioFinal;
+	}
+
+	/**
+	 * Establece si en la eliminacin doble se juega una final de reinicio.
+	 * Debe asignarse antes de calcular el nmero de ciclos.
+	 * 
+	 * @param reinicioFinal
+	 *            Recibe <tt>true</tt> si se juega una final de reinicio cuando
+	 *            el campen de perdedores gana la gran final.
+	 */
+	public void setReinicioFinal(boolean reinicioFinal) {
+		this.reinicioFinal = reinicioFinal;
+	}
+
 	/**
 	 * Genera inicialmente los encuentros del primer ciclo y despus los encuentros
-	 * del siguiente ciclo una vez terminado el ciclo anterior. //FIXME agregar
-	 * documentacin
+	 * del siguiente ciclo una vez terminado el ciclo anterior. Si la llave ya
+	 * tiene campen y no queda ninguna partida, como cuando el campen de
+	 * ganadores gana la gran final, no genera el ciclo y reduce el nmero de
+	 * ciclos del torneo al ciclo actual. El ciclo actual se guarda en la misma
+	 * transaccin que los encuentros y la llave, y el torneo en memoria solo
+	 * cambia cuando la transaccin se confirma.
 	 * 
 	 * @throws ExcepcionBaseDatos
 	 *             Lanza la excepcin si ocurre un error al realizar las conexiones
@@ -78,516 +133,326 @@ public class TorneoEliminacionDirecta extends AlgoritmoTorneo {
 	 *             torneo.
 	 * @throws ExcepcionCapturarResultados
 	 *             Lanza la excepcin si ocurre un error al capturar los resultados.
+	 * @throws ExcepcionBaseDatosParticipante
+	 *             Lanza la excepcin si ocurre un error al actualizar un
+	 *             participante.
 	 */
 	public void realizarEncuentros() throws ExcepcionBaseDatos, ExcepcionBaseDatosEncuentro, ExcepcionBaseDatosCiclo,
-			ExcepcionBaseDatosTorneo, ExcepcionCapturarResultados {
-
-		try {
-			if (torneo.getCicloActual() < torneo.getAlgoritmoTorneo().getNumeroCiclos()) {
-				torneo.setCicloActual(torneo.getCicloActual() + 1);
-				BaseDatosCiclo bdc = new BaseDatosCiclo(torneo.getNombreArchivo());
-
-				Ciclo ciclo = new Ciclo(torneo, torneo.getCicloActual());
-				bdc.insertarCiclo(ciclo);
-				if (torneo.getCicloActual() > 1) {
-					encararParticipantesCiclosPosteriores(ciclo);
-				} else {
-					encararParticipantesPrimerCiclo(ciclo);
-				}
-				torneo.getAlgoritmoTorneo().getCiclos().add(ciclo);
-				BaseDatosTorneo bdt = new BaseDatosTorneo(torneo.getNombreArchivo());
-				bdt.actualizarCicloActual(torneo);
+			ExcepcionBaseDatosTorneo, ExcepcionCapturarResultados, ExcepcionBaseDatosParticipante {
+
+		if (torneo.getCicloActual() < torneo.getAlgoritmoTorneo().getNumeroCiclos()) {
+			Llave llave = prepararLlave();
+			ArrayList<int[]> partidas = obtenerPartidas(llave, torneo.getCicloActual() + 2 - llave.getPrimeraRonda());
+			if (partidas.isEmpty() && llave.obtenerCampeon() != Llave.POR_DEFINIR) {
+				BaseDatosRonda ronda = new BaseDatosRonda(torneo);
+				ronda.agregarNumeroCiclos(torneo.getCicloActual());
+				ronda.agregarLlave(llave);
+				ronda.confirmar();
+				torneo.getAlgoritmoTorneo().setNumeroCiclos(torneo.getCicloActual());
+				return;
 			}
-		} catch (ExcepcionBaseDatosParticipante e) {
-			e.printStackTrace();
+			int numeroCiclo = torneo.getCicloActual() + 1;
+			BaseDatosRonda ronda = new BaseDatosRonda(torneo);
+
+			Ciclo ciclo = new Ciclo(torneo, numeroCiclo);
+			ronda.agregarCiclo(ciclo);
+			agregarEncuentros(ciclo, ronda, partidas);
+			ronda.agregarLlave(llave);
+			ronda.agregarCicloActual(numeroCiclo);
+			ronda.confirmar();
+			torneo.setCicloActual(numeroCiclo);
+			torneo.getAlgoritmoTorneo().getCiclos().add(ciclo);
+			torneo.obtenerHistorialEncuentros().registrar(ciclo);
 		}
-
 	}
 
 	/**
-	 * Intercambia las posiciones de los 2 jugadores empatados, si el ganador est
-	 * una posicin abajo del jugador con quien empate, de lo contrario no realiza
-	 * ningn movimiento.
-	 * 
-	 * @param numeroP1
-	 *            Primer participante empatado.
-	 * @param numP2
-	 *            Segundo participante empatado.
-	 * @param numPGanador
-	 *            Participante que obtuvo ms puntaje con el criterio de desempate
-	 *            aplicado.
-	 * @return Lista de participantes ordenada.
-	 */
-	/*
-	 * private ArrayList<Participante> intercambiarPosiciones(int numeroP1, int
-	 * numP2, int numPGanador) { ArrayList<Participante> participantes =
-	 * torneo.getListaParticipantes();
+	 * Devuelve la llave del torneo. Si an no se ha cargado la recupera de la
+	 * base de datos y, si el archivo no tiene llave guardada, la reconstruye con
+	 * el ltimo ciclo.
 	 * 
-	 * boolean encontrado = false; int index = 0;
-	 * 
-	 * for (Participante p : participantes) { if (numeroP1 ==
-	 * p.getNumeroParticipante() || numP2 == p.getNumeroParticipante()) { if
-	 * (encontrado && p.getNumeroParticipante() == numPGanador) {
-	 * Collections.swap(participantes, index, index - 1); } encontrado = true; }
-	 * index++; } return participantes; }
+	 * @return La llave del torneo, <code>null</code> si el torneo no ha
+	 *         generado ciclos.
+	 * @throws ExcepcionBaseDatos
+	 *             Si ocurre un problema con la base de datos.
+	 * @throws ExcepcionBaseDatosTorneo
+	 *             Si ocurre un problema al obtener la llave.
 	 */
+	public Llave obtenerLlave() throws ExcepcionBaseDatos, ExcepcionBaseDatosTorneo {
+		TorneoEliminacionDirecta registrado = obtenerRegistrado();
+		if (registrado.llave == null && registrado.getCiclos() != null && !registrado.getCiclos().isEmpty()) {
+			registrado.llave = new BaseDatosTorneo(torneo.getNombreArchivo()).obtenerLlave();
+			if (registrado.llave == null) {
+				registrado.llave = reconstruirLlave(registrado.getCiclos());
+			}
+		}
+		return registrado.llave;
+	}
 
 	/**
-	 * Aplica el/los criterio(s) de desempate(s) establecidos en
-	 * <code>CriteriosDesempate</code>.
+	 * Regresa la llave a su primera ronda y vuelve a registrar los resultados de
+	 * los ciclos anteriores al ciclo actual. Se utiliza cuando se borran los
+	 * resultados de un ciclo. Si la llave tiene final de reinicio recupera el
+	 * ciclo de reinicio, por si se haba descartado con el resultado borrado.
+	 * 
+	 * @throws ExcepcionBaseDatos
+	 *             Si ocurre un problema con la base de datos.
+	 * @throws ExcepcionBaseDatosTorneo
+	 *             Si ocurre un problema al obtener o guardar la llave.
 	 */
-
-	@Override
-	public void desempatarParticipantes() {
-		/*
-		 * Desempate desempate; Participante participanteGanador; ArrayList<String>
-		 * criterios = torneo.getCriteriosDesempate().getListaCriteriosSeleccionados();
-		 * 
-		 * ArrayList<Participante> participantes = torneo.getListaParticipantes(); for
-		 * (Participante p1 : participantes) { for (Participante p2 : participantes) {
-		 * if (p1.getPuntajeAcumuladoParticipante() ==
-		 * p2.getPuntajeAcumuladoParticipante()) { cicloromper: { for (String criterio :
-		 * criterios) { switch (criterio) { case "Encuentro directo": desempate = new
-		 * DesempateEncuentroDirecto(); participanteGanador = desempate.desempatar(p1,
-		 * p2, participantes, obtenerEncuentrosTotales(), torneo); if
-		 * (participanteGanador != null) { participantes =
-		 * intercambiarPosiciones(p1.getNumeroParticipante(),
-		 * p2.getNumeroParticipante(), participanteGanador.getNumeroParticipante());
-		 * break cicloromper; } break; case "Sistema Koya": desempate = new
-		 * DesempateSistemaKoya(); participanteGanador = desempate.desempatar(p1, p2,
-		 * participantes, obtenerEncuentrosTotales(), torneo); if (participanteGanador
-		 * != null) { participantes = intercambiarPosiciones(p1.getNumeroParticipante(),
-		 * p2.getNumeroParticipante(), participanteGanador.getNumeroParticipante());
-		 * break cicloromper; } break; case "Buchholz": desempate = new
-		 * DesempateBuchholz(); participanteGanador = desempate.desempatar(p1, p2,
-		 * participantes, obtenerEncuentrosTotales(), torneo); if (participanteGanador
-		 * != null) { participantes = intercambiarPosiciones(p1.getNumeroParticipante(),
-		 * p2.getNumeroParticipante(), participanteGanador.getNumeroParticipante());
-		 * break cicloromper; } break; case "Sonnerborn-Berger": desempate = new
-		 * DesempateSonnebornBerger(); participanteGanador = desempate.desempatar(p1,
-		 * p2, participantes, obtenerEncuentrosTotales(), torneo); if
-		 * (participanteGanador != null) { participantes =
-		 * intercambiarPosiciones(p1.getNumeroParticipante(),
-		 * p2.getNumeroParticipante(), participanteGanador.getNumeroParticipante());
-		 * break cicloromper; } break; case "Encuentros ganados": desempate = new
-		 * DesempateEncuentrosGanados(); participanteGanador = desempate.desempatar(p1,
-		 * p2, participantes, obtenerEncuentrosTotales(), torneo); if
-		 * (participanteGanador != null) { participantes =
-		 * intercambiarPosiciones(p1.getNumeroParticipante(),
-		 * p2.getNumeroParticipante(), participanteGanador.getNumeroParticipante());
-		 * break cicloromper; } break; case "Diferencia de marcadores": desempate = new
-		 * DesempateDiferenciaMarcadores(); participanteGanador =
-		 * desempate.desempatar(p1, p2, participantes, obtenerEncuentrosTotales(),
-		 * torneo); if (participanteGanador != null) { participantes =
-		 * intercambiarPosiciones(p1.getNumeroParticipante(),
-		 * p2.getNumeroParticipante(), participanteGanador.getNumeroParticipante());
-		 * break cicloromper; } break; case "Marcador a favor": desempate = new
-		 * DesempateMarcadorFavor(); participanteGanador = desempate.desempatar(p1, p2,
-		 * participantes, obtenerEncuentrosTotales(), torneo); if (participanteGanador
-		 * != null) { participantes = intercambiarPosiciones(p1.getNumeroParticipante(),
-		 * p2.getNumeroParticipante(), participanteGanador.getNumeroParticipante());
-		 * break cicloromper; } break; case "Marcador en contra": desempate = new
-		 * DesempateMarcadorContra(); participanteGanador = desempate.desempatar(p1, p2,
-		 * participantes, obtenerEncuentrosTotales(), torneo); if (participanteGanador
-		 * != null) { participantes = intercambiarPosiciones(p1.getNumeroParticipante(),
-		 * p2.getNumeroParticipante(), participanteGanador.getNumeroParticipante());
-		 * break cicloromper; } break; default: // no se ha seleccionado ningn criterio
-		 * }
-		 * 
-		 * } } } } } torneo.setListaParticipantes(participantes);
-		 */
+	public void rehacerLlave() throws ExcepcionBaseDatos, ExcepcionBaseDatosTorneo {
+		Llave llave = obtenerLlave();
+		if (llave == null) {
+			return;
+		}
+		llave.reiniciar();
+		for (Ciclo ciclo : obtenerRegistrado().getCiclos()) {
+			if (ciclo.getNumeroCiclo() >= llave.getPrimeraRonda()
+					&& ciclo.getNumeroCiclo() < torneo.getCicloActual()) {
+				registrarResultados(llave, ciclo);
+			}
+		}
+		BaseDatosTorneo bdt = new BaseDatosTorneo(torneo.getNombreArchivo());
+		bdt.actualizarLlave(llave);
+		int numeroCiclos = llave.getPrimeraRonda() + 2 * llave.getNumeroRondas();
+		if (llave.isReinicio() && obtenerRegistrado().getNumeroCiclos() < numeroCiclos) {
+			obtenerRegistrado().setNumeroCiclos(numeroCiclos);
+			bdt.actualizarNumeroCiclosEliminacionDirecta(numeroCiclos);
+		}
 	}
 
 	/**
-	 * Obtiene todos los encuentros que ya hayan sido jugados en el torneo.
+	 * Obtiene la llave con la que se realiza el siguiente ciclo. Antes del
+	 * primer ciclo siembra la llave con <code>SembradoLlave</code>, tomando el
+	 * orden de la lista como orden de sembrado; en los siguientes registra los
+	 * resultados del ciclo actual.
 	 * 
-	 * @return lista de encuentros jugados.
+	 * @return La llave lista para obtener las partidas del siguiente ciclo.
+	 * @throws ExcepcionBaseDatos
+	 *             Si ocurre un problema con la base de datos.
+	 * @throws ExcepcionBaseDatosTorneo
+	 *             Si ocurre un problema al obtener la llave.
 	 */
-	/*
-	 * private ArrayList<Encuentro> obtenerEncuentrosTotales() {
-	 * ArrayList<Encuentro> encuentrosTotales = new ArrayList<Encuentro>();
+	private Llave prepararLlave() throws ExcepcionBaseDatos, ExcepcionBaseDatosTorneo {
+		TorneoEliminacionDirecta registrado = obtenerRegistrado();
+		if (torneo.getCicloActual() == 0) {
+			ArrayList<Participante> participantes = torneo.getListaParticipantes();
+			int[] numeros = new int[participantes.size()];
+			for (int i = 0; i < numeros.length; i++) {
+				numeros[i] = participantes.get(i).getNumeroParticipante();
+			}
+			registrado.llave = new SembradoLlave(numeros).crearLlave(!registrado.getTipoEliminacion(),
+					registrado.reinicioFinal);
+			return registrado.llave;
+		}
+		Llave llave = obtenerLlave();
+		registrarResultados(llave, registrado.getCiclos().get(torneo.getCicloActual() - 1));
+		return llave;
+	}
+
+	/**
+	 * Obtiene las partidas de una ronda de la llave. En la eliminacin doble la
+	 * ronda rene la ronda del cuadro de ganadores y la del cuadro de
+	 * perdedores que se juegan en el mismo ciclo, y la gran final o la final de
+	 * reinicio en cuanto tienen ambos participantes.
 	 * 
-	 * ArrayList<Ciclo> ciclos = torneo.getAlgoritmoTorneo().getCiclos(); for (Ciclo
-	 * ciclo : ciclos) { ArrayList<Encuentro> encuentros =
-	 * ciclo.getEncuentroParticipantes(); for (Encuentro encuentro : encuentros) {
-	 * encuentrosTotales.add(encuentro); } } return encuentrosTotales; }
+	 * @param llave
+	 *            Llave del torneo.
+	 * @param ronda
+	 *            Ronda de la llave, empezando en 1 en el ciclo de su primera
+	 *            ronda.
+	 * @return Nmeros del participante inicial y final de cada partida.
 	 */
+	private ArrayList<int[]> obtenerPartidas(Llave llave, int ronda) {
+		if (!llave.isDoble()) {
+			return llave.obtenerPartidasGanadores(ronda);
+		}
+		ArrayList<int[]> partidas = new ArrayList<int[]>();
+		if (ronda == 1) {
+			partidas.addAll(llave.obtenerPartidasGanadores(1));
+		} else if (ronda % 2 == 0) {
+			partidas.addAll(llave.obtenerPartidasGanadores(ronda / 2 + 1));
+		}
+		if (ronda > 1) {
+			partidas.addAll(llave.obtenerPartidasPerdedores(ronda - 1));
+		}
+		partidas.addAll(llave.obtenerPartidasFinales());
+		return partidas;
+	}
 
 	/**
-	 * Realiza los encuentros del primer ciclo.
+	 * Crea los encuentros de un ciclo con las partidas recibidas y los agrega a
+	 * la ronda junto con sus participantes.
 	 * 
 	 * @param ciclo
-	 *            Ciclo a realizar.
+	 *            Ciclo al que pertenecen los encuentros.
+	 * @param ronda
+	 *            Ronda donde se agregan los encuentros y los participantes.
+	 * @param partidas
+	 *            Nmeros del participante inicial y final de cada partida.
 	 * @throws ExcepcionCapturarResultados
 	 *             Si ocurre un error con el objeto <code>Encuentros</code>.
-	 * @throws ExcepcionBaseDatos
-	 *             Si ocurre un problema con la base de datos.
-	 * @throws ExcepcionBaseDatosEncuentro
-	 *             Si ocurre un problema al insertar en la tabla
-	 *             <code>encuentros</code>.
-	 * @throws ExcepcionBaseDatosParticipante
-	 *             Si ocurre un problema al actualizar un participante en la tabla
-	 *             <code>participantes</code>.
 	 */
-	private void encararParticipantesPrimerCiclo(Ciclo ciclo) throws ExcepcionCapturarResultados, ExcepcionBaseDatos,
-			ExcepcionBaseDatosEncuentro, ExcepcionBaseDatosParticipante {
-		BaseDatosEncuentro bde = new BaseDatosEncuentro(torneo.getNombreArchivo());
-		BaseDatosParticipante bdp = new BaseDatosParticipante(torneo.getNombreArchivo());
-
-		ArrayList<Participante> participantes = torneo.getListaParticipantes();
-		int totalParticipantes = participantes.size();
-		int descansosPrimeraVuelta = 0;
-		int descansosSegundaVuelta = 0;
-
-		int auxUltimaPosicion = 0;
-		int auxUltimaPosicionSegundaVuelta = 0;
-		// da 13/05/2023 me dedicar a revisar el algoritmos para los torneo simples
-		// 06:04 p.m.-------------------------------------------------------------
-		// da 31/05/2023 me quiero lanzar de un puente :c 01:27 a.m.
-
-		if (torneo.getAlgoritmoTorneo().getTipoEliminacion()) {
-			if (!esPotenciaDeDos(totalParticipantes)) {
-				// System.Out.println(participantes);
-				// System.Out.println("Total de participantes: " + totalParticipantes);
-				// System.Out.println("Numero de ciclos: " +
-				// calcularNumeroCiclos(totalParticipantes));
-
-				descansosPrimeraVuelta = (int) (Math.pow(2, calcularNumeroCiclos(totalParticipantes)))
-						- totalParticipantes;
-
-			}
-			int numeroDeEncuentrosSimple = ((participantes.size() - descansosPrimeraVuelta) / 2)
-					+ descansosPrimeraVuelta;
-			// System.Out.println("Numero de encuentros: " + numeroDeEncuentrosSimple);
-			// System.Out.println("Numero de descansos = " + descansosPrimeraVuelta);
-			ArrayList<Encuentro> encuentros = new ArrayList<Encuentro>();
-			for (int i = 1; i <= numeroDeEncuentrosSimple; i++) {
-				if (!(descansosPrimeraVuelta > 0)) {
-					// System.Out.println("i = " + i);
-					encuentros.add(new Encuentro(auxUltimaPosicion + 1,
-							participantes.get(i - 1).getNumeroParticipante(),
-							participantes.get((participantes.size() - 1) - auxUltimaPosicion).getNumeroParticipante(),
-							this.getTorneo().getFechaInicioTorneo()));
-
-					// System.Out.println(encuentros);
-					/*
-					 * bdp.actualizarResultadoParticipante=
-					 * realizarAccion("UPDATE participante SET marcadorFavor = " +
-					 * participante.getMarcadorFavor() + ", marcadorContra = " +
-					 * participante.getMarcadorContra() + ", puntajeAcumuladoParticipante = " +
-					 * participante.getPuntajeAcumuladoParticipante() +
-					 * " WHERE numeroParticipante = " + participante.getNumeroParticipante());
-					 */
-					bdp.actualizarResultadoParticipante(participantes.get(i - 1), ciclo);
-					bdp.actualizarResultadoParticipante(
-							participantes.get((participantes.size() - 1) - auxUltimaPosicion), ciclo);
-					auxUltimaPosicion++;
-					bde.insertarEncuentro(encuentros.get((auxUltimaPosicion) - 1), ciclo);
-
-				}
-				descansosPrimeraVuelta--;
-			}
-			ciclo.setEncuentroParticipantes(encuentros);
-			// -----------------------------------------------------------------------------------------------------------------------------------------------------
-		} else {
-			if (!esPotenciaDeDos(totalParticipantes)) {
-				descansosPrimeraVuelta = (int) (Math.pow(2, calcularNumeroCiclos(totalParticipantes)))
-						- totalParticipantes;
-				descansosSegundaVuelta = descansosPrimeraVuelta;
-
-			}
-			int numeroDeEncuentrosDoble = ((participantes.size() - descansosPrimeraVuelta) / 2)
-					+ descansosPrimeraVuelta;
-
-			ArrayList<Encuentro> encuentros = new ArrayList<Encuentro>();
-			for (int i = 1; i <= numeroDeEncuentrosDoble; i++) {
-				if (!(descansosPrimeraVuelta > 0)) {
-
-					encuentros.add(new Encuentro(auxUltimaPosicion + 1,
-							participantes.get(i - 1).getNumeroParticipante(),
-							participantes.get((participantes.size() - 1) - auxUltimaPosicion).getNumeroParticipante(),
-							this.getTorneo().getFechaInicioTorneo()));
-
-					bdp.actualizarResultadoParticipante(participantes.get((i - 1)), ciclo);
-					bdp.actualizarResultadoParticipante(
-							participantes.get((participantes.size() - 1) - auxUltimaPosicionSegundaVuelta), ciclo);
-					auxUltimaPosicion++;
-					auxUltimaPosicionSegundaVuelta++;
-					bde.insertarEncuentro(encuentros.get((auxUltimaPosicionSegundaVuelta) - 1), ciclo);
-				} else {
-					descansosPrimeraVuelta--;
-				}
-
-			}
-			auxUltimaPosicion = 0;
-			/*
-			 * for (int i = 1; i <= numeroDeEncuentrosDoble; i++) { if
-			 * (!(descansosSegundaVuelta > 0)) {
-			 * 
-			 * encuentros.add(new Encuentro(auxUltimaPosicionSegundaVuelta + 1,
-			 * participantes.get((participantes.size() - 1) -
-			 * auxUltimaPosicion).getNumeroParticipante(), participantes.get(i -
-			 * 1).getNumeroParticipante(), this.getTorneo().getFechaInicioTorneo()));
-			 * 
-			 * bdp.actualizarResultadoParticipante(participantes.get((i - 1)), ciclo);
-			 * bdp.actualizarResultadoParticipante( participantes.get((participantes.size()
-			 * - 1) - auxUltimaPosicion), ciclo); auxUltimaPosicion++;
-			 * auxUltimaPosicionSegundaVuelta++;
-			 * bde.insertarEncuentro(encuentros.get((auxUltimaPosicionSegundaVuelta) - 1),
-			 * ciclo); } else { descansosSegundaVuelta--; }
-			 * 
-			 * }
-			 */
-			ciclo.setEncuentroParticipantes(encuentros);
+	private void agregarEncuentros(Ciclo ciclo, BaseDatosRonda ronda, ArrayList<int[]> partidas)
+			throws ExcepcionCapturarResultados {
+		ArrayList<Encuentro> encuentros = new ArrayList<Encuentro>();
+		for (int[] partida : partidas) {
+			Encuentro encuentro = new Encuentro(encuentros.size() + 1, partida[0], partida[1],
+					this.getTorneo().getFechaInicioTorneo());
+			encuentros.add(encuentro);
+			ronda.agregarEncuentro(encuentro, ciclo);
+			ronda.agregarResultadoParticipante(torneo.obtenerParticipante(partida[0]));
+			ronda.agregarResultadoParticipante(torneo.obtenerParticipante(partida[1]));
 		}
-
+		ciclo.setEncuentroParticipantes(encuentros);
 	}
 
 	/**
-	 * Realiza los encuentros de un ciclo posterior al primer ciclo.
+	 * Registra en la llave los resultados de los encuentros de un ciclo. Los
+	 * encuentros que ya estaban registrados se ignoran.
 	 * 
+	 * @param llave
+	 *            Llave del torneo.
 	 * @param ciclo
-	 *            Recibe el objeto <code>Ciclo</code> para guardar los encuentros a
-	 *            realizar.
-	 * @throws ExcepcionCapturarResultados
-	 *             Si ocurre un error con el objeto <code>Encuentros</code>.
-	 * @throws ExcepcionBaseDatos
-	 *             Si ocurre un problema con la base de datos.
-	 * @throws ExcepcionBaseDatosEncuentro
-	 *             Si ocurre un problema al insertar en la tabla
-	 *             <code>encuentros</code>.
-	 * @throws ExcepcionBaseDatosParticipante
-	 *             Si ocurre un problema al actualizar un participante en la tabla
-	 *             <code>participantes</code>.
-	 * @throws ExcepcionBaseDatosCiclo
-	 *             Si ocurre un problema al insertar en la tabla <code>ciclo</code>
-	 * @throws ExcepcionBaseDatosTorneo
-	 *             Si ocurre un problema en la base de datos torneo.
+	 *            Ciclo con los resultados capturados.
 	 */
-	private void encararParticipantesCiclosPosteriores(Ciclo ciclo)
-			throws ExcepcionCapturarResultados, ExcepcionBaseDatos, ExcepcionBaseDatosEncuentro,
-			ExcepcionBaseDatosParticipante, ExcepcionBaseDatosCiclo, ExcepcionBaseDatosTorneo {
-
-		BaseDatosEncuentro bde = new BaseDatosEncuentro(torneo.getNombreArchivo());
-		BaseDatosParticipante bdp = new BaseDatosParticipante(torneo.getNombreArchivo());
-		BaseDatosCiclo bdc = new BaseDatosCiclo(torneo.getNombreArchivo());
-
-		ArrayList<Participante> participantes = torneo.getListaParticipantes();
-		ArrayList<Participante> participantesCiclo = new ArrayList<Participante>();
-		ArrayList<Encuentro> encuentrosParticipante = bde
-				.obtenerEncuentros(bdc.obtenerCiclos(torneo).get(torneo.getCicloActual() - 2));
-
-		// System.Out.println("participantes");
-		Collections.sort(participantes);
-		// System.Out.println(participantes);
-		// System.Out.println("encuentros");
-		// System.Out.println(encuentrosParticipante);
-		// FIXME aqui no entra
-		for (Encuentro encuentro : encuentrosParticipante) {
-			// System.Out.println(encuentro);
-			// System.Out.println("id participante inicial: " +
-			// (encuentro.getIdParticipanteInicial() - 1));
-			// System.Out.println("id participante final: " +
-			// (encuentro.getIdParticipanteFinal() - 1));
-			// ------------------------------------------------------------------------------------------------
-			Participante partInicial = participantes.get((encuentro.getIdParticipanteInicial() - 1));
-			// System.Out.println("Participante incial: " + partInicial + " puntaje
-			// acumulado: "
-			// + partInicial.getPuntajeAcumuladoParticipante());
-			Participante partFinal = participantes.get((encuentro.getIdParticipanteFinal() - 1));
-			// System.Out.println("Participante final: " + partFinal + " puntaje acumulado:
-			// "
-			// + partFinal.getPuntajeAcumuladoParticipante());
-			// ---------------------------------------------------------------------------------------------------------
-			if (torneo.getAlgoritmoTorneo().getTipoEliminacion()) {
-				if (encuentro.getResultadoEncuentro() == Encuentro.GANADOR_INICIAL || partInicial
-						.getPuntajeAcumuladoParticipante() > partFinal.getPuntajeAcumuladoParticipante()) {
-					// FIXME eliminar
-					// System.Out.println("Id de participante descalificado: " +
-					// (encuentro.getIdParticipanteFinal() - 1));
-					partFinal.setLugarParticipante(100);
-					bdp.actualizarLugarParticipante(partFinal, torneo);
-				} else if (encuentro.getResultadoEncuentro() == Encuentro.GANADOR_FINAL || partInicial
-						.getPuntajeAcumuladoParticipante() < partFinal.getPuntajeAcumuladoParticipante()) {
-					// FIXME eliminar
-					// System.Out
-					// .println("Id de participante descalificado: " +
-					// (encuentro.getIdParticipanteInicial() - 1));
-					partInicial.setLugarParticipante(100);
-					bdp.actualizarLugarParticipante(partFinal, torneo);
-				} else if (encuentro.getResultadoEncuentro() == Encuentro.EMPATE || partInicial
-						.getPuntajeAcumuladoParticipante() == partFinal.getPuntajeAcumuladoParticipante()) {
-					/*
-					 * cicloromper: { for (String criterio : criterios) { Desempate desempate = new
-					 * DesempatePuntuacion(); Participante participantePerdedor = new
-					 * Participante(); switch (criterio) { case "Puntuacin":
-					 * //System.Out.println("Tipo de desempate: " + criterio); desempate = new
-					 * DesempatePuntuacion(); participantePerdedor = desempate.desempatar(
-					 * participantes.get(encuentro.getIdParticipanteInicial()),
-					 * participantes.get(encuentro.getIdParticipanteFinal()), participantes,
-					 * obtenerEncuentrosTotales(), torneo); if (participantePerdedor != null) {
-					 * participantes.get(participantePerdedor.getNumeroParticipante())
-					 * .setLugarParticipante(100); //System.Out.println(
-					 * "Participante perdedor mediante el metodo de eliminacion por puntuacion: " +
-					 * participantePerdedor.getNumeroParticipante()); break cicloromper; }
-					 * //System.Out.
-					 * println("Ningun participante eliminado por el metodo de puntuacin"); break;
-					 * case "Marcador de participante final":
-					 * //System.Out.println("Tipo de desempate: " + criterio); if (esSimple) { //
-					 * nada } else { desempate = new DesempatePuntuacion(); participantePerdedor =
-					 * desempate.desempatar(
-					 * participantes.get(encuentro.getIdParticipanteInicial()),
-					 * participantes.get(encuentro.getIdParticipanteFinal()), participantes,
-					 * obtenerEncuentrosTotales(), torneo); if (participantePerdedor != null) {
-					 * participantes.get(participantePerdedor.getNumeroParticipante())
-					 * .setLugarParticipante(100); //System.Out.println(
-					 * "Participante perdedor mediante el metodo de eliminacion por puntuacion: " +
-					 * participantePerdedor.getNumeroParticipante()); break cicloromper; }
-					 * //System.Out.println(
-					 * "Ningun participante eliminado por el metodo Marcador de participante final puntuacin"
-					 * ); } break; default: if (Math.random() < 0.5) {
-					 * participantes.get(encuentro.getIdParticipanteInicial()).setLugarParticipante(
-					 * 100); //System.Out.
-					 * println("Id de participante descalificado mediante el metodo aleatorio: " +
-					 * encuentro.getIdParticipanteInicial()); } else {
-					 * participantes.get(encuentro.getIdParticipanteFinal()).setLugarParticipante(
-					 * 100); //System.Out.
-					 * println("Id de participante descalificado mediante el metodo aleatorio: " +
-					 * encuentro.getIdParticipanteFinal()); } break cicloromper; }
-					 * 
-					 * } }
-					 */
-				}
-
-			} else {
-				if ((encuentro.getResultadoEncuentro() == Encuentro.GANADOR_INICIAL || partInicial
-						.getPuntajeAcumuladoParticipante() > partFinal.getPuntajeAcumuladoParticipante())) {
-					// FIXME eliminar
-					// System.Out.println("Id de participante descalificado: " +
-					// (encuentro.getIdParticipanteFinal() - 1));
-					if (partFinal.getLugarParticipante() == 50) {
-						partFinal.setLugarParticipante(100);
-						bdp.actualizarLugarParticipante(partFinal, torneo);
-					} else {
-						partFinal.setLugarParticipante(50);
-					}
-
-				} else if (encuentro.getResultadoEncuentro() == Encuentro.GANADOR_FINAL || partInicial
-						.getPuntajeAcumuladoParticipante() < partFinal.getPuntajeAcumuladoParticipante()) {
-					// FIXME eliminar
-					// System.Out
-					// .println("Id de participante descalificado: " +
-					// (encuentro.getIdParticipanteInicial() - 1));
-
-					if (partInicial.getLugarParticipante() == 50) {
-						partInicial.setLugarParticipante(100);
-						bdp.actualizarLugarParticipante(partInicial, torneo);
-					} else {
-						partInicial.setLugarParticipante(50);
-					}
+	private void registrarResultados(Llave llave, Ciclo ciclo) {
+		for (Encuentro encuentro : ciclo.getEncuentroParticipantes()) {
+			int ganador = obtenerGanador(encuentro);
+			int perdedor = ganador == encuentro.getIdParticipanteInicial() ? encuentro.getIdParticipanteFinal()
+					: encuentro.getIdParticipanteInicial();
+			llave.registrarResultado(ganador, perdedor);
+		}
+	}
 
-				}
-			}
+	/**
+	 * Obtiene el ganador de un encuentro por su resultado; si no tiene ganador,
+	 * por el puntaje acumulado y, si tambin estn empatados, avanza el
+	 * participante inicial, que es el de mejor siembra.
+	 * 
+	 * @param encuentro
+	 *            Encuentro con el resultado capturado.
+	 * @return Nmero del participante ganador.
+	 */
+	private int obtenerGanador(Encuentro encuentro) {
+		int inicial = encuentro.getIdParticipanteInicial();
+		int fin = encuentro.getIdParticipanteFinal();
+		if (encuentro.getResultadoEncuentro() == Encuentro.GANADOR_INICIAL) {
+			return inicial;
 		}
-		participantes = torneo.getListaParticipantes();
-		for (Participante p : participantes) {
-			// System.Out.println("participante: " + p + " lugar: " +
-			// p.getLugarParticipante());
-			if (p.getLugarParticipante() != 100) {
-				// System.Out.println("agregado");
-				participantesCiclo.add(p);
-			}
+		if (encuentro.getResultadoEncuentro() == Encuentro.GANADOR_FINAL) {
+			return fin;
 		}
+		Participante participanteInicial = torneo.obtenerParticipante(inicial);
+		Participante participanteFinal = torneo.obtenerParticipante(fin);
+		if (participanteInicial != null && participanteFinal != null && participanteFinal
+				.getPuntajeAcumuladoParticipante() > participanteInicial.getPuntajeAcumuladoParticipante()) {
+			return fin;
+		}
+		return inicial;
+	}
 
-		// FIXME borrar comentarios
-		// System.Out.println("Participante totales: " + participantes);
-		// System.Out.println("Participante que siguen: " + participantesCiclo);
-
-		if (torneo.getAlgoritmoTorneo().getTipoEliminacion()) {
-			// System.out.println("Simpleeeeee");
-			int mitad = participantesCiclo.size() / 2;
-			ArrayList<Encuentro> encuentros = new ArrayList<Encuentro>();
-			for (int i = 1; i <= mitad; i++) {
-				encuentros.add(new Encuentro(i, participantesCiclo.get(i - 1).getNumeroParticipante(),
-						participantesCiclo.get(participantesCiclo.size() - i).getNumeroParticipante(),
-						this.getTorneo().getFechaInicioTorneo()));
-				bde.insertarEncuentro(encuentros.get((i) - 1), ciclo);
-				bdp.actualizarResultadoParticipante(participantesCiclo.get(i - 1), ciclo);
-				bdp.actualizarResultadoParticipante(participantesCiclo.get(participantesCiclo.size() - i), ciclo);
-				// System.Out.println("Encuentro numero: " + i);
-				// System.Out.println(
-				// "Participante inicial que jugar: " participantesCiclo.get(i -
-				// 1).getNumeroParticipante()
-				// + " nombre: " + participantesCiclo.get(i - 1).getNombreParticipante());
-				// System.Out.println("Participante final que jugar: "
-				// + participantesCiclo.get(participantesCiclo.size() -
-				// i).getNumeroParticipante() + " nombre: "
-				// + participantesCiclo.get(participantesCiclo.size() -
-				// i).getNombreParticipante());
-
+	/**
+	 * Reconstruye la llave de un torneo guardado antes de que existiera la
+	 * llave: las partidas del ltimo ciclo forman la primera ronda y los
+	 * participantes que siguen en el torneo y no juegan en ese ciclo avanzan sin
+	 * jugar. En la eliminacin doble sigue en el torneo quien ha perdido menos
+	 * de dos encuentros, aunque la llave reconstruida no conserva la primera
+	 * derrota.
+	 * 
+	 * @param ciclos
+	 *            Ciclos del torneo.
+	 * @return La llave con la primera ronda en el ltimo ciclo.
+	 */
+	private Llave reconstruirLlave(ArrayList<Ciclo> ciclos) {
+		Ciclo ultimo = ciclos.get(ciclos.size() - 1);
+		boolean doble = !obtenerRegistrado().getTipoEliminacion();
+		HashSet<Integer> descartados = new HashSet<Integer>();
+		HashSet<Integer> derrotados = new HashSet<Integer>();
+		for (Ciclo ciclo : ciclos) {
+			if (ciclo == ultimo) {
+				continue;
 			}
-			// System.Out.println("Ciclo guardado");
-			ciclo.setEncuentroParticipantes(encuentros);
-
-		} else {
-			// System.out.println("Dobleeeeee aqui jony");
-			int mitad = (participantesCiclo.size() / 2);
-		//	int auxUltimaPosicionSegundaVuelta = 0;
-			ArrayList<Encuentro> encuentros = new ArrayList<Encuentro>();
-			for (int i = 1; i <= mitad; i++) {
-
-				if (participantesCiclo.get(participantesCiclo.size() - i).getLugarParticipante() == 50) {
-					encuentros.add(new Encuentro(i,
-							participantesCiclo.get(participantesCiclo.size() - i).getNumeroParticipante(),
-							participantesCiclo.get(i - 1).getNumeroParticipante(),
-							this.getTorneo().getFechaInicioTorneo()));
-				} else {
-					encuentros.add(new Encuentro(i, participantesCiclo.get(i - 1).getNumeroParticipante(),
-							participantesCiclo.get(participantesCiclo.size() - i).getNumeroParticipante(),
-							this.getTorneo().getFechaInicioTorneo()));
+			for (Encuentro encuentro : ciclo.getEncuentroParticipantes()) {
+				int ganador = obtenerGanador(encuentro);
+				int perdedor = ganador == encuentro.getIdParticipanteInicial() ? encuentro.getIdParticipanteFinal()
+						: encuentro.getIdParticipanteInicial();
+				if (!doble || !derrotados.add(perdedor)) {
+					descartados.add(perdedor);
 				}
-
-			//	auxUltimaPosicionSegundaVuelta++;
-				bde.insertarEncuentro(encuentros.get((i) - 1), ciclo);
-				bdp.actualizarResultadoParticipante(participantesCiclo.get((i - 1)), ciclo);
-				bdp.actualizarResultadoParticipante(participantesCiclo.get(participantesCiclo.size() - i), ciclo);
 			}
-
-			/*
-			 * for (int i = 1; i <= mitad; i++) { encuentros.add(new
-			 * Encuentro(auxUltimaPosicionSegundaVuelta + 1,
-			 * participantesCiclo.get(participantesCiclo.size() -
-			 * i).getNumeroParticipante(), participantesCiclo.get(i -
-			 * 1).getNumeroParticipante(), this.getTorneo().getFechaInicioTorneo()));
-			 * auxUltimaPosicionSegundaVuelta++;
-			 * bde.insertarEncuentro(encuentros.get((auxUltimaPosicionSegundaVuelta - 1)),
-			 * ciclo); bdp.actualizarResultadoParticipante(participantes.get((i - 1)),
-			 * ciclo);
-			 * bdp.actualizarResultadoParticipante(participantesCiclo.get(participantesCiclo
-			 * .size() - i), ciclo); }
-			 */
-			ciclo.setEncuentroParticipantes(encuentros);
 		}
+		ArrayList<Integer> hojas = new ArrayList<Integer>();
+		for (Encuentro encuentro : ultimo.getEncuentroParticipantes()) {
+			hojas.add(encuentro.getIdParticipanteInicial());
+			hojas.add(encuentro.getIdParticipanteFinal());
+			descartados.add(encuentro.getIdParticipanteInicial());
+			descartados.add(encuentro.getIdParticipanteFinal());
+		}
+		for (Participante participante : torneo.getListaParticipantes()) {
+			if (!descartados.contains(participante.getNumeroParticipante())) {
+				hojas.add(participante.getNumeroParticipante());
+				hojas.add(Llave.VACIO);
+			}
+		}
+		int tamano = 2;
+		while (tamano < hojas.size()) {
+			tamano *= 2;
+		}
+		int[] arreglo = new int[tamano];
+		for (int i = 0; i < tamano; i++) {
+			arreglo[i] = i < hojas.size() ? hojas.get(i) : Llave.VACIO;
+		}
+		return new Llave(arreglo, doble, obtenerRegistrado().reinicioFinal, ultimo.getNumeroCiclo());
 	}
 
 	/**
-	 * Calcula por medio de recursividad si el nmero dado es potencia de dos
-	 * 
-	 * @param numero
-	 *            numero a evaluar si es potencia de dos.
+	 * Obtiene el algoritmo registrado en el torneo, que conserva el subtipo, el
+	 * nmero de ciclos y la llave, aunque este objeto se haya creado solo para
+	 * realizar un ciclo.
 	 * 
-	 * @return True si el nmero es potencia de dos, False si no es potencia de dos
+	 * @return El algoritmo del torneo si es de Eliminacin directa, o este
+	 *         objeto en caso contrario.
+	 */
+	private TorneoEliminacionDirecta obtenerRegistrado() {
+		if (torneo.getAlgoritmoTorneo() instanceof TorneoEliminacionDirecta) {
+			return (TorneoEliminacionDirecta) torneo.getAlgoritmoTorneo();
+		}
+		return this;
+	}
+
+	/**
+	 * Aplica el/los criterio(s) de desempate(s) establecidos en
+	 * <code>CriteriosDesempate</code> ordenando a los participantes mediante la
+	 * <code>TablaPosiciones</code> del torneo. Las partidas de cada ciclo salen
+	 * de la llave, por lo que este orden solo se utiliza para los lugares
+	 * finales.
+	 */
+	@Override
+	public void desempatarParticipantes() {
+		new TablaPosiciones(torneo).ordenar();
+	}
+
+	/**
+	 * Genera un archivo CSV con la llave completa del torneo, incluyendo las
+	 * partidas de las rondas que an no se juegan.
 	 * 
+	 * @param archivo
+	 *            Recibe el archivo que ser escrito.
+	 * @throws ExcepcionUtilerias
+	 *             Lanza la excepcin si ocurre un error al escribir en el archivo
+	 *             CSV.
+	 * @throws ExcepcionBaseDatos
+	 *             Lanza la excepcin si ocurre un problema con la base de datos.
+	 * @throws ExcepcionBaseDatosTorneo
+	 *             Lanza la excepcin si ocurre un problema al obtener la llave.
 	 */
-	private boolean esPotenciaDeDos(double numero) {
-		if (numero == 1) {
-			return true;
-		} else if (numero > 1 && numero < 2) {
-			return false;
-		} else if (numero >= 2) {
-			return esPotenciaDeDos(numero / 2);
+	public void generarReporteLlave(File archivo)
+			throws ExcepcionUtilerias, ExcepcionBaseDatos, ExcepcionBaseDatosTorneo {
+		Llave llave = obtenerLlave();
+		if (llave != null) {
+			UtileriasReporteLlave.escribirArchivoCsvReporteLlave(archivo.getPath(), torneo, llave);
 		}
-		return false;
 	}
 
 	/**
@@ -623,9 +488,11 @@ public class TorneoEliminacionDirecta extends AlgoritmoTorneo {
 	 *             si ocurre un error al generar los encuentros.
 	 * @throws ExcepcionBaseDatosTorneo
 	 *             si ocurre un error con el torneo.
+	 * @throws ExcepcionBaseDatosParticipante
+	 *             si ocurre un error al actualizar un participante.
 	 */
 	public void iniciarTorneo() throws ExcepcionBaseDatos, ExcepcionBaseDatosEncuentro, ExcepcionBaseDatosCiclo,
-			ExcepcionCapturarResultados, ExcepcionBaseDatosTorneo {
+			ExcepcionCapturarResultados, ExcepcionBaseDatosTorneo, ExcepcionBaseDatosParticipante {
 
 		BaseDatosTorneo bdt = new BaseDatosTorneo(torneo.getNombreArchivo());
 		bdt.insertarTorneoEliminacionDirecta(this);
@@ -1,8 +1,7 @@
 package sigestor.dominio;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import sigestor.bd.BaseDatosParticipante;
+import sigestor.bd.BaseDatosRonda;
 import sigestor.bd.BaseDatosTorneo;
 import sigestor.excepcion.ExcepcionBaseDatos;
 import sigestor.excepcion.ExcepcionBaseDatosCiclo;
@@ -16,7 +15,7 @@ import sigestor.excepcion.ExcepcionCapturarResultados;
  * <code>AlgoritmoTorneo</code>.
  * <p>
  * 
- * @version 02/06/2023
+ * @version 18/10/2026
  * 
  * 
  * @author Jennifer Corts Prez
@@ -62,6 +61,28 @@ public class TorneoRoundRobin extends AlgoritmoTorneo {
 		this.numeroVueltas = numeroVueltas;
 	}
 
+	/**
+	 * Vuelve a crear el calendario de Berger con el orden de los participantes
+	 * que se guard al iniciar el torneo, para generar los encuentros de los
+	 * ciclos que an no se juegan sin leerlos de la base de datos.
+	 * 
+	 * @return Regresa el calendario del torneo, <code>null</code> si el archivo
+	 *         no tiene el orden guardado o si no corresponde a los participantes
+	 *         del torneo.
+	 * @throws ExcepcionBaseDatos       Si ocurre un problema con la base de
+	 *                                  datos.
+	 * @throws ExcepcionBaseDatosTorneo Si ocurre un error al obtener el orden de
+	 *                                  la tabla <code>roundRobin</code>.
+	 */
+	public CalendarioBerger recuperarCalendario() throws ExcepcionBaseDatos, ExcepcionBaseDatosTorneo {
+		int[] orden = new BaseDatosTorneo(getTorneo().getNombreArchivo()).obtenerOrdenCalendario();
+		if (orden == null || orden.length != getTorneo().getListaParticipantes().size()) {
+			return null;
+		}
+		return new CalendarioBerger(orden, this.getNumeroVueltas(), getTorneo().obtenerNumeroSinEncuentro(),
+				getTorneo().getFechaInicioTorneo());
+	}
+
 	/**
 	 * Obtiene la cantidad mxima de ciclos del torneo dependiendo del nmero de
 	 * participantes registrados.
@@ -95,9 +116,11 @@ public class TorneoRoundRobin extends AlgoritmoTorneo {
 	 *                                     tabla <code>ciclos</code>.
 	 * @throws ExcepcionCapturarResultados Si ocurre un error al realizar los
 	 *                                     encuentros.
+	 * @throws ExcepcionBaseDatosParticipante Si ocurre un error al actualizar
+	 *                                        un participante.
 	 */
 	public void iniciarTorneo() throws ExcepcionBaseDatos, ExcepcionBaseDatosTorneo, ExcepcionBaseDatosEncuentro,
-			ExcepcionBaseDatosCiclo, ExcepcionCapturarResultados{
+			ExcepcionBaseDatosCiclo, ExcepcionCapturarResultados, ExcepcionBaseDatosParticipante {
 		BaseDatosTorneo bdt = new BaseDatosTorneo(torneo.getNombreArchivo());
 		bdt.insertarTorneoRoundRobin(this);
 		this.setCiclos(new ArrayList<Ciclo>());
@@ -107,7 +130,11 @@ public class TorneoRoundRobin extends AlgoritmoTorneo {
 
 	/**
 	 * Asigna los encuentros que tendr cada ciclo del torneo entre los
-	 * participantes registrados.
+	 * participantes registrados con las tablas de Berger. Cada ciclo genera sus
+	 * encuentros del <code>CalendarioBerger</code> hasta que se solicitan y los
+	 * encuentros de todos los ciclos se guardan en una sola transaccin sin
+	 * crearlos como objetos, junto con el ciclo actual. El torneo en memoria
+	 * solo cambia cuando la transaccin se confirma.
 	 * 
 	 * @throws ExcepcionBaseDatosEncuentro Si ocurre un problema al insertar en la
 	 *                                     tabla <code>encuentros</code>.
@@ -118,313 +145,45 @@ public class TorneoRoundRobin extends AlgoritmoTorneo {
 	 * @throws ExcepcionCapturarResultados Si ocurre un error al realizar los
 	 *                                     encuentros.
 	 * @throws ExcepcionBaseDatosTorneo    Si ocurre un error al obtener
+	 * @throws ExcepcionBaseDatosParticipante Si ocurre un error al actualizar
+	 *                                        un participante.
 	 */
 	public void realizarEncuentros() throws ExcepcionBaseDatos, ExcepcionBaseDatosEncuentro, ExcepcionBaseDatosCiclo,
-			ExcepcionCapturarResultados, ExcepcionBaseDatosTorneo {
-		
-		int numeroParticipantes = this.getTorneo().getListaParticipantes().size();
-		int numeroPareos = numeroParticipantes / 2;
-		int contEncuentro = numeroPareos - 1;
-		int local = 0;
-		int visitante = 0;
-		int numCiclos = 1;
-		int idParticipante1 = 1;
-		int idParticipante2 = numeroParticipantes - 1;
-		int identificadorRonda = 1;
-
-		getTorneo().setCicloActual(getTorneo().getCicloActual() + 1);
-
-		BaseDatosTorneo bdt = new BaseDatosTorneo(torneo.getNombreArchivo());
-		bdt.actualizarCicloActual(getTorneo());
-		for (int i = 0; i < this.getNumeroVueltas(); i++) {
-			idParticipante1 = 1;
-			idParticipante2 = numeroParticipantes - 1;
-			for (int j = 1; j <= this.calcularNumeroCiclos(torneo.getListaParticipantes().size()); j++) {
-				if (numCiclos <= this.getNumeroCiclos()) {
-					ArrayList<Encuentro> encuentros = new ArrayList<Encuentro>();
-					Ciclo ciclo = new Ciclo(getTorneo(), numCiclos);
-					for (int k = 1; k <= numeroPareos; k++) {
-
-						local = idParticipante1;
-
-						if (idParticipante1 == this.calcularNumeroCiclos(numeroParticipantes)) {
-							idParticipante1 = 1;
-						} else {
-							idParticipante1++;
-						}
-
-						if (contEncuentro == numeroPareos - 1) {
-							visitante = numeroParticipantes;
-							contEncuentro = 0;
-						} else {
-							if (idParticipante2 == 0) {
-								idParticipante2 = numeroParticipantes - 1;
-							}
-							visitante = idParticipante2;
-							idParticipante2--;
-							contEncuentro++;
-						}
-
-						int aux1 = local;
-						int aux2 = visitante;
-						if (j % 2 == 0) {
-							local = aux2;
-							visitante = aux1;
-						}
-						if (this.getTorneo().getListaParticipantes().get(local - 1).getNombreParticipante()
-								.compareToIgnoreCase(this.getTorneo().getDatosPersonalizacion()
-										.getNombreParticipanteSinEncuentro()) != 0) {
-							local = aux2;
-							visitante = aux1;
-						}
-
-						
-						if (i % 2 != 0) {
-							if( local == this.getTorneo().getListaParticipantes().size() && (j % 2 ) == 0) {
-								encuentros.add(new Encuentro(identificadorRonda,
-										this.getTorneo().getListaParticipantes().get(visitante - 1).getNumeroParticipante(),
-										this.getTorneo().getListaParticipantes().get(local - 1).getNumeroParticipante(),
-										this.getTorneo().getFechaInicioTorneo()));
-							}else {
-								encuentros.add(new Encuentro(identificadorRonda,
-										this.getTorneo().getListaParticipantes().get(local - 1).getNumeroParticipante(),
-										this.getTorneo().getListaParticipantes().get(visitante - 1).getNumeroParticipante(),
-										this.getTorneo().getFechaInicioTorneo()));
-							}
-						} else {
-							if( local == this.getTorneo().getListaParticipantes().size() && (j % 2 ) == 0) {
-								encuentros.add(new Encuentro(identificadorRonda,
-										this.getTorneo().getListaParticipantes().get(local - 1).getNumeroParticipante(),
-										this.getTorneo().getListaParticipantes().get(visitante - 1).getNumeroParticipante(),
-										this.getTorneo().getFechaInicioTorneo()));
-							}else {
-								encuentros.add(new Encuentro(identificadorRonda,
-										this.getTorneo().getListaParticipantes().get(visitante - 1).getNumeroParticipante(),
-										this.getTorneo().getListaParticipantes().get(local - 1).getNumeroParticipante(),
-										this.getTorneo().getFechaInicioTorneo()));
-							}
-						}
-						identificadorRonda++;
-					}
-					ciclo.setEncuentroParticipantes(encuentros);
-					ciclo.guardarCiclo(ciclo, torneo.getNombreArchivo());
-
-					getTorneo().getAlgoritmoTorneo().getCiclos().add(ciclo);
-					numCiclos++;
-				}
-			}
+			ExcepcionCapturarResultados, ExcepcionBaseDatosTorneo, ExcepcionBaseDatosParticipante {
+		CalendarioBerger calendario = new CalendarioBerger(getTorneo().getListaParticipantes(),
+				this.getNumeroVueltas(), getTorneo().obtenerNumeroSinEncuentro(),
+				getTorneo().getFechaInicioTorneo());
+		int numeroCiclos = Math.min(this.getNumeroCiclos(), calendario.getNumeroRondas());
+
+		int cicloActual = getTorneo().getCicloActual() + 1;
+
+		BaseDatosRonda ronda = new BaseDatosRonda(getTorneo());
+		ArrayList<Ciclo> ciclos = new ArrayList<Ciclo>();
+		for (int numeroCiclo = 1; numeroCiclo <= numeroCiclos; numeroCiclo++) {
+			Ciclo ciclo = new Ciclo(getTorneo(), numeroCiclo);
+			ciclo.setCalendario(calendario);
+			ronda.agregarCiclo(ciclo);
+			ciclos.add(ciclo);
 		}
-	}
-
-	/**
-	 * Obtiene todos los encuentros que ya hayan sido jugados en el torneo.
-	 * 
-	 * @return lista de encuentros jugados.
-	 */
-	private ArrayList<Encuentro> obtenerEncuentrosTotales() {
-		ArrayList<Encuentro> encuentrosTotales = new ArrayList<Encuentro>();
+		ronda.agregarCalendario(calendario, numeroCiclos);
+		ronda.agregarCicloActual(cicloActual);
+		ronda.confirmar();
 
-		ArrayList<Ciclo> ciclos = torneo.getAlgoritmoTorneo().getCiclos();
+		getTorneo().setCicloActual(cicloActual);
 		for (Ciclo ciclo : ciclos) {
-			ArrayList<Encuentro> encuentros = ciclo.getEncuentroParticipantes();
-			for (Encuentro encuentro : encuentros) {
-				encuentrosTotales.add(encuentro);
-			}
+			getTorneo().getAlgoritmoTorneo().getCiclos().add(ciclo);
+			getTorneo().obtenerHistorialEncuentros().registrar(ciclo);
 		}
-		return encuentrosTotales;
-	}
-
-	/**
-	 * Intercambia las posiciones de los 2 jugadores empatados, si el ganador est
-	 * una posicin abajo del jugador con quien empate, de lo contrario no realiza
-	 * ningn movimiento.
-	 * 
-	 * @param numeroP1    Primer participante empatado.
-	 * @param numP2       Segundo participante empatado.
-	 * @param numPGanador Participante que obtuvo ms puntaje con el criterio de
-	 *                    desempate aplicado.
-	 * @return Lista de participantes ordenada.
-	 */
-	private ArrayList<Participante> intercambiarPosiciones(int numeroP1, int numP2, int numPGanador) {
-		ArrayList<Participante> participantes = torneo.getListaParticipantes();
-
-		boolean encontrado = false;
-		int index = 0;
-
-		for (Participante p : participantes) {
-			if (numeroP1 == p.getNumeroParticipante() || numP2 == p.getNumeroParticipante()) {
-				if (encontrado && p.getNumeroParticipante() == numPGanador) {
-					Collections.swap(participantes, index, index - 1);
-				}
-				encontrado = true;
-			}
-			index++;
-		}
-		return participantes;
 	}
 
 	/**
 	 * Aplica el/los criterio(s) de desempate(s) establecidos en
-	 * <code>CriteriosDesempate</code>.
+	 * <code>CriteriosDesempate</code> ordenando a los participantes mediante la
+	 * <code>TablaPosiciones</code> del torneo. Los lugares se guardan con
+	 * <code>asignarLugarParticipante</code>.
 	 */
 	@Override
 	public void desempatarParticipantes() {
-
-		if (!Participante.isPuntaje()) {
-			Participante.setPuntaje(true);
-		}
-		if (!Participante.isPuntajeAcumulado()) {
-			Participante.setPuntajeAcumulado(true);
-		}
-		Collections.sort(torneo.getListaParticipantes());
-
-		Desempate desempate;
-		Participante participanteGanador;
-		ArrayList<String> criterios = torneo.getCriteriosDesempate().getListaCriteriosSeleccionados();
-
-		ArrayList<Participante> participantes = torneo.getListaParticipantes();
-
-		for (Participante p1 : participantes) {
-			for (Participante p2 : participantes) {
-				if (p1.getPuntajeAcumuladoParticipante() == p2.getPuntajeAcumuladoParticipante()) {
-					cicloromper: {
-						for (String criterio : criterios) {
-							switch (criterio) {
-							case "Encuentro directo":
-
-								desempate = new DesempateEncuentroDirecto();
-								participanteGanador = desempate.desempatar(p1, p2, participantes,
-										obtenerEncuentrosTotales(), torneo);
-
-								if (participanteGanador != null) {
-									participantes = intercambiarPosiciones(p1.getNumeroParticipante(),
-											p2.getNumeroParticipante(), participanteGanador.getNumeroParticipante());
-									break cicloromper;
-								}
-
-								break;
-							case "Sistema Koya":
-								desempate = new DesempateSistemaKoya();
-								participanteGanador = desempate.desempatar(p1, p2, participantes,
-										obtenerEncuentrosTotales(), torneo);
-
-								if (participanteGanador != null) {
-									participantes = intercambiarPosiciones(p1.getNumeroParticipante(),
-											p2.getNumeroParticipante(), participanteGanador.getNumeroParticipante());
-									break cicloromper;
-								}
-
-								break;
-							case "Buchholz":
-								desempate = new DesempateBuchholz();
-								participanteGanador = desempate.desempatar(p1, p2, participantes,
-										obtenerEncuentrosTotales(), torneo);
-
-								if (participanteGanador != null) {
-									participantes = intercambiarPosiciones(p1.getNumeroParticipante(),
-											p2.getNumeroParticipante(), participanteGanador.getNumeroParticipante());
-									break cicloromper;
-								}
-
-								break;
-							case "Sonnerborn-Berger":
-								desempate = new DesempateSonnebornBerger();
-								participanteGanador = desempate.desempatar(p1, p2, participantes,
-										obtenerEncuentrosTotales(), torneo);
-
-								if (participanteGanador != null) {
-									participantes = intercambiarPosiciones(p1.getNumeroParticipante(),
-											p2.getNumeroParticipante(), participanteGanador.getNumeroParticipante());
-									break cicloromper;
-								}
-
-								break;
-							case "Encuentros ganados":
-								desempate = new DesempateEncuentrosGanados();
-								participanteGanador = desempate.desempatar(p1, p2, participantes,
-										obtenerEncuentrosTotales(), torneo);
-
-								if (participanteGanador != null) {
-									participantes = intercambiarPosiciones(p1.getNumeroParticipante(),
-											p2.getNumeroParticipante(), participanteGanador.getNumeroParticipante());
-									break cicloromper;
-								}
-
-								break;
-							case "Diferencia de marcadores":
-								desempate = new DesempateDiferenciaMarcadores();
-								participanteGanador = desempate.desempatar(p1, p2, participantes,
-										obtenerEncuentrosTotales(), torneo);
-
-								if (participanteGanador != null) {
-									participantes = intercambiarPosiciones(p1.getNumeroParticipante(),
-											p2.getNumeroParticipante(), participanteGanador.getNumeroParticipante());
-									break cicloromper;
-								}
-
-								break;
-							case "Marcador a favor":
-								desempate = new DesempateMarcadorFavor();
-								participanteGanador = desempate.desempatar(p1, p2, participantes,
-										obtenerEncuentrosTotales(), torneo);
-								if (participanteGanador != null) {
-									participantes = intercambiarPosiciones(p1.getNumeroParticipante(),
-											p2.getNumeroParticipante(), participanteGanador.getNumeroParticipante());
-									break cicloromper;
-								}
-								break;
-							case "Marcador en contra":
-								desempate = new DesempateMarcadorContra();
-								participanteGanador = desempate.desempatar(p1, p2, participantes,
-										obtenerEncuentrosTotales(), torneo);
-
-								if (participanteGanador != null) {
-									participantes = intercambiarPosiciones(p1.getNumeroParticipante(),
-											p2.getNumeroParticipante(), participanteGanador.getNumeroParticipante());
-									break cicloromper;
-								}
-
-								break;
-							default: // no se ha seleccionado ningn criterio
-							}
-
-						}
-					}
-				}
-			}
-		}
-
-		try {
-			posicionarParticipante(participantes);
-		} catch (ExcepcionBaseDatos | ExcepcionBaseDatosParticipante e) {
-		}
-	}
-
-	/**
-	 * Le asigna un lugar a un participante despus de la aplicacin de los
-	 * desempates.
-	 * 
-	 * @param participantes Contiene los datos generales del participante.
-	 * @throws ExcepcionBaseDatos             Lanza la excepcin si ocurre un error
-	 *                                        al actualizar el lugar del
-	 *                                        participante en la tabla
-	 *                                        <code>participante</code> de la base
-	 *                                        de datos.
-	 * @throws ExcepcionBaseDatosParticipante Lanza la excepcin si ocurre un error
-	 *                                        al actualizar el lugar del
-	 *                                        participante en la tabla
-	 *                                        <code>participante</code> de la base
-	 *                                        de datos.
-	 */
-
-	private void posicionarParticipante(ArrayList<Participante> participantes)
-			throws ExcepcionBaseDatos, ExcepcionBaseDatosParticipante {
-		BaseDatosParticipante bdp = new BaseDatosParticipante(this.getTorneo().getNombreArchivo());
-		int i = 1;
-		for (Participante p : participantes) {
-			p.setLugarParticipante(i);
-			bdp.actualizarLugarParticipante(p, torneo);
-			i++;
-		}
+		new TablaPosiciones(torneo).ordenar();
 	}
 }
@@ -2,12 +2,7 @@ package sigestor.dominio;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashSet;
-import java.util.List;
-import sigestor.bd.BaseDatosCiclo;
-import sigestor.bd.BaseDatosEncuentro;
-import sigestor.bd.BaseDatosParticipante;
+import sigestor.bd.BaseDatosRonda;
 import sigestor.bd.BaseDatosTorneo;
 import sigestor.excepcion.ExcepcionBaseDatos;
 import sigestor.excepcion.ExcepcionBaseDatosCiclo;
@@ -22,7 +17,7 @@ import sigestor.excepcion.ExcepcionCapturarResultados;
  * desempatar jugadores y realizar reportes. <code>AlgoritmoTorneo</code>.
  * <p>
  * 
- * @version 02/06/2023
+ * @version 18/10/2026
  * 
  * @author Jonathan Eduardo Ibarra Martnez
  * @author Alicia Adriana Clemente Hernandez
@@ -34,6 +29,24 @@ import sigestor.excepcion.ExcepcionCapturarResultados;
  */
 public class TorneoSuizo extends AlgoritmoTorneo {
 
+	/**
+	 * Sistema de emparejamiento que busca el emparejamiento de peso mximo por
+	 * diferencia de puntaje.
+	 */
+	public static final String EMPAREJAMIENTO_PESO_MAXIMO = "Peso mximo";
+	/**
+	 * Sistema de emparejamiento con los criterios y la asignacin de colores
+	 * del sistema holands de la FIDE, pero sin flotantes: el participante que
+	 * no se puede emparejar en su grupo de puntaje se empareja por la menor
+	 * diferencia de puntaje, sin las reglas de flotantes del sistema holands.
+	 */
+	public static final String EMPAREJAMIENTO_HOLANDES_SIN_FLOTANTES = "Holands sin flotantes";
+
+	/**
+	 * Sistema de emparejamiento de los ciclos del torneo.
+	 */
+	private String sistemaEmparejamiento;
+
 	/**
 	 * Inicializa las variables con un valor por defecto y asigna a la variable
 	 * <code>torneo</code> el torneo recibido.
@@ -42,213 +55,127 @@ public class TorneoSuizo extends AlgoritmoTorneo {
 	 */
 	public TorneoSuizo(Torneo torneo) {
 		super(torneo);
+		this.sistemaEmparejamiento = EMPAREJAMIENTO_PESO_MAXIMO;
 	}
 
 	/**
-	 * Obtiene la cantidad mxima de ciclos del torneo segn el algoritmo general
-	 * del sistema suizo.
+	 * Devuelve el sistema de emparejamiento de los ciclos del torneo.
 	 * 
-	 * @param numeroParticipantes Cantidad de participantes inscritos en el torneo.
-	 * @return El nmero mximo de ciclos que tendr el torneo.
+	 * @return Regresa <code>EMPAREJAMIENTO_PESO_MAXIMO</code> o
+	 *         <code>EMPAREJAMIENTO_HOLANDES_SIN_FLOTANTES</code>.
 	 */
-	@Override
-	public int calcularNumeroCiclos(int numeroParticipantes) {
-		return (int) (Math.log(numeroParticipantes) / Math.log(2));
+	public String getSistemaEmparejamiento() {
+		return sistemaEmparejamiento;
 	}
 
 	/**
-	 * Genera inicialmente los encuentros del primer ciclo y despus los encuentros
-	 * del siguiente ciclo una vez terminado el ciclo anterior.
+	 * Asigna el sistema de emparejamiento de los ciclos del torneo.
+	 * 
+	 * @param sistemaEmparejamiento Recibe
+	 *                              <code>EMPAREJAMIENTO_PESO_MAXIMO</code> o
+	 *                              <code>EMPAREJAMIENTO_HOLANDES_SIN_FLOTANTES</code>.
 	 */
-	@Override
-	public void realizarEncuentros() throws ExcepcionBaseDatos, ExcepcionBaseDatosEncuentro, ExcepcionBaseDatosCiclo {
-		try {
-			if (torneo.getCicloActual() < torneo.getAlgoritmoTorneo().getNumeroCiclos()) {
-				torneo.setCicloActual(torneo.getCicloActual() + 1);
-				BaseDatosCiclo bdc = new BaseDatosCiclo(torneo.getNombreArchivo());
-
-				Ciclo ciclo = new Ciclo(torneo, torneo.getCicloActual());
-
-				bdc.insertarCiclo(ciclo);
-				if (torneo.getCicloActual() > 1) {
-					encararParticipantesCiclosPosteriores(ciclo);
-				} else {
-					encararParticipantesPrimerCiclo(ciclo);
-				}
-				torneo.getAlgoritmoTorneo().getCiclos().add(ciclo);
-				try {
-					BaseDatosTorneo bdt = new BaseDatosTorneo(torneo.getNombreArchivo());
-					bdt.actualizarCicloActual(torneo);
-				} catch (ExcepcionBaseDatos | ExcepcionBaseDatosTorneo e) {
-
-				}
-			}
-		} catch (ExcepcionCapturarResultados | ExcepcionBaseDatosParticipante e1) {
-
-		}
-
+	public void setSistemaEmparejamiento(String sistemaEmparejamiento) {
+		this.sistemaEmparejamiento = sistemaEmparejamiento;
 	}
 
 	/**
-	 * Aplica el/los criterio(s) de desempate(s) establecidos en
-	 * <code>CriteriosDesempate</code>.
+	 * Indica si el torneo utiliza el sistema holands. El sistema se consulta en
+	 * el algoritmo registrado en el torneo, que es el que se recupera de la base
+	 * de datos, de modo que tambin aplica a los ciclos que se realizan con una
+	 * instancia nueva de <code>TorneoSuizo</code>.
+	 * 
+	 * @return <tt>true</tt> si el sistema de emparejamiento es holands,
+	 *         <tt>false</tt> en caso contrario.
 	 */
-	@Override
-	public void desempatarParticipantes() {
-		Desempate desempate;
-		Participante participanteGanador;
-		ArrayList<String> criterios = torneo.getCriteriosDesempate().getListaCriteriosSeleccionados();
-
-		ArrayList<Participante> participantes = torneo.getListaParticipantes();
-		for (Participante p1 : participantes) {
-			for (Participante p2 : participantes) {
-				if (p1.getPuntajeAcumuladoParticipante() == p2.getPuntajeAcumuladoParticipante()) {
-					cicloromper: {
-						for (String criterio : criterios) {
-							switch (criterio) {
-							case "Encuentro directo":
-								desempate = new DesempateEncuentroDirecto();
-								participanteGanador = desempate.desempatar(p1, p2, participantes,
-										obtenerEncuentrosTotales(), torneo);
-								if (participanteGanador != null) {
-									participantes = intercambiarPosiciones(p1.getNumeroParticipante(),
-											p2.getNumeroParticipante(), participanteGanador.getNumeroParticipante());
-									break cicloromper;
-								}
-								break;
-							case "Sistema Koya":
-								desempate = new DesempateSistemaKoya();
-								participanteGanador = desempate.desempatar(p1, p2, participantes,
-										obtenerEncuentrosTotales(), torneo);
-								if (participanteGanador != null) {
-									participantes = intercambiarPosiciones(p1.getNumeroParticipante(),
-											p2.getNumeroParticipante(), participanteGanador.getNumeroParticipante());
-									break cicloromper;
-								}
-								break;
-							case "Buchholz":
-								desempate = new DesempateBuchholz();
-								participanteGanador = desempate.desempatar(p1, p2, participantes,
-										obtenerEncuentrosTotales(), torneo);
-								if (participanteGanador != null) {
-									participantes = intercambiarPosiciones(p1.getNumeroParticipante(),
-											p2.getNumeroParticipante(), participanteGanador.getNumeroParticipante());
-									break cicloromper;
-								}
-								break;
-							case "Sonnerborn-Berger":
-								desempate = new DesempateSonnebornBerger();
-								participanteGanador = desempate.desempatar(p1, p2, participantes,
-										obtenerEncuentrosTotales(), torneo);
-								if (participanteGanador != null) {
-									participantes = intercambiarPosiciones(p1.getNumeroParticipante(),
-											p2.getNumeroParticipante(), participanteGanador.getNumeroParticipante());
-									break cicloromper;
-								}
-								break;
-							case "Encuentros ganados":
-								desempate = new DesempateEncuentrosGanados();
-								participanteGanador = desempate.desempatar(p1, p2, participantes,
-										obtenerEncuentrosTotales(), torneo);
-								if (participanteGanador != null) {
-									participantes = intercambiarPosiciones(p1.getNumeroParticipante(),
-											p2.getNumeroParticipante(), participanteGanador.getNumeroParticipante());
-									break cicloromper;
-								}
-								break;
-							case "Diferencia de marcadores":
-								desempate = new DesempateDiferenciaMarcadores();
-								participanteGanador = desempate.desempatar(p1, p2, participantes,
-										obtenerEncuentrosTotales(), torneo);
-								if (participanteGanador != null) {
-									participantes = intercambiarPosiciones(p1.getNumeroParticipante(),
-											p2.getNumeroParticipante(), participanteGanador.getNumeroParticipante());
-									break cicloromper;
-								}
-								break;
-							case "Marcador a favor":
-								desempate = new DesempateMarcadorFavor();
-								participanteGanador = desempate.desempatar(p1, p2, participantes,
-										obtenerEncuentrosTotales(), torneo);
-								if (participanteGanador != null) {
-									participantes = intercambiarPosiciones(p1.getNumeroParticipante(),
-											p2.getNumeroParticipante(), participanteGanador.getNumeroParticipante());
-									break cicloromper;
-								}
-								break;
-							case "Marcador en contra":
-								desempate = new DesempateMarcadorContra();
-								participanteGanador = desempate.desempatar(p1, p2, participantes,
-										obtenerEncuentrosTotales(), torneo);
-								if (participanteGanador != null) {
-									participantes = intercambiarPosiciones(p1.getNumeroParticipante(),
-											p2.getNumeroParticipante(), participanteGanador.getNumeroParticipante());
-									break cicloromper;
-								}
-								break;
-							default: // no se ha seleccionado ningn criterio
-							}
-
-						}
-					}
-				}
-			}
-		}
-		torneo.setListaParticipantes(participantes);
+	public boolean esHolandes() {
+		return EMPAREJAMIENTO_HOLANDES_SIN_FLOTANTES.equals(obtenerRegistrado().sistemaEmparejamiento);
 	}
 
 	/**
-	 * Obtiene todos los encuentros que ya hayan sido jugados en el torneo.
+	 * Devuelve el algoritmo suizo registrado en el torneo, que guarda el sistema
+	 * de emparejamiento; si el torneo an no tiene uno, devuelve esta instancia.
 	 * 
-	 * @return lista de encuentros jugados.
+	 * @return El algoritmo suizo registrado en el torneo.
 	 */
-	private ArrayList<Encuentro> obtenerEncuentrosTotales() {
-		ArrayList<Encuentro> encuentrosTotales = new ArrayList<Encuentro>();
-
-		ArrayList<Ciclo> ciclos = torneo.getAlgoritmoTorneo().getCiclos();
-		for (Ciclo ciclo : ciclos) {
-			ArrayList<Encuentro> encuentros = ciclo.getEncuentroParticipantes();
-			for (Encuentro encuentro : encuentros) {
-				encuentrosTotales.add(encuentro);
-			}
+	private TorneoSuizo obtenerRegistrado() {
+		if (torneo.getAlgoritmoTorneo() instanceof TorneoSuizo) {
+			return (TorneoSuizo) torneo.getAlgoritmoTorneo();
 		}
-		return encuentrosTotales;
+		return this;
 	}
 
 	/**
-	 * Intercambia las posiciones de 2 jugadores empatados si el ganador est una
-	 * posicin abajo del jugador con quien empat, de lo contrario no realiza
-	 * ningn movimiento.
+	 * Obtiene la cantidad mxima de ciclos del torneo segn el algoritmo general
+	 * del sistema suizo.
 	 * 
-	 * @param numeroP1    Primer participante empatado.
-	 * @param numP2       Segundo participante empatado.
-	 * @param numPGanador El participante que obtuvo ms puntaje con el criterio de
-	 *                    desempate aplicado.
-	 * @return Lista de participantes ordenada.
+	 * @param numeroParticipantes Cantidad de participantes inscritos en el torneo.
+	 * @return El nmero mximo de ciclos que tendr el torneo.
 	 */
-	private ArrayList<Participante> intercambiarPosiciones(int numeroP1, int numP2, int numPGanador) {
+	@Override
+	public int calcularNumeroCiclos(int numeroParticipantes) {
+		return (int) (Math.log(numeroParticipantes) / Math.log(2));
+	}
 
-		ArrayList<Participante> participantes = torneo.getListaParticipantes();
+	/**
+	 * Genera inicialmente los encuentros del primer ciclo y despus los encuentros
+	 * del siguiente ciclo una vez terminado el ciclo anterior. El ciclo actual se
+	 * guarda en la misma transaccin que los encuentros y el torneo en memoria
+	 * solo cambia cuando la transaccin se confirma.
+	 * 
+	 * @throws ExcepcionBaseDatos             Si ocurre un problema con la base de
+	 *                                        datos.
+	 * @throws ExcepcionBaseDatosEncuentro    Si ocurre un problema al insertar en
+	 *                                        la tabla <code>encuentros</code>.
+	 * @throws ExcepcionBaseDatosCiclo        Si ocurre un error al insertar en la
+	 *                                        tabla <code>ciclos</code>.
+	 * @throws ExcepcionCapturarResultados    Si ocurre un error con el objeto
+	 *                                        <code>Encuentros</code>.
+	 * @throws ExcepcionBaseDatosParticipante Si ocurre un problema al actualizar un
+	 *                                        participante en la tabla
+	 *                                        <code>participantes</code>.
+	 */
+	@Override
+	public void realizarEncuentros() throws ExcepcionBaseDatos, ExcepcionBaseDatosEncuentro, ExcepcionBaseDatosCiclo,
+			ExcepcionCapturarResultados, ExcepcionBaseDatosParticipante {
+		if (torneo.getCicloActual() < torneo.getAlgoritmoTorneo().getNumeroCiclos()) {
+			int numeroCiclo = torneo.getCicloActual() + 1;
+			BaseDatosRonda ronda = new BaseDatosRonda(torneo);
 
-		boolean encontrado = false;
-		int index = 0;
+			Ciclo ciclo = new Ciclo(torneo, numeroCiclo);
 
-		for (Participante p : participantes) {
-			if (numeroP1 == p.getNumeroParticipante() || numP2 == p.getNumeroParticipante()) {
-				if (encontrado && p.getNumeroParticipante() == numPGanador) {
-					Collections.swap(participantes, index, index - 1);
-				}
-				encontrado = true;
+			ronda.agregarCiclo(ciclo);
+			if (numeroCiclo > 1) {
+				encararParticipantesCiclosPosteriores(ciclo, ronda);
+			} else {
+				encararParticipantesPrimerCiclo(ciclo, ronda);
 			}
-			index++;
+			ronda.agregarCicloActual(numeroCiclo);
+			ronda.confirmar();
+			torneo.setCicloActual(numeroCiclo);
+			torneo.getAlgoritmoTorneo().getCiclos().add(ciclo);
+			torneo.obtenerHistorialEncuentros().registrar(ciclo);
 		}
-		return participantes;
 	}
 
 	/**
-	 * Realiza los encuentros del primer ciclo.
+	 * Aplica el/los criterio(s) de desempate(s) establecidos en
+	 * <code>CriteriosDesempate</code> ordenando a los participantes mediante la
+	 * <code>TablaPosiciones</code> del torneo.
+	 */
+	@Override
+	public void desempatarParticipantes() {
+		new TablaPosiciones(torneo).ordenar();
+	}
+
+	/**
+	 * Realiza los encuentros del primer ciclo. En el sistema holands el
+	 * participante de la mitad superior juega como local en los encuentros
+	 * impares y como visitante en los pares.
 	 * 
 	 * @param ciclo Ciclo a realizar.
+	 * @param ronda Ronda donde se agregan los encuentros y los participantes
+	 *              por guardar.
 	 * @throws ExcepcionCapturarResultados    Si ocurre un error con el objeto
 	 *                                        <code>Encuentros</code>.
 	 * @throws ExcepcionBaseDatos             Si ocurre un problema con la base de
@@ -259,10 +186,9 @@ public class TorneoSuizo extends AlgoritmoTorneo {
 	 *                                        participante en la tabla
 	 *                                        <code>participantes</code>.
 	 */
-	private void encararParticipantesPrimerCiclo(Ciclo ciclo) throws ExcepcionCapturarResultados, ExcepcionBaseDatos,
-			ExcepcionBaseDatosEncuentro, ExcepcionBaseDatosParticipante {
-		BaseDatosEncuentro bde = new BaseDatosEncuentro(torneo.getNombreArchivo());
-		BaseDatosParticipante bdp = new BaseDatosParticipante(torneo.getNombreArchivo());
+	private void encararParticipantesPrimerCiclo(Ciclo ciclo, BaseDatosRonda ronda)
+			throws ExcepcionCapturarResultados, ExcepcionBaseDatos, ExcepcionBaseDatosEncuentro,
+			ExcepcionBaseDatosParticipante {
 		ArrayList<Participante> participantes = torneo.getListaParticipantes();
 		ArrayList<Encuentro> encuentros = new ArrayList<Encuentro>();
 		int mitad = participantes.size() / 2;
@@ -282,29 +208,40 @@ public class TorneoSuizo extends AlgoritmoTorneo {
 		}
 
 		for (int i = 1; i <= mitad; i++) {
-			encuentros.add(new Encuentro(i, participantes.get(i - 1).getNumeroParticipante(),
-					participantes.get(i - 1 + mitad).getNumeroParticipante(), this.getTorneo().getFechaInicioTorneo()));
-			bde.insertarEncuentro(encuentros.get(i - 1), ciclo);
-			bdp.actualizarResultadoParticipante(participantes.get(i - 1), ciclo);
-			bdp.actualizarResultadoParticipante(participantes.get(i + mitad - 1), ciclo);
+			Participante local = participantes.get(i - 1);
+			Participante visitante = participantes.get(i - 1 + mitad);
+			if (esHolandes() && i % 2 == 0) {
+				local = visitante;
+				visitante = participantes.get(i - 1);
+			}
+			encuentros.add(new Encuentro(i, local.getNumeroParticipante(), visitante.getNumeroParticipante(),
+					this.getTorneo().getFechaInicioTorneo()));
+			ronda.agregarEncuentro(encuentros.get(i - 1), ciclo);
+			ronda.agregarResultadoParticipante(participantes.get(i - 1));
+			ronda.agregarResultadoParticipante(participantes.get(i + mitad - 1));
 		}
 
 		if (sinEncuentro != null) {
 			encuentros.add(new Encuentro(mitad + 1, participantes.get(participantes.size() - 2).getNumeroParticipante(),
 					participantes.get(participantes.size() - 1).getNumeroParticipante(),
 					this.getTorneo().getFechaInicioTorneo()));
-			bde.insertarEncuentro(encuentros.get(mitad), ciclo);
-			bdp.actualizarResultadoParticipante(participantes.get(participantes.size() - 2), ciclo);
-			bdp.actualizarResultadoParticipante(participantes.get(participantes.size() - 1), ciclo);
+			ronda.agregarEncuentro(encuentros.get(mitad), ciclo);
+			ronda.agregarResultadoParticipante(participantes.get(participantes.size() - 2));
+			ronda.agregarResultadoParticipante(participantes.get(participantes.size() - 1));
 		}
 		ciclo.setEncuentroParticipantes(encuentros);
 	}
 
 	/**
-	 * Realiza los encuentros de un ciclo posterior al primer ciclo.
+	 * Realiza los encuentros de un ciclo posterior al primer ciclo mediante el
+	 * <code>EmparejamientoSuizo</code> o, en el sistema holands, el
+	 * <code>EmparejamientoHolandes</code>, evitando repetir encuentros y
+	 * descansos.
 	 * 
 	 * @param ciclo Recibe el objeto <code>Ciclo</code> para guardar los encuentros
 	 *              a realizar.
+	 * @param ronda Ronda donde se agregan los encuentros y los participantes
+	 *              por guardar.
 	 * @throws ExcepcionCapturarResultados    Si ocurre un error con el objeto
 	 *                                        <code>Encuentros</code>.
 	 * @throws ExcepcionBaseDatos             Si ocurre un problema con la base de
@@ -315,24 +252,15 @@ public class TorneoSuizo extends AlgoritmoTorneo {
 	 *                                        participante en la tabla
 	 *                                        <code>participantes</code>.
 	 */
-	private void encararParticipantesCiclosPosteriores(Ciclo ciclo) throws ExcepcionCapturarResultados,
-			ExcepcionBaseDatos, ExcepcionBaseDatosEncuentro, ExcepcionBaseDatosParticipante {
-		BaseDatosEncuentro bde = new BaseDatosEncuentro(torneo.getNombreArchivo());
-		BaseDatosParticipante bdp = new BaseDatosParticipante(torneo.getNombreArchivo());
-		ArrayList<Participante> participantes = torneo.getListaParticipantes();
+	private void encararParticipantesCiclosPosteriores(Ciclo ciclo, BaseDatosRonda ronda)
+			throws ExcepcionCapturarResultados, ExcepcionBaseDatos, ExcepcionBaseDatosEncuentro,
+			ExcepcionBaseDatosParticipante {
+		ArrayList<Participante> participantes = new ArrayList<Participante>(torneo.getListaParticipantes());
 		ArrayList<Encuentro> encuentros = new ArrayList<Encuentro>();
 		Participante sinEncuentro = null;
 
-		HashSet<Float> puntajes = new HashSet<>();
-
-		Collections.sort(participantes, new Comparator<Participante>() {
-			public int compare(Participante p1, Participante p2) {
-				return Float.compare(p2.getPuntajeAcumuladoParticipante(), p1.getPuntajeAcumuladoParticipante());
-			}
-		});
-
+		Collections.sort(participantes, torneo.getOrdenParticipantes().obtenerComparadorEmparejamiento());
 		for (Participante p : participantes) {
-			puntajes.add(p.getPuntajeAcumuladoParticipante());
 			if (p.getNombreParticipante()
 					.equalsIgnoreCase(torneo.getDatosPersonalizacion().getNombreParticipanteSinEncuentro())) {
 				sinEncuentro = p;
@@ -341,53 +269,19 @@ public class TorneoSuizo extends AlgoritmoTorneo {
 		}
 		if (sinEncuentro != null) {
 			participantes.remove(sinEncuentro);
-			ArrayList<Participante> ultimosJugadores = new ArrayList<>();
-			List<Float> listaPuntajes = new ArrayList<>(puntajes);
-			Collections.sort(listaPuntajes, new Comparator<Float>() {
-				public int compare(Float f1, Float f2) {
-					return Float.compare(f2, f1);
-				}
-			});
-			for (Participante p : participantes) {
-				if (p.getPuntajeAcumuladoParticipante() == listaPuntajes.get(puntajes.size() - 1)) {
-					ultimosJugadores.add(p);
-				}
-			}
-			for (Participante p : ultimosJugadores) {
-				participantes.remove(p);
-			}
-			Collections.reverse(ultimosJugadores);
-			for (Participante p : ultimosJugadores) {
-				participantes.add(p);
-			}
-			participantes.add(sinEncuentro);
 		}
 
 		int num = 1;
-		int pos = 0;
-		while (pos < participantes.size()) {
-			float puntaje = participantes.get(pos).getPuntajeAcumuladoParticipante();
-			int fin = pos + 1;
-			while (fin < participantes.size() && participantes.get(fin).getPuntajeAcumuladoParticipante() == puntaje) {
-				fin++;
-			}
-			int cont = (fin - pos);
-			int mitad = (cont) / 2;
-			if (cont % 2 != 0) {
-				mitad = mitad + 1;
-			}
-			for (int j = 0; j < mitad; j++) {
-				encuentros.add(new Encuentro(num, participantes.get(pos).getNumeroParticipante(),
-						participantes.get(pos + mitad).getNumeroParticipante(),
-						this.getTorneo().getFechaInicioTorneo()));
-				bde.insertarEncuentro(encuentros.get(num - 1), ciclo);
-				bdp.actualizarResultadoParticipante(participantes.get(pos), ciclo);
-				bdp.actualizarResultadoParticipante(participantes.get(pos + mitad), ciclo);
-				num++;
-				pos++;
-
-			}
-			pos += mitad;
+		EmparejamientoSuizo emparejamiento = esHolandes() ? new EmparejamientoHolandes(torneo)
+				: new EmparejamientoSuizo(torneo);
+		for (Participante[] pareja : emparejamiento.emparejar(participantes, sinEncuentro)) {
+			Encuentro encuentro = new Encuentro(num, pareja[0].getNumeroParticipante(),
+					pareja[1].getNumeroParticipante(), this.getTorneo().getFechaInicioTorneo());
+			encuentros.add(encuentro);
+			ronda.agregarEncuentro(encuentro, ciclo);
+			ronda.agregarResultadoParticipante(pareja[0]);
+			ronda.agregarResultadoParticipante(pareja[1]);
+			num++;
 		}
 		ciclo.setEncuentroParticipantes(encuentros);
 	}
@@ -421,9 +315,14 @@ public class TorneoSuizo extends AlgoritmoTorneo {
 	 *                                     tabla <code>ciclos</code>.
 	 * @throws ExcepcionBaseDatosTorneo    Si ocurre un error al insertar en la
 	 *                                     tabla <code>suizo</code>.
+	 * @throws ExcepcionCapturarResultados Si ocurre un error con el objeto
+	 *                                     <code>Encuentros</code>.
+	 * @throws ExcepcionBaseDatosParticipante Si ocurre un problema al actualizar
+	 *                                        un participante en la tabla
+	 *                                        <code>participantes</code>.
 	 */
-	public void iniciarTorneo()
-			throws ExcepcionBaseDatos, ExcepcionBaseDatosEncuentro, ExcepcionBaseDatosCiclo, ExcepcionBaseDatosTorneo {
+	public void iniciarTorneo() throws ExcepcionBaseDatos, ExcepcionBaseDatosEncuentro, ExcepcionBaseDatosCiclo,
+			ExcepcionBaseDatosTorneo, ExcepcionCapturarResultados, ExcepcionBaseDatosParticipante {
 		BaseDatosTorneo bdt = new BaseDatosTorneo(torneo.getNombreArchivo());
 		bdt.insertarTorneoSuizo(this);
 		this.setCiclos(new ArrayList<Ciclo>());
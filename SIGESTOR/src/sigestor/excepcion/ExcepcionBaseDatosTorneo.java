@@ -49,11 +49,23 @@ package sigestor.excepcion;
  * <li><code> MENSAJE_EXCEPCION_CONSULTA_TORNEO_ELIMINACION_DIRECTA</code> para
  * indicar que no ha sido posible obtener el nmero de ciclos y el subtipo
  * (simple o doble) del torneo Eliminacin directa.</li>
+ * <li><code>MENSAJE_EXCEPCION_CONSULTA_LLAVE</code> para indicar que no ha
+ * sido posible obtener la llave del torneo Eliminacin directa.</li>
+ * <li><code>MENSAJE_EXCEPCION_ACTUALIZA_LLAVE</code> para indicar que no ha
+ * sido posible guardar la llave del torneo Eliminacin directa.</li>
+ * <li><code>MENSAJE_EXCEPCION_ACTUALIZA_CICLOS_ELIMINACION_DIRECTA</code>
+ * para indicar que no ha sido posible guardar el nmero de ciclos del torneo
+ * Eliminacin directa.</li>
+ * <li><code>MENSAJE_EXCEPCION_ACTUALIZA_ESQUEMA</code> para indicar que no ha
+ * sido posible actualizar el archivo a la versin de la base de datos del
+ * sistema.</li>
+ * <li><code>MENSAJE_EXCEPCION_CANCELA_TORNEO</code> para indicar que no ha sido
+ * posible borrar el avance del torneo en la base de datos.</li>
  * <li><code>MENSAJE_EXCEPCION_SOLUCION </code> para mostrar la solucin del
  * error presentado.</li>
  * </ul>
  * 
- * @version 08/04/2023
+ * @version 18/10/2026
  * 
  * @author Hernan Sesai Lopez Aragon
  * @author Jennifer Corts Prez
@@ -159,6 +171,33 @@ public class ExcepcionBaseDatosTorneo extends Exception {
 	 */
 	public static final String MENSAJE_EXCEPCION_CONSULTA_TORNEO_ELIMINACION_DIRECTA = "No se pudo obtener el nmero de ciclos y el subtipo (simple o doble) del torneo Eliminacin directa";
 
+	/**
+	 * Mensaje que indica que no ha sido posible obtener la llave del torneo
+	 * Eliminacin directa en la base de datos.
+	 */
+	public static final String MENSAJE_EXCEPCION_CONSULTA_LLAVE = "No se pudo obtener la llave del torneo Eliminacin directa";
+	/**
+	 * Mensaje que indica que no ha sido posible guardar la llave del torneo
+	 * Eliminacin directa en la base de datos.
+	 */
+	public static final String MENSAJE_EXCEPCION_ACTUALIZA_LLAVE = "No se pudo guardar la llave del torneo Eliminacin directa";
+	/**
+	 * Mensaje que indica que no ha sido posible guardar el nmero de ciclos del
+	 * torneo Eliminacin directa en la base de datos.
+	 */
+	public static final String MENSAJE_EXCEPCION_ACTUALIZA_CICLOS_ELIMINACION_DIRECTA = "No se pudo guardar el nmero de ciclos del torneo Eliminacin directa";
+
+	/**
+	 * Mensaje que indica que no ha sido posible actualizar el archivo a la
+	 * versin de la base de datos del sistema.
+	 */
+	public static final String MENSAJE_EXCEPCION_ACTUALIZA_ESQUEMA = "No se pudo actualizar el archivo a la versin actual del sistema";
+	/**
+	 * Mensaje que indica que no ha sido posible borrar el avance del torneo en la
+	 * base de datos.
+	 */
+	public static final String MENSAJE_EXCEPCION_CANCELA_TORNEO = "No se ha conseguido cancelar el avance del torneo";
+
 	/**
 	 * Mensaje que indica la solucin del error presentado.
 	 */
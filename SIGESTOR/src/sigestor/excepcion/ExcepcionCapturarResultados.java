@@ -11,6 +11,9 @@ package sigestor.excepcion;
  * error al ingresar valores numricos negativos en el campo del marcador.</li>
  * <li><code>MENSAJE_EXCEPCION_MARCADOR_VACIO</code> Para mostrar la causa del
  * error al no ingresar valores numricos o no numricos en el campo del marcador.</li>
+ * <li><code>MENSAJE_EXCEPCION_RESULTADO_INCORRECTO</code> Para mostrar la causa
+ * del error al recibir un resultado que no corresponde a ningn resultado de un
+ * encuentro.</li>
  * </ul>
  * 
  * @version 02/06/2023
@@ -47,6 +50,13 @@ public class ExcepcionCapturarResultados extends Exception {
 	public static final String MENSAJE_EXCEPCION_NUMERO_NEGATIVO = "El sistema necesita un valor numrico positivo para guardar. \n"
 			+ "Por favor verifique que solo incluya valores numricos positivos.";
 
+	/**
+	 * Mensaje al recibir un resultado que no corresponde a ningn resultado de un
+	 * encuentro.
+	 */
+	public static final String MENSAJE_EXCEPCION_RESULTADO_INCORRECTO = "El resultado capturado no es vlido. \n"
+			+ "Por favor verifique que indique al ganador, un empate o que el encuentro no se ha jugado.";
+
 	/**
 	 * Permite mostrar un mensaje de acuerdo a las constantes declaradas en esta
 	 * clase.
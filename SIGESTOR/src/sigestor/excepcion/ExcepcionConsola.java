@@ -0,0 +1,99 @@
+package sigestor.excepcion;
+
+/**
+ * Sirve para manejar las excepciones de <code>SIGESTORConsola</code>.
+ * <p>
+ * Las caractersticas de la clase <code>ExcepcionConsola</code> son:
+ * <ul>
+ * <li><code>MENSAJE_EXCEPCION_ARGUMENTOS_INCORRECTOS</code> Para informar que
+ * el comando no recibi los argumentos que necesita.</li>
+ * <li><code>MENSAJE_EXCEPCION_ARCHIVO_EXISTENTE</code> Para informar que ya
+ * existe el archivo del torneo que se quiere crear.</li>
+ * <li><code>MENSAJE_EXCEPCION_TIPO_INCORRECTO</code> Para informar que el tipo
+ * de torneo no existe.</li>
+ * <li><code>MENSAJE_EXCEPCION_TORNEO_INICIADO</code> Para informar que el
+ * torneo ya fue iniciado.</li>
+ * <li><code>MENSAJE_EXCEPCION_TORNEO_NO_INICIADO</code> Para informar que el
+ * torneo an no se ha iniciado.</li>
+ * <li><code>MENSAJE_EXCEPCION_CICLO_INCOMPLETO</code> Para informar que el
+ * ciclo actual tiene encuentros sin resultado.</li>
+ * <li><code>MENSAJE_EXCEPCION_TORNEO_TERMINADO</code> Para informar que ya se
+ * realizaron todos los ciclos del torneo.</li>
+ * <li><code>MENSAJE_EXCEPCION_CICLO_INEXISTENTE</code> Para informar que el
+ * ciclo solicitado no existe.</li>
+ * <li><code>MENSAJE_EXCEPCION_CICLO_CERRADO</code> Para informar que ya no se
+ * pueden capturar resultados del ciclo.</li>
+ * </ul>
+ *
+ * @version 18/10/2026
+ */
+public class ExcepcionConsola extends Exception {
+
+	/**
+	 * Sirve para definir un id que sera usado por la virtual machine cuando
+	 * serializa y deserealiza el applet.
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Indica que el comando no recibi los argumentos que necesita.
+	 */
+	public static final String MENSAJE_EXCEPCION_ARGUMENTOS_INCORRECTOS = "Los argumentos del comando no son correctos.\n"
+			+ "Ejecute el comando 'ayuda' para consultar el uso de cada comando.";
+
+	/**
+	 * Indica que ya existe el archivo del torneo que se quiere crear.
+	 */
+	public static final String MENSAJE_EXCEPCION_ARCHIVO_EXISTENTE = "El nombre de este archivo ya existe!\n"
+			+ "Indique otro archivo para el torneo.";
+
+	/**
+	 * Indica que el tipo de torneo no existe.
+	 */
+	public static final String MENSAJE_EXCEPCION_TIPO_INCORRECTO = "El tipo de torneo no existe.\n"
+			+ "Los tipos de torneo son: suizo, roundrobin y eliminacion.";
+
+	/**
+	 * Indica que el torneo ya fue iniciado.
+	 */
+	public static final String MENSAJE_EXCEPCION_TORNEO_INICIADO = "El torneo ya fue iniciado.";
+
+	/**
+	 * Indica que el torneo an no se ha iniciado.
+	 */
+	public static final String MENSAJE_EXCEPCION_TORNEO_NO_INICIADO = "El torneo an no se ha iniciado.\n"
+			+ "Ejecute el comando 'iniciar' primero.";
+
+	/**
+	 * Indica que el ciclo actual tiene encuentros sin resultado.
+	 */
+	public static final String MENSAJE_EXCEPCION_CICLO_INCOMPLETO = "El sistema no ha podido realizar el siguiente ciclo "
+			+ "porque no ha finalizado el ciclo actual.\nPor favor capture todos los resultados.";
+
+	/**
+	 * Indica que ya se realizaron todos los ciclos del torneo.
+	 */
+	public static final String MENSAJE_EXCEPCION_TORNEO_TERMINADO = "Ya se realizaron todos los ciclos del torneo.";
+
+	/**
+	 * Indica que el ciclo solicitado no existe.
+	 */
+	public static final String MENSAJE_EXCEPCION_CICLO_INEXISTENTE = "El ciclo solicitado no existe.";
+
+	/**
+	 * Indica que ya no se pueden capturar resultados del ciclo.
+	 */
+	public static final String MENSAJE_EXCEPCION_CICLO_CERRADO = "Solo se pueden capturar los resultados del ciclo actual.";
+
+	/**
+	 * Permite mostrar un mensaje de acuerdo a las constantes declaradas en esta
+	 * clase.
+	 *
+	 * @param mensaje
+	 *            Recibe la constante declarada en la clase
+	 *            <code>ExcepcionConsola</code>.
+	 */
+	public ExcepcionConsola(String mensaje) {
+		super(mensaje);
+	}
+}
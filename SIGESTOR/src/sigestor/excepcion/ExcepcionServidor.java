@@ -0,0 +1,144 @@
+package sigestor.excepcion;
+
+/**
+ * Sirve para manejar las excepciones del paquete <code>servidor</code>. Adems
+ * del mensaje guarda el cdigo de estado HTTP con el que se responde la
+ * solicitud.
+ * <p>
+ * Las caractersticas de la clase <code>ExcepcionServidor</code> son:
+ * <ul>
+ * <li><code>MENSAJE_EXCEPCION_RUTA_INEXISTENTE</code> Para informar que la
+ * ruta solicitada no existe.</li>
+ * <li><code>MENSAJE_EXCEPCION_METODO_INCORRECTO</code> Para informar que la
+ * ruta no admite el mtodo de la solicitud.</li>
+ * <li><code>MENSAJE_EXCEPCION_TORNEO_INEXISTENTE</code> Para informar que el
+ * servidor no atiende el torneo solicitado.</li>
+ * <li><code>MENSAJE_EXCEPCION_TORNEO_REPETIDO</code> Para informar que dos
+ * archivos de torneo tienen el mismo identificador.</li>
+ * <li><code>MENSAJE_EXCEPCION_CICLO_INEXISTENTE</code> Para informar que el
+ * ciclo solicitado no existe.</li>
+ * <li><code>MENSAJE_EXCEPCION_ENCUENTRO_INEXISTENTE</code> Para informar que el
+ * encuentro solicitado no pertenece al ciclo.</li>
+ * <li><code>MENSAJE_EXCEPCION_CICLO_CERRADO</code> Para informar que ya no se
+ * pueden capturar resultados del ciclo.</li>
+ * <li><code>MENSAJE_EXCEPCION_CICLO_INCOMPLETO</code> Para informar que el
+ * ciclo actual tiene encuentros sin resultado.</li>
+ * <li><code>MENSAJE_EXCEPCION_TORNEO_TERMINADO</code> Para informar que ya se
+ * realizaron todos los ciclos del torneo.</li>
+ * <li><code>MENSAJE_EXCEPCION_TORNEO_SIN_INICIAR</code> Para informar que el
+ * torneo an no se ha iniciado.</li>
+ * <li><code>MENSAJE_EXCEPCION_SERVIDOR_DETENIDO</code> Para informar que el
+ * servidor se est deteniendo y ya no acepta cambios.</li>
+ * <li><code>MENSAJE_EXCEPCION_SOLICITUD_INCORRECTA</code> Para informar que los
+ * datos de la solicitud no son vlidos.</li>
+ * <li><code>MENSAJE_EXCEPCION_INICIAR_SERVIDOR</code> Para informar que no se
+ * pudo abrir el puerto del servidor.</li>
+ * <li><code>codigoEstado</code> Para guardar el cdigo de estado HTTP de la
+ * respuesta.</li>
+ * </ul>
+ *
+ * @version 18/10/2026
+ */
+public class ExcepcionServidor extends Exception {
+
+	/**
+	 * Sirve para definir un id que sera usado por la virtual machine cuando
+	 * serializa y deserealiza el applet.
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Indica que la ruta solicitada no existe.
+	 */
+	public static final String MENSAJE_EXCEPCION_RUTA_INEXISTENTE = "La ruta solicitada no existe.";
+
+	/**
+	 * Indica que la ruta no admite el mtodo de la solicitud.
+	 */
+	public static final String MENSAJE_EXCEPCION_METODO_INCORRECTO = "La ruta no admite el mtodo de la solicitud.";
+
+	/**
+	 * Indica que el servidor no atiende el torneo solicitado.
+	 */
+	public static final String MENSAJE_EXCEPCION_TORNEO_INEXISTENTE = "El torneo solicitado no existe.";
+
+	/**
+	 * Indica que dos archivos de torneo tienen el mismo identificador.
+	 */
+	public static final String MENSAJE_EXCEPCION_TORNEO_REPETIDO = "Dos archivos de torneo tienen el mismo nombre: ";
+
+	/**
+	 * Indica que el ciclo solicitado no existe.
+	 */
+	public static final String MENSAJE_EXCEPCION_CICLO_INEXISTENTE = "El ciclo solicitado no existe.";
+
+	/**
+	 * Indica que el encuentro solicitado no pertenece al ciclo.
+	 */
+	public static final String MENSAJE_EXCEPCION_ENCUENTRO_INEXISTENTE = "El encuentro solicitado no pertenece al ciclo.";
+
+	/**
+	 * Indica que ya no se pueden capturar resultados del ciclo.
+	 */
+	public static final String MENSAJE_EXCEPCION_CICLO_CERRADO = "Solo se pueden capturar los resultados del ciclo actual.";
+
+	/**
+	 * Indica que el ciclo actual tiene encuentros sin resultado.
+	 */
+	public static final String MENSAJE_EXCEPCION_CICLO_INCOMPLETO = "El sistema no ha podido realizar el siguiente ciclo "
+			+ "porque no ha finalizado el ciclo actual.\nPor favor capture todos los resultados.";
+
+	/**
+	 * Indica que ya se realizaron todos los ciclos del torneo.
+	 */
+	public static final String MENSAJE_EXCEPCION_TORNEO_TERMINADO = "Ya se realizaron todos los ciclos del torneo.";
+
+	/**
+	 * Indica que el torneo an no se ha iniciado.
+	 */
+	public static final String MENSAJE_EXCEPCION_TORNEO_SIN_INICIAR = "El torneo an no se ha iniciado.";
+
+	/**
+	 * Indica que el servidor se est deteniendo y ya no acepta cambios.
+	 */
+	public static final String MENSAJE_EXCEPCION_SERVIDOR_DETENIDO = "El servidor se est deteniendo y ya no acepta cambios.";
+
+	/**
+	 * Indica que los datos de la solicitud no son vlidos.
+	 */
+	public static final String MENSAJE_EXCEPCION_SOLICITUD_INCORRECTA = "Los datos de la solicitud no son vlidos.";
+
+	/**
+	 * Indica que no se pudo abrir el puerto del servidor.
+	 */
+	public static final String MENSAJE_EXCEPCION_INICIAR_SERVIDOR = "El sistema no pudo abrir el puerto del servidor.";
+
+	/**
+	 * Cdigo de estado HTTP de la respuesta.
+	 */
+	private int codigoEstado;
+
+	/**
+	 * Permite mostrar un mensaje de acuerdo a las constantes declaradas en esta
+	 * clase junto con el cdigo de estado HTTP de la respuesta.
+	 *
+	 * @param mensaje
+	 *            Recibe la constante declarada en la clase
+	 *            <code>ExcepcionServidor</code>.
+	 * @param codigoEstado
+	 *            Recibe el cdigo de estado HTTP de la respuesta.
+	 */
+	public ExcepcionServidor(String mensaje, int codigoEstado) {
+		super(mensaje);
+		this.codigoEstado = codigoEstado;
+	}
+
+	/**
+	 * Obtiene el cdigo de estado HTTP de la respuesta.
+	 *
+	 * @return Regresa el cdigo de estado.
+	 */
+	public int getCodigoEstado() {
+		return codigoEstado;
+	}
+}
@@ -13,6 +13,14 @@ package sigestor.excepcion;
  * ocurrido un error al escribir la plantilla CSV.</li>
  * <li><code>MENSAJE_EXCEPCION_FORMATO_INCORRECTO</code> para indicar que el
  * archivo CSV no cumple el formato.</li>
+ * <li><code>MENSAJE_EXCEPCION_ENCUENTRO_INEXISTENTE</code> para indicar que el
+ * archivo CSV contiene un encuentro que no pertenece al ciclo.</li>
+ * <li><code>MENSAJE_EXCEPCION_ENCUENTRO_REPETIDO</code> para indicar que el
+ * archivo CSV contiene dos veces el mismo encuentro.</li>
+ * <li><code>MENSAJE_EXCEPCION_CICLO_DIFERENTE</code> para indicar que el
+ * archivo CSV contiene los resultados de otro ciclo.</li>
+ * <li><code>MENSAJE_EXCEPCION_FILA</code> para indicar la fila del archivo CSV
+ * en la que ocurri el error.</li>
  * </ul>
  * 
  * @version 02/06/2023
@@ -57,6 +65,30 @@ public class ExcepcionUtilerias extends Exception {
 	public static final String MENSAJE_EXCEPCION_FORMATO_INCORRECTO = "El archivo CSV no cumple con el formato requerido."
 			+ "\nFavor de usar otro archivo CSV con el formato correcto.";
 
+	/**
+	 * Indica que el archivo CSV contiene un encuentro que no pertenece al ciclo.
+	 */
+	public static final String MENSAJE_EXCEPCION_ENCUENTRO_INEXISTENTE = "El archivo CSV contiene un encuentro que no pertenece al ciclo."
+			+ "\nFavor de verificar los nmeros de los encuentros.";
+
+	/**
+	 * Indica que el archivo CSV contiene dos veces el mismo encuentro.
+	 */
+	public static final String MENSAJE_EXCEPCION_ENCUENTRO_REPETIDO = "El archivo CSV contiene dos veces el mismo encuentro."
+			+ "\nFavor de dejar una sola fila por encuentro.";
+
+	/**
+	 * Indica que el archivo CSV contiene los resultados de otro ciclo.
+	 */
+	public static final String MENSAJE_EXCEPCION_CICLO_DIFERENTE = "El archivo CSV contiene los resultados de otro ciclo."
+			+ "\nFavor de usar el archivo del ciclo seleccionado.";
+
+	/**
+	 * Se agrega al mensaje para indicar la fila del archivo CSV en la que
+	 * ocurri el error.
+	 */
+	public static final String MENSAJE_EXCEPCION_FILA = "\nFila del archivo CSV: ";
+
 	/**
 	 * Permite mostrar un mensaje de acuerdo a las constantes declaradas en esta
 	 * clase.
@@ -15,7 +15,6 @@ import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 import java.text.DateFormat;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Date;
 import javax.swing.*;
 import javax.swing.border.Border;
@@ -23,11 +22,13 @@ import sigestor.bd.BaseDatosCiclo;
 import sigestor.bd.BaseDatosEncuentro;
 import sigestor.bd.BaseDatosParticipante;
 import sigestor.bd.BaseDatosTorneo;
+import sigestor.dominio.CapturaResultados;
 import sigestor.dominio.Ciclo;
 import sigestor.dominio.Encuentro;
 import sigestor.dominio.Participante;
 import sigestor.dominio.Personalizacion;
 import sigestor.dominio.Torneo;
+import sigestor.dominio.TorneoEliminacionDirecta;
 import sigestor.excepcion.ExcepcionBaseDatos;
 import sigestor.excepcion.ExcepcionBaseDatosCiclo;
 import sigestor.excepcion.ExcepcionBaseDatosEncuentro;
@@ -102,7 +103,7 @@ import sigestor.excepcion.ExcepcionCapturarResultados;
  * flechas de los encuentros.</li>
  * </ul>
  * 
- * @version 02/06/2023
+ * @version 18/10/2026
  * 
  * @author Jonathan Eduardo Ibarra Martnez
  * @author Alicia Adriana Clemente Hernandez
@@ -1040,14 +1041,7 @@ public class DialogoCapturarResultados extends JDialog {
 	 * @return Retorna al participante.
 	 */
 	private Participante obtenerParticipante(int numeroParticipante) {
-
-		for (Participante p : participantes) {
-			if (p.getNumeroParticipante() == numeroParticipante) {
-				return p;
-			}
-		}
-
-		return null;
+		return torneo.obtenerParticipante(numeroParticipante);
 	}
 
 	/**
@@ -1253,12 +1247,14 @@ public class DialogoCapturarResultados extends JDialog {
 		deshabilitarTabla();
 		try {
 			actualizarResultadoEncuentros();
-			actualizarParticipantes();
 			JOptionPane.showMessageDialog(null, "Los resultados se han guardado exitosamente.", "Capturar resultados",
 					JOptionPane.INFORMATION_MESSAGE);
 		} catch (ExcepcionBaseDatos e) {
 			limpiarTabla();
 			JOptionPane.showMessageDialog(null, e.getMessage(), "Capturar resultados", JOptionPane.ERROR_MESSAGE);
+		} catch (ExcepcionBaseDatosCiclo e) {
+			limpiarTabla();
+			JOptionPane.showMessageDialog(null, e.getMessage(), "Capturar resultados", JOptionPane.ERROR_MESSAGE);
 		} catch (ExcepcionBaseDatosEncuentro e) {
 			limpiarTabla();
 			JOptionPane.showMessageDialog(null, e.getMessage(), "Capturar resultados", JOptionPane.ERROR_MESSAGE);
@@ -1308,15 +1304,16 @@ public class DialogoCapturarResultados extends JDialog {
 		BaseDatosEncuentro bde = new BaseDatosEncuentro(ventanaPrincipal.getTorneoActual().getNombreArchivo());
 		BaseDatosCiclo bdc = new BaseDatosCiclo(ventanaPrincipal.getTorneoActual().getNombreArchivo());
 		ArrayList<Ciclo> ciclos = torneo.getAlgoritmoTorneo().getCiclos();
-		ArrayList<Encuentro> encuentros = ciclos.get(torneo.getCicloActual() - 1).getEncuentroParticipantes();
-		for (Encuentro e : encuentros) {
-			sumarRestarMarcadorParticipante(e, (-1) * e.getMarcadorParticipanteInicial(),
-					(-1) * e.getMarcadorParticipanteFinal());
-			sumarRestarPuntajeAcumuladoParticipante(e, (-1) * personalizacion.getPuntajeGanar(),
-					(-1) * personalizacion.getPuntajePerder(), (-1) * personalizacion.getPuntajeEmpatar());
+		Ciclo cicloActual = ciclos.get(torneo.getCicloActual() - 1);
+		try {
+			new CapturaResultados(torneo, cicloActual).quitarResultados();
+		} catch (ExcepcionCapturarResultados e) {
+			JOptionPane.showMessageDialog(null, e.getMessage(), "Eliminar ciclo", JOptionPane.ERROR_MESSAGE);
+		}
+		for (Encuentro e : cicloActual.getEncuentroParticipantes()) {
 			if (this.torneo.getTipoTorneo().contains("Suizo")) {
 				try {
-					bde.eliminarEncuentro(e, ciclos.get(torneo.getCicloActual() - 1));
+					bde.eliminarEncuentro(e, cicloActual);
 				} catch (ExcepcionBaseDatos e1) {
 					JOptionPane.showMessageDialog(null, e1.getMessage(), "Eliminar ciclo", JOptionPane.ERROR_MESSAGE);
 				} catch (ExcepcionBaseDatosEncuentro e1) {
@@ -1326,17 +1323,16 @@ public class DialogoCapturarResultados extends JDialog {
 				}
 			} else {
 				try {
-					e.setMarcadorParticipanteFinal("0");
-					e.setMarcadorParticipanteInicial("0");
-					e.setResultadoEncuentro(99);
-					bde.actualizarEncuentro(e, ciclos.get(torneo.getCicloActual() - 1));
-				} catch (ExcepcionBaseDatos | ExcepcionBaseDatosEncuentro | ExcepcionCapturarResultados e1) {
+					bde.actualizarEncuentro(e, cicloActual);
+				} catch (ExcepcionBaseDatos | ExcepcionBaseDatosEncuentro e1) {
 
 				}
-				comboSeleccionarCiclo.setSelectedIndex(torneo.getCicloActual() - 1); // FIXME
-
 			}
 		}
+		if (!this.torneo.getTipoTorneo().contains("Suizo")) {
+			comboSeleccionarCiclo.setSelectedIndex(torneo.getCicloActual() - 1); // FIXME
+		}
+		torneo.descartarHistorialEncuentros();
 		actualizarParticipantes();
 		if (this.torneo.getTipoTorneo().contains("Suizo")) {
 			try {
@@ -1371,6 +1367,13 @@ public class DialogoCapturarResultados extends JDialog {
 		} catch (ExcepcionBaseDatosTorneo e) {
 			JOptionPane.showMessageDialog(null, e.getMessage(), "Eliminar ciclo", JOptionPane.ERROR_MESSAGE);
 		}
+		if (torneo.getAlgoritmoTorneo() instanceof TorneoEliminacionDirecta) {
+			try {
+				((TorneoEliminacionDirecta) torneo.getAlgoritmoTorneo()).rehacerLlave();
+			} catch (ExcepcionBaseDatosTorneo e) {
+				JOptionPane.showMessageDialog(null, e.getMessage(), "Eliminar ciclo", JOptionPane.ERROR_MESSAGE);
+			}
+		}
 
 		BaseDatosParticipante bdp = new BaseDatosParticipante(this.torneo.getNombreArchivo());
 
@@ -1402,7 +1405,7 @@ public class DialogoCapturarResultados extends JDialog {
 
 		BaseDatosParticipante bdp = new BaseDatosParticipante(ventanaPrincipal.getTorneoActual().getNombreArchivo());
 		Ciclo ciclo = torneo.getAlgoritmoTorneo().getCiclos().get(torneo.getCicloActual() - 1);
-		Collections.sort(this.participantes);
+		torneo.getOrdenParticipantes().ordenar(this.participantes);
 		for (Participante p : participantes) {
 			if (p.getNombreParticipante()
 					.compareToIgnoreCase(personalizacion.getNombreParticipanteSinEncuentro()) == 0) {
@@ -1413,19 +1416,25 @@ public class DialogoCapturarResultados extends JDialog {
 	}
 
 	/**
-	 * Actualiza los resultados de los encuentros en la base de datos.
+	 * Registra los resultados capturados en la tabla con
+	 * <code>CapturaResultados</code>, que retira el resultado anterior de cada
+	 * encuentro del puntaje, de los marcadores y del ndice de encuentros antes
+	 * de agregar el nuevo y asigna los descansos, y los guarda en una sola
+	 * transaccin junto con los resultados de los participantes.
 	 * 
-	 * @throws ExcepcionBaseDatosEncuentro
 	 * @throws ExcepcionBaseDatos
-	 *             Lanza la excepcin s ocurre un error al momento de eliminar los
-	 *             datos.
+	 *             Lanza la excepcin s ocurre un error en la base de datos.
+	 * @throws ExcepcionBaseDatosCiclo
+	 *             Lanza la excepcin s ocurre un error en la transaccin.
+	 * @throws ExcepcionBaseDatosEncuentro
+	 *             Lanza la excepcin s no se pudo actualizar algn encuentro.
+	 * @throws ExcepcionBaseDatosParticipante
+	 *             Lanza la excepcin s no se pudo actualizar algn participante.
 	 * @throws ExcepcionCapturarResultados
-	 * 
+	 *             Lanza la excepcin s algn marcador capturado no es vlido.
 	 */
-	private void actualizarResultadoEncuentros()
-			throws ExcepcionBaseDatos, ExcepcionBaseDatosEncuentro, ExcepcionCapturarResultados {
-		BaseDatosEncuentro bde = new BaseDatosEncuentro(ventanaPrincipal.getTorneoActual().getNombreArchivo());
-
+	private void actualizarResultadoEncuentros() throws ExcepcionBaseDatos, ExcepcionBaseDatosCiclo,
+			ExcepcionBaseDatosEncuentro, ExcepcionBaseDatosParticipante, ExcepcionCapturarResultados {
 		Ciclo ciclo = null;
 		if (this.torneo.getTipoTorneo().contains("Suizo")) {
 			ciclo = comboSeleccionarCiclo.getItemAt(torneo.getCicloActual() - 1);
@@ -1435,136 +1444,37 @@ public class DialogoCapturarResultados extends JDialog {
 			ciclo = comboSeleccionarCiclo.getItemAt(this.comboSeleccionarCiclo.getSelectedIndex());
 		}
 		ArrayList<Encuentro> encuentros = ciclo.getEncuentroParticipantes();
+		CapturaResultados captura = new CapturaResultados(torneo, ciclo);
+		captura.registrarDescansos();
 		for (int i = 0; i < encuentros.size(); i++) {
-			if (obtenerParticipante(encuentros.get(i).getIdParticipanteFinal()).getNombreParticipante()
-					.compareToIgnoreCase(personalizacion.getNombreParticipanteSinEncuentro()) == 0) {
-				if (encuentros.get(i).getResultadoEncuentro() == Encuentro.SIN_JUGAR) {// FIXME
-					encuentros.get(i).setResultadoEncuentro(Encuentro.DESCANSO);// FIXME
-					sumarRestarPuntajeAcumuladoParticipante(encuentros.get(i), personalizacion.getPuntajeGanar(),
-							personalizacion.getPuntajePerder(), personalizacion.getPuntajeEmpatar());// FIXME
-				}
-
-			} else if (obtenerParticipante(encuentros.get(i).getIdParticipanteInicial()).getNombreParticipante()
-					.compareToIgnoreCase(personalizacion.getNombreParticipanteSinEncuentro()) == 0) {
-				if (encuentros.get(i).getResultadoEncuentro() == Encuentro.SIN_JUGAR) {// FIXME
-					encuentros.get(i).setResultadoEncuentro(Encuentro.DESCANSO);// FIXME
-					sumarRestarPuntajeAcumuladoParticipante(encuentros.get(i), personalizacion.getPuntajeGanar(),
-							personalizacion.getPuntajePerder(), personalizacion.getPuntajeEmpatar());// FIXME
-				}
-			} else {
-				sumarRestarPuntajeAcumuladoParticipante(encuentros.get(i), (-1) * personalizacion.getPuntajeGanar(),
-						(-1) * personalizacion.getPuntajePerder(), (-1) * personalizacion.getPuntajeEmpatar());
-				if (validacionMarcadores) {
-
-					encuentros.get(i).setMarcadorParticipanteInicial(campoMarcadorInicial[i].getText());
-					encuentros.get(i).setMarcadorParticipanteFinal(campoMarcadorFinal[i].getText());
-					sumarRestarMarcadorParticipante(encuentros.get(i),
-							(-1) * (encuentros.get(i).getMarcadorParticipanteInicial()),
-							(-1) * (encuentros.get(i).getMarcadorParticipanteFinal()));
-
-					if (encuentros.get(i).getMarcadorParticipanteInicial() > encuentros.get(i)
-							.getMarcadorParticipanteFinal()) {
-						opcionGanadorInicial[i].setSelected(true);
-						encuentros.get(i).setResultadoEncuentro(Encuentro.GANADOR_INICIAL);
-					} else if (encuentros.get(i).getMarcadorParticipanteInicial() < encuentros.get(i)
-							.getMarcadorParticipanteFinal()) {
-						opcionGanadorFinal[i].setSelected(true);
-						encuentros.get(i).setResultadoEncuentro(Encuentro.GANADOR_FINAL);
-					} else if (opcionEmpate[i].isSelected()) {
-						encuentros.get(i).setResultadoEncuentro(Encuentro.EMPATE);
-					} else if (encuentros.get(i).getMarcadorParticipanteInicial() == encuentros.get(i)
-							.getMarcadorParticipanteFinal() && !opcionEmpate[i].isSelected()) {
-						encuentros.get(i).setResultadoEncuentro(Encuentro.SIN_JUGAR);
-					} else if (encuentros.get(i).getResultadoEncuentro() == Encuentro.DESCANSO) {
-						encuentros.get(i).setResultadoEncuentro(Encuentro.DESCANSO);
-					}
-					sumarRestarMarcadorParticipante(encuentros.get(i),
-							encuentros.get(i).getMarcadorParticipanteInicial(),
-							encuentros.get(i).getMarcadorParticipanteFinal());
-				} else {
-					if (opcionGanadorInicial[i].isSelected()) {
-						encuentros.get(i).setResultadoEncuentro(Encuentro.GANADOR_INICIAL);
-					} else if (opcionGanadorFinal[i].isSelected()) {
-						encuentros.get(i).setResultadoEncuentro(Encuentro.GANADOR_FINAL);
-					} else if (opcionEmpate[i].isSelected()) {
-						encuentros.get(i).setResultadoEncuentro(Encuentro.EMPATE);
-					} else {
-						encuentros.get(i).setResultadoEncuentro(Encuentro.SIN_JUGAR);
-					}
-				}
-				sumarRestarPuntajeAcumuladoParticipante(encuentros.get(i), personalizacion.getPuntajeGanar(),
-						personalizacion.getPuntajePerder(), personalizacion.getPuntajeEmpatar());
+			Encuentro encuentro = encuentros.get(i);
+			if (captura.esDescanso(encuentro)) {
+				continue;
 			}
-			bde.actualizarEncuentro(encuentros.get(i), ciclo);
-		}
-	}
-
-	/**
-	 * Actualiza el marcador a favor y el marcador en contra de los participantes de
-	 * un encuentro.
-	 * 
-	 * @param encuentro
-	 *            Recible el objeto <code>Encuentro</code> que contiene los datos un
-	 *            encuentro.
-	 * @param marcadorParticipanteInicial
-	 *            Recibe el marcador del participante inicial.
-	 * @param marcadorParticipanteFinal
-	 *            Recibe el marcador obtenido del participante final.
-	 */
-	private void sumarRestarMarcadorParticipante(Encuentro encuentro, int marcadorParticipanteInicial,
-			int marcadorParticipanteFinal) {
-		if (encuentro.getResultadoEncuentro() != Encuentro.DESCANSO) {
-			for (Participante p : participantes) {
-				if (encuentro.getIdParticipanteInicial() == p.getNumeroParticipante()) {
-					p.acumularMarcadorFavor(marcadorParticipanteInicial);
-					p.acumularMarcadorContra(marcadorParticipanteFinal);
-				}
-				if (encuentro.getIdParticipanteFinal() == p.getNumeroParticipante()) {
-					p.acumularMarcadorFavor(marcadorParticipanteFinal);
-					p.acumularMarcadorContra(marcadorParticipanteInicial);
-				}
+			int resultado = Encuentro.SIN_JUGAR;
+			if (opcionGanadorInicial[i].isSelected()) {
+				resultado = Encuentro.GANADOR_INICIAL;
+			} else if (opcionGanadorFinal[i].isSelected()) {
+				resultado = Encuentro.GANADOR_FINAL;
+			} else if (opcionEmpate[i].isSelected()) {
+				resultado = Encuentro.EMPATE;
 			}
-		}
-	}
-
-	/**
-	 * Actualiza el puntaje acumulado del participante .
-	 * 
-	 * @param encuentro
-	 *            Recible el objeto <code>Encuentro</code> que contiene los datos
-	 *            del encuentro.
-	 * @param puntajeGanar
-	 *            Recibe el valor del puntaje ganador.
-	 * @param puntajePerder
-	 *            Recibe el valor del puntaje perdedor.
-	 * @param puntajeEmpatar
-	 *            Recibe el valor del puntaje empate.
-	 */
-	private void sumarRestarPuntajeAcumuladoParticipante(Encuentro encuentro, float puntajeGanar, float puntajePerder,
-			float puntajeEmpatar) {
-		for (Participante p : participantes) {
-			if (encuentro.getIdParticipanteInicial() == p.getNumeroParticipante()) {
-				if (encuentro.getResultadoEncuentro() == Encuentro.GANADOR_INICIAL) {
-					p.acumularPuntajeAcumuladoParticipante(puntajeGanar);
-				} else if (encuentro.getResultadoEncuentro() == Encuentro.GANADOR_FINAL) {
-					p.acumularPuntajeAcumuladoParticipante(puntajePerder);
-				} else if (encuentro.getResultadoEncuentro() == Encuentro.EMPATE) {
-					p.acumularPuntajeAcumuladoParticipante(puntajeEmpatar);
-				} else {
-					p.acumularPuntajeAcumuladoParticipante(puntajePerder);
+			if (validacionMarcadores) {
+				int marcadorInicial = Encuentro.convertirMarcador(campoMarcadorInicial[i].getText());
+				int marcadorFinal = Encuentro.convertirMarcador(campoMarcadorFinal[i].getText());
+				if (marcadorInicial == marcadorFinal && resultado != Encuentro.EMPATE) {
+					resultado = Encuentro.SIN_JUGAR;
 				}
-			}
-			if (encuentro.getIdParticipanteFinal() == p.getNumeroParticipante()) {
+				captura.registrarResultado(encuentro, resultado, marcadorInicial, marcadorFinal);
 				if (encuentro.getResultadoEncuentro() == Encuentro.GANADOR_INICIAL) {
-					p.acumularPuntajeAcumuladoParticipante(puntajePerder);
+					opcionGanadorInicial[i].setSelected(true);
 				} else if (encuentro.getResultadoEncuentro() == Encuentro.GANADOR_FINAL) {
-					p.acumularPuntajeAcumuladoParticipante(puntajeGanar);
-				} else if (encuentro.getResultadoEncuentro() == Encuentro.EMPATE) {
-					p.acumularPuntajeAcumuladoParticipante(puntajeEmpatar);
-				} else {
-					p.acumularPuntajeAcumuladoParticipante(puntajePerder);
+					opcionGanadorFinal[i].setSelected(true);
 				}
+			} else {
+				captura.registrarResultado(encuentro, resultado);
 			}
 		}
+		captura.guardar();
 	}
-}
\ No newline at end of file
+}
@@ -5,7 +5,6 @@ import java.awt.event.*;
 import java.io.File;
 import java.text.DateFormat;
 import java.util.ArrayList;
-import java.util.Collections;
 import javax.swing.*;
 import javax.swing.border.Border;
 import javax.swing.filechooser.FileFilter;
@@ -18,6 +17,7 @@ import sigestor.dominio.*;
 import sigestor.excepcion.ExcepcionBaseDatos;
 import sigestor.excepcion.ExcepcionBaseDatosCiclo;
 import sigestor.excepcion.ExcepcionBaseDatosEncuentro;
+import sigestor.excepcion.ExcepcionBaseDatosParticipante;
 import sigestor.excepcion.ExcepcionBaseDatosTorneo;
 import sigestor.excepcion.ExcepcionCapturarResultados;
 import sigestor.excepcion.ExcepcionUtilerias;
@@ -73,7 +73,7 @@ import sigestor.excepcion.ExcepcionUtilerias;
  * <li><code>serialVersionUID</code> Para el nmero de versin de la clase.</li>
  * </ul>
  * 
- * @version 02/06/2023
+ * @version 18/10/2026
  * 
  * @author Jonathan Eduardo Ibarra Martinez
  * @author Jennifer Corts Prez
@@ -267,9 +267,8 @@ public class DialogoCiclo extends JDialog {
 		for (Participante l : this.torneo.getListaParticipantes())
 			sumar += l.getPuntajeAcumuladoParticipante();
 		if (sumar > 0) {
-			if (!Participante.isPuntajeAcumulado())
-				Participante.setPuntajeAcumulado(true);
-			Collections.sort(this.torneo.getListaParticipantes());
+			this.torneo.getOrdenParticipantes().setPorPuntajeAcumulado(true);
+			this.torneo.getOrdenParticipantes().ordenar(this.torneo.getListaParticipantes());
 		}
 
 		listaParticipantes = torneo.getListaParticipantes();
@@ -511,6 +510,27 @@ public class DialogoCiclo extends JDialog {
 				.put((KeyStroke) accionExportarRonda.getValue(Action.ACCELERATOR_KEY), "exportarRonda");
 		panelSur.add(botonExportar);
 
+		if (this.torneo.getAlgoritmoTorneo() instanceof TorneoEliminacionDirecta) {
+			Action accionExportarLlave = new AbstractAction("Exportar llave", new ImageIcon(imagenE)) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				public void actionPerformed(ActionEvent e) {
+					accionExportarLlave();
+				}
+			};
+			accionExportarLlave.putValue(Action.MNEMONIC_KEY, KeyEvent.VK_L);
+			accionExportarLlave.putValue(Action.ACCELERATOR_KEY,
+					KeyStroke.getKeyStroke(KeyEvent.VK_L, InputEvent.CTRL_DOWN_MASK));
+			accionExportarLlave.putValue(Action.SHORT_DESCRIPTION,
+					"Genera un archivo CSV con todas las partidas de la llave del torneo");
+			JButton botonExportarLlave = new JButton(accionExportarLlave);
+			botonExportarLlave.getActionMap().put("exportarLlave", accionExportarLlave);
+			botonExportarLlave.getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW)
+					.put((KeyStroke) accionExportarLlave.getValue(Action.ACCELERATOR_KEY), "exportarLlave");
+			panelSur.add(botonExportarLlave);
+		}
+
 		imagenF = new ImageIcon(getClass().getResource("/imagenes/guardar.png"));
 		imagenE = imagenF.getImage().getScaledInstance(20, 20, Image.SCALE_AREA_AVERAGING);
 		Action accionGuardar = new AbstractAction("Guardar fechas", new ImageIcon(imagenE)) {
@@ -633,12 +653,7 @@ public class DialogoCiclo extends JDialog {
 	 * @return Devuelve el nombre del participante solicitado.
 	 */
 	private Participante obtenerParticipante(int numeroParticipante) {
-		for (Participante p : this.torneo.getListaParticipantes()) {
-			if (p.getNumeroParticipante() == numeroParticipante) {
-				return p;
-			}
-		}
-		return null;
+		return this.torneo.obtenerParticipante(numeroParticipante);
 	}
 
 	/**
@@ -919,17 +934,21 @@ public class DialogoCiclo extends JDialog {
 				ts.desempatarParticipantes();
 				try {
 					ts.realizarEncuentros();
+					JOptionPane.showMessageDialog(null,
+							"El(la) " + torneo.getDatosPersonalizacion().getNombreCiclo(Personalizacion.MAYUSCULA_SINGULAR)
+									+ " se ha realizado exitosamente.",
+							"Encuentros", JOptionPane.INFORMATION_MESSAGE);
 				} catch (ExcepcionBaseDatos e) {
 					JOptionPane.showMessageDialog(null, e.getMessage(), "Ciclos", JOptionPane.ERROR_MESSAGE);
 				} catch (ExcepcionBaseDatosEncuentro e) {
 					JOptionPane.showMessageDialog(null, e.getMessage(), "Ciclos", JOptionPane.ERROR_MESSAGE);
 				} catch (ExcepcionBaseDatosCiclo e) {
 					JOptionPane.showMessageDialog(null, e.getMessage(), "Ciclos", JOptionPane.ERROR_MESSAGE);
+				} catch (ExcepcionBaseDatosParticipante e) {
+					JOptionPane.showMessageDialog(null, e.getMessage(), "Ciclos", JOptionPane.ERROR_MESSAGE);
+				} catch (ExcepcionCapturarResultados e) {
+					JOptionPane.showMessageDialog(null, e.getMessage(), "Ciclos", JOptionPane.ERROR_MESSAGE);
 				}
-				JOptionPane.showMessageDialog(null,
-						"El(la) " + torneo.getDatosPersonalizacion().getNombreCiclo(Personalizacion.MAYUSCULA_SINGULAR)
-								+ " se ha realizado exitosamente.",
-						"Encuentros", JOptionPane.INFORMATION_MESSAGE);
 			} else {
 				JOptionPane.showMessageDialog(null,
 						"El sistema no ha podido realizar "
@@ -948,6 +967,10 @@ public class DialogoCiclo extends JDialog {
 				
 				try {
 					ted.realizarEncuentros();
+					JOptionPane.showMessageDialog(null,
+							"El(la) " + torneo.getDatosPersonalizacion().getNombreCiclo(Personalizacion.MAYUSCULA_SINGULAR)
+									+ " se ha realizado exitosamente.",
+							"Encuentros", JOptionPane.INFORMATION_MESSAGE);
 				} catch (ExcepcionBaseDatos e) {
 					JOptionPane.showMessageDialog(null, e.getMessage(), "Ciclos", JOptionPane.ERROR_MESSAGE);
 				} catch (ExcepcionBaseDatosEncuentro e) {
@@ -958,11 +981,9 @@ public class DialogoCiclo extends JDialog {
 					JOptionPane.showMessageDialog(null, e.getMessage(), "Ciclos", JOptionPane.ERROR_MESSAGE);
 				} catch (ExcepcionCapturarResultados e) {
 					JOptionPane.showMessageDialog(null, e.getMessage(), "Ciclos", JOptionPane.ERROR_MESSAGE);
+				} catch (ExcepcionBaseDatosParticipante e) {
+					JOptionPane.showMessageDialog(null, e.getMessage(), "Ciclos", JOptionPane.ERROR_MESSAGE);
 				}
-				JOptionPane.showMessageDialog(null,
-						"El(la) " + torneo.getDatosPersonalizacion().getNombreCiclo(Personalizacion.MAYUSCULA_SINGULAR)
-								+ " se ha realizado exitosamente.",
-						"Encuentros", JOptionPane.INFORMATION_MESSAGE);
 			} else {
 				JOptionPane.showMessageDialog(null,
 						"El sistema no ha podido realizar "
@@ -978,13 +999,16 @@ public class DialogoCiclo extends JDialog {
 
 		else {
 			if (this.torneo.getCicloActual() < this.torneo.getAlgoritmoTorneo().getNumeroCiclos()) {
-				this.torneo.setCicloActual(torneo.getCicloActual() + 1);
-				this.torneo.getAlgoritmoTorneo().actualizarCiclo(this.torneo.getNombreArchivo());
-				this.setCicloSeleccionado(this.torneo.getCicloActual() + 1);
-				JOptionPane.showMessageDialog(null,
-						"Se ha pasado a la siguiente " + torneo.getDatosPersonalizacion().getNombreCiclo(Personalizacion.MINUSCULA_SINGULAR)
-								+ ".",
-						"Encuentros", JOptionPane.INFORMATION_MESSAGE);
+				try {
+					this.torneo.getAlgoritmoTorneo().avanzarCiclo(this.torneo.getNombreArchivo());
+					this.setCicloSeleccionado(this.torneo.getCicloActual() + 1);
+					JOptionPane.showMessageDialog(null,
+							"Se ha pasado a la siguiente " + torneo.getDatosPersonalizacion().getNombreCiclo(Personalizacion.MINUSCULA_SINGULAR)
+									+ ".",
+							"Encuentros", JOptionPane.INFORMATION_MESSAGE);
+				} catch (ExcepcionBaseDatos | ExcepcionBaseDatosTorneo e) {
+					JOptionPane.showMessageDialog(null, e.getMessage(), "Ciclos", JOptionPane.ERROR_MESSAGE);
+				}
 			}
 		}
 
@@ -1006,6 +1030,44 @@ public class DialogoCiclo extends JDialog {
 	 * Permite exportar en un archivo CSV los encuentros que contiene un ciclo.
 	 */
 	private void accionExportarRonda() {
+		File archivo = seleccionarArchivoCsv();
+		if (archivo != null) {
+			try {
+				this.torneo.getAlgoritmoTorneo().generarReporteCiclo(archivo, comboSeleccionarCiclo.getSelectedIndex());
+				JOptionPane.showMessageDialog(
+						null, "El archivo se ha guardado exitosamente.", "Generar reporte de " + this.torneo
+								.getDatosPersonalizacion().getNombreCiclo(Personalizacion.MAYUSCULA_SINGULAR),
+						JOptionPane.INFORMATION_MESSAGE);
+			} catch (ExcepcionUtilerias e) {
+				JOptionPane.showMessageDialog(null, e.getMessage(), "Advertencia", JOptionPane.ERROR_MESSAGE);
+			}
+		}
+	}
+
+	/**
+	 * Permite exportar en un archivo CSV todas las partidas de la llave del
+	 * torneo Eliminacin directa.
+	 */
+	private void accionExportarLlave() {
+		File archivo = seleccionarArchivoCsv();
+		if (archivo != null) {
+			try {
+				((TorneoEliminacionDirecta) this.torneo.getAlgoritmoTorneo()).generarReporteLlave(archivo);
+				JOptionPane.showMessageDialog(null, "El archivo se ha guardado exitosamente.",
+						"Generar reporte de la llave", JOptionPane.INFORMATION_MESSAGE);
+			} catch (ExcepcionUtilerias | ExcepcionBaseDatos | ExcepcionBaseDatosTorneo e) {
+				JOptionPane.showMessageDialog(null, e.getMessage(), "Advertencia", JOptionPane.ERROR_MESSAGE);
+			}
+		}
+	}
+
+	/**
+	 * Muestra el dilogo para elegir el archivo CSV donde se guardar un
+	 * reporte y, si ya existe, pide confirmar que se reemplace.
+	 * 
+	 * @return El archivo elegido, <code>null</code> si se cancel.
+	 */
+	private File seleccionarArchivoCsv() {
 		Object[] opciones = { "S", "No" };
 		JFileChooser dialogo = new JFileChooser();
 		File archivo = null;
@@ -1027,19 +1089,11 @@ public class DialogoCiclo extends JDialog {
 						archivo.getName() + " ya existe.\n Desea reemplazarlo?", "Confirmar Descargar plantilla",
 						JOptionPane.DEFAULT_OPTION, JOptionPane.WARNING_MESSAGE, null, opciones, opciones[1]);
 				if (respuesta1 != 0) {
-					return;
+					return null;
 				}
 			}
-			try {
-				this.torneo.getAlgoritmoTorneo().generarReporteCiclo(archivo, comboSeleccionarCiclo.getSelectedIndex());
-				JOptionPane.showMessageDialog(
-						null, "El archivo se ha guardado exitosamente.", "Generar reporte de " + this.torneo
-								.getDatosPersonalizacion().getNombreCiclo(Personalizacion.MAYUSCULA_SINGULAR),
-						JOptionPane.INFORMATION_MESSAGE);
-			} catch (ExcepcionUtilerias e) {
-				JOptionPane.showMessageDialog(null, e.getMessage(), "Advertencia", JOptionPane.ERROR_MESSAGE);
-			}
 		}
+		return archivo;
 	}
 
 	/**
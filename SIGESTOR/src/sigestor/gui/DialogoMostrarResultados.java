@@ -84,7 +84,7 @@ import java.util.Date;
  * flechas de los encuentros.</li>
  * </ul>
  * 
- * @version 02/06/2023
+ * @version 18/10/2026
  * 
  * @author Jonathan Eduardo Ibarra Martnez
  * @author Alicia Adriana Clemente Hernandez
@@ -807,12 +807,7 @@ public class DialogoMostrarResultados extends JDialog {
 	 * @return Retorna al participante.
 	 */
 	private Participante obtenerParticipante(int numeroParticipante) {
-		for (Participante p : participantes) {
-			if (p.getNumeroParticipante() == numeroParticipante) {
-				return p;
-			}
-		}
-		return null;
+		return torneo.obtenerParticipante(numeroParticipante);
 	}
 
 	/**
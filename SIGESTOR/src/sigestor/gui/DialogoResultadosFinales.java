@@ -10,6 +10,10 @@ import sigestor.dominio.Personalizacion;
 import sigestor.dominio.TorneoEliminacionDirecta;
 import sigestor.dominio.TorneoRoundRobin;
 import sigestor.dominio.TorneoSuizo;
+import sigestor.excepcion.ExcepcionBaseDatos;
+import sigestor.excepcion.ExcepcionBaseDatosCiclo;
+import sigestor.excepcion.ExcepcionBaseDatosEncuentro;
+import sigestor.excepcion.ExcepcionBaseDatosParticipante;
 import sigestor.excepcion.ExcepcionUtilerias;
 import java.awt.event.ActionEvent;
 import java.awt.event.InputEvent;
@@ -155,7 +159,12 @@ public class DialogoResultadosFinales extends JDialog {
 			tr.desempatarParticipantes();
 		}
 
-		principal.getTorneoActual().getAlgoritmoTorneo().asignarLugarParticipante();
+		try {
+			principal.getTorneoActual().getAlgoritmoTorneo().asignarLugarParticipante();
+		} catch (ExcepcionBaseDatos | ExcepcionBaseDatosCiclo | ExcepcionBaseDatosEncuentro
+				| ExcepcionBaseDatosParticipante e) {
+			JOptionPane.showMessageDialog(null, e.getMessage(), "Resultados finales", JOptionPane.ERROR_MESSAGE);
+		}
 		listaParticipantes = ventanaPrincipal.getTorneoActual().getListaParticipantes();
 
 		JLabel etiquetaTitulo = new JLabel("Reporte de resultados finales del torneo");
@@ -11,7 +11,6 @@ import java.awt.event.InputEvent;
 import java.awt.event.KeyEvent;
 import java.io.File;
 import java.util.ArrayList;
-import java.util.Collections;
 import javax.swing.AbstractAction;
 import javax.swing.Action;
 import javax.swing.BoxLayout;
@@ -34,6 +33,7 @@ import javax.swing.KeyStroke;
 import javax.swing.SpinnerNumberModel;
 import javax.swing.filechooser.FileFilter;
 import javax.swing.filechooser.FileNameExtensionFilter;
+import sigestor.dominio.OrdenParticipantes;
 import sigestor.dominio.Participante;
 import sigestor.excepcion.ExcepcionUtilerias;
 import sigestor.utilerias.UtileriasListaParticipantes;
@@ -65,7 +65,7 @@ import sigestor.utilerias.UtileriasListaParticipantes;
  * <code>VentanaPrincipal</code>.</li>
  * </ul>
  * 
- * @version articipante
+ * @version 18/10/2026articipante
  * 
  * @author Ricky Didier Peralta Reyes
  * @author Uriel Romeo Cruz Cortes
@@ -303,14 +303,15 @@ public class PanelAdministrarParticipantes extends JPanel {
 		panelAux.add(panelAux3);
 
 		panelAux3 = new JPanel();
-		checkPuntaje = new JCheckBox("Por puntaje", Participante.isPuntaje());
+		OrdenParticipantes ordenParticipantes = obtenerOrdenParticipantes();
+		checkPuntaje = new JCheckBox("Por puntaje", ordenParticipantes.isPorPuntaje());
 		checkPuntaje.setToolTipText("Ordena a los participantes por puntaje");
 
 		panelAux3.add(checkPuntaje);
 		panelAux.add(panelAux3);
 		boolean aleatorio = false, alfabetico = false;
 
-		if (Participante.isOrden()) {
+		if (ordenParticipantes.isAlfabetico()) {
 			alfabetico = true;
 		} else {
 			aleatorio = true;
@@ -548,8 +549,9 @@ public class PanelAdministrarParticipantes extends JPanel {
 		if (!this.opcionAleatorio.isSelected()) {
 			ordenacion = true;
 		}
-		Participante.setPuntaje(this.checkPuntaje.isSelected());
-		Participante.setOrden(ordenacion);
+		OrdenParticipantes ordenParticipantes = ventanaPrincipal.getTorneoActual().getOrdenParticipantes();
+		ordenParticipantes.setPorPuntaje(this.checkPuntaje.isSelected());
+		ordenParticipantes.setAlfabetico(ordenacion);
 
 		for (int i = 0; i < listaDeParticipantes.size() - 1; i++) {
 			if (listaDeParticipantes.get(i).getNombreParticipante().compareToIgnoreCase(this.ventanaPrincipal
@@ -572,10 +574,23 @@ public class PanelAdministrarParticipantes extends JPanel {
 			listaDeParticipantes.get(i).setNumeroParticipante(i + 1);
 		}
 
-		Collections.sort(listaDeParticipantes);
+		ordenParticipantes.ordenar(listaDeParticipantes);
 		ventanaPrincipal.getTorneoActual().setListaParticipantes(listaDeParticipantes);
 	}
 
+	/**
+	 * Obtiene el orden de los participantes del torneo actual, si no hay un
+	 * torneo abierto regresa el orden predeterminado.
+	 * 
+	 * @return Regresa el orden de los participantes.
+	 */
+	private OrdenParticipantes obtenerOrdenParticipantes() {
+		if (ventanaPrincipal.getTorneoActual() != null) {
+			return ventanaPrincipal.getTorneoActual().getOrdenParticipantes();
+		}
+		return new OrdenParticipantes();
+	}
+
 	/**
 	 * Consiste en mostrar el panel.
 	 */
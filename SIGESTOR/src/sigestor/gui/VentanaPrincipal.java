@@ -5,6 +5,7 @@ import java.awt.event.*;
 import java.io.File;
 import javax.swing.*;
 import javax.swing.filechooser.*;
+import sigestor.bd.SesionBaseDatos;
 import sigestor.dominio.*;
 import sigestor.excepcion.*;
 
@@ -70,7 +71,7 @@ import sigestor.excepcion.*;
  * <li><code>serialVersionUID</code> Para el nmero de versin de la clase.</li>
  * </ul>
  * 
- * @version 02/06/2023
+ * @version 18/10/2026
  * 
  * @author Jonathan Eduardo Ibarra Martnez
  * @author Ricky Didier Peralta Reyes
@@ -524,6 +525,7 @@ public class VentanaPrincipal extends JFrame implements ActionListener {
 	 * Encargado de salir del sistema.
 	 */
 	private void accionSalir() {
+		SesionBaseDatos.cerrarSesiones();
 		System.exit(0);
 	}
 
@@ -543,8 +545,6 @@ public class VentanaPrincipal extends JFrame implements ActionListener {
 					valores2[1]);
 			if (opcion2 == 0) {
 				try {
-					Participante.setPuntajeAcumulado(false);
-
 					getTorneoActual().cancelarTorneo();
 				} catch (ExcepcionBaseDatos e) {
 					JOptionPane.showMessageDialog(null, e.getMessage(), "Cancelar torneo", JOptionPane.ERROR_MESSAGE);
@@ -586,6 +586,11 @@ public class VentanaPrincipal extends JFrame implements ActionListener {
 	 * al nombre que se tena en el torneo que estaba abierto.
 	 */
 	private void accionCerrarTorneo() {
+		try {
+			getTorneoActual().cerrarTorneo();
+		} catch (ExcepcionBaseDatos e) {
+			JOptionPane.showMessageDialog(null, e.getMessage(), "Cerrar torneo", JOptionPane.ERROR_MESSAGE);
+		}
 		setTorneoActual(null);
 		submenuCerrarTorneo.setEnabled(false);
 		menuOperaciones.setEnabled(false);
@@ -883,10 +888,18 @@ public class VentanaPrincipal extends JFrame implements ActionListener {
 				spinner.setPreferredSize(new Dimension(80, 20));
 				panelAux.add(spinner);
 				contenido.add(panelAux);
+				JLabel textoEmparejamiento = new JLabel("Seleccione el sistema de emparejamiento:");
+				contenido.add(textoEmparejamiento);
+				String[] arregloEmparejamiento = { TorneoSuizo.EMPAREJAMIENTO_PESO_MAXIMO,
+						TorneoSuizo.EMPAREJAMIENTO_HOLANDES_SIN_FLOTANTES };
+				JComboBox<String> comboEmparejamiento = new JComboBox<String>(arregloEmparejamiento);
+				comboEmparejamiento.setPreferredSize(new Dimension(180, 30));
+				contenido.add(comboEmparejamiento);
 				int seleccionCiclo = JOptionPane.showOptionDialog(null, contenido, "Iniciar torneo",
 						JOptionPane.OK_CANCEL_OPTION, JOptionPane.QUESTION_MESSAGE, null, null, null);
 				if (seleccionCiclo == 0) {
 					suizo.setNumeroCiclos((int) spinner.getValue());
+					suizo.setSistemaEmparejamiento((String) comboEmparejamiento.getSelectedItem());
 					try {
 						try {
 							getTorneoActual().iniciarTorneo(null, suizo, null);
@@ -928,6 +941,8 @@ public class VentanaPrincipal extends JFrame implements ActionListener {
 				comboTipoTorneo = new JComboBox<String>(arregloTipoTorneo);
 				comboTipoTorneo.setPreferredSize(new Dimension(100, 30));
 				contenidoMensaje.add(comboTipoTorneo);
+				JCheckBox casillaReinicio = new JCheckBox("Jugar final de reinicio (solo doble)");
+				contenidoMensaje.add(casillaReinicio);
 				int resultado = JOptionPane.showOptionDialog(null, contenidoMensaje, "Iniciar torneo",
 						JOptionPane.OK_CANCEL_OPTION, JOptionPane.QUESTION_MESSAGE, null, null, null);
 				if (resultado == JOptionPane.OK_OPTION) {
@@ -935,6 +950,7 @@ public class VentanaPrincipal extends JFrame implements ActionListener {
 						eliminacionDirecta.setTipoEliminacion(true);
 					} else {
 						eliminacionDirecta.setTipoEliminacion(false);
+						eliminacionDirecta.setReinicioFinal(casillaReinicio.isSelected());
 					}
 					eliminacionDirecta.setNumeroCiclos(
 							eliminacionDirecta.calcularNumeroCiclos(getTorneoActual().getListaParticipantes().size()));
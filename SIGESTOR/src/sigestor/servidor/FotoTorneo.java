@@ -0,0 +1,94 @@
+package sigestor.servidor;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sirve para guardar una vista inmutable de un torneo con las respuestas de
+ * consulta ya generadas. El escritor del torneo crea una nueva foto despus de
+ * cada cambio y la publica completa, de modo que las consultas la leen sin
+ * candados y sin tocar el torneo ni la base de datos.
+ * <p>
+ * Las caractersticas de la clase <code>FotoTorneo</code> son:
+ * <ul>
+ * <li><code>datos</code> para guardar los datos generales del torneo.</li>
+ * <li><code>pareos</code> para guardar los encuentros de cada ciclo de acuerdo
+ * a su nmero.</li>
+ * <li><code>posiciones</code> para guardar la tabla de posiciones.</li>
+ * </ul>
+ *
+ * @version 18/10/2026
+ */
+class FotoTorneo {
+
+	/**
+	 * Datos generales del torneo como objeto JSON.
+	 */
+	private final String datos;
+	/**
+	 * Encuentros de cada ciclo como objeto JSON de acuerdo al nmero del ciclo.
+	 */
+	private final Map<Integer, String> pareos;
+	/**
+	 * Tabla de posiciones como arreglo JSON.
+	 */
+	private final String posiciones;
+
+	/**
+	 * Permite crear la foto con las respuestas recibidas. Los encuentros se
+	 * copian, por lo que el mapa recibido se puede seguir modificando.
+	 *
+	 * @param datos
+	 *            Recibe los datos generales del torneo.
+	 * @param pareos
+	 *            Recibe los encuentros de cada ciclo de acuerdo a su nmero.
+	 * @param posiciones
+	 *            Recibe la tabla de posiciones.
+	 */
+	FotoTorneo(String datos, Map<Integer, String> pareos, String posiciones) {
+		this.datos = datos;
+		this.pareos = Collections.unmodifiableMap(new HashMap<Integer, String>(pareos));
+		this.posiciones = posiciones;
+	}
+
+	/**
+	 * Obtiene los datos generales del torneo.
+	 *
+	 * @return Regresa el objeto JSON de los datos.
+	 */
+	String getDatos() {
+		return datos;
+	}
+
+	/**
+	 * Obtiene los encuentros de todos los ciclos.
+	 *
+	 * @return Regresa el mapa inmutable de encuentros de acuerdo al nmero del
+	 *         ciclo.
+	 */
+	Map<Integer, String> getPareos() {
+		return pareos;
+	}
+
+	/**
+	 * Obtiene los encuentros de un ciclo.
+	 *
+	 * @param numeroCiclo
+	 *            Recibe el nmero del ciclo.
+	 * @return Regresa el objeto JSON de los encuentros, <code>null</code> si el
+	 *         ciclo no existe.
+	 */
+	String getPareos(int numeroCiclo) {
+		return pareos.get(numeroCiclo);
+	}
+
+	/**
+	 * Obtiene la tabla de posiciones.
+	 *
+	 * @return Regresa el arreglo JSON de posiciones.
+	 */
+	String getPosiciones() {
+		return posiciones;
+	}
+}
@@ -0,0 +1,28 @@
+package sigestor.servidor;
+
+/**
+ * Sirve para recibir la respuesta de un cambio encolado en el escritor de un
+ * <code>TorneoCompartido</code>. El escritor llama a uno solo de sus mtodos
+ * cuando termina el cambio, de modo que el hilo que atendi la solicitud no
+ * tiene que esperarlo.
+ *
+ * @version 18/10/2026
+ */
+public interface ReceptorRespuesta {
+
+	/**
+	 * Recibe la respuesta del cambio que termin sin errores.
+	 *
+	 * @param respuesta
+	 *            Recibe la respuesta en JSON.
+	 */
+	void responder(String respuesta);
+
+	/**
+	 * Recibe la excepcin del cambio que no se pudo realizar.
+	 *
+	 * @param excepcion
+	 *            Recibe la excepcin que lanz el cambio.
+	 */
+	void fallar(Exception excepcion);
+}
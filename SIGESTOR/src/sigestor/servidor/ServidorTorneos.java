@@ -0,0 +1,480 @@
+package sigestor.servidor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import sigestor.dominio.Torneo;
+import sigestor.excepcion.ExcepcionCapturarResultados;
+import sigestor.excepcion.ExcepcionServidor;
+import sigestor.utilerias.UtileriasListaResultados;
+
+/**
+ * Sirve para atender por HTTP a varios capturistas de resultados al mismo
+ * tiempo. El servidor escucha solo en la direccin local y responde en JSON a
+ * las rutas:
+ * <ul>
+ * <li><code>GET /torneos</code> los torneos que atiende el servidor.</li>
+ * <li><code>GET /torneos/{id}</code> los datos de un torneo.</li>
+ * <li><code>POST /torneos/{id}/ciclos</code> realiza el siguiente ciclo.</li>
+ * <li><code>GET /torneos/{id}/ciclos/{n}</code> los encuentros de un
+ * ciclo.</li>
+ * <li><code>POST /torneos/{id}/ciclos/{n}/encuentros/{m}</code> registra el
+ * resultado de un encuentro. El cuerpo es un formulario con
+ * <code>resultado</code> (<code>Inicial</code>, <code>Final</code>,
+ * <code>Empate</code> o <code>Sin jugar</code>) y, de manera opcional,
+ * <code>marcadorInicial</code> y <code>marcadorFinal</code>.</li>
+ * <li><code>GET /torneos/{id}/posiciones</code> la tabla de posiciones.</li>
+ * </ul>
+ * El identificador de un torneo es el nombre de su archivo sin la extensin.
+ * Las solicitudes se atienden en un nmero fijo de hilos y ninguno espera a la
+ * base de datos. Las consultas se responden con la ltima foto del torneo; los
+ * cambios se encolan en el escritor de cada torneo en
+ * <code>TorneoCompartido</code> y el hilo queda libre en ese momento. Cuando el
+ * escritor termina, la respuesta del cambio se enva en otro hilo de
+ * solicitudes, de modo que una rfaga de cambios no deja sin hilos a las
+ * consultas.
+ * <p>
+ * Las caractersticas de la clase <code>ServidorTorneos</code> son:
+ * <ul>
+ * <li><code>puerto</code> para guardar el puerto en el que escucha el
+ * servidor.</li>
+ * <li><code>torneos</code> para guardar los torneos que atiende el servidor
+ * de acuerdo a su identificador.</li>
+ * <li><code>servidor</code> para guardar el servidor HTTP.</li>
+ * <li><code>ejecutor</code> para guardar los hilos que atienden las
+ * solicitudes.</li>
+ * <li><code>detenido</code> para avisar que el servidor se detuvo.</li>
+ * </ul>
+ *
+ * @version 18/10/2026
+ */
+public class ServidorTorneos {
+
+	/**
+	 * Segundos que espera el servidor a que terminen las solicitudes en curso
+	 * al detenerse.
+	 */
+	private static final int ESPERA_DETENER = 2;
+	/**
+	 * Nmero de hilos que atienden las solicitudes.
+	 */
+	private static final int HILOS_SOLICITUDES = Math.max(16, 4 * Runtime.getRuntime().availableProcessors());
+	/**
+	 * Nmero de conexiones que pueden esperar a ser aceptadas.
+	 */
+	private static final int CONEXIONES_EN_ESPERA = 1024;
+
+	/**
+	 * Puerto en el que escucha el servidor.
+	 */
+	private int puerto;
+	/**
+	 * Torneos que atiende el servidor de acuerdo a su identificador.
+	 */
+	private LinkedHashMap<String, TorneoCompartido> torneos;
+	/**
+	 * Servidor HTTP.
+	 */
+	private HttpServer servidor;
+	/**
+	 * Hilos que atienden las solicitudes.
+	 */
+	private ExecutorService ejecutor;
+	/**
+	 * Avisa que el servidor se detuvo.
+	 */
+	private CountDownLatch detenido;
+
+	/**
+	 * Permite crear el servidor sin torneos.
+	 *
+	 * @param puerto
+	 *            Recibe el puerto en el que escuchar el servidor.
+	 */
+	public ServidorTorneos(int puerto) {
+		this.puerto = puerto;
+		this.torneos = new LinkedHashMap<String, TorneoCompartido>();
+		this.detenido = new CountDownLatch(1);
+	}
+
+	/**
+	 * Agrega un torneo ya recuperado de la base de datos. Se debe llamar antes
+	 * de iniciar el servidor.
+	 *
+	 * @param torneo
+	 *            Recibe el torneo.
+	 * @return Regresa el identificador del torneo en las rutas.
+	 * @throws ExcepcionServidor
+	 *             Lanza la excepcin si ya existe un torneo con el mismo
+	 *             identificador.
+	 */
+	public String agregarTorneo(Torneo torneo) throws ExcepcionServidor {
+		String id = new File(torneo.getNombreArchivo()).getName();
+		if (id.toLowerCase().endsWith(".torn")) {
+			id = id.substring(0, id.length() - ".torn".length());
+		}
+		if (torneos.containsKey(id)) {
+			throw new ExcepcionServidor(ExcepcionServidor.MENSAJE_EXCEPCION_TORNEO_REPETIDO + id, 500);
+		}
+		torneos.put(id, new TorneoCompartido(id, torneo));
+		return id;
+	}
+
+	/**
+	 * Abre el puerto y comienza a atender solicitudes.
+	 *
+	 * @throws ExcepcionServidor
+	 *             Lanza la excepcin si no se pudo abrir el puerto.
+	 */
+	public void iniciar() throws ExcepcionServidor {
+		try {
+			servidor = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), puerto),
+					CONEXIONES_EN_ESPERA);
+		} catch (IOException e) {
+			throw new ExcepcionServidor(ExcepcionServidor.MENSAJE_EXCEPCION_INICIAR_SERVIDOR, 500);
+		}
+		ejecutor = Executors.newFixedThreadPool(HILOS_SOLICITUDES);
+		servidor.setExecutor(ejecutor);
+		servidor.createContext("/", new HttpHandler() {
+			@Override
+			public void handle(HttpExchange intercambio) throws IOException {
+				atender(intercambio);
+			}
+		});
+		servidor.start();
+	}
+
+	/**
+	 * Obtiene el puerto en el que escucha el servidor, que puede ser distinto
+	 * al recibido si este fue cero.
+	 *
+	 * @return Regresa el puerto.
+	 */
+	public int getPuerto() {
+		return servidor != null ? servidor.getAddress().getPort() : puerto;
+	}
+
+	/**
+	 * Deja de atender solicitudes, espera a que los escritores de los torneos
+	 * terminen los cambios encolados y avisa a quien espera en
+	 * <code>esperar</code>.
+	 */
+	public void detener() {
+		if (servidor != null) {
+			servidor.stop(ESPERA_DETENER);
+		}
+		try {
+			for (TorneoCompartido torneo : torneos.values()) {
+				torneo.detener();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (ejecutor != null) {
+			ejecutor.shutdown();
+		}
+		detenido.countDown();
+	}
+
+	/**
+	 * Espera hasta que el servidor se detenga.
+	 *
+	 * @throws InterruptedException
+	 *             Lanza la excepcin si se interrumpe el hilo que espera.
+	 */
+	public void esperar() throws InterruptedException {
+		detenido.await();
+	}
+
+	/**
+	 * Obtiene el torneo compartido de acuerdo a su identificador.
+	 *
+	 * @param id
+	 *            Recibe el identificador del torneo en las rutas.
+	 * @return Regresa el torneo o <code>null</code> si no existe.
+	 */
+	TorneoCompartido obtenerTorneo(String id) {
+		return torneos.get(id);
+	}
+
+	/**
+	 * Atiende una solicitud. Las consultas se responden en el mismo hilo; los
+	 * cambios se encolan y su respuesta la enva el receptor del intercambio.
+	 *
+	 * @param intercambio
+	 *            Recibe la solicitud.
+	 * @throws IOException
+	 *             Lanza la excepcin si no se pudo escribir la respuesta.
+	 */
+	private void atender(HttpExchange intercambio) throws IOException {
+		String respuesta;
+		try {
+			respuesta = responder(intercambio);
+		} catch (Exception e) {
+			enviarError(intercambio, e);
+			return;
+		}
+		if (respuesta != null) {
+			enviar(intercambio, 200, respuesta);
+		}
+	}
+
+	/**
+	 * Crea el receptor que enva la respuesta de un cambio encolado. El
+	 * escritor del torneo solo entrega la respuesta y el envo se realiza en
+	 * los hilos de solicitudes, de modo que un cliente lento no detiene al
+	 * escritor.
+	 *
+	 * @param intercambio
+	 *            Recibe la solicitud del cambio.
+	 * @return Regresa el receptor de la respuesta.
+	 */
+	private ReceptorRespuesta crearReceptor(final HttpExchange intercambio) {
+		return new ReceptorRespuesta() {
+			@Override
+			public void responder(final String respuesta) {
+				despachar(intercambio, new Runnable() {
+					@Override
+					public void run() {
+						try {
+							enviar(intercambio, 200, respuesta);
+						} catch (IOException e) {
+							intercambio.close();
+						}
+					}
+				});
+			}
+
+			@Override
+			public void fallar(final Exception excepcion) {
+				despachar(intercambio, new Runnable() {
+					@Override
+					public void run() {
+						try {
+							enviarError(intercambio, excepcion);
+						} catch (IOException e) {
+							intercambio.close();
+						}
+					}
+				});
+			}
+		};
+	}
+
+	/**
+	 * Ejecuta el envo de una respuesta en los hilos de solicitudes. Si el
+	 * servidor ya se detuvo, cierra el intercambio sin responder.
+	 *
+	 * @param intercambio
+	 *            Recibe la solicitud.
+	 * @param envio
+	 *            Recibe el envo de la respuesta.
+	 */
+	private void despachar(HttpExchange intercambio, Runnable envio) {
+		try {
+			ejecutor.execute(envio);
+		} catch (RejectedExecutionException e) {
+			intercambio.close();
+		}
+	}
+
+	/**
+	 * Responde con el mensaje de error de la excepcin recibida.
+	 *
+	 * @param intercambio
+	 *            Recibe la solicitud.
+	 * @param excepcion
+	 *            Recibe la excepcin que impidi responder.
+	 * @throws IOException
+	 *             Lanza la excepcin si no se pudo escribir la respuesta.
+	 */
+	private static void enviarError(HttpExchange intercambio, Exception excepcion) throws IOException {
+		int codigoEstado = 500;
+		if (excepcion instanceof ExcepcionServidor) {
+			codigoEstado = ((ExcepcionServidor) excepcion).getCodigoEstado();
+		} else if (excepcion instanceof ExcepcionCapturarResultados) {
+			codigoEstado = 400;
+		}
+		enviar(intercambio, codigoEstado,
+				"{\"error\":" + TorneoCompartido.textoJson(excepcion.getMessage()) + "}");
+	}
+
+	/**
+	 * Escribe la respuesta y cierra el intercambio.
+	 *
+	 * @param intercambio
+	 *            Recibe la solicitud.
+	 * @param codigoEstado
+	 *            Recibe el cdigo de estado HTTP.
+	 * @param respuesta
+	 *            Recibe la respuesta en JSON.
+	 * @throws IOException
+	 *             Lanza la excepcin si no se pudo escribir la respuesta.
+	 */
+	private static void enviar(HttpExchange intercambio, int codigoEstado, String respuesta) throws IOException {
+		byte[] cuerpo = respuesta.getBytes("UTF-8");
+		intercambio.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+		intercambio.sendResponseHeaders(codigoEstado, cuerpo.length);
+		OutputStream salida = intercambio.getResponseBody();
+		try {
+			salida.write(cuerpo);
+		} finally {
+			salida.close();
+		}
+	}
+
+	/**
+	 * Obtiene la respuesta de la ruta solicitada o encola el cambio que
+	 * solicita.
+	 *
+	 * @param intercambio
+	 *            Recibe la solicitud.
+	 * @return Regresa la respuesta en JSON de una consulta, o <code>null</code>
+	 *         si se encol un cambio cuya respuesta enviar su receptor.
+	 * @throws Exception
+	 *             Lanza la excepcin si la ruta no existe, si los datos no son
+	 *             vlidos o si el escritor del torneo ya se detuvo.
+	 */
+	private String responder(HttpExchange intercambio) throws Exception {
+		String metodo = intercambio.getRequestMethod();
+		String ruta = intercambio.getRequestURI().getPath();
+		String[] partes = ruta.replaceAll("^/+|/+$", "").split("/+");
+		if (partes.length == 0 || !partes[0].equals("torneos")) {
+			throw new ExcepcionServidor(ExcepcionServidor.MENSAJE_EXCEPCION_RUTA_INEXISTENTE, 404);
+		}
+		if (partes.length == 1) {
+			verificarMetodo(metodo, "GET");
+			StringBuilder json = new StringBuilder("[");
+			for (TorneoCompartido torneo : torneos.values()) {
+				if (json.length() > 1) {
+					json.append(',');
+				}
+				json.append(torneo.obtenerDatos());
+			}
+			return json.append(']').toString();
+		}
+		TorneoCompartido torneo = torneos.get(partes[1]);
+		if (torneo == null) {
+			throw new ExcepcionServidor(ExcepcionServidor.MENSAJE_EXCEPCION_TORNEO_INEXISTENTE, 404);
+		}
+		if (partes.length == 2) {
+			verificarMetodo(metodo, "GET");
+			return torneo.obtenerDatos();
+		}
+		if (partes.length == 3 && partes[2].equals("posiciones")) {
+			verificarMetodo(metodo, "GET");
+			return torneo.obtenerPosiciones();
+		}
+		if (partes.length == 3 && partes[2].equals("ciclos")) {
+			verificarMetodo(metodo, "POST");
+			torneo.realizarCiclo(crearReceptor(intercambio));
+			return null;
+		}
+		if (partes.length == 4 && partes[2].equals("ciclos")) {
+			verificarMetodo(metodo, "GET");
+			return torneo.obtenerPareos(convertirNumero(partes[3]));
+		}
+		if (partes.length == 6 && partes[2].equals("ciclos") && partes[4].equals("encuentros")) {
+			verificarMetodo(metodo, "POST");
+			HashMap<String, String> formulario = leerFormulario(intercambio.getRequestBody());
+			String resultado = formulario.get("resultado");
+			String marcadorInicial = formulario.get("marcadorInicial");
+			String marcadorFinal = formulario.get("marcadorFinal");
+			if (resultado == null || (marcadorInicial == null) != (marcadorFinal == null)) {
+				throw new ExcepcionServidor(ExcepcionServidor.MENSAJE_EXCEPCION_SOLICITUD_INCORRECTA, 400);
+			}
+			int[] marcadores = null;
+			if (marcadorInicial != null) {
+				marcadores = new int[] { convertirNumero(marcadorInicial), convertirNumero(marcadorFinal) };
+			}
+			torneo.registrarResultado(convertirNumero(partes[3]), convertirNumero(partes[5]),
+					UtileriasListaResultados.convertirResultado(resultado), marcadores, crearReceptor(intercambio));
+			return null;
+		}
+		throw new ExcepcionServidor(ExcepcionServidor.MENSAJE_EXCEPCION_RUTA_INEXISTENTE, 404);
+	}
+
+	/**
+	 * Verifica que la solicitud use el mtodo que admite la ruta.
+	 *
+	 * @param metodo
+	 *            Recibe el mtodo de la solicitud.
+	 * @param metodoRuta
+	 *            Recibe el mtodo que admite la ruta.
+	 * @throws ExcepcionServidor
+	 *             Lanza la excepcin si los mtodos son distintos.
+	 */
+	private static void verificarMetodo(String metodo, String metodoRuta) throws ExcepcionServidor {
+		if (!metodo.equalsIgnoreCase(metodoRuta)) {
+			throw new ExcepcionServidor(ExcepcionServidor.MENSAJE_EXCEPCION_METODO_INCORRECTO, 405);
+		}
+	}
+
+	/**
+	 * Convierte un nmero de la ruta o del formulario.
+	 *
+	 * @param texto
+	 *            Recibe el texto del nmero.
+	 * @return Regresa el nmero.
+	 * @throws ExcepcionServidor
+	 *             Lanza la excepcin si el texto no es un nmero.
+	 */
+	private static int convertirNumero(String texto) throws ExcepcionServidor {
+		try {
+			return Integer.parseInt(texto.trim());
+		} catch (NumberFormatException e) {
+			throw new ExcepcionServidor(ExcepcionServidor.MENSAJE_EXCEPCION_SOLICITUD_INCORRECTA, 400);
+		}
+	}
+
+	/**
+	 * Lee el cuerpo de la solicitud como un formulario
+	 * <code>application/x-www-form-urlencoded</code>.
+	 *
+	 * @param cuerpo
+	 *            Recibe el cuerpo de la solicitud.
+	 * @return Regresa los campos del formulario de acuerdo a su nombre.
+	 * @throws IOException
+	 *             Lanza la excepcin si no se pudo leer el cuerpo.
+	 * @throws ExcepcionServidor
+	 *             Lanza la excepcin si el formulario no es vlido.
+	 */
+	private static HashMap<String, String> leerFormulario(InputStream cuerpo) throws IOException, ExcepcionServidor {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		byte[] bloque = new byte[1024];
+		int leidos;
+		while ((leidos = cuerpo.read(bloque)) != -1) {
+			bytes.write(bloque, 0, leidos);
+		}
+		HashMap<String, String> formulario = new HashMap<String, String>();
+		try {
+			for (String campo : bytes.toString("UTF-8").split("&")) {
+				int igual = campo.indexOf('=');
+				if (igual > 0) {
+					formulario.put(URLDecoder.decode(campo.substring(0, igual), "UTF-8"),
+							URLDecoder.decode(campo.substring(igual + 1), "UTF-8"));
+				}
+			}
+		} catch (UnsupportedEncodingException | IllegalArgumentException e) {
+			throw new ExcepcionServidor(ExcepcionServidor.MENSAJE_EXCEPCION_SOLICITUD_INCORRECTA, 400);
+		}
+		return formulario;
+	}
+}
@@ -0,0 +1,484 @@
+package sigestor.servidor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import sigestor.dominio.CapturaResultados;
+import sigestor.dominio.Ciclo;
+import sigestor.dominio.Encuentro;
+import sigestor.dominio.Participante;
+import sigestor.dominio.TablaPosiciones;
+import sigestor.dominio.Torneo;
+import sigestor.dominio.TorneoEliminacionDirecta;
+import sigestor.dominio.TorneoSuizo;
+import sigestor.excepcion.ExcepcionBaseDatos;
+import sigestor.excepcion.ExcepcionBaseDatosCiclo;
+import sigestor.excepcion.ExcepcionBaseDatosEncuentro;
+import sigestor.excepcion.ExcepcionBaseDatosParticipante;
+import sigestor.excepcion.ExcepcionServidor;
+import sigestor.utilerias.UtileriasListaResultados;
+
+/**
+ * Sirve para compartir un torneo abierto entre las solicitudes del servidor.
+ * Todos los cambios del torneo se encolan en un nico hilo escritor, de modo
+ * que la captura de resultados y la realizacin de ciclos, y con ellas
+ * <code>actualizarEncuentro</code>, <code>actualizarResultadoParticipante</code>
+ * y <code>realizarEncuentros</code>, se ejecutan una por una y nunca al mismo
+ * tiempo. Solo el hilo escritor toca el torneo y la base de datos. Quien
+ * encola un cambio no espera a que termine: el escritor entrega la respuesta a
+ * un <code>ReceptorRespuesta</code>.
+ * <p>
+ * Despus de cada cambio el escritor genera una <code>FotoTorneo</code> con
+ * las respuestas de consulta y la publica completa. Las consultas leen la
+ * ltima foto publicada sin candados, por lo que no esperan a la base de
+ * datos ni a las escrituras en curso y nunca observan un encuentro a medio
+ * cambiar.
+ * <p>
+ * Las caractersticas de la clase <code>TorneoCompartido</code> son:
+ * <ul>
+ * <li><code>id</code> para guardar el identificador del torneo en las
+ * rutas.</li>
+ * <li><code>torneo</code> para guardar los datos del torneo, que solo usa el
+ * escritor.</li>
+ * <li><code>escritor</code> para guardar el hilo que realiza los cambios del
+ * torneo.</li>
+ * <li><code>foto</code> para guardar la ltima foto publicada del
+ * torneo.</li>
+ * </ul>
+ *
+ * @version 18/10/2026
+ */
+public class TorneoCompartido {
+
+	/**
+	 * Segundos que espera el escritor a que terminen los cambios encolados al
+	 * detenerse.
+	 */
+	private static final int ESPERA_DETENER = 10;
+
+	/**
+	 * Identificador del torneo en las rutas.
+	 */
+	private String id;
+	/**
+	 * Datos del torneo, solo los usa el escritor.
+	 */
+	private Torneo torneo;
+	/**
+	 * Hilo que realiza los cambios del torneo en el orden en que llegan.
+	 */
+	private ExecutorService escritor;
+	/**
+	 * ltima foto publicada del torneo.
+	 */
+	private volatile FotoTorneo foto;
+
+	/**
+	 * Permite compartir el torneo recibido y publica su primera foto.
+	 *
+	 * @param id
+	 *            Recibe el identificador del torneo en las rutas.
+	 * @param torneo
+	 *            Recibe el torneo ya recuperado de la base de datos.
+	 */
+	public TorneoCompartido(final String id, Torneo torneo) {
+		this.id = id;
+		this.torneo = torneo;
+		this.escritor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable tarea) {
+				Thread hilo = new Thread(tarea, "escritor-" + id);
+				hilo.setDaemon(true);
+				return hilo;
+			}
+		});
+		this.foto = generarFoto(null, -1);
+	}
+
+	/**
+	 * Obtiene el identificador del torneo en las rutas.
+	 *
+	 * @return Regresa el identificador.
+	 */
+	public String getId() {
+		return id;
+	}
+
+	/**
+	 * Obtiene los datos generales del torneo de la ltima foto.
+	 *
+	 * @return Regresa un objeto JSON con el identificador, el nombre, el tipo,
+	 *         el ciclo actual y el nmero de ciclos del torneo.
+	 */
+	public String obtenerDatos() {
+		return foto.getDatos();
+	}
+
+	/**
+	 * Obtiene los encuentros de un ciclo con su resultado de la ltima foto.
+	 *
+	 * @param numeroCiclo
+	 *            Recibe el nmero del ciclo.
+	 * @return Regresa un objeto JSON con el nmero del ciclo y sus encuentros.
+	 * @throws ExcepcionServidor
+	 *             Lanza la excepcin si el ciclo no existe.
+	 */
+	public String obtenerPareos(int numeroCiclo) throws ExcepcionServidor {
+		String pareos = foto.getPareos(numeroCiclo);
+		if (pareos == null) {
+			throw new ExcepcionServidor(ExcepcionServidor.MENSAJE_EXCEPCION_CICLO_INEXISTENTE, 404);
+		}
+		return pareos;
+	}
+
+	/**
+	 * Obtiene la tabla de posiciones del torneo de la ltima foto.
+	 *
+	 * @return Regresa un arreglo JSON con el lugar, el nmero, el nombre, el
+	 *         puntaje y los marcadores de cada participante.
+	 */
+	public String obtenerPosiciones() {
+		return foto.getPosiciones();
+	}
+
+	/**
+	 * Encola en el escritor el registro del resultado de un encuentro del
+	 * ciclo sin esperar a que termine. El resultado se guarda junto con el puntaje
+	 * y los marcadores de los participantes en una sola transaccin; si no se
+	 * pudo guardar, el encuentro y los participantes regresan a los valores que
+	 * tenan.
+	 *
+	 * @param numeroCiclo
+	 *            Recibe el nmero del ciclo.
+	 * @param numeroEncuentro
+	 *            Recibe el nmero del encuentro.
+	 * @param resultado
+	 *            Recibe el resultado del encuentro.
+	 * @param marcadores
+	 *            Recibe el marcador inicial y el marcador final, o
+	 *            <code>null</code> si se conservan los del encuentro.
+	 * @param receptor
+	 *            Recibe el encuentro con su nuevo resultado como objeto JSON, o
+	 *            la excepcin si el ciclo o el encuentro no existen, si ya no se
+	 *            pueden capturar resultados del ciclo, si el resultado o los
+	 *            marcadores no son vlidos o si ocurre un error en la base de
+	 *            datos.
+	 * @throws ExcepcionServidor
+	 *             Lanza la excepcin si el escritor ya se detuvo.
+	 */
+	public void registrarResultado(final int numeroCiclo, final int numeroEncuentro, final int resultado,
+			final int[] marcadores, ReceptorRespuesta receptor) throws ExcepcionServidor {
+		escribir(new Callable<String>() {
+			@Override
+			public String call() throws Exception {
+				Ciclo ciclo = obtenerCiclo(numeroCiclo);
+				if (numeroCiclo > torneo.getCicloActual() || (numeroCiclo != torneo.getCicloActual()
+						&& !torneo.getTipoTorneo().equals("Round Robin"))) {
+					throw new ExcepcionServidor(ExcepcionServidor.MENSAJE_EXCEPCION_CICLO_CERRADO, 409);
+				}
+				CapturaResultados captura = new CapturaResultados(torneo, ciclo);
+				Encuentro encuentro = captura.obtenerEncuentro(numeroEncuentro);
+				if (encuentro == null) {
+					throw new ExcepcionServidor(ExcepcionServidor.MENSAJE_EXCEPCION_ENCUENTRO_INEXISTENTE, 404);
+				}
+				int resultadoAnterior = encuentro.getResultadoEncuentro();
+				int marcadorInicialAnterior = encuentro.getMarcadorParticipanteInicial();
+				int marcadorFinalAnterior = encuentro.getMarcadorParticipanteFinal();
+				if (marcadores == null) {
+					captura.registrarResultado(encuentro, resultado);
+				} else {
+					captura.registrarResultado(encuentro, resultado, marcadores[0], marcadores[1]);
+				}
+				try {
+					captura.guardar();
+				} catch (ExcepcionBaseDatos | ExcepcionBaseDatosCiclo | ExcepcionBaseDatosEncuentro
+						| ExcepcionBaseDatosParticipante e) {
+					captura.registrarResultado(encuentro, resultadoAnterior, marcadorInicialAnterior,
+							marcadorFinalAnterior);
+					throw e;
+				}
+				foto = generarFoto(foto, numeroCiclo);
+				StringBuilder json = new StringBuilder();
+				agregarEncuentro(json, encuentro, obtenerNombres(), torneo.obtenerNumeroSinEncuentro());
+				return json.toString();
+			}
+		}, receptor);
+	}
+
+	/**
+	 * Encola en el escritor la realizacin del siguiente ciclo sin esperar a
+	 * que termine, igual que el comando <code>ronda</code> de la consola: en Round
+	 * Robin solo avanza el ciclo actual y en Suizo y Eliminacin directa
+	 * registra los descansos, verifica que el ciclo actual tenga todos sus
+	 * resultados, desempata y realiza los encuentros del siguiente ciclo. En
+	 * Round Robin el ciclo actual en memoria se restaura si no se pudo guardar.
+	 *
+	 * @param receptor
+	 *            Recibe los datos generales del torneo como objeto JSON, o la
+	 *            excepcin si el torneo no se ha iniciado, si ya se realizaron
+	 *            todos los ciclos, si el ciclo actual tiene encuentros sin
+	 *            resultado o si ocurre un error en la base de datos.
+	 * @throws ExcepcionServidor
+	 *             Lanza la excepcin si el escritor ya se detuvo.
+	 */
+	public void realizarCiclo(ReceptorRespuesta receptor) throws ExcepcionServidor {
+		escribir(new Callable<String>() {
+			@Override
+			public String call() throws Exception {
+				if (torneo.getCicloActual() < 1 || torneo.getAlgoritmoTorneo() == null) {
+					throw new ExcepcionServidor(ExcepcionServidor.MENSAJE_EXCEPCION_TORNEO_SIN_INICIAR, 409);
+				}
+				if (torneo.getCicloActual() >= torneo.getAlgoritmoTorneo().getNumeroCiclos()) {
+					throw new ExcepcionServidor(ExcepcionServidor.MENSAJE_EXCEPCION_TORNEO_TERMINADO, 409);
+				}
+				try {
+					if (torneo.getTipoTorneo().equals("Round Robin")) {
+						torneo.getAlgoritmoTorneo().avanzarCiclo(torneo.getNombreArchivo());
+					} else {
+						CapturaResultados captura = new CapturaResultados(torneo,
+								torneo.getAlgoritmoTorneo().getCiclos().get(torneo.getCicloActual() - 1));
+						captura.registrarDescansos();
+						captura.guardar();
+						if (torneo.getTipoTorneo().equals("Suizo")) {
+							TorneoSuizo suizo = new TorneoSuizo(torneo);
+							if (!suizo.verificarEncuentros()) {
+								throw new ExcepcionServidor(ExcepcionServidor.MENSAJE_EXCEPCION_CICLO_INCOMPLETO,
+										409);
+							}
+							suizo.desempatarParticipantes();
+							suizo.realizarEncuentros();
+						} else {
+							TorneoEliminacionDirecta eliminacionDirecta = new TorneoEliminacionDirecta(torneo);
+							if (!eliminacionDirecta.verificarEncuentros()) {
+								throw new ExcepcionServidor(ExcepcionServidor.MENSAJE_EXCEPCION_CICLO_INCOMPLETO,
+										409);
+							}
+							eliminacionDirecta.desempatarParticipantes();
+							eliminacionDirecta.realizarEncuentros();
+						}
+					}
+				} finally {
+					foto = generarFoto(null, -1);
+				}
+				return foto.getDatos();
+			}
+		}, receptor);
+	}
+
+	/**
+	 * Detiene el escritor despus de realizar los cambios ya encolados.
+	 *
+	 * @throws InterruptedException
+	 *             Lanza la excepcin si se interrumpe el hilo que espera.
+	 */
+	public void detener() throws InterruptedException {
+		escritor.shutdown();
+		escritor.awaitTermination(ESPERA_DETENER, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Encola un cambio en el escritor sin esperar su resultado. Al terminar el
+	 * cambio, el escritor entrega lo que regres o la excepcin que lanz al
+	 * receptor.
+	 *
+	 * @param cambio
+	 *            Recibe el cambio a realizar.
+	 * @param receptor
+	 *            Recibe la respuesta del cambio.
+	 * @throws ExcepcionServidor
+	 *             Lanza la excepcin si el escritor ya se detuvo.
+	 */
+	void escribir(final Callable<String> cambio, final ReceptorRespuesta receptor) throws ExcepcionServidor {
+		try {
+			escritor.execute(new Runnable() {
+				@Override
+				public void run() {
+					String respuesta;
+					try {
+						respuesta = cambio.call();
+					} catch (Exception e) {
+						receptor.fallar(e);
+						return;
+					}
+					receptor.responder(respuesta);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			throw new ExcepcionServidor(ExcepcionServidor.MENSAJE_EXCEPCION_SERVIDOR_DETENIDO, 503);
+		}
+	}
+
+	/**
+	 * Genera una nueva foto del torneo. Si se recibe la foto anterior solo se
+	 * vuelven a generar los encuentros del ciclo que cambi y se conservan los
+	 * de los dems ciclos; si no, se generan los de todos los ciclos. Solo la
+	 * llama el escritor o el constructor.
+	 *
+	 * @param anterior
+	 *            Recibe la foto anterior o <code>null</code>.
+	 * @param numeroCiclo
+	 *            Recibe el nmero del ciclo que cambi.
+	 * @return Regresa la nueva foto.
+	 */
+	private FotoTorneo generarFoto(FotoTorneo anterior, int numeroCiclo) {
+		String datos = "{\"id\":" + textoJson(id) + ",\"nombre\":" + textoJson(torneo.getNombreTorneo())
+				+ ",\"tipo\":" + textoJson(torneo.getTipoTorneo()) + ",\"cicloActual\":" + torneo.getCicloActual()
+				+ ",\"ciclos\":" + torneo.getAlgoritmoTorneo().getNumeroCiclos() + "}";
+		HashMap<Integer, String> nombres = obtenerNombres();
+		int sinEncuentro = torneo.obtenerNumeroSinEncuentro();
+		HashMap<Integer, String> pareos = new HashMap<Integer, String>();
+		if (anterior != null) {
+			pareos.putAll(anterior.getPareos());
+		}
+		for (Ciclo ciclo : torneo.getAlgoritmoTorneo().getCiclos()) {
+			if (anterior == null || ciclo.getNumeroCiclo() == numeroCiclo) {
+				pareos.put(ciclo.getNumeroCiclo(), generarPareos(ciclo, nombres, sinEncuentro));
+			}
+		}
+		return new FotoTorneo(datos, pareos, calcularPosiciones());
+	}
+
+	/**
+	 * Genera el objeto JSON de los encuentros de un ciclo.
+	 *
+	 * @param ciclo
+	 *            Recibe el ciclo.
+	 * @param nombres
+	 *            Recibe los nombres de acuerdo al nmero de participante.
+	 * @param sinEncuentro
+	 *            Recibe el nmero del participante sin encuentro.
+	 * @return Regresa un objeto JSON con el nmero del ciclo y sus encuentros.
+	 */
+	private static String generarPareos(Ciclo ciclo, HashMap<Integer, String> nombres, int sinEncuentro) {
+		StringBuilder json = new StringBuilder();
+		json.append("{\"ciclo\":").append(ciclo.getNumeroCiclo()).append(",\"encuentros\":[");
+		boolean primero = true;
+		for (Encuentro encuentro : ciclo.getEncuentroParticipantes()) {
+			if (!primero) {
+				json.append(',');
+			}
+			agregarEncuentro(json, encuentro, nombres, sinEncuentro);
+			primero = false;
+		}
+		return json.append("]}").toString();
+	}
+
+	/**
+	 * Ordena a los participantes con la tabla de posiciones y genera el
+	 * arreglo JSON de posiciones, sin incluir al participante sin encuentro.
+	 *
+	 * @return Regresa el arreglo JSON de posiciones.
+	 */
+	private String calcularPosiciones() {
+		int sinEncuentro = torneo.obtenerNumeroSinEncuentro();
+		StringBuilder json = new StringBuilder("[");
+		int lugar = 1;
+		for (Participante participante : new TablaPosiciones(torneo).ordenar()) {
+			if (participante.getNumeroParticipante() == sinEncuentro) {
+				continue;
+			}
+			if (lugar > 1) {
+				json.append(',');
+			}
+			json.append("{\"lugar\":").append(lugar).append(",\"numero\":")
+					.append(participante.getNumeroParticipante()).append(",\"nombre\":")
+					.append(textoJson(participante.getNombreParticipante())).append(",\"puntaje\":")
+					.append(participante.getPuntajeAcumuladoParticipante()).append(",\"marcadorFavor\":")
+					.append(participante.getMarcadorFavor()).append(",\"marcadorContra\":")
+					.append(participante.getMarcadorContra()).append('}');
+			lugar++;
+		}
+		return json.append(']').toString();
+	}
+
+	/**
+	 * Obtiene un ciclo del torneo.
+	 *
+	 * @param numeroCiclo
+	 *            Recibe el nmero del ciclo.
+	 * @return Regresa el ciclo.
+	 * @throws ExcepcionServidor
+	 *             Lanza la excepcin si el ciclo no existe.
+	 */
+	private Ciclo obtenerCiclo(int numeroCiclo) throws ExcepcionServidor {
+		ArrayList<Ciclo> ciclos = torneo.getAlgoritmoTorneo().getCiclos();
+		if (numeroCiclo < 1 || numeroCiclo > ciclos.size()) {
+			throw new ExcepcionServidor(ExcepcionServidor.MENSAJE_EXCEPCION_CICLO_INEXISTENTE, 404);
+		}
+		return ciclos.get(numeroCiclo - 1);
+	}
+
+	/**
+	 * Obtiene el nombre de cada participante recorriendo la lista de
+	 * participantes.
+	 *
+	 * @return Regresa los nombres de acuerdo al nmero de participante.
+	 */
+	private HashMap<Integer, String> obtenerNombres() {
+		HashMap<Integer, String> nombres = new HashMap<Integer, String>();
+		for (Participante participante : torneo.getListaParticipantes()) {
+			nombres.put(participante.getNumeroParticipante(), participante.getNombreParticipante());
+		}
+		return nombres;
+	}
+
+	/**
+	 * Agrega un encuentro como objeto JSON.
+	 *
+	 * @param json
+	 *            Recibe el texto al que se agrega el encuentro.
+	 * @param encuentro
+	 *            Recibe el encuentro.
+	 * @param nombres
+	 *            Recibe los nombres de acuerdo al nmero de participante.
+	 * @param sinEncuentro
+	 *            Recibe el nmero del participante sin encuentro.
+	 */
+	private static void agregarEncuentro(StringBuilder json, Encuentro encuentro, HashMap<Integer, String> nombres,
+			int sinEncuentro) {
+		int inicial = encuentro.getIdParticipanteInicial();
+		int participanteFinal = encuentro.getIdParticipanteFinal();
+		json.append("{\"numero\":").append(encuentro.getNumeroEncuentro()).append(",\"inicial\":{\"numero\":")
+				.append(inicial).append(",\"nombre\":").append(textoJson(nombres.get(inicial)))
+				.append("},\"final\":{\"numero\":").append(participanteFinal).append(",\"nombre\":")
+				.append(textoJson(nombres.get(participanteFinal))).append("},\"resultado\":")
+				.append(textoJson(UtileriasListaResultados.obtenerTextoResultado(encuentro.getResultadoEncuentro())))
+				.append(",\"marcadorInicial\":").append(encuentro.getMarcadorParticipanteInicial())
+				.append(",\"marcadorFinal\":").append(encuentro.getMarcadorParticipanteFinal())
+				.append(",\"descanso\":")
+				.append(sinEncuentro != -1 && (inicial == sinEncuentro || participanteFinal == sinEncuentro))
+				.append('}');
+	}
+
+	/**
+	 * Convierte un texto en una cadena JSON.
+	 *
+	 * @param texto
+	 *            Recibe el texto.
+	 * @return Regresa el texto entre comillas y con sus caracteres especiales
+	 *         escapados, o <code>null</code> si no hay texto.
+	 */
+	static String textoJson(String texto) {
+		if (texto == null) {
+			return "null";
+		}
+		StringBuilder json = new StringBuilder("\"");
+		for (int i = 0; i < texto.length(); i++) {
+			char caracter = texto.charAt(i);
+			if (caracter == '"' || caracter == '\\') {
+				json.append('\\').append(caracter);
+			} else if (caracter < 0x20) {
+				json.append(String.format("\\u%04x", (int) caracter));
+			} else {
+				json.append(caracter);
+			}
+		}
+		return json.append('"').toString();
+	}
+}
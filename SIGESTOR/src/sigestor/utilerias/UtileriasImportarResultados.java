@@ -0,0 +1,197 @@
+package sigestor.utilerias;
+
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+
+import com.csvreader.CsvReader;
+import sigestor.dominio.CapturaResultados;
+import sigestor.dominio.Encuentro;
+import sigestor.dominio.Participante;
+import sigestor.dominio.Torneo;
+import sigestor.excepcion.ExcepcionCapturarResultados;
+import sigestor.excepcion.ExcepcionUtilerias;
+
+/**
+ * Encargada de importar los resultados de un ciclo desde un archivo CSV con el
+ * mismo formato que genera <code>UtileriasReporteResultados</code>. El archivo
+ * se lee fila por fila y cada fila se valida contra los encuentros guardados
+ * del ciclo: el nmero y el nombre de ambos participantes deben coincidir con
+ * un encuentro, en el mismo orden, y ningn encuentro puede aparecer dos
+ * veces. El resultado y los marcadores de cada fila se verifican con
+ * <code>CapturaResultados.validarResultado</code> al leerla y los resultados
+ * solo se registran en la captura si todo el archivo es vlido, de modo que un
+ * error no deja el ciclo a medias. Los mensajes de error conservan la causa e
+ * indican la fila del archivo.
+ *
+ * @version 18/10/2026
+ */
+public class UtileriasImportarResultados {
+
+	/**
+	 * Resultados que se pueden leer en la columna <code>Resultado</code>.
+	 */
+	private static final int[] RESULTADOS = { Encuentro.GANADOR_INICIAL, Encuentro.GANADOR_FINAL, Encuentro.EMPATE,
+			Encuentro.SIN_JUGAR };
+
+	/**
+	 * Lee los resultados del archivo CSV, los valida contra los encuentros del
+	 * ciclo y los registra en la captura recibida, sin guardarlos en la base de
+	 * datos. Las filas de descanso se ignoran.
+	 *
+	 * @param rutaArchivo Contiene la ruta del archivo CSV.
+	 * @param captura     Recibe la captura de resultados del ciclo.
+	 * @return Regresa el nmero de encuentros importados.
+	 * @throws ExcepcionUtilerias Si ocurre un error al leer el archivo CSV, si el
+	 *                            archivo tiene un formato incorrecto, si es de
+	 *                            otro ciclo o si alguna fila no corresponde a un
+	 *                            encuentro del ciclo.
+	 */
+	public static int importarResultados(String rutaArchivo, CapturaResultados captura) throws ExcepcionUtilerias {
+		Torneo torneo = captura.getTorneo();
+		String sinEncuentro = " - " + torneo.getDatosPersonalizacion().getNombreParticipanteSinEncuentro();
+		HashMap<String, Encuentro> pareos = new HashMap<String, Encuentro>();
+		for (Encuentro encuentro : captura.getCiclo().getEncuentroParticipantes()) {
+			pareos.put(encuentro.getIdParticipanteInicial() + "-" + encuentro.getIdParticipanteFinal(), encuentro);
+		}
+		HashSet<Encuentro> leidos = new HashSet<Encuentro>();
+		ArrayList<Encuentro> encuentros = new ArrayList<Encuentro>();
+		ArrayList<int[]> resultados = new ArrayList<int[]>();
+		ArrayList<String> filas = new ArrayList<String>();
+		int columnaResultado = -1;
+		try {
+			CsvReader readerCsv = new CsvReader(new FileReader(rutaArchivo));
+			try {
+				while (readerCsv.readRecord()) {
+					String fila = ExcepcionUtilerias.MENSAJE_EXCEPCION_FILA + (readerCsv.getCurrentRecord() + 1);
+					if (columnaResultado == -1) {
+						columnaResultado = leerEncabezado(readerCsv, captura, fila);
+						continue;
+					}
+					if (readerCsv.getColumnCount() < 2 || readerCsv.get(0).trim().isEmpty()) {
+						continue;
+					}
+					if (readerCsv.get(1).endsWith(sinEncuentro)) {
+						continue;
+					}
+					if (readerCsv.getColumnCount() < columnaResultado + (columnaResultado == 3 ? 4 : 3)) {
+						throw new ExcepcionUtilerias(ExcepcionUtilerias.MENSAJE_EXCEPCION_FORMATO_INCORRECTO + fila);
+					}
+					Encuentro encuentro;
+					int[] resultado = new int[3];
+					try {
+						int inicial = Integer.parseInt(readerCsv.get(0).trim());
+						int participanteFinal = Integer.parseInt(readerCsv.get(columnaResultado + 1).trim());
+						encuentro = pareos.get(inicial + "-" + participanteFinal);
+						if (encuentro == null || !coincideNombre(torneo, inicial, readerCsv.get(1))
+								|| !coincideNombre(torneo, participanteFinal, readerCsv.get(columnaResultado + 2))) {
+							throw new ExcepcionUtilerias(
+									ExcepcionUtilerias.MENSAJE_EXCEPCION_ENCUENTRO_INEXISTENTE + fila);
+						}
+						resultado[0] = convertirResultado(readerCsv.get(columnaResultado));
+						if (columnaResultado == 3) {
+							resultado[1] = Encuentro.convertirMarcador(readerCsv.get(2));
+							resultado[2] = Encuentro.convertirMarcador(readerCsv.get(columnaResultado + 3));
+						} else {
+							resultado[1] = encuentro.getMarcadorParticipanteInicial();
+							resultado[2] = encuentro.getMarcadorParticipanteFinal();
+						}
+						captura.validarResultado(resultado[0], resultado[1], resultado[2]);
+					} catch (NumberFormatException e) {
+						throw new ExcepcionUtilerias(ExcepcionUtilerias.MENSAJE_EXCEPCION_FORMATO_INCORRECTO + fila);
+					} catch (ExcepcionCapturarResultados e) {
+						throw new ExcepcionUtilerias(e.getMessage() + fila);
+					}
+					if (!leidos.add(encuentro)) {
+						throw new ExcepcionUtilerias(ExcepcionUtilerias.MENSAJE_EXCEPCION_ENCUENTRO_REPETIDO + fila);
+					}
+					encuentros.add(encuentro);
+					resultados.add(resultado);
+					filas.add(fila);
+				}
+			} finally {
+				readerCsv.close();
+			}
+		} catch (IOException e) {
+			throw new ExcepcionUtilerias(ExcepcionUtilerias.MENSAJE_EXCEPCION_LEER_ARCHIVO_CSV);
+		}
+		if (columnaResultado == -1) {
+			throw new ExcepcionUtilerias(ExcepcionUtilerias.MENSAJE_EXCEPCION_FORMATO_INCORRECTO);
+		}
+		for (int i = 0; i < encuentros.size(); i++) {
+			int[] resultado = resultados.get(i);
+			try {
+				captura.registrarResultado(encuentros.get(i), resultado[0], resultado[1], resultado[2]);
+			} catch (ExcepcionCapturarResultados e) {
+				throw new ExcepcionUtilerias(e.getMessage() + filas.get(i));
+			}
+		}
+		return encuentros.size();
+	}
+
+	/**
+	 * Revisa una fila anterior a la tabla de resultados. Si es el ttulo de la
+	 * tabla verifica que sea del ciclo de la captura y, si es el encabezado de
+	 * la tabla, obtiene la columna del resultado.
+	 *
+	 * @param readerCsv Recibe el lector posicionado en la fila.
+	 * @param captura   Recibe la captura de resultados del ciclo.
+	 * @param fila      Recibe el texto que indica la fila en los mensajes.
+	 * @return Regresa la columna del resultado, 2 si el torneo no usa marcadores
+	 *         y 3 si los usa, o -1 si la fila no es el encabezado.
+	 * @throws IOException        Si ocurre un error al leer la fila.
+	 * @throws ExcepcionUtilerias Si el ttulo de la tabla es de otro ciclo.
+	 */
+	private static int leerEncabezado(CsvReader readerCsv, CapturaResultados captura, String fila)
+			throws IOException, ExcepcionUtilerias {
+		String primera = readerCsv.get(0).trim();
+		if (primera.startsWith("Tabla de resultados") && primera.contains(":")) {
+			String numero = primera.substring(primera.lastIndexOf(':') + 1).trim();
+			if (!numero.equals(String.valueOf(captura.getCiclo().getNumeroCiclo()))) {
+				throw new ExcepcionUtilerias(ExcepcionUtilerias.MENSAJE_EXCEPCION_CICLO_DIFERENTE + fila);
+			}
+			return -1;
+		}
+		for (int columna = 2; columna <= 3 && columna < readerCsv.getColumnCount(); columna++) {
+			if (readerCsv.get(columna).equals("Resultado")) {
+				return columna;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Verifica que el nombre de la fila sea el del participante guardado.
+	 *
+	 * @param torneo             Recibe el torneo.
+	 * @param numeroParticipante Recibe el nmero del participante.
+	 * @param nombre             Recibe el nombre ledo de la fila.
+	 * @return Regresa <tt>true</tt> si el nombre coincide, <tt>false</tt> en
+	 *         caso contrario.
+	 */
+	private static boolean coincideNombre(Torneo torneo, int numeroParticipante, String nombre) {
+		Participante participante = torneo.obtenerParticipante(numeroParticipante);
+		return participante != null && participante.getNombreParticipante().trim().equalsIgnoreCase(nombre.trim());
+	}
+
+	/**
+	 * Convierte el texto de la columna <code>Resultado</code> en el resultado de
+	 * un encuentro.
+	 *
+	 * @param texto Recibe el texto de la columna.
+	 * @return Regresa la constante de <code>Encuentro</code> correspondiente.
+	 * @throws ExcepcionCapturarResultados Si el texto no es un resultado que se
+	 *                                     pueda capturar.
+	 */
+	private static int convertirResultado(String texto) throws ExcepcionCapturarResultados {
+		texto = texto.trim();
+		for (int resultado : RESULTADOS) {
+			if (Encuentro.obtenerTextoResultado(resultado).equalsIgnoreCase(texto)) {
+				return resultado;
+			}
+		}
+		throw new ExcepcionCapturarResultados(ExcepcionCapturarResultados.MENSAJE_EXCEPCION_RESULTADO_INCORRECTO);
+	}
+}
@@ -0,0 +1,200 @@
+package sigestor.utilerias;
+
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+import com.csvreader.CsvReader;
+import com.csvreader.CsvWriter;
+import sigestor.dominio.CapturaResultados;
+import sigestor.dominio.Encuentro;
+import sigestor.excepcion.ExcepcionCapturarResultados;
+import sigestor.excepcion.ExcepcionUtilerias;
+
+/**
+ * Encargada de leer de un archivo CSV los resultados de los encuentros de un
+ * ciclo, as como generar la plantilla del archivo con los encuentros del
+ * ciclo. Cada fila contiene el nmero del encuentro, el resultado
+ * (<code>Inicial</code>, <code>Final</code>, <code>Empate</code> o
+ * <code>Sin jugar</code>) y, de manera opcional, el marcador de cada
+ * participante.
+ *
+ * @version 18/10/2026
+ */
+public class UtileriasListaResultados {
+
+	/**
+	 * Resultado cuando gana el participante inicial.
+	 */
+	public static final String RESULTADO_INICIAL = "Inicial";
+	/**
+	 * Resultado cuando gana el participante final.
+	 */
+	public static final String RESULTADO_FINAL = "Final";
+	/**
+	 * Resultado cuando el encuentro termina en empate.
+	 */
+	public static final String RESULTADO_EMPATE = "Empate";
+	/**
+	 * Resultado cuando el encuentro no se ha jugado.
+	 */
+	public static final String RESULTADO_SIN_JUGAR = "Sin jugar";
+
+	/**
+	 * Lee los resultados del archivo CSV y los registra en la captura recibida,
+	 * sin guardarlos en la base de datos.
+	 *
+	 * @param rutaArchivo Contiene la ruta del archivo CSV.
+	 * @param captura     Recibe la captura de resultados del ciclo.
+	 * @return Regresa el nmero de filas ledas.
+	 * @throws ExcepcionUtilerias          Si ocurre un error al leer el archivo
+	 *                                     CSV, si el archivo tiene un formato
+	 *                                     incorrecto o si contiene un encuentro
+	 *                                     que no pertenece al ciclo.
+	 * @throws ExcepcionCapturarResultados Si algn resultado o marcador no es
+	 *                                     vlido.
+	 */
+	public static int leerListaResultados(String rutaArchivo, CapturaResultados captura)
+			throws ExcepcionUtilerias, ExcepcionCapturarResultados {
+		int filas = 0;
+		try {
+			CsvReader readerCsv = new CsvReader(new FileReader(rutaArchivo));
+			try {
+				readerCsv.readHeaders();
+				int columnas = readerCsv.getHeaderCount();
+				if ((columnas != 2 && columnas != 4) || !readerCsv.getHeader(0).equals("Encuentro")
+						|| !readerCsv.getHeader(1).equals("Resultado")) {
+					throw new ExcepcionUtilerias(ExcepcionUtilerias.MENSAJE_EXCEPCION_FORMATO_INCORRECTO);
+				}
+				while (readerCsv.readRecord()) {
+					if (readerCsv.get(0).trim().isEmpty()) {
+						continue;
+					}
+					Encuentro encuentro;
+					int resultado;
+					int marcadorInicial = 0;
+					int marcadorFinal = 0;
+					try {
+						encuentro = captura.obtenerEncuentro(Integer.parseInt(readerCsv.get(0).trim()));
+						resultado = convertirResultado(readerCsv.get(1));
+						if (columnas == 4) {
+							marcadorInicial = convertirMarcador(readerCsv.get(2));
+							marcadorFinal = convertirMarcador(readerCsv.get(3));
+						}
+					} catch (NumberFormatException e) {
+						throw new ExcepcionUtilerias(ExcepcionUtilerias.MENSAJE_EXCEPCION_FORMATO_INCORRECTO);
+					}
+					if (encuentro == null) {
+						throw new ExcepcionUtilerias(ExcepcionUtilerias.MENSAJE_EXCEPCION_ENCUENTRO_INEXISTENTE);
+					}
+					if (columnas == 4) {
+						captura.registrarResultado(encuentro, resultado, marcadorInicial, marcadorFinal);
+					} else {
+						captura.registrarResultado(encuentro, resultado);
+					}
+					filas++;
+				}
+			} finally {
+				readerCsv.close();
+			}
+		} catch (IOException e) {
+			throw new ExcepcionUtilerias(ExcepcionUtilerias.MENSAJE_EXCEPCION_LEER_ARCHIVO_CSV);
+		}
+		return filas;
+	}
+
+	/**
+	 * Genera la plantilla para capturar los resultados del ciclo, con una fila
+	 * por cada encuentro que no es un descanso.
+	 *
+	 * @param rutaDestino Indica la ruta del archivo donde se guardar la
+	 *                    plantilla.
+	 * @param captura     Recibe la captura de resultados del ciclo.
+	 * @param marcadores  Recibe <tt>true</tt> si la plantilla incluye las
+	 *                    columnas de los marcadores.
+	 * @throws ExcepcionUtilerias Si ocurre un error al escribir en el archivo
+	 *                            CSV.
+	 */
+	public static void escribirPlantilla(String rutaDestino, CapturaResultados captura, boolean marcadores)
+			throws ExcepcionUtilerias {
+		try {
+			Writer writer = new FileWriter(rutaDestino, false);
+			CsvWriter writerCsv = new CsvWriter(writer, ',');
+			writerCsv.write("Encuentro");
+			writerCsv.write("Resultado");
+			if (marcadores) {
+				writerCsv.write("Marcador inicial");
+				writerCsv.write("Marcador final");
+			}
+			writerCsv.endRecord();
+			for (Encuentro encuentro : captura.getCiclo().getEncuentroParticipantes()) {
+				if (captura.esDescanso(encuentro)) {
+					continue;
+				}
+				writerCsv.write(String.valueOf(encuentro.getNumeroEncuentro()));
+				writerCsv.write(obtenerTextoResultado(encuentro.getResultadoEncuentro()));
+				if (marcadores) {
+					writerCsv.write(String.valueOf(encuentro.getMarcadorParticipanteInicial()));
+					writerCsv.write(String.valueOf(encuentro.getMarcadorParticipanteFinal()));
+				}
+				writerCsv.endRecord();
+			}
+			writerCsv.close();
+		} catch (IOException e) {
+			throw new ExcepcionUtilerias(ExcepcionUtilerias.MENSAJE_EXCEPCION_ESCRIBIR_PLANTILLA_CSV);
+		}
+	}
+
+	/**
+	 * Convierte el texto de la columna <code>Resultado</code> en el resultado de
+	 * un encuentro. Una casilla vaca indica que el encuentro no se ha jugado.
+	 *
+	 * @param texto Recibe el texto de la columna.
+	 * @return Regresa la constante de <code>Encuentro</code> correspondiente.
+	 * @throws ExcepcionCapturarResultados Si el texto no corresponde a ningn
+	 *                                     resultado.
+	 */
+	public static int convertirResultado(String texto) throws ExcepcionCapturarResultados {
+		texto = texto.trim();
+		if (texto.equalsIgnoreCase(RESULTADO_INICIAL)) {
+			return Encuentro.GANADOR_INICIAL;
+		} else if (texto.equalsIgnoreCase(RESULTADO_FINAL)) {
+			return Encuentro.GANADOR_FINAL;
+		} else if (texto.equalsIgnoreCase(RESULTADO_EMPATE)) {
+			return Encuentro.EMPATE;
+		} else if (texto.isEmpty() || texto.equalsIgnoreCase(RESULTADO_SIN_JUGAR)) {
+			return Encuentro.SIN_JUGAR;
+		}
+		throw new ExcepcionCapturarResultados(ExcepcionCapturarResultados.MENSAJE_EXCEPCION_RESULTADO_INCORRECTO);
+	}
+
+	/**
+	 * Obtiene el texto de la columna <code>Resultado</code> de un encuentro.
+	 *
+	 * @param resultado Recibe el resultado del encuentro.
+	 * @return Regresa el texto del resultado.
+	 */
+	public static String obtenerTextoResultado(int resultado) {
+		if (resultado == Encuentro.GANADOR_INICIAL) {
+			return RESULTADO_INICIAL;
+		} else if (resultado == Encuentro.GANADOR_FINAL) {
+			return RESULTADO_FINAL;
+		} else if (resultado == Encuentro.EMPATE) {
+			return RESULTADO_EMPATE;
+		}
+		return RESULTADO_SIN_JUGAR;
+	}
+
+	/**
+	 * Convierte el texto de una columna de marcador. Una casilla vaca
+	 * equivale a cero.
+	 *
+	 * @param texto Recibe el texto de la columna.
+	 * @return Regresa el marcador.
+	 */
+	private static int convertirMarcador(String texto) {
+		texto = texto.trim();
+		return texto.isEmpty() ? 0 : Integer.parseInt(texto);
+	}
+}
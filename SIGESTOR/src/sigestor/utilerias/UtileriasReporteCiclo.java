@@ -17,7 +17,7 @@ import sigestor.excepcion.ExcepcionUtilerias;
  * Sirve para guardar en un archivo CSV el reporte de los pareos de un ciclo.
  *
  * 
- * @version 10/04/2023
+ * @version 18/10/2026
  * 
  * @author Jonathan Eduardo Ibarra Martinez
  * @author Hernan Sesai Lopez Aragon
@@ -128,8 +128,8 @@ public class UtileriasReporteCiclo {
 	}
 
 	/**
-	 * Obtiene el nombre del participante a partir de su nmero recorriendo la lista
-	 * de participantes.
+	 * Obtiene el nombre del participante a partir de su nmero mediante el
+	 * registro de participantes del torneo.
 	 * 
 	 * @param torneo         El objeto con todos los datos del torneo actual.
 	 * @param idParticipante Identificador nico del participante a buscar en la
@@ -137,13 +137,11 @@ public class UtileriasReporteCiclo {
 	 * @return El nombre del participante.
 	 */
 	private static String obtenerNombreParticipante(Torneo torneo, int idParticipante) {
-		String nombreParticipante = "";
-		for (Participante p : torneo.getListaParticipantes()) {
-			if (p.getNumeroParticipante() == idParticipante) {
-				return p.getNombreParticipante();
-			}
+		Participante participante = torneo.obtenerParticipante(idParticipante);
+		if (participante != null) {
+			return participante.getNombreParticipante();
 		}
-		return nombreParticipante;
+		return "";
 
 	}
 }
\ No newline at end of file
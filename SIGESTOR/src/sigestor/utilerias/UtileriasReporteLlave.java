@@ -0,0 +1,131 @@
+package sigestor.utilerias;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.text.DateFormat;
+
+import com.csvreader.CsvWriter;
+import sigestor.dominio.Llave;
+import sigestor.dominio.Participante;
+import sigestor.dominio.PartidaLlave;
+import sigestor.dominio.Torneo;
+import sigestor.excepcion.ExcepcionUtilerias;
+
+/**
+ * Sirve para guardar en un archivo CSV la llave completa de un torneo de
+ * Eliminacin directa, con todas las partidas de todas las rondas. Las
+ * casillas cuyo participante an no se conoce indican la partida de la que
+ * saldr.
+ *
+ * @version 18/10/2026
+ */
+public class UtileriasReporteLlave {
+
+	/**
+	 * Escribe en un archivo CSV los datos generales del torneo y todas las
+	 * partidas de la llave.
+	 *
+	 * @param rutaArchivo Ruta donde se guardar el archivo CSV.
+	 * @param torneo      Contiene los datos generales del torneo y la lista de
+	 *                    participantes.
+	 * @param llave       Contiene las partidas del torneo.
+	 * @throws ExcepcionUtilerias Si ocurre un error al escribir en el archivo CSV.
+	 */
+	public static void escribirArchivoCsvReporteLlave(String rutaArchivo, Torneo torneo, Llave llave)
+			throws ExcepcionUtilerias {
+		DateFormat fecha = DateFormat.getDateInstance(DateFormat.FULL);
+
+		try {
+			Writer writer = new FileWriter(rutaArchivo, false);
+			CsvWriter writerCsv = new CsvWriter(writer, ',');
+			writerCsv.write(torneo.getTipoTorneo());
+			writerCsv.endRecord();
+			writerCsv.write("Torneo: ");
+			writerCsv.write(torneo.getNombreTorneo());
+			writerCsv.endRecord();
+			writerCsv.write("Organizador: ");
+			writerCsv.write(torneo.getNombreOrganizador());
+			writerCsv.endRecord();
+			writerCsv.write("Fecha de inicio: ");
+			writerCsv.write(fecha.format(torneo.getFechaInicioTorneo()));
+			writerCsv.endRecord();
+			writerCsv.write("Fecha de fin: ");
+			writerCsv.write(fecha.format(torneo.getFechaFinalTorneo()));
+			writerCsv.endRecord();
+			writerCsv.write(torneo.getDescripcionTorneo());
+			writerCsv.endRecord();
+			writerCsv.endRecord();
+			writerCsv.write("Partida");
+			writerCsv.write("Cuadro");
+			writerCsv.write("Ronda");
+			writerCsv.write("Nm.");
+			writerCsv.write(torneo.getDatosPersonalizacion().getNombreParticipanteInicial());
+			writerCsv.write("VS");
+			writerCsv.write("Nm.");
+			writerCsv.write(torneo.getDatosPersonalizacion().getNombreParticipanteFinal());
+			writerCsv.write("Ganador");
+			writerCsv.endRecord();
+			for (PartidaLlave partida : llave.obtenerCuadro()) {
+				writerCsv.write(String.valueOf(partida.getNumeroPartida()));
+				writerCsv.write(partida.getCuadro());
+				writerCsv.write(String.valueOf(partida.getRonda()));
+				escribirCasilla(writerCsv, torneo, partida.getParticipanteInicial(), partida.getOrigenInicial());
+				writerCsv.write("vs");
+				escribirCasilla(writerCsv, torneo, partida.getParticipanteFinal(), partida.getOrigenFinal());
+				writerCsv.write(partida.getGanador() >= 0 ? obtenerNombreParticipante(torneo, partida.getGanador())
+						: "");
+				writerCsv.endRecord();
+			}
+			writerCsv.close();
+		} catch (IOException e) {
+			throw new ExcepcionUtilerias(ExcepcionUtilerias.MENSAJE_EXCEPCION_GENERAR_ARCHIVO_CSV);
+		}
+	}
+
+	/**
+	 * Escribe el nmero y el nombre del participante de una casilla; si an no
+	 * se conoce, escribe la partida de la que saldr y, si la casilla est
+	 * vaca, el nombre del participante sin encuentro.
+	 *
+	 * @param writerCsv     Archivo CSV donde se escribe la casilla.
+	 * @param torneo        El objeto con todos los datos del torneo actual.
+	 * @param participante  Nmero del participante de la casilla.
+	 * @param origen        Partida de la que sale el participante, negativa si
+	 *                      sale el perdedor.
+	 * @throws IOException Si ocurre un error al escribir en el archivo CSV.
+	 */
+	private static void escribirCasilla(CsvWriter writerCsv, Torneo torneo, int participante, int origen)
+			throws IOException {
+		if (participante >= 0) {
+			writerCsv.write(String.valueOf(participante));
+			writerCsv.write(obtenerNombreParticipante(torneo, participante));
+		} else if (participante == Llave.VACIO) {
+			writerCsv.write("");
+			writerCsv.write(torneo.getDatosPersonalizacion().getNombreParticipanteSinEncuentro());
+		} else if (origen < 0) {
+			writerCsv.write("");
+			writerCsv.write("Perdedor de la partida " + (-origen));
+		} else {
+			writerCsv.write("");
+			writerCsv.write("Ganador de la partida " + origen);
+		}
+	}
+
+	/**
+	 * Obtiene el nombre del participante a partir de su nmero mediante el
+	 * registro de participantes del torneo.
+	 *
+	 * @param torneo         El objeto con todos los datos del torneo actual.
+	 * @param idParticipante Identificador nico del participante a buscar en la
+	 *                       lista de participantes.
+	 * @return El nombre del participante.
+	 */
+	private static String obtenerNombreParticipante(Torneo torneo, int idParticipante) {
+		Participante participante = torneo.obtenerParticipante(idParticipante);
+		if (participante != null) {
+			return participante.getNombreParticipante();
+		}
+		return "";
+	}
+}
@@ -18,7 +18,7 @@ import sigestor.excepcion.ExcepcionUtilerias;
 /**
  * Sirve para generar el reporte en un archivo CSV de los resultados parciales.
  *
- * @version 10/04/2023
+ * @version 18/10/2026
  * @author Alicia Adriana Clemente Hernandez
  * @author Luis Fernando de la Cruz Lpez
  * @author Luis Antonio Ruiz Sierra
@@ -112,8 +112,8 @@ public class UtileriasReporteResultados {
 	}
 
 	/**
-	 * Obtiene el nombre del participante a partir de su nmero recorriendo la lista
-	 * de participantes.
+	 * Obtiene el nombre del participante a partir de su nmero mediante el
+	 * registro de participantes del torneo.
 	 * 
 	 * @param torneo         El objeto con todos los datos del torneo actual.
 	 * @param idParticipante Identificador nico del participante a buscar en la
@@ -121,13 +121,11 @@ public class UtileriasReporteResultados {
 	 * @return El nombre del participante.
 	 */
 	private static String obtenerNombreParticipante(Torneo torneo, int idParticipante) {
-		String nombreParticipante = "";
-		for (Participante p : torneo.getListaParticipantes()) {
-			if (p.getNumeroParticipante() == idParticipante) {
-				return p.getNombreParticipante();
-			}
+		Participante participante = torneo.obtenerParticipante(idParticipante);
+		if (participante != null) {
+			return participante.getNombreParticipante();
 		}
-		return nombreParticipante;
+		return "";
 
 	}
 